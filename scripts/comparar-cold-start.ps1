@@ -0,0 +1,97 @@
+# Script para comparar cold start e memória (RSS) do custom handler: executável nativo x JVM
+# Mede o tempo entre iniciar o processo e a primeira resposta 200 de GET /api/health,
+# e a memória residente do processo logo após essa primeira resposta.
+#
+# Pré-requisitos:
+#   mvn package -Pcustom-handler            -> target/customhandler/feedback-sync-runner
+#   mvn package -DskipTests                 -> target/quarkus-app/quarkus-run.jar
+#
+# Uso:
+#   ./scripts/comparar-cold-start.ps1 [-Execucoes 5] [-Porta 8089]
+
+param(
+    [int]$Execucoes = 5,
+    [int]$Porta = 8089,
+    [string]$Nativo = "target/customhandler/feedback-sync-runner",
+    [string]$Jar = "target/quarkus-app/quarkus-run.jar",
+    [int]$TimeoutSegundos = 60
+)
+
+Write-Host "⏱️  Comparação de cold start: custom handler nativo x JVM" -ForegroundColor Cyan
+Write-Host ""
+
+$env:FUNCTIONS_CUSTOMHANDLER_PORT = "$Porta"
+if (-not $env:AZURE_STORAGE_CONNECTION_STRING) {
+    $env:AZURE_STORAGE_CONNECTION_STRING = "UseDevelopmentStorage=true"
+}
+# Sem rede no cold start: os recursos devem ter sido provisionados (StorageProvisioner)
+$env:AZURE_STORAGE_FAST_INIT = "true"
+${env:azure.storage.fast-init} = "true"
+
+function Medir-Execucao {
+    param([string]$Arquivo, [string[]]$Argumentos)
+
+    $cronometro = [System.Diagnostics.Stopwatch]::StartNew()
+    $processo = Start-Process -FilePath $Arquivo -ArgumentList $Argumentos -PassThru -NoNewWindow `
+        -RedirectStandardOutput ([System.IO.Path]::GetTempFileName())
+    try {
+        while ($cronometro.Elapsed.TotalSeconds -lt $TimeoutSegundos) {
+            try {
+                $resposta = Invoke-WebRequest -Uri "http://localhost:$Porta/api/health" -UseBasicParsing -TimeoutSec 1
+                if ($resposta.StatusCode -eq 200) {
+                    $cronometro.Stop()
+                    $processo.Refresh()
+                    return [PSCustomObject]@{
+                        ColdStartMs = [math]::Round($cronometro.Elapsed.TotalMilliseconds)
+                        RssMB = [math]::Round($processo.WorkingSet64 / 1MB, 1)
+                    }
+                }
+            } catch {
+                Start-Sleep -Milliseconds 10
+            }
+        }
+        Write-Host "   [X] Sem resposta em $TimeoutSegundos s" -ForegroundColor Red
+        return $null
+    } finally {
+        Stop-Process -Id $processo.Id -Force -ErrorAction SilentlyContinue
+        Start-Sleep -Milliseconds 500
+    }
+}
+
+$modos = @()
+if (Test-Path $Nativo) {
+    $modos += [PSCustomObject]@{ Nome = "nativo"; Arquivo = $Nativo; Argumentos = @() }
+} else {
+    Write-Host "   [⚠] $Nativo não encontrado (mvn package -Pcustom-handler)" -ForegroundColor Yellow
+}
+if (Test-Path $Jar) {
+    $modos += [PSCustomObject]@{ Nome = "jvm"; Arquivo = "java"; Argumentos = @("-jar", $Jar) }
+} else {
+    Write-Host "   [⚠] $Jar não encontrado (mvn package -DskipTests)" -ForegroundColor Yellow
+}
+
+$resultados = @()
+foreach ($modo in $modos) {
+    Write-Host "Medindo $($modo.Nome) ($Execucoes execuções)..." -ForegroundColor Yellow
+    for ($i = 1; $i -le $Execucoes; $i++) {
+        $medida = Medir-Execucao -Arquivo $modo.Arquivo -Argumentos $modo.Argumentos
+        if ($medida) {
+            Write-Host "   #$i : $($medida.ColdStartMs) ms, $($medida.RssMB) MB" -ForegroundColor Gray
+            $resultados += [PSCustomObject]@{ Modo = $modo.Nome; ColdStartMs = $medida.ColdStartMs; RssMB = $medida.RssMB }
+        }
+    }
+}
+
+Write-Host ""
+Write-Host "Resumo (mediana):" -ForegroundColor Cyan
+$resultados | Group-Object Modo | ForEach-Object {
+    $tempos = $_.Group.ColdStartMs | Sort-Object
+    $memorias = $_.Group.RssMB | Sort-Object
+    $meio = [math]::Floor($tempos.Count / 2)
+    [PSCustomObject]@{
+        Modo = $_.Name
+        ColdStartMs = $tempos[$meio]
+        RssMB = $memorias[$meio]
+        Execucoes = $tempos.Count
+    }
+} | Format-Table -AutoSize
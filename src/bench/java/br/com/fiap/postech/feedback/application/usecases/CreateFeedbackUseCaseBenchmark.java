@@ -0,0 +1,77 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackResponse;
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CreateFeedbackUseCaseImpl.execute sem I/O: validação, criação da entidade, gravação e
+ * montagem da resposta. O gateway apenas conta as gravações (sem reter os feedbacks, para
+ * que o heap não cresça durante a medição); nota 2 passa também pelo e-mail de feedback crítico.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateFeedbackUseCaseBenchmark {
+
+    @Param({"8", "2"})
+    public int score;
+
+    private CreateFeedbackUseCaseImpl useCase;
+    private FeedbackRequest request;
+
+    @Setup
+    public void setUp() {
+        useCase = new CreateFeedbackUseCaseImpl(new CountingFeedbackGateway(), new CountingEmailGateway());
+        request = new FeedbackRequest("A aula de arquitetura foi excelente, mas o áudio falhou no fim", score, "MEDIUM");
+    }
+
+    @Benchmark
+    public FeedbackResponse execute() {
+        return useCase.execute(request);
+    }
+
+    static final class CountingFeedbackGateway implements FeedbackGateway {
+        private final AtomicLong saved = new AtomicLong();
+
+        @Override
+        public void save(Feedback feedback) {
+            saved.incrementAndGet();
+        }
+
+        @Override
+        public List<Feedback> findByPeriod(Instant from, Instant to) {
+            return List.of();
+        }
+    }
+
+    static final class CountingEmailGateway implements EmailNotificationGateway {
+        private final AtomicLong sent = new AtomicLong();
+
+        @Override
+        public void sendAdminNotification(String message) {
+            sent.incrementAndGet();
+        }
+    }
+}
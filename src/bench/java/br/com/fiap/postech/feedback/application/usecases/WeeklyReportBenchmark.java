@@ -0,0 +1,151 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.application.dtos.responses.WeeklyReportResponse;
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import br.com.fiap.postech.feedback.domain.gateways.ReportStorageGateway;
+import br.com.fiap.postech.feedback.infrastructure.config.JsonCodec;
+import br.com.fiap.postech.feedback.infrastructure.gateways.DiscardingBlobReportStorageGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Relatório semanal (GenerateWeeklyReportUseCaseImpl.execute) sobre semanas sintéticas
+ * de 10 mil, 1 milhão e 10 milhões de feedbacks.
+ *
+ * - aggregate: leitura em blocos colunares + acumulação das métricas, com os blocos
+ *   apenas drenados (sem JSON nem item por feedback)
+ * - aggregateAndRender: o mesmo, com a escrita JSON em streaming do BlobReportStorageGatewayImpl,
+ *   que escreve cada linha direto das colunas do bloco (bytes descartados, sem Blob Storage)
+ *
+ * Os feedbacks são gerados sob demanda pelo gateway, como a leitura paginada do Table,
+ * para que o pico de heap medido seja o do relatório e não o da massa de teste. Cada
+ * execução é uma chamada completa (SingleShotTime); para o pico de heap use
+ * -prof br.com.fiap.postech.feedback.bench.PeakHeapProfiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class WeeklyReportBenchmark {
+
+    private static final String[] URGENCIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] DESCRIPTIONS = {
+        "A aula de arquitetura foi excelente",
+        "O áudio falhou no fim da aula e perdi a explicação",
+        "Material de apoio incompleto para o exercício da semana",
+        "Professor respondeu todas as dúvidas no chat"
+    };
+
+    @Param({"10000", "1000000", "10000000"})
+    public int feedbacks;
+
+    private GenerateWeeklyReportUseCaseImpl drained;
+    private GenerateWeeklyReportUseCaseImpl rendered;
+
+    @Setup
+    public void setUp() {
+        FeedbackGateway gateway = new SyntheticWeekGateway(feedbacks);
+        drained = new GenerateWeeklyReportUseCaseImpl(gateway, new DrainingReportStorageGateway());
+        rendered = new GenerateWeeklyReportUseCaseImpl(gateway, new DiscardingBlobReportStorageGateway(JsonCodec.mapper()));
+    }
+
+    @Benchmark
+    public WeeklyReportResponse aggregate() {
+        return drained.execute();
+    }
+
+    @Benchmark
+    public WeeklyReportResponse aggregateAndRender() {
+        return rendered.execute();
+    }
+
+    /**
+     * Gera {@code size} feedbacks espalhados pelos 7 dias anteriores a cada leitura,
+     * com notas de 0 a 10 e as três urgências.
+     */
+    static final class SyntheticWeekGateway implements FeedbackGateway {
+        private final int size;
+
+        SyntheticWeekGateway(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public void save(Feedback feedback) {
+            throw new UnsupportedOperationException("Gateway somente leitura");
+        }
+
+        @Override
+        public List<Feedback> findByPeriod(Instant from, Instant to) {
+            try (Stream<Feedback> stream = streamByPeriod(from, to)) {
+                return stream.toList();
+            }
+        }
+
+        @Override
+        public Stream<Feedback> streamByPeriod(Instant from, Instant to) {
+            LocalDateTime start = LocalDateTime.ofInstant(from, ZoneId.systemDefault()).truncatedTo(ChronoUnit.DAYS);
+            long spanSeconds = Math.max(1, ChronoUnit.SECONDS.between(from, to));
+            long stepSeconds = Math.max(1, spanSeconds / size);
+            return IntStream.range(0, size).mapToObj(i -> Feedback.reconstruct(
+                Integer.toString(i),
+                DESCRIPTIONS[i % DESCRIPTIONS.length],
+                i % 11,
+                URGENCIES[i % URGENCIES.length],
+                start.plusSeconds((i * stepSeconds) % spanSeconds)));
+        }
+    }
+
+    /**
+     * Consome os blocos e o resumo do relatório sem serializar nada.
+     */
+    static final class DrainingReportStorageGateway implements ReportStorageGateway {
+        private long items;
+
+        @Override
+        public String saveReport(String fileName, String content) {
+            return fileName;
+        }
+
+        @Override
+        public String getReportUrl(String fileName) {
+            return "memory://" + fileName;
+        }
+
+        @Override
+        public String saveWeeklyReport(Object reportData) {
+            return "relatorio.json";
+        }
+
+        @Override
+        public String saveWeeklyReport(Stream<FeedbackBatch> feedbacks, Supplier<Map<String, Object>> summary) {
+            items = feedbacks.mapToLong(FeedbackBatch::size).sum();
+            summary.get();
+            return "relatorio.json";
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.fiap.postech.feedback.bench;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latências e resultados de um cenário do gerador de carga.
+ *
+ * Guarda todas as latências (em microssegundos) para percentis exatos; com as taxas
+ * usadas em testes de carga locais isso fica em poucos MB. Thread-safe por sincronização:
+ * o registro é muito mais barato que a requisição medida.
+ */
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private long unexpectedStatus;
+    private final Map<Integer, Long> statusCount = new TreeMap<>();
+
+    synchronized void record(long latencyMicros, int status, boolean expected) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyMicros;
+        statusCount.merge(status, 1L, Long::sum);
+        if (!expected) {
+            unexpectedStatus++;
+        }
+    }
+
+    /**
+     * Falha sem resposta HTTP (timeout, conexão recusada).
+     */
+    synchronized void recordError(long latencyMicros) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyMicros;
+        errors++;
+    }
+
+    synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        long failures = errors + unexpectedStatus;
+        return new Summary(count, seconds > 0 ? count / seconds : 0, count == 0 ? 0 : (double) failures / count,
+            errors, new TreeMap<>(statusCount),
+            percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 99.9),
+            sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * Resultado consolidado; latências em microssegundos.
+     */
+    record Summary(long requests, double throughput, double errorRate, long connectionErrors,
+                   Map<Integer, Long> statusCount, long p50, long p90, long p99, long p999, long max) {
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requisicoes", requests);
+            map.put("vazaoPorSegundo", Math.round(throughput * 10) / 10.0);
+            map.put("taxaErro", errorRate);
+            map.put("errosConexao", connectionErrors);
+            map.put("status", statusCount);
+            map.put("p50Ms", p50 / 1000.0);
+            map.put("p90Ms", p90 / 1000.0);
+            map.put("p99Ms", p99 / 1000.0);
+            map.put("p999Ms", p999 / 1000.0);
+            map.put("maxMs", max / 1000.0);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.fiap.postech.feedback.bench;
+
+import br.com.fiap.postech.feedback.infrastructure.config.JsonCodec;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga para POST /api/avaliacao e /api/avaliacao/lote (java.net.http).
+ *
+ * Aponta para o host local das Functions (func start) ou para o adaptador HTTP do
+ * Quarkus (mvnw quarkus:dev -Dquarkus.profile=local), ambos sobre o Azurite do
+ * docker-compose. As requisições seguem uma taxa fixa (carga aberta): a latência é
+ * medida a partir do instante em que cada requisição deveria sair, então a fila do
+ * próprio gerador e a lentidão do servidor aparecem nos percentis, sem omissão coordenada.
+ *
+ * Opções (--chave=valor):
+ * - url (http://localhost:7071), taxa em req/s (50), duracao e aquecimento em segundos (60 / 10)
+ * - simultaneas: máximo de requisições em voo (256), timeout-ms (5000)
+ * - mistura (valido=80,critico=10,invalido=5,lote=5) e lote: itens por lote (20)
+ * - saida: arquivo JSON com o resultado (opcional)
+ *
+ * Uso: mvn -Pbench test-compile exec:exec -Dbench.main=br.com.fiap.postech.feedback.bench.LoadGenerator
+ *      -Dbench.args="--taxa=200 --duracao=120"
+ */
+public final class LoadGenerator {
+
+    private final URI baseUri;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration timeout;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final RequestMix mix;
+    private final HttpClient client;
+    private final Map<RequestMix.Scenario, LatencyRecorder> recorders = new EnumMap<>(RequestMix.Scenario.class);
+    private final LatencyRecorder total = new LatencyRecorder();
+
+    LoadGenerator(Map<String, String> options) {
+        String url = options.getOrDefault("url", "http://localhost:7071");
+        this.baseUri = URI.create(url.endsWith("/") ? url : url + "/");
+        this.rate = Double.parseDouble(options.getOrDefault("taxa", "50"));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("aquecimento", "10")));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duracao", "60")));
+        this.timeout = Duration.ofMillis(Long.parseLong(options.getOrDefault("timeout-ms", "5000")));
+        this.maxInFlight = Integer.parseInt(options.getOrDefault("simultaneas", "256"));
+        this.inFlight = new Semaphore(maxInFlight);
+        this.mix = RequestMix.parse(options.getOrDefault("mistura", "valido=80,critico=10,invalido=5,lote=5"),
+            Integer.parseInt(options.getOrDefault("lote", "20")));
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(timeout)
+            .build();
+        for (RequestMix.Scenario scenario : RequestMix.Scenario.values()) {
+            recorders.put(scenario, new LatencyRecorder());
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("taxa deve ser maior que zero");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        LoadGenerator generator = new LoadGenerator(options);
+        Map<String, Object> result = generator.run();
+        generator.print(result);
+        String output = options.get("saida");
+        if (output != null) {
+            Path path = Path.of(output);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, JsonCodec.writer().withDefaultPrettyPrinter().writeValueAsBytes(result));
+            System.out.println("Resultado gravado em " + path.toAbsolutePath());
+        }
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Opção inválida: '" + arg + "' (esperado --chave=valor)");
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Dispara as requisições na taxa configurada durante aquecimento + duração e
+     * consolida apenas as da janela de medição.
+     */
+    Map<String, Object> run() throws InterruptedException {
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        System.out.printf("Carga em %s: %.1f req/s por %d s (aquecimento %d s), até %d em voo%n",
+            baseUri, rate, duration.toSeconds(), warmup.toSeconds(), maxInFlight);
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * periodNanos;
+            if (intended - end >= 0) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            send(mix.next(), intended, intended - measureStart >= 0);
+        }
+
+        if (!inFlight.tryAcquire(maxInFlight, timeout.toMillis() + 1000, TimeUnit.MILLISECONDS)) {
+            System.out.println("Aviso: requisições ainda em voo ao final foram descartadas");
+        }
+        double seconds = duration.toNanos() / 1e9;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("url", baseUri.toString());
+        result.put("taxaAlvo", rate);
+        result.put("duracaoSegundos", duration.toSeconds());
+        result.put("total", total.summarize(seconds).toMap());
+        Map<String, Object> byScenario = new LinkedHashMap<>();
+        recorders.forEach((scenario, recorder) -> {
+            LatencyRecorder.Summary summary = recorder.summarize(seconds);
+            if (summary.requests() > 0) {
+                byScenario.put(scenario.label(), summary.toMap());
+            }
+        });
+        result.put("cenarios", byScenario);
+        return result;
+    }
+
+    private void send(RequestMix.Scenario scenario, long intendedNanos, boolean measured) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(scenario.path()))
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(mix.body(scenario)))
+            .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                try {
+                    if (measured) {
+                        record(scenario, intendedNanos, response, error);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+    }
+
+    private void record(RequestMix.Scenario scenario, long intendedNanos, HttpResponse<Void> response, Throwable error) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+        if (error != null) {
+            recorders.get(scenario).recordError(latencyMicros);
+            total.recordError(latencyMicros);
+        } else {
+            boolean expected = scenario.isExpected(response.statusCode());
+            recorders.get(scenario).record(latencyMicros, response.statusCode(), expected);
+            total.record(latencyMicros, response.statusCode(), expected);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void print(Map<String, Object> result) {
+        System.out.printf("%n%-10s %10s %10s %8s %10s %10s %10s %10s %10s%n",
+            "cenario", "reqs", "req/s", "erro%", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) result.get("cenarios"));
+        rows.put("total", result.get("total"));
+        rows.forEach((name, value) -> {
+            Map<String, Object> row = (Map<String, Object>) value;
+            System.out.printf("%-10s %10d %10.1f %8.2f %10.1f %10.1f %10.1f %10.1f %10.1f  %s%n",
+                name, (Long) row.get("requisicoes"), (Double) row.get("vazaoPorSegundo"),
+                (Double) row.get("taxaErro") * 100, (Double) row.get("p50Ms"), (Double) row.get("p90Ms"),
+                (Double) row.get("p99Ms"), (Double) row.get("p999Ms"), (Double) row.get("maxMs"), row.get("status"));
+        });
+    }
+}
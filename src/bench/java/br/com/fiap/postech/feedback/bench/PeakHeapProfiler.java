@@ -0,0 +1,82 @@
+package br.com.fiap.postech.feedback.bench;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Profiler JMH que informa o pico de heap de cada iteração.
+ *
+ * - peak.heap: maior heap em uso observado (amostrado a cada 5 ms, inclui lixo ainda não coletado)
+ * - peak.old: pico da geração antiga (pools de heap com "Old" ou "Tenured" no nome), que
+ *   aproxima o que sobreviveu às coletas, ou seja, o que a operação de fato retém
+ *
+ * Uso: -prof br.com.fiap.postech.feedback.bench.PeakHeapProfiler
+ */
+public class PeakHeapProfiler implements InternalProfiler {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 5;
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<MemoryPoolMXBean> oldPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .filter(pool -> pool.getName().contains("Old") || pool.getName().contains("Tenured"))
+        .toList();
+    private final AtomicLong peakUsed = new AtomicLong();
+    private volatile boolean sampling;
+    private Thread sampler;
+
+    @Override
+    public String getDescription() {
+        return "Pico de heap por iteração (amostrado) e pico da geração antiga";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        System.gc();
+        oldPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        peakUsed.set(memory.getHeapMemoryUsage().getUsed());
+        sampling = true;
+        sampler = new Thread(this::sample, "peak-heap-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    @Override
+    public List<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+                                                 IterationResult result) {
+        sampling = false;
+        try {
+            sampler.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long oldPeak = oldPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return List.of(
+            new ScalarResult("peak.heap", peakUsed.get() / MB, "MB", AggregationPolicy.MAX),
+            new ScalarResult("peak.old", oldPeak / MB, "MB", AggregationPolicy.MAX));
+    }
+
+    private void sample() {
+        while (sampling) {
+            peakUsed.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            try {
+                Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.fiap.postech.feedback.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mistura de requisições do gerador de carga, com peso por cenário.
+ *
+ * Cenários disponíveis:
+ * - valido: feedback comum (nota 4 a 10) em POST /api/avaliacao
+ * - critico: feedback crítico (nota 0 a 3), que também dispara a notificação
+ * - invalido: nota fora da faixa; o 400 é a resposta esperada e não conta como erro
+ * - lote: array JSON com {@code batchSize} feedbacks em POST /api/avaliacao/lote
+ *
+ * Formato: "valido=80,critico=10,invalido=5,lote=5".
+ */
+final class RequestMix {
+
+    private static final String[] URGENCIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] DESCRIPTIONS = {
+        "A aula de arquitetura foi excelente",
+        "O áudio falhou no fim da aula e perdi a explicação",
+        "Material de apoio incompleto para o exercício da semana",
+        "Professor respondeu todas as dúvidas no chat"
+    };
+
+    /**
+     * Tipo de requisição, com rota e status considerados sucesso.
+     */
+    enum Scenario {
+        VALIDO("api/avaliacao", Set.of(201, 202)),
+        CRITICO("api/avaliacao", Set.of(201, 202)),
+        INVALIDO("api/avaliacao", Set.of(400)),
+        LOTE("api/avaliacao/lote", Set.of(200));
+
+        private final String path;
+        private final Set<Integer> expectedStatus;
+
+        Scenario(String path, Set<Integer> expectedStatus) {
+            this.path = path;
+            this.expectedStatus = expectedStatus;
+        }
+
+        String path() {
+            return path;
+        }
+
+        boolean isExpected(int status) {
+            return expectedStatus.contains(status);
+        }
+
+        String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    private record Weighted(Scenario scenario, int cumulativeWeight) {
+    }
+
+    private final List<Weighted> scenarios;
+    private final int totalWeight;
+    private final int batchSize;
+
+    private RequestMix(List<Weighted> scenarios, int totalWeight, int batchSize) {
+        this.scenarios = scenarios;
+        this.totalWeight = totalWeight;
+        this.batchSize = batchSize;
+    }
+
+    static RequestMix parse(String spec, int batchSize) {
+        List<Weighted> scenarios = new ArrayList<>();
+        int total = 0;
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada inválida na mistura: '" + entry + "' (esperado cenario=peso)");
+            }
+            Scenario scenario = Scenario.valueOf(parts[0].trim().toUpperCase());
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight <= 0) {
+                continue;
+            }
+            total += weight;
+            scenarios.add(new Weighted(scenario, total));
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("A mistura precisa de ao menos um cenário com peso positivo");
+        }
+        return new RequestMix(List.copyOf(scenarios), total, Math.max(1, batchSize));
+    }
+
+    Scenario next() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Weighted weighted : scenarios) {
+            if (pick < weighted.cumulativeWeight()) {
+                return weighted.scenario();
+            }
+        }
+        return scenarios.get(scenarios.size() - 1).scenario();
+    }
+
+    byte[] body(Scenario scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String json = switch (scenario) {
+            case VALIDO -> feedback(random.nextInt(4, 11));
+            case CRITICO -> feedback(random.nextInt(0, 4));
+            case INVALIDO -> feedback(15);
+            case LOTE -> {
+                StringBuilder batch = new StringBuilder(batchSize * 96).append('[');
+                for (int i = 0; i < batchSize; i++) {
+                    if (i > 0) {
+                        batch.append(',');
+                    }
+                    batch.append(feedback(random.nextInt(0, 11)));
+                }
+                yield batch.append(']').toString();
+            }
+        };
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String feedback(int score) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "{\"descricao\":\"" + DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]
+            + "\",\"nota\":" + score
+            + ",\"urgencia\":\"" + URGENCIES[random.nextInt(URGENCIES.length)] + "\"}";
+    }
+}
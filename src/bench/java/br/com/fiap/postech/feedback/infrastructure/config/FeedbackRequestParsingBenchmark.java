@@ -0,0 +1,59 @@
+package br.com.fiap.postech.feedback.infrastructure.config;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura do corpo de POST /api/avaliacao: bytes UTF-8 pelo reader pré-montado do
+ * {@link JsonCodec} (caminho atual) contra String + ObjectMapper novo por chamada
+ * (caminho antigo), como referência de regressão.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedbackRequestParsingBenchmark {
+
+    private static final String JSON =
+        "{\"descricao\":\"A aula de arquitetura foi excelente, mas o áudio falhou no fim\",\"nota\":8,\"urgencia\":\"MEDIUM\"}";
+
+    private byte[] body;
+    private ObjectMapper sharedMapper;
+
+    @Setup
+    public void setUp() {
+        body = JSON.getBytes(StandardCharsets.UTF_8);
+        sharedMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public FeedbackRequest readerFromBytes() throws IOException {
+        return JsonCodec.feedbackRequestReader().readValue(body);
+    }
+
+    @Benchmark
+    public FeedbackRequest sharedMapperFromString() throws IOException {
+        return sharedMapper.readValue(new String(body, StandardCharsets.UTF_8), FeedbackRequest.class);
+    }
+
+    @Benchmark
+    public FeedbackRequest newMapperFromString() throws IOException {
+        return new ObjectMapper().readValue(new String(body, StandardCharsets.UTF_8), FeedbackRequest.class);
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+/**
+ * BlobReportStorageGatewayImpl sem Blob Storage: o relatório passa pela mesma escrita
+ * em streaming (writeWeeklyReport), mas os blocos são apenas contados e descartados.
+ */
+public class DiscardingBlobReportStorageGateway extends BlobReportStorageGatewayImpl {
+
+    private long bytesWritten;
+
+    public DiscardingBlobReportStorageGateway(ObjectMapper objectMapper) {
+        super(null, "benchmark", objectMapper);
+    }
+
+    @Override
+    StagedBlockBlobOutputStream openReportStream(String fileName) {
+        bytesWritten = 0;
+        return new StagedBlockBlobOutputStream(null, null, RetryPolicy.storage(),
+                StagedBlockBlobOutputStream.DEFAULT_BLOCK_SIZE) {
+            @Override
+            void stageBlock(String blockId, byte[] data, int length) {
+                bytesWritten += length;
+            }
+
+            @Override
+            void commitBlocks(List<String> ids) {
+            }
+        };
+    }
+
+    @Override
+    public String getReportUrl(String fileName) {
+        return "memory://" + fileName;
+    }
+
+    /**
+     * Tamanho do último relatório escrito.
+     */
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import br.com.fiap.postech.feedback.application.usecases.CreateFeedbackUseCaseImpl;
+import br.com.fiap.postech.feedback.infrastructure.gateways.EmailNotificationGatewayImpl;
+import br.com.fiap.postech.feedback.infrastructure.gateways.TableStorageFeedbackGatewayImpl;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.OutputStreamHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+
+/**
+ * Custo de log por requisição POST /api/avaliacao: o caminho anterior (vários INFO com o
+ * envelope do email e os dados da entidade) contra o atual (DEBUG desativado e uma linha
+ * de resumo, com e sem amostragem).
+ *
+ * Um appender real fica anexado ao logger raiz (JBoss LogManager, o backend do SLF4J no
+ * projeto) com o padrão de console do Quarkus, escrevendo em um stream descartado: cada
+ * linha é formatada e escrita, então a medição inclui o trabalho do appender. Os loggers
+ * do caminho anterior usam as mesmas classes de origem. Rode com alocação:
+ * <pre>
+ *   mvn -Pbench test-compile exec:exec -Djmh.args="RequestPathLogging -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestPathLoggingBenchmark {
+
+    private static final String CONSOLE_PATTERN = "%d{yyyy-MM-dd HH:mm:ss,SSS} %-5p [%c] (%t) %s%e%n";
+
+    private static final Logger handlerLogger = LoggerFactory.getLogger(FeedbackHttpFunction.class);
+    private static final Logger useCaseLogger = LoggerFactory.getLogger(CreateFeedbackUseCaseImpl.class);
+    private static final Logger tableLogger = LoggerFactory.getLogger(TableStorageFeedbackGatewayImpl.class);
+    private static final Logger emailLogger = LoggerFactory.getLogger(EmailNotificationGatewayImpl.class);
+    private static final Logger notifierLogger = LoggerFactory.getLogger(
+        "br.com.fiap.postech.feedback.application.usecases.CriticalFeedbackNotifier");
+
+    private static final String ID = "0f8b7c2e-5d41-4a8e-9c1b-2f6d3e7a9b10";
+    private static final String DESCRIPTION = "Aula confusa, exemplos não batem com o material";
+    private static final String PARTITION_KEY = "2026-05-04";
+    private static final String ROW_KEY = "20260504103015123456789_" + ID;
+    private static final String SUBJECT = "⚠️ Feedback Crítico Recebido";
+    private static final String ADMIN_EMAIL = "admin@example.com";
+    private static final Map<String, Object> ENTITY_PROPERTIES = Map.of(
+        "id", ID, "description", DESCRIPTION, "score", 2, "urgency", "HIGH", "createdAt", "2026-05-04T10:30:15");
+
+    /**
+     * Feedback crítico (nota ≤ 3) também percorre o envio do email.
+     */
+    @Param({"false", "true"})
+    public boolean critical;
+
+    private final RequestSummaryLog everyRequest = new RequestSummaryLog("avaliacao", 1, false);
+    private final RequestSummaryLog sampledRequests = new RequestSummaryLog("avaliacao", 100, false);
+
+    private org.jboss.logmanager.Logger root;
+    private Handler[] originalHandlers;
+    private java.util.logging.Level originalLevel;
+
+    @Setup(Level.Trial)
+    public void attachAppender() {
+        root = LogContext.getLogContext().getLogger("");
+        originalHandlers = root.getHandlers();
+        originalLevel = root.getLevel();
+        OutputStreamHandler appender = new OutputStreamHandler(OutputStream.nullOutputStream(),
+            new PatternFormatter(CONSOLE_PATTERN));
+        appender.setAutoFlush(true);
+        root.setHandlers(new Handler[] {appender});
+        root.setLevel(java.util.logging.Level.INFO);
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreAppenders() {
+        root.setHandlers(originalHandlers);
+        root.setLevel(originalLevel);
+    }
+
+    /**
+     * Logs do caminho da requisição antes do resumo único, na ordem em que eram emitidos.
+     */
+    @Benchmark
+    public void baselineRequestLogging() {
+        int score = critical ? 2 : 8;
+        handlerLogger.info("Processando feedback: descricao={}, nota={}, urgencia={}", DESCRIPTION, score, "HIGH");
+        useCaseLogger.debug("Criando feedback: descricao={}, nota={}, urgencia={}", DESCRIPTION, score, "HIGH");
+
+        tableLogger.info("Iniciando salvamento de feedback no Table Storage...");
+        tableLogger.info("  - Table Client inicializado: {}", true);
+        tableLogger.info("  - Table Name: {}", "feedbacks");
+        tableLogger.info("Entidade criada - PartitionKey: {}, RowKey: {}", PARTITION_KEY, ROW_KEY);
+        tableLogger.debug("Propriedades da entidade: {}", ENTITY_PROPERTIES);
+        tableLogger.info("Chamando upsertEntity no Table Storage...");
+        tableLogger.info("upsertEntity executado com sucesso");
+        tableLogger.info("✅ Feedback salvo no Table Storage: id={}, partitionKey={}, rowKey={}", ID, PARTITION_KEY, ROW_KEY);
+
+        if (critical) {
+            useCaseLogger.info("Feedback crítico detectado (nota: {}) - Enviando notificação por email...", score);
+            useCaseLogger.info("EmailNotificationGateway disponível: {}", "SIM");
+            logEmailEnvelope();
+            useCaseLogger.info("Notificação crítica enviada por email com sucesso - ID: {}", ID);
+        } else {
+            useCaseLogger.debug("Feedback não crítico (nota: {}) - Não será enviada notificação", score);
+        }
+
+        handlerLogger.info("Feedback processado com sucesso: id={}", ID);
+    }
+
+    /**
+     * Caminho atual com todo sucesso registrado (FEEDBACK_LOG_SUCCESS_SAMPLE=1, o padrão).
+     */
+    @Benchmark
+    public void summaryLine() {
+        currentRequestLogging(everyRequest);
+    }
+
+    /**
+     * Caminho atual com 1 a cada 100 sucessos registrado.
+     */
+    @Benchmark
+    public void summaryLineSampled() {
+        currentRequestLogging(sampledRequests);
+    }
+
+    private void currentRequestLogging(RequestSummaryLog requestLog) {
+        long start = System.nanoTime();
+        int score = critical ? 2 : 8;
+        useCaseLogger.debug("Criando feedback: descricao={}, nota={}, urgencia={}", DESCRIPTION, score, "HIGH");
+        if (tableLogger.isDebugEnabled()) {
+            tableLogger.debug("Gravando feedback na tabela '{}': PartitionKey={}, RowKey={}, propriedades={}",
+                "feedbacks", PARTITION_KEY, ROW_KEY, ENTITY_PROPERTIES);
+        }
+        tableLogger.debug("Feedback salvo no Table Storage: id={}", ID);
+        if (critical) {
+            notifierLogger.info("Notificação de feedback crítico registrada: id={}, nota={}", ID, score);
+        } else {
+            useCaseLogger.debug("Feedback não crítico (nota: {}) - Não será enviada notificação", score);
+        }
+        handlerLogger.debug("Feedback processado: id={}, nota={}, urgencia={}", ID, score, "HIGH");
+        requestLog.record(201, start);
+    }
+
+    private static void logEmailEnvelope() {
+        emailLogger.info("=== sendEmailToAdmin INICIADO ===");
+        emailLogger.info("Subject: {}", SUBJECT);
+        emailLogger.info("Content length: {} caracteres", 180);
+        emailLogger.info("mailtrapClient é null: {}", false);
+        emailLogger.info("mailtrapApiToken está vazio: {}", false);
+        emailLogger.info("adminEmail: {}", ADMIN_EMAIL);
+        emailLogger.info("Construindo objeto MailtrapMail...");
+        emailLogger.info("Enviando email via Mailtrap API...");
+        emailLogger.info("Detalhes do email:");
+        emailLogger.info("  - De: {} ({})", "no-reply@example.com", "Feedback Sync");
+        emailLogger.info("  - Para: {}", ADMIN_EMAIL);
+        emailLogger.info("  - Assunto: {}", SUBJECT);
+        emailLogger.info("  - Categoria: {}", "Feedback Crítico");
+        emailLogger.info("Chamando mailtrapClient.send()...");
+        emailLogger.info("Resposta do Mailtrap API: {}", "SendResponse(success=true, messageIds=[a1b2c3])");
+        emailLogger.info("Email enviado com sucesso para {} - Resposta: {}", ADMIN_EMAIL,
+            "SendResponse(success=true, messageIds=[a1b2c3])");
+    }
+}
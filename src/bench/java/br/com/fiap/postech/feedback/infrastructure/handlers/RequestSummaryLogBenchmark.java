@@ -0,0 +1,54 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição da linha de resumo: decisão de amostragem e montagem da linha
+ * nos formatos texto e JSON (o envio ao appender depende da configuração de log e
+ * fica fora da medição).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestSummaryLogBenchmark {
+
+    private RequestSummaryLog text;
+    private RequestSummaryLog json;
+    private RequestSummaryLog sampled;
+
+    @Setup
+    public void setUp() {
+        text = new RequestSummaryLog("avaliacao", 1, false);
+        json = new RequestSummaryLog("avaliacao", 1, true);
+        sampled = new RequestSummaryLog("avaliacao", 100, false);
+    }
+
+    @Benchmark
+    public String formatText() {
+        return text.format(201, 12, 1);
+    }
+
+    @Benchmark
+    public String formatJson() {
+        return json.format(201, 12, 1);
+    }
+
+    @Benchmark
+    public boolean sampleDecision() {
+        return sampled.sampled();
+    }
+}
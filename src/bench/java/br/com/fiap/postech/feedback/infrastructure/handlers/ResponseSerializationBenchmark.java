@@ -0,0 +1,71 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchItemResult;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchResponse;
+import br.com.fiap.postech.feedback.infrastructure.config.JsonCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Corpos de resposta das funções HTTP: sucesso pré-codificado do {@link ResponseBodies}
+ * contra Map + ObjectWriter (caminho antigo), erro com mensagem variável e a resposta
+ * de um lote de 100 itens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    private String id;
+    private FeedbackBatchResponse batchResponse;
+
+    @Setup
+    public void setUp() {
+        id = UUID.randomUUID().toString();
+        List<FeedbackBatchItemResult> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(i % 10 == 0
+                ? FeedbackBatchItemResult.rejected(i, "Campo 'nota' deve estar entre 0 e 10")
+                : FeedbackBatchItemResult.received(i, UUID.randomUUID().toString()));
+        }
+        batchResponse = new FeedbackBatchResponse(100, 90, 10, 0, items);
+    }
+
+    @Benchmark
+    public byte[] acceptedPreEncoded() {
+        return ResponseBodies.accepted(id, false);
+    }
+
+    @Benchmark
+    public byte[] acceptedFromMap() throws JsonProcessingException {
+        return JsonCodec.writer().writeValueAsBytes(Map.of("id", id, "status", "recebido"));
+    }
+
+    @Benchmark
+    public byte[] error() {
+        return ResponseBodies.error("JSON inválido: Unexpected character ('}' (code 125))");
+    }
+
+    @Benchmark
+    public byte[] batchResponse() throws JsonProcessingException {
+        return JsonCodec.batchResponseWriter().writeValueAsBytes(batchResponse);
+    }
+}
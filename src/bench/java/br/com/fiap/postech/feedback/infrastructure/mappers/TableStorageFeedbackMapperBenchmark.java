@@ -0,0 +1,51 @@
+package br.com.fiap.postech.feedback.infrastructure.mappers;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import com.azure.data.tables.models.TableEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão entre Feedback e TableEntity nos dois sentidos: gravação (toTableEntity)
+ * e leitura de relatório (toEntity).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableStorageFeedbackMapperBenchmark {
+
+    private Feedback feedback;
+    private TableEntity entity;
+
+    @Setup
+    public void setUp() {
+        feedback = Feedback.reconstruct("3f2c8f7e-5a4b-4c1d-9e8f-0a1b2c3d4e5f",
+            "A aula de arquitetura foi excelente, mas o áudio falhou no fim", 8, "MEDIUM",
+            LocalDateTime.of(2026, 5, 4, 10, 15, 30));
+        entity = TableStorageFeedbackMapper.toTableEntity(feedback);
+    }
+
+    @Benchmark
+    public TableEntity toTableEntity() {
+        return TableStorageFeedbackMapper.toTableEntity(feedback);
+    }
+
+    @Benchmark
+    public Feedback toEntity() {
+        return TableStorageFeedbackMapper.toEntity(entity);
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.fiap.postech.feedback.application.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Resultado de um item do lote de feedbacks.
+ *
+ * Campos Java em inglês, JSON em português:
+ * - index (Java) / indice (JSON): posição do item no corpo da requisição (base 0)
+ * - status: recebido, rejeitado (dados inválidos) ou falhou (erro de persistência)
+ * - error (Java) / erro (JSON): motivo da rejeição ou falha
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FeedbackBatchItemResult(
+        @JsonProperty("indice")
+        int index,
+
+        @JsonProperty("id")
+        String id,
+
+        @JsonProperty("status")
+        String status,
+
+        @JsonProperty("erro")
+        String error) {
+
+    public static final String RECEIVED = "recebido";
+    public static final String REJECTED = "rejeitado";
+    public static final String FAILED = "falhou";
+
+    public static FeedbackBatchItemResult received(int index, String id) {
+        return new FeedbackBatchItemResult(index, id, RECEIVED, null);
+    }
+
+    public static FeedbackBatchItemResult rejected(int index, String error) {
+        return new FeedbackBatchItemResult(index, null, REJECTED, error);
+    }
+
+    public static FeedbackBatchItemResult failed(int index, String id, String error) {
+        return new FeedbackBatchItemResult(index, id, FAILED, error);
+    }
+}
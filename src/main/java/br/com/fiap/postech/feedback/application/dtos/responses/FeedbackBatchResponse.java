@@ -0,0 +1,39 @@
+package br.com.fiap.postech.feedback.application.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para o envio de feedbacks em lote.
+ * Traz os totais e o resultado de cada item, na ordem do corpo da requisição.
+ *
+ * {@code failureCause} não é serializado: é a exceção que derrubou os blocos quando
+ * nenhum item foi persistido e todas as falhas vieram do gateway inteiro (e não de
+ * itens específicos), para o handler decidir entre 200 e 503.
+ */
+public record FeedbackBatchResponse(
+        @JsonProperty("total")
+        int total,
+
+        @JsonProperty("recebidos")
+        int received,
+
+        @JsonProperty("rejeitados")
+        int rejected,
+
+        @JsonProperty("falhas")
+        int failed,
+
+        @JsonProperty("itens")
+        List<FeedbackBatchItemResult> items,
+
+        @JsonIgnore
+        RuntimeException failureCause) {
+
+    public FeedbackBatchResponse(int total, int received, int rejected, int failed,
+                                 List<FeedbackBatchItemResult> items) {
+        this(total, received, rejected, failed, items, null);
+    }
+}
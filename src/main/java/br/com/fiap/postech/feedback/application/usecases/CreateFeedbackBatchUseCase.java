@@ -0,0 +1,18 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchResponse;
+
+import java.util.Iterator;
+
+public interface CreateFeedbackBatchUseCase {
+
+    /**
+     * Processa um lote de feedbacks lido sob demanda.
+     *
+     * {@code next()} pode lançar {@link br.com.fiap.postech.feedback.domain.exceptions.FeedbackDomainException}
+     * para um item que não pôde ser lido; o item é registrado como rejeitado e o
+     * processamento continua enquanto {@code hasNext()} for verdadeiro.
+     */
+    FeedbackBatchResponse execute(Iterator<FeedbackRequest> requests);
+}
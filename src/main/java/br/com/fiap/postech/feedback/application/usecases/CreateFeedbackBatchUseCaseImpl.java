@@ -0,0 +1,141 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchItemResult;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchResponse;
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackDomainException;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caso de uso para criar feedbacks em lote.
+ * 
+ * Responsabilidades:
+ * - Validar cada item com as mesmas regras do envio individual
+ * - Persistir os itens válidos em blocos via FeedbackGateway.saveAll
+ * - Notificar admin para cada feedback crítico persistido
+ * - Devolver o resultado de cada item (recebido, rejeitado ou falhou)
+ * 
+ * Os itens são consumidos sob demanda e no máximo {@value #PERSIST_BATCH_SIZE}
+ * feedbacks ficam em memória aguardando persistência.
+ */
+@ApplicationScoped
+public class CreateFeedbackBatchUseCaseImpl implements CreateFeedbackBatchUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(CreateFeedbackBatchUseCaseImpl.class);
+
+    /**
+     * Tamanho do bloco enviado ao gateway (limite de uma transação do Table Storage).
+     */
+    static final int PERSIST_BATCH_SIZE = 100;
+
+    private final FeedbackGateway feedbackGateway;
+    private final EmailNotificationGateway emailNotificationGateway;
+
+    @Inject
+    public CreateFeedbackBatchUseCaseImpl(
+            FeedbackGateway feedbackGateway,
+            EmailNotificationGateway emailNotificationGateway) {
+        this.feedbackGateway = feedbackGateway;
+        this.emailNotificationGateway = emailNotificationGateway;
+    }
+
+    @Override
+    public FeedbackBatchResponse execute(Iterator<FeedbackRequest> requests) {
+        List<FeedbackBatchItemResult> results = new ArrayList<>();
+        List<PendingFeedback> pending = new ArrayList<>(PERSIST_BATCH_SIZE);
+        BlockFailures blockFailures = new BlockFailures();
+        int index = 0;
+
+        while (requests.hasNext()) {
+            int itemIndex = index++;
+            try {
+                pending.add(new PendingFeedback(itemIndex, CreateFeedbackUseCaseImpl.toFeedback(requests.next())));
+            } catch (FeedbackDomainException | IllegalArgumentException e) {
+                results.add(FeedbackBatchItemResult.rejected(itemIndex, e.getMessage()));
+            }
+            if (pending.size() == PERSIST_BATCH_SIZE) {
+                persist(pending, results, blockFailures);
+            }
+        }
+        persist(pending, results, blockFailures);
+
+        results.sort(Comparator.comparingInt(FeedbackBatchItemResult::index));
+        int received = count(results, FeedbackBatchItemResult.RECEIVED);
+        int rejected = count(results, FeedbackBatchItemResult.REJECTED);
+        int failed = count(results, FeedbackBatchItemResult.FAILED);
+
+        logger.info("Lote de feedbacks processado: total={}, recebidos={}, rejeitados={}, falhas={}",
+            results.size(), received, rejected, failed);
+        RuntimeException failureCause = received == 0 && failed > 0 && failed == blockFailures.items
+            ? blockFailures.last : null;
+        return new FeedbackBatchResponse(results.size(), received, rejected, failed, results, failureCause);
+    }
+
+    private void persist(List<PendingFeedback> pending, List<FeedbackBatchItemResult> results,
+                         BlockFailures blockFailures) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> failures = new HashMap<>();
+        try {
+            BatchSaveResult saveResult = feedbackGateway.saveAll(pending.stream().map(PendingFeedback::feedback).toList());
+            saveResult.failures().forEach(failure -> failures.put(failure.feedbackId(), failure.reason()));
+        } catch (FeedbackPersistenceException e) {
+            logger.error("Falha ao persistir bloco de {} feedbacks: {}", pending.size(), e.getMessage(), e);
+            pending.forEach(item -> failures.put(item.feedback().getId(), e.getMessage()));
+            blockFailures.items += pending.size();
+            blockFailures.last = e;
+        }
+
+        for (PendingFeedback item : pending) {
+            Feedback feedback = item.feedback();
+            String failure = failures.get(feedback.getId());
+            if (failure != null) {
+                results.add(FeedbackBatchItemResult.failed(item.index(), feedback.getId(), failure));
+                continue;
+            }
+            if (feedback.isCritical()) {
+                try {
+                    CriticalFeedbackNotifier.notifyAdmin(emailNotificationGateway, feedback);
+                } catch (NotificationException e) {
+                    results.add(FeedbackBatchItemResult.failed(item.index(), feedback.getId(), e.getMessage()));
+                    continue;
+                }
+            }
+            results.add(FeedbackBatchItemResult.received(item.index(), feedback.getId()));
+        }
+        pending.clear();
+    }
+
+    private static int count(List<FeedbackBatchItemResult> results, String status) {
+        return (int) results.stream().filter(result -> status.equals(result.status())).count();
+    }
+
+    private record PendingFeedback(int index, Feedback feedback) {
+    }
+
+    /**
+     * Itens que falharam porque o gateway recusou o bloco inteiro, e a última exceção.
+     */
+    private static final class BlockFailures {
+        private int items;
+        private RuntimeException last;
+    }
+}
@@ -4,7 +4,6 @@ import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
 import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackResponse;
 import br.com.fiap.postech.feedback.domain.entities.Feedback;
 import br.com.fiap.postech.feedback.domain.exceptions.FeedbackDomainException;
-import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
 import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
 import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
 import br.com.fiap.postech.feedback.domain.entities.Score;
@@ -21,7 +20,11 @@ import org.slf4j.LoggerFactory;
  * - Validar dados de entrada
  * - Criar entidade de domínio
  * - Persistir feedback
- * - Notificar admin se crítico (envio direto de email via Mailtrap)
+ * - Notificar admin se crítico (por padrão registrando o email na fila de notificações,
+ *   a outbox; com FEEDBACK_NOTIFICATION_MODE=direct, envio direto via Mailtrap)
+ * 
+ * Na outbox, se a notificação não puder ser registrada a exceção é propagada e a
+ * requisição responde com erro, para que o cliente repita o envio.
  */
 @ApplicationScoped
 public class CreateFeedbackUseCaseImpl implements CreateFeedbackUseCase {
@@ -44,41 +47,12 @@ public class CreateFeedbackUseCaseImpl implements CreateFeedbackUseCase {
         logger.debug("Criando feedback: descricao={}, nota={}, urgencia={}", 
             request.description(), request.score(), request.urgency());
 
-        if (request.description() == null || request.description().isBlank()) {
-            throw new FeedbackDomainException("Descrição é obrigatória");
-        }
-
-        if (request.score() == null) {
-            throw new FeedbackDomainException("Nota é obrigatória");
-        }
-
-        Score score = new Score(request.score());
-        Urgency urgency = request.urgency() != null 
-            ? Urgency.of(request.urgency()) 
-            : Urgency.LOW;
-
-        Feedback feedback = new Feedback(request.description(), score, urgency);
+        Feedback feedback = toFeedback(request);
 
         feedbackGateway.save(feedback);
 
         if (feedback.isCritical()) {
-            logger.info("Feedback crítico detectado (nota: {}) - Enviando notificação por email...", feedback.getScore().getValue());
-            logger.info("EmailNotificationGateway disponível: {}", emailNotificationGateway != null ? "SIM" : "NÃO");
-            try {
-                String emailContent = buildEmailContent(feedback);
-                emailNotificationGateway.sendAdminNotification(emailContent);
-                logger.info("Notificação crítica enviada por email com sucesso - ID: {}", feedback.getId());
-            } catch (NotificationException e) {
-                logger.error("ERRO ao enviar notificação por email (feedback já salvo). ID: {}, Erro: {}", 
-                    feedback.getId(), e.getMessage(), e);
-                logger.error("Stack trace completo:", e);
-                // Não relançar exceção - feedback já foi salvo, mas logamos o erro completo
-            } catch (Exception e) {
-                logger.error("ERRO inesperado ao enviar notificação por email (feedback já salvo). ID: {}, Erro: {}, Tipo: {}", 
-                    feedback.getId(), e.getMessage(), e.getClass().getName(), e);
-                logger.error("Stack trace completo:", e);
-                // Não relançar exceção - feedback já foi salvo, mas logamos o erro completo
-            }
+            CriticalFeedbackNotifier.notifyAdmin(emailNotificationGateway, feedback);
         } else {
             logger.debug("Feedback não crítico (nota: {}) - Não será enviada notificação", feedback.getScore().getValue());
         }
@@ -91,10 +65,31 @@ public class CreateFeedbackUseCaseImpl implements CreateFeedbackUseCase {
         );
     }
 
+    /**
+     * Valida a requisição e cria a entidade de domínio.
+     * Compartilhado com o processamento em lote para manter as mesmas regras.
+     */
+    static Feedback toFeedback(FeedbackRequest request) {
+        if (request.description() == null || request.description().isBlank()) {
+            throw new FeedbackDomainException("Descrição é obrigatória");
+        }
+
+        if (request.score() == null) {
+            throw new FeedbackDomainException("Nota é obrigatória");
+        }
+
+        Score score = new Score(request.score());
+        Urgency urgency = request.urgency() != null 
+            ? Urgency.of(request.urgency()) 
+            : Urgency.LOW;
+
+        return new Feedback(request.description(), score, urgency);
+    }
+
     /**
      * Constrói o conteúdo do email para notificação de feedback crítico.
      */
-    private String buildEmailContent(Feedback feedback) {
+    static String buildEmailContent(Feedback feedback) {
         StringBuilder content = new StringBuilder();
         content.append("ALERTA: Feedback Crítico Recebido\n\n");
         content.append("Detalhes do Feedback:\n");
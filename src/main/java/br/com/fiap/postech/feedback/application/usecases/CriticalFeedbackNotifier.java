@@ -0,0 +1,43 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Envia a notificação de feedback crítico já persistido.
+ * Usado por todos os casos de uso que gravam feedbacks (individual, lote e fila).
+ * 
+ * No envio direto, falhas são apenas registradas: o feedback já foi salvo. Na outbox
+ * ({@link EmailNotificationGateway#isDeferred()}) a falha ao registrar a notificação é
+ * propagada como NotificationException: o chamador trata o feedback como não recebido
+ * (resposta de erro, item com falha no lote ou mensagem reentregue pela fila) e a
+ * repetição grava o feedback e registra a notificação de novo.
+ */
+final class CriticalFeedbackNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(CriticalFeedbackNotifier.class);
+
+    private CriticalFeedbackNotifier() {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada");
+    }
+
+    static void notifyAdmin(EmailNotificationGateway emailNotificationGateway, Feedback feedback) {
+        try {
+            emailNotificationGateway.sendAdminNotification(CreateFeedbackUseCaseImpl.buildEmailContent(feedback));
+            logger.info("Notificação de feedback crítico registrada: id={}, nota={}",
+                feedback.getId(), feedback.getScore().getValue());
+        } catch (Exception e) {
+            if (emailNotificationGateway.isDeferred()) {
+                logger.warn("Notificação de feedback crítico não registrada na fila: id={}, erro={}",
+                    feedback.getId(), e.getMessage());
+                throw e instanceof NotificationException notificationError ? notificationError
+                    : new NotificationException("Falha ao registrar notificação do feedback " + feedback.getId(), e);
+            }
+            logger.error("ERRO ao enviar notificação por email (feedback já salvo). ID: {}, Erro: {}",
+                feedback.getId(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackResponse;
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackQueueGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caso de uso para receber um feedback no modo de ingestão assíncrona.
+ * 
+ * Responsabilidades:
+ * - Validar dados de entrada (mesmas regras do modo síncrono)
+ * - Criar entidade de domínio, com id e data definidos no recebimento
+ * - Enfileirar o feedback para persistência posterior
+ * 
+ * A gravação no Table Storage e a notificação de feedbacks críticos são feitas
+ * pela função de fila (ProcessQueuedFeedbacksUseCase), fora da requisição HTTP.
+ * Criado manualmente pela FeedbackHttpFunction quando FEEDBACK_INGEST_MODE=async.
+ */
+public class EnqueueFeedbackUseCaseImpl implements CreateFeedbackUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnqueueFeedbackUseCaseImpl.class);
+
+    private final FeedbackQueueGateway feedbackQueueGateway;
+
+    public EnqueueFeedbackUseCaseImpl(FeedbackQueueGateway feedbackQueueGateway) {
+        this.feedbackQueueGateway = feedbackQueueGateway;
+    }
+
+    @Override
+    public FeedbackResponse execute(FeedbackRequest request) {
+        Feedback feedback = CreateFeedbackUseCaseImpl.toFeedback(request);
+
+        feedbackQueueGateway.enqueue(feedback);
+        logger.debug("Feedback enfileirado para persistência: id={}", feedback.getId());
+
+        return new FeedbackResponse(
+            feedback.getId(),
+            feedback.getScore().getValue(),
+            feedback.getDescription(),
+            feedback.getCreatedAt()
+        );
+    }
+}
@@ -1,6 +1,9 @@
 package br.com.fiap.postech.feedback.application.usecases;
 
 import br.com.fiap.postech.feedback.application.dtos.responses.WeeklyReportResponse;
+import br.com.fiap.postech.feedback.domain.gateways.DailyFeedbackAggregate;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
 import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
 import br.com.fiap.postech.feedback.domain.gateways.ReportStorageGateway;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -13,7 +16,13 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.TemporalAdjusters;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Caso de uso para gerar relatório semanal consolidado de feedbacks.
@@ -25,30 +34,59 @@ import java.util.Map;
  * 1. Calcula período: semana atual (segunda-feira até hoje)
  *    - Busca a segunda-feira da semana atual
  *    - Período vai até hoje para incluir feedbacks recentes
- * 2. Busca feedbacks do período via FeedbackGateway
- * 3. Calcula métricas:
+ * 2. Lê os feedbacks do período em streaming via FeedbackGateway, em blocos
+ *    colunares (FeedbackBatch) de até REPORT_BATCH_SIZE linhas
+ * 3. Em uma única passada, repassa cada bloco ao relatório (Blob Storage via
+ *    ReportStorageGateway), na ordem do gateway (mais antigo primeiro), e acumula as métricas:
  *    - Média das notas
  *    - Total de avaliações
  *    - Avaliações por dia
  *    - Avaliações por urgência (LOW, MEDIUM, HIGH)
- * 4. Monta estrutura JSON com todos os dados
- * 5. Salva relatório no Blob Storage via ReportStorageGateway
- * 6. Retorna WeeklyReportResponse com métricas e URL do relatório
+ * 4. Completa o relatório com as métricas consolidadas
+ * 5. Retorna WeeklyReportResponse com métricas e URL do relatório
+ *
+ * Os feedbacks nunca ficam todos em memória: o consumo de memória é constante
+ * em relação ao volume da semana. Cada bloco guarda as linhas em arrays primitivos,
+ * sem um Feedback (e seus Value Objects) por linha; as métricas são acumuladas e os
+ * itens do relatório são escritos direto das colunas, sem um Map por linha.
+ *
+ * Com um FeedbackAggregateGateway (REPORT_SOURCE=aggregates), as métricas vêm dos
+ * agregados diários mantidos na gravação: o relatório lê uma linha por dia (e shard)
+ * em vez de todos os feedbacks, e contém apenas as métricas consolidadas.
  */
 @ApplicationScoped
 public class GenerateWeeklyReportUseCaseImpl implements GenerateWeeklyReportUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(GenerateWeeklyReportUseCaseImpl.class);
 
+    /**
+     * Linhas por bloco lido do gateway: uma página do Table Storage (1000) com folga.
+     */
+    static final int REPORT_BATCH_SIZE = 1024;
+
     private final FeedbackGateway feedbackGateway;
     private final ReportStorageGateway reportStorageGateway;
+    private final FeedbackAggregateGateway aggregateGateway;
 
     @Inject
     public GenerateWeeklyReportUseCaseImpl(
             FeedbackGateway feedbackGateway,
             ReportStorageGateway reportStorageGateway) {
+        this(feedbackGateway, reportStorageGateway, null);
+    }
+
+    /**
+     * Construtor para criação manual com relatório a partir dos agregados diários.
+     *
+     * @param aggregateGateway Fonte das métricas; null lê os feedbacks do período
+     */
+    public GenerateWeeklyReportUseCaseImpl(
+            FeedbackGateway feedbackGateway,
+            ReportStorageGateway reportStorageGateway,
+            FeedbackAggregateGateway aggregateGateway) {
         this.feedbackGateway = feedbackGateway;
         this.reportStorageGateway = reportStorageGateway;
+        this.aggregateGateway = aggregateGateway;
     }
 
     /**
@@ -73,49 +111,71 @@ public class GenerateWeeklyReportUseCaseImpl implements GenerateWeeklyReportUseC
 
         logger.info("Período do relatório: {} até {}", startOfWeek, endOfWeek);
 
-        var feedbacks = feedbackGateway.findByPeriod(startOfWeek, endOfWeek);
+        if (aggregateGateway != null) {
+            return executeFromAggregates(lastMonday, lastSunday, startOfWeek, endOfWeek);
+        }
+
+        WeeklyReportAccumulator accumulator = new WeeklyReportAccumulator();
+        String fileName;
+
+        try (Stream<FeedbackBatch> batches = feedbackGateway.streamBatchesByPeriod(
+                startOfWeek, endOfWeek, REPORT_BATCH_SIZE)) {
+            Iterator<FeedbackBatch> iterator = batches.iterator();
+
+            if (!iterator.hasNext()) {
+                logger.warn("Nenhum feedback encontrado no período");
+                return createEmptyReport(startOfWeek, endOfWeek);
+            }
+
+            Stream<FeedbackBatch> reportBatches = StreamSupport
+                    .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                    .map(batch -> {
+                        accumulator.add(batch);
+                        return batch;
+                    });
+
+            fileName = reportStorageGateway.saveWeeklyReport(reportBatches,
+                () -> buildSummary(startOfWeek, endOfWeek, accumulator));
+        }
+
+        return buildResponse(startOfWeek, endOfWeek, accumulator, fileName);
+    }
+
+    /**
+     * Gera o relatório a partir dos agregados diários: O(dias) em vez de O(feedbacks).
+     */
+    private WeeklyReportResponse executeFromAggregates(LocalDate firstDay, LocalDate lastDay,
+                                                       Instant startOfWeek, Instant endOfWeek) {
+        List<DailyFeedbackAggregate> aggregates = aggregateGateway.findDaily(firstDay, lastDay);
+
+        WeeklyReportAccumulator accumulator = new WeeklyReportAccumulator();
+        aggregates.forEach(accumulator::add);
 
-        if (feedbacks.isEmpty()) {
+        if (accumulator.total() == 0) {
             logger.warn("Nenhum feedback encontrado no período");
             return createEmptyReport(startOfWeek, endOfWeek);
         }
 
-        double average = feedbacks.stream()
-                .mapToInt(f -> f.getScore().getValue())
-                .average()
-                .orElse(0.0);
-
-        Map<String, Long> dailyCount = new HashMap<>();
-        Map<String, Long> urgencyCount = new HashMap<>();
-
-        feedbacks.forEach(f -> {
-            String day = f.getCreatedAt().toLocalDate().toString();
-            dailyCount.put(day, dailyCount.getOrDefault(day, 0L) + 1);
-
-            String urgency = f.getUrgency().getValue();
-            urgencyCount.put(urgency, urgencyCount.getOrDefault(urgency, 0L) + 1);
-        });
- 
-        Map<String, Object> reportData = new HashMap<>();
-        reportData.put("periodo_inicio", startOfWeek.toString());
-        reportData.put("periodo_fim", endOfWeek.toString());
-        reportData.put("total_avaliacoes", feedbacks.size());
-        reportData.put("media_avaliacoes", Math.round(average * 100.0) / 100.0);
-        reportData.put("avaliacoes_por_dia", dailyCount);
-        reportData.put("avaliacoes_por_urgencia", urgencyCount);
-        reportData.put("data_geracao", Instant.now().toString());
-        reportData.put("feedbacks", feedbacks.stream()
-                .map(f -> {
-                    Map<String, Object> feedbackMap = new HashMap<>();
-                    feedbackMap.put("descricao", f.getDescription());
-                    feedbackMap.put("urgencia", f.getUrgency().getValue());
-                    feedbackMap.put("data_envio", f.getCreatedAt().toString());
-                    feedbackMap.put("nota", f.getScore().getValue());
-                    return feedbackMap;
-                })
-                .toList());
-
-        String fileName = reportStorageGateway.saveWeeklyReport(reportData);
+        logger.info("Relatório calculado a partir de {} agregado(s) diário(s)", aggregates.size());
+        String fileName = reportStorageGateway.saveWeeklyReport(buildSummary(startOfWeek, endOfWeek, accumulator));
+        return buildResponse(startOfWeek, endOfWeek, accumulator, fileName);
+    }
+
+    private static Map<String, Object> buildSummary(Instant startOfWeek, Instant endOfWeek,
+                                                    WeeklyReportAccumulator accumulator) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("periodo_inicio", startOfWeek.toString());
+        summary.put("periodo_fim", endOfWeek.toString());
+        summary.put("total_avaliacoes", accumulator.total());
+        summary.put("media_avaliacoes", accumulator.average());
+        summary.put("avaliacoes_por_dia", accumulator.dailyCount());
+        summary.put("avaliacoes_por_urgencia", accumulator.urgencyCount());
+        summary.put("data_geracao", Instant.now().toString());
+        return summary;
+    }
+
+    private WeeklyReportResponse buildResponse(Instant startOfWeek, Instant endOfWeek,
+                                               WeeklyReportAccumulator accumulator, String fileName) {
         String reportUrl = reportStorageGateway.getReportUrl(fileName);
 
         logger.info("Relatório semanal gerado e salvo: {}", fileName);
@@ -123,15 +183,73 @@ public class GenerateWeeklyReportUseCaseImpl implements GenerateWeeklyReportUseC
         WeeklyReportResponse response = new WeeklyReportResponse();
         response.setPeriodoInicio(startOfWeek);
         response.setPeriodoFim(endOfWeek);
-        response.setTotalAvaliacoes(feedbacks.size());
-        response.setMediaAvaliacoes(Math.round(average * 100.0) / 100.0);
-        response.setAvaliacoesPorDia(dailyCount);
-        response.setAvaliacoesPorUrgencia(urgencyCount);
+        response.setTotalAvaliacoes(accumulator.total());
+        response.setMediaAvaliacoes(accumulator.average());
+        response.setAvaliacoesPorDia(accumulator.dailyCount());
+        response.setAvaliacoesPorUrgencia(accumulator.urgencyCount());
         response.setReportUrl(reportUrl);
 
         return response;
     }
 
+    /**
+     * Métricas do relatório acumuladas em uma única passada pelos feedbacks.
+     * Guarda apenas contadores (no máximo um por dia e por urgência), nunca os feedbacks.
+     */
+    private static final class WeeklyReportAccumulator {
+        private long total;
+        private long scoreSum;
+        private final Map<String, Long> dailyCount = new HashMap<>();
+        private final Map<String, Long> urgencyCount = new HashMap<>();
+        private long lastEpochDay = Long.MIN_VALUE;
+        private String lastDay;
+
+        /**
+         * Acumula as linhas do bloco. Os feedbacks chegam em ordem cronológica, então
+         * o texto do dia só é formatado quando o dia muda.
+         */
+        void add(FeedbackBatch batch) {
+            for (int row = 0; row < batch.size(); row++) {
+                total++;
+                scoreSum += batch.score(row);
+                long epochDay = batch.epochDay(row);
+                if (epochDay != lastEpochDay) {
+                    lastEpochDay = epochDay;
+                    lastDay = LocalDate.ofEpochDay(epochDay).toString();
+                }
+                dailyCount.merge(lastDay, 1L, Long::sum);
+                urgencyCount.merge(batch.urgency(row), 1L, Long::sum);
+            }
+        }
+
+        void add(DailyFeedbackAggregate aggregate) {
+            if (aggregate.count() == 0) {
+                return;
+            }
+            total += aggregate.count();
+            scoreSum += aggregate.scoreSum();
+            dailyCount.merge(aggregate.day().toString(), aggregate.count(), Long::sum);
+            aggregate.countByUrgency().forEach((urgency, count) -> urgencyCount.merge(urgency, count, Long::sum));
+        }
+
+        int total() {
+            return Math.toIntExact(total);
+        }
+
+        double average() {
+            double average = total == 0 ? 0.0 : (double) scoreSum / total;
+            return Math.round(average * 100.0) / 100.0;
+        }
+
+        Map<String, Long> dailyCount() {
+            return dailyCount;
+        }
+
+        Map<String, Long> urgencyCount() {
+            return urgencyCount;
+        }
+    }
+
     private WeeklyReportResponse createEmptyReport(Instant startOfWeek, Instant endOfWeek) {
         WeeklyReportResponse response = new WeeklyReportResponse();
         response.setPeriodoInicio(startOfWeek);
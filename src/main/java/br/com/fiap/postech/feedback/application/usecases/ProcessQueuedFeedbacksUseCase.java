@@ -0,0 +1,10 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+
+import java.util.List;
+
+public interface ProcessQueuedFeedbacksUseCase {
+    BatchSaveResult execute(List<Feedback> feedbacks);
+}
@@ -0,0 +1,75 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Caso de uso para persistir feedbacks retirados da fila de ingestão.
+ * 
+ * Responsabilidades:
+ * - Persistir os feedbacks em lote via FeedbackGateway.saveAll
+ * - Notificar admin para cada feedback crítico persistido
+ * 
+ * Os feedbacks já chegam validados e com id/data definidos no recebimento,
+ * então reprocessar uma mensagem reentregue regrava a mesma linha.
+ * Criado manualmente pela FeedbackQueueFunction.
+ */
+public class ProcessQueuedFeedbacksUseCaseImpl implements ProcessQueuedFeedbacksUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessQueuedFeedbacksUseCaseImpl.class);
+
+    private final FeedbackGateway feedbackGateway;
+    private final EmailNotificationGateway emailNotificationGateway;
+
+    public ProcessQueuedFeedbacksUseCaseImpl(
+            FeedbackGateway feedbackGateway,
+            EmailNotificationGateway emailNotificationGateway) {
+        this.feedbackGateway = feedbackGateway;
+        this.emailNotificationGateway = emailNotificationGateway;
+    }
+
+    /**
+     * Um feedback crítico cuja notificação não pôde ser registrada na outbox é devolvido
+     * como falha, para que a sua mensagem volte à fila e seja reprocessada.
+     */
+    @Override
+    public BatchSaveResult execute(List<Feedback> feedbacks) {
+        BatchSaveResult saved = feedbackGateway.saveAll(feedbacks);
+
+        Set<String> savedIds = new HashSet<>(saved.savedIds());
+        List<BatchSaveResult.Failure> notificationFailures = new ArrayList<>();
+        for (Feedback feedback : feedbacks) {
+            if (feedback.isCritical() && savedIds.contains(feedback.getId())) {
+                try {
+                    CriticalFeedbackNotifier.notifyAdmin(emailNotificationGateway, feedback);
+                } catch (NotificationException e) {
+                    notificationFailures.add(new BatchSaveResult.Failure(feedback.getId(), e.getMessage()));
+                }
+            }
+        }
+
+        BatchSaveResult result = saved;
+        if (!notificationFailures.isEmpty()) {
+            Set<String> failedIds = new HashSet<>();
+            notificationFailures.forEach(failure -> failedIds.add(failure.feedbackId()));
+            List<BatchSaveResult.Failure> failures = new ArrayList<>(saved.failures());
+            failures.addAll(notificationFailures);
+            result = new BatchSaveResult(
+                saved.savedIds().stream().filter(id -> !failedIds.contains(id)).toList(), failures);
+        }
+
+        logger.info("Feedbacks da fila persistidos: {} salvos, {} falhas",
+            result.savedCount(), result.failures().size());
+        return result;
+    }
+}
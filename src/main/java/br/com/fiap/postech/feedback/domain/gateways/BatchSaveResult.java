@@ -0,0 +1,37 @@
+package br.com.fiap.postech.feedback.domain.gateways;
+
+import java.util.List;
+
+/**
+ * Resultado da gravação em lote de feedbacks.
+ *
+ * Cada feedback do lote aparece exatamente uma vez: em {@code savedIds}
+ * quando foi persistido, ou em {@code failures} com o motivo da falha.
+ *
+ * @param savedIds Ids dos feedbacks persistidos, na ordem de gravação
+ * @param failures Feedbacks que não puderam ser persistidos
+ */
+public record BatchSaveResult(List<String> savedIds, List<Failure> failures) {
+
+    /**
+     * Falha de um feedback específico do lote.
+     *
+     * @param feedbackId Id do feedback que falhou
+     * @param reason Motivo da falha
+     */
+    public record Failure(String feedbackId, String reason) {
+    }
+
+    public BatchSaveResult {
+        savedIds = List.copyOf(savedIds);
+        failures = List.copyOf(failures);
+    }
+
+    public int savedCount() {
+        return savedIds.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
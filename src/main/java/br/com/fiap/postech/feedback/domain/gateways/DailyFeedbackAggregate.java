@@ -0,0 +1,29 @@
+package br.com.fiap.postech.feedback.domain.gateways;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Métricas consolidadas dos feedbacks de um dia, mantidas a cada gravação.
+ *
+ * @param day Dia de criação dos feedbacks
+ * @param count Quantidade de feedbacks
+ * @param scoreSum Soma das notas (a média é scoreSum / count)
+ * @param countByUrgency Quantidade de feedbacks por urgência (LOW, MEDIUM, HIGH)
+ */
+public record DailyFeedbackAggregate(LocalDate day, long count, long scoreSum, Map<String, Long> countByUrgency) {
+
+    public DailyFeedbackAggregate {
+        countByUrgency = Map.copyOf(countByUrgency);
+    }
+
+    /**
+     * Soma as métricas de outro agregado do mesmo dia (por exemplo, de outro shard).
+     */
+    public DailyFeedbackAggregate merge(DailyFeedbackAggregate other) {
+        Map<String, Long> urgencies = new HashMap<>(countByUrgency);
+        other.countByUrgency().forEach((urgency, value) -> urgencies.merge(urgency, value, Long::sum));
+        return new DailyFeedbackAggregate(day, count + other.count(), scoreSum + other.scoreSum(), urgencies);
+    }
+}
@@ -7,4 +7,13 @@ package br.com.fiap.postech.feedback.domain.gateways;
  */
 public interface EmailNotificationGateway {
     void sendAdminNotification(String message);
+
+    /**
+     * Indica se a notificação é apenas registrada para envio posterior (outbox).
+     * Nesse caso o registro é a única cópia da notificação: se falhar, o feedback deve
+     * ser tratado como não recebido, para que a gravação seja repetida.
+     */
+    default boolean isDeferred() {
+        return false;
+    }
 }
@@ -0,0 +1,32 @@
+package br.com.fiap.postech.feedback.domain.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Gateway para as métricas diárias de feedbacks mantidas incrementalmente.
+ *
+ * Responsabilidade: Atualizar os contadores a cada gravação e devolvê-los por período,
+ * permitindo gerar o relatório sem ler os feedbacks.
+ */
+public interface FeedbackAggregateGateway {
+
+    /**
+     * Soma os feedbacks informados aos agregados dos respectivos dias.
+     *
+     * @param feedbacks Feedbacks já persistidos
+     */
+    void record(Collection<Feedback> feedbacks);
+
+    /**
+     * Busca os agregados diários do período, um por dia com feedbacks, em ordem cronológica.
+     *
+     * @param from Primeiro dia (inclusivo)
+     * @param to Último dia (inclusivo)
+     * @return Agregados dos dias com feedbacks
+     */
+    List<DailyFeedbackAggregate> findDaily(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,261 @@
+package br.com.fiap.postech.feedback.domain.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Bloco de feedbacks em formato colunar, para leituras em massa (relatório semanal).
+ *
+ * Em vez de um Feedback por linha (id, descrição, Score, Urgency e LocalDateTime, cada um
+ * com cabeçalho e ponteiros próprios), o bloco guarda uma coluna por campo:
+ * - notas em int[] e urgências em byte[] (LOW = 0, MEDIUM = 1, HIGH = 2)
+ * - createdAt em long[], como nanossegundos desde 1970-01-01T00:00 na mesma hora local do
+ *   Feedback (sem fuso): preserva o valor exato e dá o dia sem criar objetos
+ * - descrições em UTF-8, concatenadas em um único byte[] e delimitadas por offsets
+ *
+ * O id não entra no bloco, pois o relatório não o utiliza. Blocos são imutáveis, criados
+ * pelo {@link Builder} e produzidos pelos gateways em {@link FeedbackGateway#streamBatchesByPeriod}.
+ */
+public final class FeedbackBatch {
+
+    private static final String[] URGENCIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long NANOS_PER_DAY = NANOS_PER_SECOND * SECONDS_PER_DAY;
+
+    private final int size;
+    private final int[] scores;
+    private final byte[] urgencies;
+    private final long[] createdAtNanos;
+    private final int[] descriptionOffsets;
+    private final byte[] descriptions;
+    private final BitSet nullDescriptions;
+
+    private FeedbackBatch(Builder builder) {
+        this.size = builder.size;
+        this.scores = Arrays.copyOf(builder.scores, size);
+        this.urgencies = Arrays.copyOf(builder.urgencies, size);
+        this.createdAtNanos = Arrays.copyOf(builder.createdAtNanos, size);
+        this.descriptionOffsets = Arrays.copyOf(builder.descriptionOffsets, size + 1);
+        this.descriptions = Arrays.copyOf(builder.descriptions, builder.descriptionOffsets[size]);
+        this.nullDescriptions = (BitSet) builder.nullDescriptions.clone();
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Agrupa um stream de feedbacks em blocos de até {@code batchSize} linhas, sob demanda:
+     * apenas o bloco corrente fica em memória. Fechar o stream resultante fecha o original.
+     */
+    public static Stream<FeedbackBatch> partition(Stream<Feedback> feedbacks, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize deve ser maior que zero");
+        }
+        Iterator<Feedback> source = feedbacks.iterator();
+        Iterator<FeedbackBatch> batches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public FeedbackBatch next() {
+                if (!source.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Builder builder = builder(batchSize);
+                while (builder.size() < batchSize && source.hasNext()) {
+                    builder.add(source.next());
+                }
+                return builder.build();
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(feedbacks::close);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int score(int index) {
+        return scores[checkIndex(index)];
+    }
+
+    /**
+     * Urgência da linha (LOW, MEDIUM ou HIGH); as strings são compartilhadas entre as linhas.
+     */
+    public String urgency(int index) {
+        return URGENCIES[urgencies[checkIndex(index)]];
+    }
+
+    public LocalDateTime createdAt(int index) {
+        long nanos = createdAtNanos[checkIndex(index)];
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+            (int) Math.floorMod(nanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    /**
+     * Dia de criação da linha em dias desde 1970-01-01 ({@link LocalDate#toEpochDay()}),
+     * calculado direto da coluna, sem criar objetos.
+     */
+    public long epochDay(int index) {
+        return Math.floorDiv(Math.floorDiv(createdAtNanos[checkIndex(index)], NANOS_PER_SECOND), SECONDS_PER_DAY);
+    }
+
+    /**
+     * Hora de criação da linha em nanossegundos desde a meia-noite ({@link java.time.LocalTime#toNanoOfDay()}),
+     * calculada direto da coluna, sem criar objetos.
+     */
+    public long nanoOfDay(int index) {
+        return Math.floorMod(createdAtNanos[checkIndex(index)], NANOS_PER_DAY);
+    }
+
+    public String description(int index) {
+        checkIndex(index);
+        if (nullDescriptions.get(index)) {
+            return null;
+        }
+        int start = descriptionOffsets[index];
+        return new String(descriptions, start, descriptionOffsets[index + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Bytes ocupados pelas colunas (sem cabeçalhos de objeto), para métricas e benchmarks.
+     */
+    public long columnBytes() {
+        return (long) size * (Integer.BYTES + Byte.BYTES + Long.BYTES)
+            + (long) descriptionOffsets.length * Integer.BYTES
+            + descriptions.length
+            + nullDescriptions.size() / Byte.SIZE;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fora do bloco de " + size + " feedbacks");
+        }
+        return index;
+    }
+
+    /**
+     * Monta um bloco linha a linha. As colunas crescem conforme necessário e são
+     * recortadas no tamanho exato em {@link #build()}. Não é thread-safe.
+     */
+    public static final class Builder {
+
+        private int size;
+        private int[] scores;
+        private byte[] urgencies;
+        private long[] createdAtNanos;
+        private int[] descriptionOffsets;
+        private byte[] descriptions;
+        private final BitSet nullDescriptions = new BitSet();
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(1, expectedSize);
+            this.scores = new int[capacity];
+            this.urgencies = new byte[capacity];
+            this.createdAtNanos = new long[capacity];
+            this.descriptionOffsets = new int[capacity + 1];
+            this.descriptions = new byte[capacity * 64];
+        }
+
+        public Builder add(Feedback feedback) {
+            return add(feedback.getDescription(), feedback.getScore().getValue(),
+                feedback.getUrgency().getValue(), feedback.getCreatedAt());
+        }
+
+        /**
+         * Adiciona uma linha com as mesmas regras dos Value Objects: nota entre 0 e 10 e
+         * urgência LOW, MEDIUM ou HIGH (sem diferenciar maiúsculas; vazia vale LOW).
+         *
+         * @throws IllegalArgumentException se a nota ou a urgência forem inválidas
+         */
+        public Builder add(String description, int score, String urgency, LocalDateTime createdAt) {
+            if (score < 0 || score > 10) {
+                throw new IllegalArgumentException(
+                    String.format("Score must be between %d and %d, but was %d", 0, 10, score));
+            }
+            if (createdAt == null) {
+                throw new IllegalArgumentException("createdAt não pode ser nulo");
+            }
+            byte urgencyCode = urgencyCode(urgency);
+            long nanos = Math.addExact(
+                Math.multiplyExact(createdAt.toEpochSecond(ZoneOffset.UTC), NANOS_PER_SECOND), createdAt.getNano());
+
+            ensureCapacity();
+            scores[size] = score;
+            urgencies[size] = urgencyCode;
+            createdAtNanos[size] = nanos;
+            appendDescription(description);
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public FeedbackBatch build() {
+            return new FeedbackBatch(this);
+        }
+
+        private void appendDescription(String description) {
+            int start = descriptionOffsets[size];
+            if (description == null) {
+                nullDescriptions.set(size);
+                descriptionOffsets[size + 1] = start;
+                return;
+            }
+            byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+            if (start + bytes.length > descriptions.length) {
+                descriptions = Arrays.copyOf(descriptions, Math.max(descriptions.length * 2, start + bytes.length));
+            }
+            System.arraycopy(bytes, 0, descriptions, start, bytes.length);
+            descriptionOffsets[size + 1] = start + bytes.length;
+        }
+
+        private void ensureCapacity() {
+            if (size < scores.length) {
+                return;
+            }
+            int capacity = scores.length * 2;
+            scores = Arrays.copyOf(scores, capacity);
+            urgencies = Arrays.copyOf(urgencies, capacity);
+            createdAtNanos = Arrays.copyOf(createdAtNanos, capacity);
+            descriptionOffsets = Arrays.copyOf(descriptionOffsets, capacity + 1);
+        }
+
+        private static byte urgencyCode(String urgency) {
+            if (urgency == null || urgency.isBlank()) {
+                return 0;
+            }
+            for (byte code = 0; code < URGENCIES.length; code++) {
+                if (URGENCIES[code].equalsIgnoreCase(urgency)) {
+                    return code;
+                }
+            }
+            throw new IllegalArgumentException(
+                String.format("Urgency must be LOW, MEDIUM or HIGH, but was %s", urgency));
+        }
+    }
+}
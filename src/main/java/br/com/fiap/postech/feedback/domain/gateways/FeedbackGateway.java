@@ -1,11 +1,76 @@
 package br.com.fiap.postech.feedback.domain.gateways;
 
 import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface FeedbackGateway {
     void save(Feedback feedback);
+
+    /**
+     * Persiste vários feedbacks, informando o resultado de cada um.
+     * Uma falha em um feedback não impede a gravação dos demais.
+     *
+     * A implementação padrão grava um a um via {@link #save(Feedback)};
+     * gateways com suporte a lote devem sobrescrever para reduzir as chamadas remotas.
+     *
+     * @param feedbacks Feedbacks a persistir
+     * @return Ids gravados e falhas por feedback
+     */
+    default BatchSaveResult saveAll(Collection<Feedback> feedbacks) {
+        List<String> savedIds = new ArrayList<>();
+        List<BatchSaveResult.Failure> failures = new ArrayList<>();
+        for (Feedback feedback : feedbacks) {
+            try {
+                save(feedback);
+                savedIds.add(feedback.getId());
+            } catch (FeedbackPersistenceException e) {
+                failures.add(new BatchSaveResult.Failure(feedback.getId(), e.getMessage()));
+            }
+        }
+        return new BatchSaveResult(savedIds, failures);
+    }
+
+    /**
+     * Busca os feedbacks com data de criação entre {@code from} e {@code to} (inclusive).
+     *
+     * Contrato de ordem: cronológica, do mais antigo para o mais recente (a ordem das
+     * RowKeys no Table Storage). {@link #streamByPeriod} e {@link #streamBatchesByPeriod}
+     * seguem a mesma ordem, e é nela que os feedbacks aparecem no relatório semanal.
+     *
+     * @param from Início do período (inclusivo)
+     * @param to Fim do período (inclusivo)
+     * @return Feedbacks do período, do mais antigo para o mais recente
+     */
     List<Feedback> findByPeriod(Instant from, Instant to);
+
+    /**
+     * Versão em streaming de {@link #findByPeriod(Instant, Instant)}: os feedbacks
+     * são lidos sob demanda, página a página, à medida que o stream é consumido.
+     * O stream deve ser fechado pelo chamador (try-with-resources).
+     *
+     * A implementação padrão apenas delega para {@code findByPeriod}; gateways que
+     * conseguem paginar no servidor devem sobrescrever para manter a memória constante.
+     */
+    default Stream<Feedback> streamByPeriod(Instant from, Instant to) {
+        return findByPeriod(from, to).stream();
+    }
+
+    /**
+     * Leitura em massa do período em blocos colunares ({@link FeedbackBatch}) de até
+     * {@code batchSize} feedbacks, na mesma ordem de {@link #streamByPeriod(Instant, Instant)}.
+     * O stream deve ser fechado pelo chamador (try-with-resources).
+     *
+     * A implementação padrão agrupa o resultado de {@code streamByPeriod}; gateways que
+     * conseguem montar as colunas direto do armazenamento devem sobrescrever para não
+     * criar um Feedback por linha.
+     */
+    default Stream<FeedbackBatch> streamBatchesByPeriod(Instant from, Instant to, int batchSize) {
+        return FeedbackBatch.partition(streamByPeriod(from, to), batchSize);
+    }
 }
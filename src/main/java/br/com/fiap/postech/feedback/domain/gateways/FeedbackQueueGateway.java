@@ -0,0 +1,13 @@
+package br.com.fiap.postech.feedback.domain.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+
+/**
+ * Gateway para enfileirar feedbacks para persistência assíncrona.
+ * 
+ * Responsabilidade: Entregar o feedback a uma fila durável; a gravação
+ * no FeedbackGateway acontece depois, fora da requisição HTTP.
+ */
+public interface FeedbackQueueGateway {
+    void enqueue(Feedback feedback);
+}
@@ -1,7 +1,52 @@
 package br.com.fiap.postech.feedback.domain.gateways;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 public interface ReportStorageGateway {
     String saveReport(String fileName, String content);
     String getReportUrl(String fileName);
     String saveWeeklyReport(Object reportData);
+
+    /**
+     * Salva o relatório semanal consumindo os blocos de feedbacks sob demanda.
+     *
+     * Cada linha de {@code feedbacks} é gravada como um item do campo {@code feedbacks} do
+     * relatório ({@code descricao}, {@code urgencia}, {@code data_envio} e {@code nota}) à
+     * medida que o stream é consumido; {@code summary} só é chamado depois que o stream
+     * terminou, então pode devolver métricas acumuladas durante o consumo.
+     *
+     * A implementação padrão materializa um Map por linha e delega para
+     * {@link #saveWeeklyReport(Object)}; implementações com escrita incremental
+     * devem sobrescrever para manter a memória constante e escrever direto das colunas.
+     *
+     * @param feedbacks Blocos colunares com os feedbacks do relatório
+     * @param summary Campos consolidados do relatório, calculados após o consumo dos itens
+     * @return Nome do arquivo salvo
+     */
+    default String saveWeeklyReport(Stream<FeedbackBatch> feedbacks, Supplier<Map<String, Object>> summary) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        feedbacks.forEach(batch -> {
+            for (int row = 0; row < batch.size(); row++) {
+                items.add(reportItem(batch, row));
+            }
+        });
+        Map<String, Object> reportData = new HashMap<>();
+        reportData.put("feedbacks", items);
+        reportData.putAll(summary.get());
+        return saveWeeklyReport(reportData);
+    }
+
+    private static Map<String, Object> reportItem(FeedbackBatch batch, int row) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("descricao", batch.description(row));
+        item.put("urgencia", batch.urgency(row));
+        item.put("data_envio", batch.createdAt(row).toString());
+        item.put("nota", batch.score(row));
+        return item;
+    }
 }
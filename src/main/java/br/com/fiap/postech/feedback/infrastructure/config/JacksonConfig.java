@@ -1,8 +1,6 @@
 package br.com.fiap.postech.feedback.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Singleton;
@@ -12,6 +10,8 @@ import jakarta.inject.Singleton;
  * 
  * Configuração simplificada - usa apenas @JsonProperty no FeedbackRequest.
  * Campos em português: descricao, nota, urgencia
+ * 
+ * Expõe ao CDI o mesmo ObjectMapper usado pelas Azure Functions ({@link JsonCodec}).
  */
 @ApplicationScoped
 public class JacksonConfig {
@@ -19,8 +19,6 @@ public class JacksonConfig {
     @Produces
     @Singleton
     public ObjectMapper objectMapper() {
-        return new ObjectMapper()
-                .registerModule(new JavaTimeModule())
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return JsonCodec.mapper();
     }
 }
\ No newline at end of file
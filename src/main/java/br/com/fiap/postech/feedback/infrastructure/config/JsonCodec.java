@@ -0,0 +1,60 @@
+package br.com.fiap.postech.feedback.infrastructure.config;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Configuração JSON única da aplicação: um ObjectMapper e os ObjectReader/ObjectWriter
+ * já resolvidos para os tipos usados em toda requisição.
+ *
+ * ObjectReader e ObjectWriter são imutáveis e thread-safe; criá-los uma vez evita
+ * procurar o (de)serializador do tipo a cada chamada de readValue/writeValueAsString.
+ * Handlers, gateways e o CDI (JacksonConfig) compartilham a mesma instância.
+ */
+public final class JsonCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final ObjectReader FEEDBACK_REQUEST_READER = MAPPER.readerFor(FeedbackRequest.class);
+    private static final ObjectWriter WRITER = MAPPER.writer();
+    private static final ObjectWriter BATCH_RESPONSE_WRITER = MAPPER.writerFor(FeedbackBatchResponse.class);
+
+    private JsonCodec() {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada");
+    }
+
+    /**
+     * ObjectMapper compartilhado (JavaTimeModule, datas em ISO-8601).
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * Reader do corpo de POST /api/avaliacao e dos itens do lote.
+     */
+    public static ObjectReader feedbackRequestReader() {
+        return FEEDBACK_REQUEST_READER;
+    }
+
+    /**
+     * Writer genérico para respostas e relatórios (Map, DTOs).
+     */
+    public static ObjectWriter writer() {
+        return WRITER;
+    }
+
+    /**
+     * Writer da resposta de POST /api/avaliacao/lote.
+     */
+    public static ObjectWriter batchResponseWriter() {
+        return BATCH_RESPONSE_WRITER;
+    }
+}
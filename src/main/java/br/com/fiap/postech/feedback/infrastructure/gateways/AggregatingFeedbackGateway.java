@@ -0,0 +1,88 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Decorator do FeedbackGateway que atualiza os agregados diários após cada gravação.
+ * 
+ * O feedback é gravado primeiro; falhas ao atualizar os agregados são apenas registradas
+ * (o feedback já foi salvo), com os dias afetados no log, e deixam o relatório por
+ * agregados defasado nesses dias até que sejam recalculados a partir da tabela de
+ * feedbacks pela ferramenta FeedbackAggregateRebuild. Consultas são delegadas sem alteração.
+ * 
+ * Criado manualmente pelas Functions (sem CDI) quando REPORT_SOURCE=aggregates.
+ */
+public class AggregatingFeedbackGateway implements FeedbackGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(AggregatingFeedbackGateway.class);
+
+    private final FeedbackGateway delegate;
+    private final FeedbackAggregateGateway aggregateGateway;
+
+    public AggregatingFeedbackGateway(FeedbackGateway delegate, FeedbackAggregateGateway aggregateGateway) {
+        this.delegate = delegate;
+        this.aggregateGateway = aggregateGateway;
+    }
+
+    @Override
+    public void save(Feedback feedback) {
+        delegate.save(feedback);
+        recordAggregates(List.of(feedback));
+    }
+
+    @Override
+    public BatchSaveResult saveAll(Collection<Feedback> feedbacks) {
+        BatchSaveResult result = delegate.saveAll(feedbacks);
+        Set<String> savedIds = new HashSet<>(result.savedIds());
+        List<Feedback> saved = feedbacks.stream().filter(f -> savedIds.contains(f.getId())).toList();
+        if (!saved.isEmpty()) {
+            recordAggregates(saved);
+        }
+        return result;
+    }
+
+    @Override
+    public List<Feedback> findByPeriod(Instant from, Instant to) {
+        return delegate.findByPeriod(from, to);
+    }
+
+    @Override
+    public Stream<Feedback> streamByPeriod(Instant from, Instant to) {
+        return delegate.streamByPeriod(from, to);
+    }
+
+    @Override
+    public Stream<FeedbackBatch> streamBatchesByPeriod(Instant from, Instant to, int batchSize) {
+        return delegate.streamBatchesByPeriod(from, to, batchSize);
+    }
+
+    private static Set<LocalDate> daysOf(Collection<Feedback> feedbacks) {
+        Set<LocalDate> days = new TreeSet<>();
+        feedbacks.forEach(feedback -> days.add(feedback.getCreatedAt().toLocalDate()));
+        return days;
+    }
+
+    private void recordAggregates(Collection<Feedback> feedbacks) {
+        try {
+            aggregateGateway.record(feedbacks);
+        } catch (Exception e) {
+            logger.error("ERRO ao atualizar agregados de {} feedback(s) (feedbacks já salvos), dias {}: {}. "
+                + "Recalcule com FeedbackAggregateRebuild", feedbacks.size(), daysOf(feedbacks), e.getMessage(), e);
+        }
+    }
+}
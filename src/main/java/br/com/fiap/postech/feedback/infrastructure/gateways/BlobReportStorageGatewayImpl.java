@@ -1,13 +1,21 @@
 package br.com.fiap.postech.feedback.infrastructure.gateways;
 
 import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
 import br.com.fiap.postech.feedback.domain.gateways.ReportStorageGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import br.com.fiap.postech.feedback.infrastructure.resilience.SdkRetries;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
 import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -18,11 +26,22 @@ import org.slf4j.LoggerFactory;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-
-
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Gateway de relatórios no Azure Blob Storage.
+ *
+ * Na inicialização rápida (azure.storage.fast-init=true) o container não é verificado no
+ * cold start: ele é criado se necessário ("if not exists") antes do primeiro upload.
+ */
 @ApplicationScoped
 public class BlobReportStorageGatewayImpl implements ReportStorageGateway {
 
@@ -31,28 +50,43 @@ public class BlobReportStorageGatewayImpl implements ReportStorageGateway {
     private final String storageConnectionString;
     private final String containerName;
     private final ObjectMapper objectMapper;
+    private final boolean fastInit;
     private BlobContainerClient containerClient;
+    private volatile boolean containerCreated;
+    private RetryPolicy retryPolicy = RetryPolicy.storage();
+    private DependencyGuard blobGuard;
 
     @Inject
     public BlobReportStorageGatewayImpl(
             @ConfigProperty(name = "azure.blob.connection-string") String storageConnectionString,
             @ConfigProperty(name = "azure.storage.container-name", defaultValue = "weekly-reports") String containerName,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            @ConfigProperty(name = "azure.storage.fast-init", defaultValue = "false") String fastInit) {
         this.storageConnectionString = storageConnectionString;
         this.containerName = containerName;
         this.objectMapper = objectMapper;
+        this.fastInit = fastInit != null && Boolean.parseBoolean(fastInit.trim());
+    }
+
+    public BlobReportStorageGatewayImpl(String storageConnectionString, String containerName,
+                                        ObjectMapper objectMapper) {
+        this(storageConnectionString, containerName, objectMapper, null);
     }
 
     @PostConstruct
-    void init() {
-        BlobServiceClient serviceClient = new BlobServiceClientBuilder()
+    public void init() {
+        BlobServiceClient serviceClient = SdkRetries.disabled(new BlobServiceClientBuilder())
                 .connectionString(storageConnectionString)
                 .buildClient();
 
         containerClient = serviceClient.getBlobContainerClient(containerName);
 
-        if (!containerClient.exists()) {
-            containerClient.create();
+        if (fastInit) {
+            logger.info("Container '{}' sem verificação (modo rápido)", containerName);
+            return;
+        }
+        if (!retryPolicy.execute(containerClient::exists)) {
+            retryPolicy.run(containerClient::create);
             logger.info("Container criado: {}", containerName);
         } else {
             logger.info("Container existente: {}", containerName);
@@ -62,11 +96,14 @@ public class BlobReportStorageGatewayImpl implements ReportStorageGateway {
     @Override
     public String saveReport(String fileName, String content) {
         try {
+            ensureContainer();
             BlobClient blobClient = containerClient.getBlobClient(fileName);
             byte[] data = content.getBytes(StandardCharsets.UTF_8);
 
-            blobClient.upload(new ByteArrayInputStream(data), data.length, true);
-            blobClient.setHttpHeaders(new BlobHttpHeaders().setContentType("application/json"));
+            retryPolicy.run(() -> {
+                blobClient.upload(new ByteArrayInputStream(data), data.length, true);
+                blobClient.setHttpHeaders(new BlobHttpHeaders().setContentType("application/json"));
+            });
 
             logger.info("Relatório salvo no blob: {}", fileName);
             return fileName;
@@ -84,12 +121,122 @@ public class BlobReportStorageGatewayImpl implements ReportStorageGateway {
     public String saveWeeklyReport(Object reportData) {
         try {
             String jsonReport = objectMapper.writeValueAsString(reportData);
-            String fileName = "relatorios/relatorio-" +
-                    LocalDate.now().format(DateTimeFormatter.ISO_DATE) + ".json";
+            String fileName = weeklyReportFileName();
 
             return saveReport(fileName, jsonReport);
         } catch (Exception e) {
             throw new FeedbackPersistenceException("Falha ao salvar relatório semanal no Blob Storage", e);
         }
     }
+
+    /**
+     * Grava o relatório semanal direto no blob, linha a linha, sem montar o JSON em memória
+     * nem um Map por feedback: os campos saem das colunas de cada bloco ({@link FeedbackBatchJsonWriter}).
+     * O upload é feito em blocos à medida que os itens são escritos, mas o blob só é
+     * publicado depois que o relatório inteiro foi escrito: se o stream de feedbacks ou a
+     * serialização falhar no meio, os blocos enviados são descartados e o relatório
+     * anterior do dia continua intacto.
+     *
+     * Com {@link #guardBlobCalls(DependencyGuard)}, só as chamadas de upload (cada bloco e
+     * o commit) passam pela proteção do Blob; a leitura dos feedbacks e a serialização não.
+     */
+    @Override
+    public String saveWeeklyReport(Stream<FeedbackBatch> feedbacks, Supplier<Map<String, Object>> summary) {
+        String fileName = weeklyReportFileName();
+        StagedBlockBlobOutputStream out = null;
+        try {
+            ensureContainer();
+            out = openReportStream(fileName);
+            writeWeeklyReport(out, feedbacks, summary);
+            out.commit();
+        } catch (Exception e) {
+            throw new FeedbackPersistenceException("Falha ao salvar relatório semanal no Blob Storage", e);
+        } finally {
+            if (out != null) {
+                out.close();
+            }
+        }
+        logger.info("Relatório salvo no blob: {}", fileName);
+        return fileName;
+    }
+
+    StagedBlockBlobOutputStream openReportStream(String fileName) {
+        return new StagedBlockBlobOutputStream(
+                containerClient.getBlobClient(fileName).getBlockBlobClient(),
+                new BlobHttpHeaders().setContentType("application/json"),
+                retryPolicy,
+                blobGuard,
+                StagedBlockBlobOutputStream.DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Escreve o relatório no formato {"feedbacks":[...], <campos do resumo>}.
+     * O resumo é obtido só depois de consumir todos os itens. Não há flush por item:
+     * os blocos são enviados apenas quando o buffer do upload enche.
+     */
+    void writeWeeklyReport(OutputStream out, Stream<FeedbackBatch> feedbacks, Supplier<Map<String, Object>> summary)
+            throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("feedbacks");
+        FeedbackBatchJsonWriter rows = new FeedbackBatchJsonWriter();
+        Iterator<FeedbackBatch> batches = feedbacks.iterator();
+        while (batches.hasNext()) {
+            rows.write(generator, batches.next());
+        }
+        generator.writeEndArray();
+        for (Map.Entry<String, Object> field : summary.get().entrySet()) {
+            generator.writeFieldName(field.getKey());
+            writer.writeValue(generator, field.getValue());
+        }
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    /**
+     * Na inicialização rápida, cria o container antes do primeiro upload.
+     */
+    private void ensureContainer() {
+        if (!fastInit || containerCreated) {
+            return;
+        }
+        if (blobGuard != null) {
+            blobGuard.run(() -> retryPolicy.run(this::createContainerIfNotExists));
+        } else {
+            retryPolicy.run(this::createContainerIfNotExists);
+        }
+        containerCreated = true;
+    }
+
+    private void createContainerIfNotExists() {
+        if (containerClient.createIfNotExists()) {
+            logger.info("Container criado sob demanda: {}", containerName);
+        }
+    }
+
+    private static String weeklyReportFileName() {
+        return "relatorios/relatorio-" + LocalDate.now().format(DateTimeFormatter.ISO_DATE) + ".json";
+    }
+
+    /**
+     * Passa cada chamada ao Blob do relatório em streaming pela proteção {@code guard}
+     * (usado por {@link ResilientReportStorageGateway}).
+     */
+    void guardBlobCalls(DependencyGuard guard) {
+        this.blobGuard = guard;
+    }
+
+    boolean guardsBlobCalls() {
+        return blobGuard != null;
+    }
+
+    /**
+     * Substitui a política de novas tentativas (testes e benchmarks).
+     */
+    void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
 }
@@ -0,0 +1,141 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator do EmailNotificationGateway que agrupa notificações em um email de resumo (digest).
+ * 
+ * As notificações recebidas ficam em buffer até o fim da janela configurada (contada a partir
+ * da primeira notificação do buffer) ou até atingir o número máximo de itens; então um único
+ * email é enviado pelo gateway decorado. Com uma única notificação no buffer o conteúdo
+ * original é enviado sem alteração.
+ * 
+ * {@link #close()} envia o que estiver pendente; as Functions registram um shutdown hook
+ * para não perder o buffer quando o worker é reciclado. Falhas de envio são apenas
+ * registradas, como no envio direto.
+ * 
+ * Criado manualmente pelas Functions (sem CDI).
+ */
+public class CoalescingEmailNotificationGateway implements EmailNotificationGateway, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingEmailNotificationGateway.class);
+
+    private final EmailNotificationGateway delegate;
+    private final Duration window;
+    private final int maxItems;
+    private final ScheduledExecutorService scheduler;
+    private final List<String> buffer = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    public CoalescingEmailNotificationGateway(EmailNotificationGateway delegate, Duration window, int maxItems) {
+        this(delegate, window, maxItems, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-digest-flush");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    CoalescingEmailNotificationGateway(EmailNotificationGateway delegate, Duration window, int maxItems,
+                                       ScheduledExecutorService scheduler) {
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Janela do digest deve ser positiva");
+        }
+        if (maxItems < 1) {
+            throw new IllegalArgumentException("Número máximo de itens do digest deve ser positivo");
+        }
+        this.delegate = delegate;
+        this.window = window;
+        this.maxItems = maxItems;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void sendAdminNotification(String message) {
+        List<String> ready = null;
+        synchronized (this) {
+            if (closed) {
+                ready = List.of(message);
+            } else {
+                buffer.add(message);
+                if (buffer.size() >= maxItems) {
+                    ready = drain();
+                } else if (scheduledFlush == null) {
+                    scheduledFlush = scheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        if (ready != null) {
+            send(ready);
+        }
+    }
+
+    /**
+     * Envia imediatamente as notificações pendentes, se houver.
+     */
+    public void flush() {
+        List<String> ready;
+        synchronized (this) {
+            ready = drain();
+        }
+        if (!ready.isEmpty()) {
+            send(ready);
+        }
+    }
+
+    /**
+     * Envia as notificações pendentes e encerra o agendador. Notificações recebidas
+     * depois do fechamento são enviadas individualmente.
+     */
+    @Override
+    public void close() {
+        flush();
+        synchronized (this) {
+            closed = true;
+        }
+        scheduler.shutdown();
+    }
+
+    private List<String> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<String> items = new ArrayList<>(buffer);
+        buffer.clear();
+        return items;
+    }
+
+    private void send(List<String> items) {
+        try {
+            delegate.sendAdminNotification(items.size() == 1 ? items.get(0) : buildDigest(items));
+            logger.info("Notificação enviada ao admin com {} feedback(s) crítico(s)", items.size());
+        } catch (Exception e) {
+            logger.error("ERRO ao enviar digest de notificações ({} itens): {}", items.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Monta o conteúdo do email de resumo a partir das notificações agrupadas.
+     * Também usado pela NotificationQueueFunction no digest da outbox.
+     */
+    public static String buildDigest(List<String> items) {
+        StringBuilder digest = new StringBuilder()
+            .append("Resumo: ").append(items.size()).append(" feedbacks críticos recebidos\n");
+        for (int i = 0; i < items.size(); i++) {
+            digest.append("\n--- Feedback ").append(i + 1).append(" de ").append(items.size()).append(" ---\n")
+                .append(items.get(i)).append('\n');
+        }
+        return digest.toString();
+    }
+}
@@ -94,8 +94,15 @@ public class EmailNotificationGatewayImpl implements EmailNotificationGateway {
         this.mailtrapClient = mailtrapClient;
     }
 
+    /**
+     * Indica se o cliente Mailtrap foi criado no init() (token e inbox configurados).
+     */
+    public boolean isConfigured() {
+        return mailtrapClient != null;
+    }
+
     @PostConstruct
-    void init() {
+    public void init() {
         logger.info("=== Inicializando EmailNotificationGatewayImpl ===");
         logger.info("mailtrapApiToken configurado: {}", 
             mailtrapApiToken != null && !mailtrapApiToken.isBlank() ? "SIM (primeiros 8 chars: " + mailtrapApiToken.substring(0, Math.min(8, mailtrapApiToken.length())) + "...)" : "NAO");
@@ -145,13 +152,10 @@ public class EmailNotificationGatewayImpl implements EmailNotificationGateway {
      * Envia email ao admin usando Mailtrap.
      */
     private void sendEmailToAdmin(String subject, String content) throws NotificationException {
-        logger.info("=== sendEmailToAdmin INICIADO ===");
-        logger.info("Subject: {}", subject);
-        logger.info("Content length: {} caracteres", content != null ? content.length() : 0);
-        logger.info("mailtrapClient é null: {}", mailtrapClient == null);
-        logger.info("mailtrapApiToken está vazio: {}", 
-            mailtrapApiToken == null || mailtrapApiToken.isBlank());
-        logger.info("adminEmail: {}", adminEmail);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Enviando email ao admin: assunto='{}', tamanho={} caracteres, cliente inicializado={}",
+                subject, content != null ? content.length() : 0, mailtrapClient != null);
+        }
 
         if (mailtrapClient == null) {
             if (mailtrapApiToken == null || mailtrapApiToken.isBlank() || mailtrapInboxId == null) {
@@ -183,7 +187,6 @@ public class EmailNotificationGatewayImpl implements EmailNotificationGateway {
         }
 
         try {
-            logger.info("Construindo objeto MailtrapMail...");
             // Seguindo o padrão do exemplo oficial do Mailtrap
             final MailtrapMail mail = MailtrapMail.builder()
                     .from(new Address("noreply@feedback-sync.com", "Feedback Sync"))
@@ -193,23 +196,11 @@ public class EmailNotificationGatewayImpl implements EmailNotificationGateway {
                     .category("Notificações")
                     .build();
 
-            logger.info("Enviando email via Mailtrap API...");
-            logger.info("Detalhes do email:");
-            logger.info("  - De: {} ({})", mail.getFrom().getEmail(), mail.getFrom().getName());
-            logger.info("  - Para: {}", adminEmail);
-            logger.info("  - Assunto: {}", subject);
-            logger.info("  - Categoria: {}", mail.getCategory());
-            
             // Capturar resposta do método send() (como no exemplo oficial)
-            logger.info("Chamando mailtrapClient.send()...");
             Object response = mailtrapClient.send(mail);
-            logger.info("Resposta do Mailtrap API: {}", response != null ? response.toString() : "null");
             
-            if (response != null) {
-                logger.info("Email enviado com sucesso para {} - Resposta: {}", adminEmail, response);
-            } else {
-                logger.info("Email enviado com sucesso para {} (sem resposta do servidor)", adminEmail);
-            }
+            logger.info("Email enviado via Mailtrap: assunto='{}'", subject);
+            logger.debug("Resposta do Mailtrap API: {}", response);
             
         } catch (NotificationException e) {
             logger.error("ERRO: NotificationException ao enviar email", e);
@@ -0,0 +1,76 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.infrastructure.mappers.TableStorageFeedbackMapper;
+import com.azure.data.tables.models.TableEntity;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Converte, sob demanda, as linhas de uma consulta de período em blocos colunares.
+ *
+ * Equivalente a {@link FeedbackPeriodIterator}, mas cada linha vai direto para as colunas
+ * do {@link FeedbackBatch}, sem criar Feedback, Score e Urgency. Cada bloco consome linhas
+ * até completar {@code batchSize} feedbacks do período, então o Table Storage continua
+ * sendo paginado apenas quando o consumidor pede o próximo bloco. Linhas sem createdAt ou
+ * fora do período são descartadas, e falhas viram {@link FeedbackPersistenceException}.
+ */
+class FeedbackBatchIterator implements Iterator<FeedbackBatch> {
+
+    private final Iterator<TableEntity> entities;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final int batchSize;
+    private FeedbackBatch nextBatch;
+
+    FeedbackBatchIterator(Iterator<TableEntity> entities, LocalDateTime from, LocalDateTime to, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize deve ser maior que zero");
+        }
+        this.entities = entities;
+        this.from = from;
+        this.to = to;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            if (nextBatch == null && entities.hasNext()) {
+                FeedbackBatch batch = readBatch();
+                nextBatch = batch.isEmpty() ? null : batch;
+            }
+            return nextBatch != null;
+        } catch (FeedbackPersistenceException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new FeedbackPersistenceException("Falha ao buscar feedbacks do período", e);
+        }
+    }
+
+    @Override
+    public FeedbackBatch next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        FeedbackBatch batch = nextBatch;
+        nextBatch = null;
+        return batch;
+    }
+
+    private FeedbackBatch readBatch() {
+        FeedbackBatch.Builder builder = FeedbackBatch.builder(batchSize);
+        while (builder.size() < batchSize && entities.hasNext()) {
+            TableEntity entity = entities.next();
+            LocalDateTime createdAt = TableStorageFeedbackMapper.getCreatedAt(entity);
+            if (createdAt == null || createdAt.isBefore(from) || createdAt.isAfter(to)) {
+                continue;
+            }
+            TableStorageFeedbackMapper.addTo(builder, entity, createdAt);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Escreve as linhas de um {@link FeedbackBatch} como itens do relatório semanal
+ * ({"descricao", "urgencia", "data_envio", "nota"}), direto das colunas.
+ *
+ * Não cria um Map, um Integer ou um LocalDateTime por linha: a nota vai como número
+ * primitivo e data_envio é formatada em um buffer reaproveitado, no mesmo texto de
+ * {@link java.time.LocalDateTime#toString()}; a parte da data só é refeita quando o dia
+ * muda. Uma instância por relatório; não é thread-safe.
+ */
+final class FeedbackBatchJsonWriter {
+
+    private static final SerializedString DESCRIPTION = new SerializedString("descricao");
+    private static final SerializedString URGENCY = new SerializedString("urgencia");
+    private static final SerializedString CREATED_AT = new SerializedString("data_envio");
+    private static final SerializedString SCORE = new SerializedString("nota");
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+    private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+
+    private final char[] createdAt = new char[64];
+    private long lastEpochDay = Long.MIN_VALUE;
+    private int dateLength;
+
+    /**
+     * Escreve cada linha do bloco como um objeto JSON, na ordem do bloco.
+     */
+    void write(JsonGenerator generator, FeedbackBatch batch) throws IOException {
+        for (int row = 0; row < batch.size(); row++) {
+            generator.writeStartObject();
+            generator.writeFieldName(DESCRIPTION);
+            generator.writeString(batch.description(row));
+            generator.writeFieldName(URGENCY);
+            generator.writeString(batch.urgency(row));
+            generator.writeFieldName(CREATED_AT);
+            generator.writeString(createdAt, 0, formatCreatedAt(batch, row));
+            generator.writeFieldName(SCORE);
+            generator.writeNumber(batch.score(row));
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Formata a data de criação da linha em {@link #createdAt}, como LocalDateTime.toString():
+     * segundos só quando diferentes de zero e fração com 3, 6 ou 9 dígitos.
+     *
+     * @return Quantidade de caracteres escritos
+     */
+    private int formatCreatedAt(FeedbackBatch batch, int row) {
+        long epochDay = batch.epochDay(row);
+        if (epochDay != lastEpochDay) {
+            String day = LocalDate.ofEpochDay(epochDay).toString();
+            day.getChars(0, day.length(), createdAt, 0);
+            createdAt[day.length()] = 'T';
+            dateLength = day.length() + 1;
+            lastEpochDay = epochDay;
+        }
+        long nanoOfDay = batch.nanoOfDay(row);
+        int hour = (int) (nanoOfDay / NANOS_PER_HOUR);
+        int minute = (int) (nanoOfDay / NANOS_PER_MINUTE % 60);
+        int second = (int) (nanoOfDay / NANOS_PER_SECOND % 60);
+        int nano = (int) (nanoOfDay % NANOS_PER_SECOND);
+
+        int position = digits(hour, 2, dateLength);
+        createdAt[position++] = ':';
+        position = digits(minute, 2, position);
+        if (second > 0 || nano > 0) {
+            createdAt[position++] = ':';
+            position = digits(second, 2, position);
+            if (nano > 0) {
+                createdAt[position++] = '.';
+                if (nano % 1_000_000 == 0) {
+                    position = digits(nano / 1_000_000, 3, position);
+                } else if (nano % 1_000 == 0) {
+                    position = digits(nano / 1_000, 6, position);
+                } else {
+                    position = digits(nano, 9, position);
+                }
+            }
+        }
+        return position;
+    }
+
+    private int digits(int value, int width, int position) {
+        for (int i = position + width - 1; i >= position; i--) {
+            createdAt[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + width;
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.infrastructure.mappers.TableStorageFeedbackMapper;
+import com.azure.data.tables.models.TableEntity;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Converte, sob demanda, as linhas de uma consulta de período em Feedbacks.
+ *
+ * Cada chamada a {@link #hasNext()} avança no máximo até a próxima linha válida,
+ * então o Table Storage só é paginado (continuation token) quando o consumidor
+ * realmente precisa de mais itens. Linhas sem createdAt ou fora do período são
+ * descartadas, e falhas de leitura ou conversão são traduzidas para
+ * {@link FeedbackPersistenceException}, como na busca materializada.
+ */
+class FeedbackPeriodIterator implements Iterator<Feedback> {
+
+    private final Iterator<TableEntity> entities;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private Feedback nextFeedback;
+
+    FeedbackPeriodIterator(Iterator<TableEntity> entities, LocalDateTime from, LocalDateTime to) {
+        this.entities = entities;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextFeedback == null && entities.hasNext()) {
+                nextFeedback = toFeedbackInPeriod(entities.next());
+            }
+            return nextFeedback != null;
+        } catch (FeedbackPersistenceException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new FeedbackPersistenceException("Falha ao buscar feedbacks do período", e);
+        }
+    }
+
+    @Override
+    public Feedback next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Feedback feedback = nextFeedback;
+        nextFeedback = null;
+        return feedback;
+    }
+
+    private Feedback toFeedbackInPeriod(TableEntity entity) {
+        if (entity.getProperty(TableStorageFeedbackMapper.CREATED_AT_PROPERTY) == null) {
+            return null;
+        }
+        Feedback feedback = TableStorageFeedbackMapper.toEntity(entity);
+        LocalDateTime createdAt = feedback.getCreatedAt();
+        if (createdAt.isBefore(from) || createdAt.isAfter(to)) {
+            return null;
+        }
+        return feedback;
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Implementação do gateway de feedback em memória, sem Table Storage.
+ *
+ * Os feedbacks ficam em um índice ordenado por (createdAt, id) (ConcurrentSkipListMap):
+ * save é O(log n) e a busca por período é O(log n + k), já em ordem cronológica, como
+ * a consulta do Table. Um segundo mapa por id dá semântica de upsert: regravar o mesmo
+ * id substitui a versão anterior, mesmo com outro createdAt. As gravações do mesmo id
+ * são serializadas por locks particionados (stripes); ids diferentes gravam em paralelo
+ * e as leituras não bloqueiam.
+ *
+ * Os feedbacks são copiados na gravação e na leitura (Feedback tem setId/setCreatedAt),
+ * então alterações nos objetos do chamador não afetam o índice. Com maxItems > 0, os mais antigos são descartados ao
+ * exceder o limite (retenção para nós únicos com memória limitada).
+ *
+ * Os dados vivem apenas no processo: use para testes, benchmarks e implantações de nó
+ * único (FEEDBACK_STORE=memory). Criado manualmente pelas Functions (sem CDI).
+ */
+public class InMemoryFeedbackGateway implements FeedbackGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryFeedbackGateway.class);
+
+    private static final int STRIPES = 64;
+
+    /**
+     * Chave do índice temporal: ordena por createdAt e desempata pelo id.
+     */
+    private record TimeKey(LocalDateTime createdAt, String id) implements Comparable<TimeKey> {
+        @Override
+        public int compareTo(TimeKey other) {
+            int byTime = createdAt.compareTo(other.createdAt);
+            return byTime != 0 ? byTime : id.compareTo(other.id);
+        }
+    }
+
+    private final ConcurrentSkipListMap<TimeKey, Feedback> byTime = new ConcurrentSkipListMap<>();
+    private final Map<String, TimeKey> keysById = new ConcurrentHashMap<>();
+    private final Object[] stripes = new Object[STRIPES];
+    private final AtomicLong size = new AtomicLong();
+    private final long maxItems;
+
+    public InMemoryFeedbackGateway() {
+        this(0);
+    }
+
+    /**
+     * @param maxItems Máximo de feedbacks retidos (os mais antigos são descartados); 0 = sem limite
+     */
+    public InMemoryFeedbackGateway(long maxItems) {
+        this.maxItems = Math.max(0, maxItems);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    @Override
+    public void save(Feedback feedback) {
+        if (feedback == null) {
+            throw new FeedbackPersistenceException("Feedback não pode ser nulo");
+        }
+        if (feedback.getId() == null) {
+            feedback.setId(UUID.randomUUID().toString());
+        }
+        if (feedback.getCreatedAt() == null) {
+            feedback.setCreatedAt(LocalDateTime.now());
+        }
+        Feedback copy = copyOf(feedback);
+        TimeKey key = new TimeKey(copy.getCreatedAt(), copy.getId());
+
+        synchronized (stripeFor(copy.getId())) {
+            TimeKey previous = keysById.put(copy.getId(), key);
+            if (previous != null) {
+                byTime.remove(previous);
+            } else {
+                size.incrementAndGet();
+            }
+            byTime.put(key, copy);
+        }
+
+        if (maxItems > 0) {
+            evictOldest();
+        }
+        logger.debug("Feedback salvo em memória: id={}", copy.getId());
+    }
+
+    /**
+     * Materializa o resultado de {@link #streamByPeriod(Instant, Instant)}.
+     */
+    @Override
+    public List<Feedback> findByPeriod(Instant from, Instant to) {
+        try (Stream<Feedback> feedbacks = streamByPeriod(from, to)) {
+            return feedbacks.toList();
+        }
+    }
+
+    /**
+     * Feedbacks com createdAt entre from e to (inclusive), do mais antigo para o mais recente.
+     * O stream percorre o índice sob demanda e reflete gravações concorrentes de forma
+     * fracamente consistente, sem bloquear as gravações. Cada item é uma cópia do feedback retido.
+     */
+    @Override
+    public Stream<Feedback> streamByPeriod(Instant from, Instant to) {
+        LocalDateTime fromDateTime = LocalDateTime.ofInstant(from, ZoneId.systemDefault());
+        LocalDateTime toDateTime = LocalDateTime.ofInstant(to, ZoneId.systemDefault());
+        if (toDateTime.isBefore(fromDateTime)) {
+            return Stream.empty();
+        }
+        NavigableMap<TimeKey, Feedback> period = byTime.subMap(
+            new TimeKey(fromDateTime, ""), true,
+            new TimeKey(toDateTime.plusNanos(1), ""), false);
+        return period.values().stream().map(InMemoryFeedbackGateway::copyOf);
+    }
+
+    /**
+     * Quantidade de feedbacks retidos.
+     */
+    public long size() {
+        return size.get();
+    }
+
+    private void evictOldest() {
+        while (size.get() > maxItems) {
+            Map.Entry<TimeKey, Feedback> oldest = byTime.firstEntry();
+            if (oldest == null) {
+                return;
+            }
+            String id = oldest.getKey().id();
+            synchronized (stripeFor(id)) {
+                if (byTime.remove(oldest.getKey()) != null && keysById.remove(id, oldest.getKey())) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private Object stripeFor(String id) {
+        return stripes[Math.floorMod(id.hashCode(), STRIPES)];
+    }
+
+    private static Feedback copyOf(Feedback feedback) {
+        return Feedback.reconstruct(feedback.getId(), feedback.getDescription(),
+            feedback.getScore().getValue(), feedback.getUrgency().getValue(), feedback.getCreatedAt());
+    }
+}
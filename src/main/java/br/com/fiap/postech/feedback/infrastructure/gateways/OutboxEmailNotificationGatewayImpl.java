@@ -0,0 +1,118 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import com.azure.storage.queue.models.QueueMessageItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Implementação do EmailNotificationGateway que registra a notificação em uma fila
+ * (outbox) em vez de chamar o Mailtrap na requisição.
+ * 
+ * Responsabilidade: Gravar o conteúdo do email na fila de notificações; a
+ * NotificationQueueFunction envia o email depois, com novas tentativas independentes
+ * da gravação do feedback.
+ * 
+ * Fluxo:
+ * 1. Use case (feedback crítico salvo) → OutboxEmailNotificationGatewayImpl.sendAdminNotification()
+ * 2. Mensagem na fila FEEDBACK_NOTIFICATION_QUEUE
+ * 3. NotificationQueueFunction → EmailNotificationGatewayImpl → Mailtrap API → Email ao admin
+ * 
+ * O registro na fila passa pela {@link RetryPolicy} do Storage (falhas transitórias apenas).
+ * {@link #receive(int, Duration)} e {@link #delete(QueueMessageItem)} atendem o lado
+ * consumidor, que monta o digest a partir das mensagens da fila; todas as operações
+ * usam {@link StorageQueue}, como o gateway da fila de ingestão.
+ * 
+ * A entrega é ao menos uma vez: o consumidor só remove a mensagem depois do envio ao
+ * Mailtrap, então uma queda ou uma falha na remoção após o envio repete o email. A mensagem
+ * é o conteúdo do email, sem id da notificação, e os envios não são deduplicados.
+ * 
+ * Criado manualmente pelas Functions (sem CDI).
+ */
+public class OutboxEmailNotificationGatewayImpl implements EmailNotificationGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxEmailNotificationGatewayImpl.class);
+
+    private final String storageConnectionString;
+    private final String queueName;
+    private final boolean fastInit;
+    private StorageQueue queue;
+
+    public OutboxEmailNotificationGatewayImpl(String storageConnectionString, String queueName) {
+        this(storageConnectionString, queueName, null);
+    }
+
+    /**
+     * @param fastInit "true" para a inicialização rápida (fila criada no primeiro envio)
+     */
+    public OutboxEmailNotificationGatewayImpl(String storageConnectionString, String queueName, String fastInit) {
+        this.storageConnectionString = storageConnectionString;
+        this.queueName = queueName;
+        this.fastInit = fastInit != null && Boolean.parseBoolean(fastInit.trim());
+    }
+
+    public void init() {
+        if (storageConnectionString == null || storageConnectionString.isBlank()) {
+            throw new NotificationException(
+                "Connection string do Queue Storage não está configurada. Verifique AZURE_STORAGE_CONNECTION_STRING");
+        }
+        queue = StorageQueue.connect(storageConnectionString, queueName);
+        if (fastInit) {
+            queue.createOnDemand();
+            logger.info("Fila de notificações '{}' sem verificação (modo rápido)", queueName);
+            return;
+        }
+
+        if (queue.createIfNotExists()) {
+            logger.info("Fila de notificações criada: {}", queueName);
+        } else {
+            logger.info("Fila de notificações existente: {}", queueName);
+        }
+    }
+
+    @Override
+    public void sendAdminNotification(String message) {
+        try {
+            queue.send(message);
+            logger.debug("Notificação registrada na fila: {}", queueName);
+        } catch (Exception e) {
+            throw new NotificationException("Falha ao registrar notificação na fila", e);
+        }
+    }
+
+    /**
+     * A mensagem na fila é a única cópia da notificação: falhas ao registrá-la são
+     * propagadas pelos casos de uso para que o feedback seja reprocessado.
+     */
+    @Override
+    public boolean isDeferred() {
+        return true;
+    }
+
+    /**
+     * Retira até {@code maxMessages} notificações visíveis da fila (ver {@link StorageQueue#receive}).
+     */
+    public List<QueueMessageItem> receive(int maxMessages, Duration visibilityTimeout) {
+        return queue.receive(maxMessages, visibilityTimeout);
+    }
+
+    /**
+     * Momento em que a notificação pendente mais antiga foi registrada, ou null sem pendentes.
+     */
+    public OffsetDateTime oldestPendingTime() {
+        return queue.oldestInsertionTime();
+    }
+
+    /**
+     * Remove definitivamente uma notificação recebida via {@link #receive(int, Duration)}.
+     */
+    public void delete(QueueMessageItem message) {
+        queue.delete(message);
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
+
+/**
+ * Decorator do EmailNotificationGateway que passa cada envio pelo circuit breaker e pelo
+ * bulkhead do Mailtrap ({@link DependencyGuard}).
+ *
+ * Recusas viram NotificationException: no envio direto o caso de uso apenas registra a
+ * falha (o feedback já foi salvo); na fila de notificações a mensagem volta para nova
+ * tentativa pelo próprio Queue Storage.
+ *
+ * Criado manualmente pelas Functions (sem CDI); desligado com RESILIENCE_ENABLED=false.
+ */
+public class ResilientEmailNotificationGateway implements EmailNotificationGateway {
+
+    private final EmailNotificationGateway delegate;
+    private final DependencyGuard guard;
+
+    public ResilientEmailNotificationGateway(EmailNotificationGateway delegate, DependencyGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public void sendAdminNotification(String message) {
+        try {
+            guard.run(() -> delegate.sendAdminNotification(message));
+        } catch (DependencyUnavailableException e) {
+            throw new NotificationException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.DailyFeedbackAggregate;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorator do FeedbackAggregateGateway que passa cada chamada pelo circuit breaker e pelo
+ * bulkhead do Table Storage ({@link DependencyGuard}).
+ *
+ * Usa a mesma proteção do ResilientFeedbackGateway: as transações e leituras da tabela de
+ * agregados disputam a mesma conta de Storage que as gravações de feedbacks. Cada chamada
+ * ocupa a vaga do bulkhead sozinha; a gravação do feedback já a devolveu quando o
+ * AggregatingFeedbackGateway atualiza os agregados. Recusas viram FeedbackPersistenceException.
+ *
+ * Criado manualmente pelas Functions (sem CDI); desligado com RESILIENCE_ENABLED=false.
+ */
+public class ResilientFeedbackAggregateGateway implements FeedbackAggregateGateway {
+
+    private final FeedbackAggregateGateway delegate;
+    private final DependencyGuard guard;
+
+    public ResilientFeedbackAggregateGateway(FeedbackAggregateGateway delegate, DependencyGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public void record(Collection<Feedback> feedbacks) {
+        guarded(() -> {
+            delegate.record(feedbacks);
+            return null;
+        });
+    }
+
+    @Override
+    public List<DailyFeedbackAggregate> findDaily(LocalDate from, LocalDate to) {
+        return guarded(() -> delegate.findDaily(from, to));
+    }
+
+    private <T> T guarded(Supplier<T> operation) {
+        try {
+            return guard.execute(operation);
+        } catch (DependencyUnavailableException e) {
+            throw new FeedbackPersistenceException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Decorator do FeedbackGateway que passa cada chamada pelo circuit breaker e pelo
+ * bulkhead do Table Storage ({@link DependencyGuard}).
+ *
+ * Recusas viram FeedbackPersistenceException (com a DependencyUnavailableException como
+ * causa), o mesmo tratamento de erro que os chamadores já dão a falhas de gravação.
+ * Em streamByPeriod e streamBatchesByPeriod apenas a abertura do stream é protegida: as páginas seguintes são
+ * lidas sob demanda pelo consumidor, fora do bulkhead.
+ *
+ * Criado manualmente pelas Functions (sem CDI); desligado com RESILIENCE_ENABLED=false.
+ */
+public class ResilientFeedbackGateway implements FeedbackGateway {
+
+    private final FeedbackGateway delegate;
+    private final DependencyGuard guard;
+
+    public ResilientFeedbackGateway(FeedbackGateway delegate, DependencyGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public void save(Feedback feedback) {
+        guarded(() -> {
+            delegate.save(feedback);
+            return null;
+        });
+    }
+
+    @Override
+    public BatchSaveResult saveAll(Collection<Feedback> feedbacks) {
+        return guarded(() -> delegate.saveAll(feedbacks));
+    }
+
+    @Override
+    public List<Feedback> findByPeriod(Instant from, Instant to) {
+        return guarded(() -> delegate.findByPeriod(from, to));
+    }
+
+    @Override
+    public Stream<Feedback> streamByPeriod(Instant from, Instant to) {
+        return guarded(() -> delegate.streamByPeriod(from, to));
+    }
+
+    @Override
+    public Stream<FeedbackBatch> streamBatchesByPeriod(Instant from, Instant to, int batchSize) {
+        return guarded(() -> delegate.streamBatchesByPeriod(from, to, batchSize));
+    }
+
+    private <T> T guarded(Supplier<T> operation) {
+        try {
+            return guard.execute(operation);
+        } catch (DependencyUnavailableException e) {
+            throw new FeedbackPersistenceException(e.getMessage(), e);
+        }
+    }
+}
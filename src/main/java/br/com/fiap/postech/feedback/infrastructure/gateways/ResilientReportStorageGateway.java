@@ -0,0 +1,69 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.domain.gateways.ReportStorageGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Decorator do ReportStorageGateway que passa cada upload pelo circuit breaker e pelo
+ * bulkhead do Blob Storage ({@link DependencyGuard}).
+ *
+ * Recusas viram FeedbackPersistenceException, como as demais falhas de gravação do
+ * relatório. getReportUrl apenas monta a URL, sem chamada remota, e é delegado direto.
+ *
+ * No relatório em streaming a escrita inteira dura o tempo de ler todos os feedbacks;
+ * com o BlobReportStorageGatewayImpl a proteção é repassada ao upload e cobre apenas cada
+ * chamada ao Blob (bloco e commit), sem ocupar uma vaga do bulkhead durante a leitura.
+ *
+ * Criado manualmente pelas Functions (sem CDI); desligado com RESILIENCE_ENABLED=false.
+ */
+public class ResilientReportStorageGateway implements ReportStorageGateway {
+
+    private final ReportStorageGateway delegate;
+    private final DependencyGuard guard;
+
+    public ResilientReportStorageGateway(ReportStorageGateway delegate, DependencyGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+        if (delegate instanceof BlobReportStorageGatewayImpl blob) {
+            blob.guardBlobCalls(guard);
+        }
+    }
+
+    @Override
+    public String saveReport(String fileName, String content) {
+        return guarded(() -> delegate.saveReport(fileName, content));
+    }
+
+    @Override
+    public String getReportUrl(String fileName) {
+        return delegate.getReportUrl(fileName);
+    }
+
+    @Override
+    public String saveWeeklyReport(Object reportData) {
+        return guarded(() -> delegate.saveWeeklyReport(reportData));
+    }
+
+    @Override
+    public String saveWeeklyReport(Stream<FeedbackBatch> feedbacks, Supplier<Map<String, Object>> summary) {
+        if (delegate instanceof BlobReportStorageGatewayImpl blob && blob.guardsBlobCalls()) {
+            return delegate.saveWeeklyReport(feedbacks, summary);
+        }
+        return guarded(() -> delegate.saveWeeklyReport(feedbacks, summary));
+    }
+
+    private String guarded(Supplier<String> operation) {
+        try {
+            return guard.execute(operation);
+        } catch (DependencyUnavailableException e) {
+            throw new FeedbackPersistenceException(e.getMessage(), e);
+        }
+    }
+}
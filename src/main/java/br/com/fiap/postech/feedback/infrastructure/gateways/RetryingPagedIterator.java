@@ -0,0 +1,68 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Percorre as linhas de uma consulta paginada buscando cada página pela {@link RetryPolicy}.
+ *
+ * Os clientes do SDK não repetem requisições ({@code SdkRetries}); sem esta camada, uma
+ * falha transitória (503, 429) em qualquer página interromperia a leitura inteira. Cada
+ * página é pedida pelo continuation token da anterior, então uma nova tentativa repete
+ * apenas a página que falhou. As páginas continuam sendo buscadas sob demanda.
+ */
+class RetryingPagedIterator<T> implements Iterator<T> {
+
+    private final PagedIterable<T> pages;
+    private final RetryPolicy retryPolicy;
+    private Iterator<T> current = Collections.emptyIterator();
+    private String continuationToken;
+    private boolean lastPage;
+
+    RetryingPagedIterator(PagedIterable<T> pages, RetryPolicy retryPolicy) {
+        this.pages = pages;
+        this.retryPolicy = retryPolicy;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (lastPage) {
+                return false;
+            }
+            fetchPage();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private void fetchPage() {
+        String token = continuationToken;
+        PagedResponse<T> page = retryPolicy.execute(() -> page(token));
+        if (page == null) {
+            lastPage = true;
+            return;
+        }
+        current = page.getValue() != null ? page.getValue().iterator() : Collections.emptyIterator();
+        continuationToken = page.getContinuationToken();
+        lastPage = continuationToken == null || continuationToken.isEmpty();
+    }
+
+    private PagedResponse<T> page(String token) {
+        Iterator<PagedResponse<T>> iterator = (token == null ? pages.iterableByPage() : pages.iterableByPage(token))
+            .iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import com.azure.data.tables.models.TableEntity;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Intercala (k-way merge) os resultados de várias consultas já ordenadas por RowKey.
+ *
+ * Cada shard devolve suas linhas em ordem cronológica; o merge mantém apenas
+ * a linha corrente de cada shard em memória, sem ordenar o resultado completo.
+ */
+class RowKeyMergeIterator implements Iterator<TableEntity> {
+
+    private final PriorityQueue<Source> queue;
+
+    RowKeyMergeIterator(List<? extends Iterator<TableEntity>> sources) {
+        this.queue = new PriorityQueue<>(Math.max(1, sources.size()),
+            Comparator.comparing((Source source) -> source.current.getRowKey()));
+        for (Iterator<TableEntity> iterator : sources) {
+            if (iterator.hasNext()) {
+                queue.add(new Source(iterator));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    public TableEntity next() {
+        Source source = queue.poll();
+        if (source == null) {
+            throw new NoSuchElementException();
+        }
+        TableEntity entity = source.current;
+        if (source.advance()) {
+            queue.add(source);
+        }
+        return entity;
+    }
+
+    private static final class Source {
+        private final Iterator<TableEntity> iterator;
+        private TableEntity current;
+
+        Source(Iterator<TableEntity> iterator) {
+            this.iterator = iterator;
+            this.current = iterator.next();
+        }
+
+        boolean advance() {
+            if (iterator.hasNext()) {
+                current = iterator.next();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import com.azure.core.util.Context;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.options.BlockBlobCommitBlockListOptions;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * OutputStream de upload em blocos que só publica o blob em {@link #commit()}.
+ *
+ * Os bytes são enviados em blocos não confirmados (Put Block) à medida que o buffer
+ * enche; o blob só passa a existir, ou é substituído, quando {@link #commit()} confirma a
+ * lista de blocos (Put Block List). Um {@link #close()} sem commit descarta o upload: os
+ * blocos pendentes expiram no serviço e o blob anterior continua intacto, então uma falha
+ * no meio da escrita nunca deixa um JSON truncado no lugar do relatório.
+ *
+ * Cada bloco e o commit passam pela {@link RetryPolicy}; reenviar um bloco com o mesmo id
+ * é idempotente. Com um {@link DependencyGuard}, cada chamada ao Blob (bloco ou commit)
+ * ocupa o bulkhead só enquanto dura; a produção dos bytes entre as chamadas fica fora dele.
+ * Não é thread-safe.
+ */
+class StagedBlockBlobOutputStream extends OutputStream {
+
+    static final int DEFAULT_BLOCK_SIZE = 4 * 1024 * 1024;
+
+    private final BlockBlobClient blockBlobClient;
+    private final BlobHttpHeaders headers;
+    private final RetryPolicy retryPolicy;
+    private final DependencyGuard guard;
+    private final List<String> blockIds = new ArrayList<>();
+    private final byte[] buffer;
+    private int count;
+    private boolean committed;
+    private boolean closed;
+
+    StagedBlockBlobOutputStream(BlockBlobClient blockBlobClient, BlobHttpHeaders headers,
+                                RetryPolicy retryPolicy, int blockSize) {
+        this(blockBlobClient, headers, retryPolicy, null, blockSize);
+    }
+
+    /**
+     * @param guard Proteção aplicada a cada chamada ao Blob, ou null para nenhuma
+     */
+    StagedBlockBlobOutputStream(BlockBlobClient blockBlobClient, BlobHttpHeaders headers,
+                                RetryPolicy retryPolicy, DependencyGuard guard, int blockSize) {
+        this.blockBlobClient = blockBlobClient;
+        this.headers = headers;
+        this.retryPolicy = retryPolicy;
+        this.guard = guard;
+        this.buffer = new byte[blockSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (count == buffer.length) {
+            stageBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) throws IOException {
+        ensureOpen();
+        while (length > 0) {
+            if (count == buffer.length) {
+                stageBuffer();
+            }
+            int chunk = Math.min(length, buffer.length - count);
+            System.arraycopy(data, offset, buffer, count, chunk);
+            count += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Envia o restante do buffer e confirma a lista de blocos, publicando o blob.
+     */
+    void commit() throws IOException {
+        ensureOpen();
+        if (count > 0) {
+            stageBuffer();
+        }
+        List<String> ids = List.copyOf(blockIds);
+        callBlob(() -> commitBlocks(ids));
+        committed = true;
+        closed = true;
+    }
+
+    boolean isCommitted() {
+        return committed;
+    }
+
+    /**
+     * Fecha sem publicar: os blocos enviados e não confirmados são descartados pelo serviço.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Envia um bloco não confirmado (Put Block). Sobrescrito nos benchmarks.
+     */
+    void stageBlock(String blockId, byte[] data, int length) {
+        blockBlobClient.stageBlock(blockId, new ByteArrayInputStream(data, 0, length), length);
+    }
+
+    /**
+     * Confirma a lista de blocos (Put Block List), substituindo o blob existente.
+     */
+    void commitBlocks(List<String> ids) {
+        blockBlobClient.commitBlockListWithResponse(
+            new BlockBlobCommitBlockListOptions(ids).setHeaders(headers), null, Context.NONE);
+    }
+
+    private void stageBuffer() {
+        String blockId = blockId(blockIds.size());
+        int length = count;
+        callBlob(() -> stageBlock(blockId, buffer, length));
+        blockIds.add(blockId);
+        count = 0;
+    }
+
+    private void callBlob(Runnable call) {
+        if (guard == null) {
+            retryPolicy.run(call);
+        } else {
+            guard.run(() -> retryPolicy.run(call));
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Upload do blob já foi encerrado");
+        }
+    }
+
+    /**
+     * Ids em Base64 com o mesmo tamanho para todos os blocos, como exige o serviço.
+     */
+    private static String blockId(int index) {
+        return Base64.getEncoder().encodeToString(
+            String.format("bloco-%08d", index).getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import br.com.fiap.postech.feedback.infrastructure.resilience.SdkRetries;
+import com.azure.storage.queue.QueueClient;
+import com.azure.storage.queue.QueueClientBuilder;
+import com.azure.storage.queue.models.PeekedMessageItem;
+import com.azure.storage.queue.models.QueueMessageItem;
+import com.azure.storage.queue.models.QueueStorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Operações de Azure Queue Storage compartilhadas pelos gateways de fila
+ * (ingestão e outbox de notificações).
+ *
+ * As mensagens são texto puro (host.json usa messageEncoding "none"). Todas as chamadas
+ * (envio, recebimento, peek e remoção) passam pela {@link RetryPolicy} do Storage (falhas
+ * transitórias apenas), a única camada de novas tentativas; o recebimento e a remoção
+ * atendem o lado consumidor, que retira mensagens adicionais para processar em lote.
+ *
+ * Na inicialização rápida ({@link #createOnDemand()}) a fila não é verificada no cold start:
+ * o primeiro envio que receber 404 cria a fila e repete o envio uma vez, e o recebimento
+ * de uma fila inexistente devolve uma lista vazia.
+ */
+final class StorageQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageQueue.class);
+
+    /**
+     * Máximo de mensagens por chamada de recebimento do Queue Storage.
+     */
+    static final int MAX_RECEIVE_MESSAGES = 32;
+
+    private final QueueClient queueClient;
+    private final String queueName;
+    private RetryPolicy retryPolicy = RetryPolicy.storage();
+    private boolean createOnDemand;
+
+    StorageQueue(QueueClient queueClient, String queueName) {
+        this.queueClient = queueClient;
+        this.queueName = queueName;
+    }
+
+    /**
+     * Cria o cliente da fila (sem chamadas de rede).
+     */
+    static StorageQueue connect(String storageConnectionString, String queueName) {
+        QueueClient queueClient = SdkRetries.disabled(new QueueClientBuilder())
+                .connectionString(storageConnectionString)
+                .queueName(queueName)
+                .buildClient();
+        return new StorageQueue(queueClient, queueName);
+    }
+
+    /**
+     * Cria a fila se ainda não existir.
+     *
+     * @return true se a fila foi criada nesta chamada
+     */
+    boolean createIfNotExists() {
+        return retryPolicy.execute(queueClient::createIfNotExists);
+    }
+
+    /**
+     * Cria a fila no primeiro envio que a encontrar ausente, em vez de verificá-la no init.
+     */
+    void createOnDemand() {
+        this.createOnDemand = true;
+    }
+
+    void send(String message) {
+        retryPolicy.run(() -> {
+            try {
+                queueClient.sendMessage(message);
+            } catch (QueueStorageException e) {
+                if (!isMissingQueue(e)) {
+                    throw e;
+                }
+                long start = System.nanoTime();
+                queueClient.createIfNotExists();
+                logger.info("Fila '{}' criada sob demanda em {} ms", queueName, (System.nanoTime() - start) / 1_000_000);
+                queueClient.sendMessage(message);
+            }
+        });
+    }
+
+    /**
+     * Retira até {@code maxMessages} mensagens visíveis da fila, que ficam invisíveis
+     * pelo {@code visibilityTimeout}. Mensagens não removidas com {@link #delete(QueueMessageItem)}
+     * voltam a ficar visíveis e são reentregues.
+     */
+    List<QueueMessageItem> receive(int maxMessages, Duration visibilityTimeout) {
+        List<QueueMessageItem> messages = new ArrayList<>();
+        int remaining = maxMessages;
+        try {
+            while (remaining > 0) {
+                int requested = Math.min(remaining, MAX_RECEIVE_MESSAGES);
+                List<QueueMessageItem> batch = retryPolicy.execute(() -> receiveBatch(requested, visibilityTimeout));
+                messages.addAll(batch);
+                int received = batch.size();
+                if (received < requested) {
+                    break;
+                }
+                remaining -= received;
+            }
+        } catch (QueueStorageException e) {
+            if (!isMissingQueue(e)) {
+                throw e;
+            }
+            logger.debug("Fila '{}' ainda não existe: nada a receber", queueName);
+        }
+        return messages;
+    }
+
+    /**
+     * Momento em que a mensagem visível mais antiga entrou na fila (peek, sem retirá-la
+     * nem contar nova entrega), ou null com a fila vazia.
+     */
+    OffsetDateTime oldestInsertionTime() {
+        try {
+            PeekedMessageItem oldest = retryPolicy.execute(queueClient::peekMessage);
+            return oldest != null ? oldest.getInsertionTime() : null;
+        } catch (QueueStorageException e) {
+            if (!isMissingQueue(e)) {
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Remove definitivamente uma mensagem recebida via {@link #receive(int, Duration)}.
+     */
+    void delete(QueueMessageItem message) {
+        retryPolicy.run(() -> queueClient.deleteMessage(message.getMessageId(), message.getPopReceipt()));
+    }
+
+    private List<QueueMessageItem> receiveBatch(int maxMessages, Duration visibilityTimeout) {
+        List<QueueMessageItem> batch = new ArrayList<>(maxMessages);
+        for (QueueMessageItem message : queueClient.receiveMessages(maxMessages, visibilityTimeout, null, null)) {
+            batch.add(message);
+        }
+        return batch;
+    }
+
+    private boolean isMissingQueue(QueueStorageException e) {
+        return createOnDemand && e.getStatusCode() == 404;
+    }
+
+    /**
+     * Substitui a política de novas tentativas (testes e benchmarks).
+     */
+    void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackQueueGateway;
+import br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackQueueMessageMapper;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import com.azure.storage.queue.models.QueueMessageItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Implementação do gateway de fila de ingestão usando Azure Queue Storage.
+ * 
+ * Responsabilidade: Publicar feedbacks na fila consumida pela FeedbackQueueFunction
+ * e permitir que a função retire mensagens adicionais para gravar em lote.
+ * 
+ * As mensagens são JSON em texto puro; envio, recebimento e remoção usam {@link StorageQueue}
+ * (a publicação passa pela {@link RetryPolicy} do Storage).
+ * Criado manualmente pelas Functions (sem CDI).
+ */
+public class StorageQueueFeedbackGatewayImpl implements FeedbackQueueGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageQueueFeedbackGatewayImpl.class);
+
+    private final String storageConnectionString;
+    private final String queueName;
+    private final boolean fastInit;
+    private StorageQueue queue;
+
+    public StorageQueueFeedbackGatewayImpl(String storageConnectionString, String queueName) {
+        this(storageConnectionString, queueName, null);
+    }
+
+    /**
+     * @param fastInit "true" para a inicialização rápida (fila criada no primeiro envio)
+     */
+    public StorageQueueFeedbackGatewayImpl(String storageConnectionString, String queueName, String fastInit) {
+        this.storageConnectionString = storageConnectionString;
+        this.queueName = queueName;
+        this.fastInit = fastInit != null && Boolean.parseBoolean(fastInit.trim());
+    }
+
+    public void init() {
+        if (storageConnectionString == null || storageConnectionString.isBlank()) {
+            throw new FeedbackPersistenceException(
+                "Connection string do Queue Storage não está configurada. Verifique AZURE_STORAGE_CONNECTION_STRING");
+        }
+        queue = StorageQueue.connect(storageConnectionString, queueName);
+        if (fastInit) {
+            queue.createOnDemand();
+            logger.info("Fila '{}' sem verificação (modo rápido)", queueName);
+            return;
+        }
+
+        if (queue.createIfNotExists()) {
+            logger.info("Fila criada: {}", queueName);
+        } else {
+            logger.info("Fila existente: {}", queueName);
+        }
+    }
+
+    @Override
+    public void enqueue(Feedback feedback) {
+        try {
+            String message = FeedbackQueueMessageMapper.toMessage(feedback);
+            queue.send(message);
+            logger.debug("Feedback enfileirado: id={}, fila={}", feedback.getId(), queueName);
+        } catch (Exception e) {
+            throw new FeedbackPersistenceException("Falha ao enfileirar feedback", e);
+        }
+    }
+
+    /**
+     * Retira até {@code maxMessages} mensagens visíveis da fila (ver {@link StorageQueue#receive}).
+     */
+    public List<QueueMessageItem> receive(int maxMessages, Duration visibilityTimeout) {
+        return queue.receive(maxMessages, visibilityTimeout);
+    }
+
+    /**
+     * Remove definitivamente uma mensagem recebida via {@link #receive(int, Duration)}.
+     */
+    public void delete(QueueMessageItem message) {
+        queue.delete(message);
+    }
+}
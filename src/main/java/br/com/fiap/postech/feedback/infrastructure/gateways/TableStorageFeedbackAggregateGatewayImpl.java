@@ -0,0 +1,380 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.DailyFeedbackAggregate;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import br.com.fiap.postech.feedback.infrastructure.resilience.SdkRetries;
+import com.azure.core.exception.HttpResponseException;
+import com.azure.data.tables.TableClient;
+import com.azure.data.tables.TableClientBuilder;
+import com.azure.data.tables.models.ListEntitiesOptions;
+import com.azure.data.tables.models.TableEntity;
+import com.azure.data.tables.models.TableTransactionAction;
+import com.azure.data.tables.models.TableTransactionActionType;
+import com.azure.data.tables.models.TableTransactionFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementação do gateway de agregados diários usando Azure Table Storage.
+ * 
+ * Cada linha de contadores guarda um dia em um shard:
+ * - PartitionKey: dia no formato ISO ({@code yyyy-MM-dd}), ordenável
+ * - RowKey: shard ({@code 00}..{@code NN}), escolhido pelo id do feedback
+ * - Propriedades: count, scoreSum e urgency_LOW/MEDIUM/HIGH
+ * 
+ * Na mesma partição fica um marcador por feedback já somado (RowKey {@code id_<id>}). Os
+ * marcadores e a linha do shard são gravados na mesma transação (entity group), então um
+ * feedback entra nos contadores uma única vez: reentrega da fila, regravação do mesmo id
+ * ou repetição de uma chamada cujo resultado não chegou encontram o marcador (409) e são
+ * descartados. Regravar um feedback com outra nota não altera os contadores.
+ * 
+ * A linha do shard é regravada com o ETag lido (If-Match); em conflito (412/409) a
+ * leitura, a soma e a transação são refeitas. Só esse ciclo é repetido: a transação não
+ * passa pela {@link RetryPolicy}, e uma falha de rede ou do serviço é propagada. As
+ * leituras, sem efeito colateral, passam por ela, inclusive cada página das consultas
+ * ({@link RetryingPagedIterator}). Os shards dividem a disputa entre gravações
+ * simultâneas do mesmo dia; a leitura ignora os marcadores e soma os shards de cada dia,
+ * então o relatório lê no máximo (dias × shards) linhas.
+ * 
+ * Dias defasados (falha ao atualizar após salvar o feedback) são recalculados a partir
+ * da tabela de feedbacks pela ferramenta FeedbackAggregateRebuild.
+ * 
+ * Na inicialização rápida (azure.storage.fast-init) a tabela não é criada no cold start:
+ * a primeira transação que encontrar a tabela ausente a cria e é refeita, e a leitura de
+ * uma tabela inexistente devolve uma lista vazia.
+ * 
+ * Criado manualmente pelas Functions (sem CDI).
+ */
+public class TableStorageFeedbackAggregateGatewayImpl implements FeedbackAggregateGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(TableStorageFeedbackAggregateGatewayImpl.class);
+
+    static final String COUNT_PROPERTY = "count";
+    static final String SCORE_SUM_PROPERTY = "scoreSum";
+    static final String URGENCY_PREFIX = "urgency_";
+    static final String MARKER_PREFIX = "id_";
+    static final int MAX_ATTEMPTS = 10;
+    /**
+     * Feedbacks por transação: um marcador para cada, mais a linha do shard (limite de 100 ações).
+     */
+    static final int MAX_FEEDBACKS_PER_TRANSACTION = 99;
+    private static final int MAX_TRANSACTION_ACTIONS = 100;
+    private static final int MAX_SHARDS = 100;
+
+    private final String storageConnectionString;
+    private final String tableName;
+    private final int shards;
+    private final boolean fastInit;
+    private TableClient tableClient;
+    private RetryPolicy retryPolicy = RetryPolicy.storage();
+
+    public TableStorageFeedbackAggregateGatewayImpl(String storageConnectionString, String tableName, int shards) {
+        this(storageConnectionString, tableName, shards, null);
+    }
+
+    /**
+     * @param fastInit "true" para a inicialização rápida (tabela criada na primeira gravação)
+     */
+    public TableStorageFeedbackAggregateGatewayImpl(String storageConnectionString, String tableName, int shards,
+                                                    String fastInit) {
+        if (shards < 1 || shards > MAX_SHARDS) {
+            throw new IllegalArgumentException(
+                String.format("Número de shards deve estar entre 1 e %d, mas foi %d", MAX_SHARDS, shards));
+        }
+        this.storageConnectionString = storageConnectionString;
+        this.tableName = tableName;
+        this.shards = shards;
+        this.fastInit = fastInit != null && Boolean.parseBoolean(fastInit.trim());
+    }
+
+    public void init() {
+        if (storageConnectionString == null || storageConnectionString.isBlank()) {
+            throw new FeedbackPersistenceException(
+                "Connection string do Table Storage não está configurada. Verifique AZURE_STORAGE_CONNECTION_STRING");
+        }
+        tableClient = SdkRetries.disabled(new TableClientBuilder())
+                .connectionString(storageConnectionString)
+                .tableName(tableName)
+                .buildClient();
+        if (fastInit) {
+            logger.info("Tabela de agregados '{}' sem verificação (modo rápido)", tableName);
+            return;
+        }
+        try {
+            retryPolicy.run(tableClient::createTable);
+            logger.info("Tabela de agregados criada: {}", tableName);
+        } catch (HttpResponseException e) {
+            if (statusOf(e) != 409) {
+                throw e;
+            }
+            logger.debug("Tabela de agregados '{}' já existe", tableName);
+        }
+    }
+
+    @Override
+    public void record(Collection<Feedback> feedbacks) {
+        Map<BucketKey, List<Feedback>> buckets = new HashMap<>();
+        for (Feedback feedback : feedbacks) {
+            BucketKey key = new BucketKey(feedback.getCreatedAt().toLocalDate(), shardOf(feedback.getId()));
+            buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(feedback);
+        }
+        buckets.forEach((key, bucket) -> {
+            for (int start = 0; start < bucket.size(); start += MAX_FEEDBACKS_PER_TRANSACTION) {
+                apply(key, bucket.subList(start, Math.min(bucket.size(), start + MAX_FEEDBACKS_PER_TRANSACTION)));
+            }
+        });
+    }
+
+    @Override
+    public List<DailyFeedbackAggregate> findDaily(LocalDate from, LocalDate to) {
+        ListEntitiesOptions options = new ListEntitiesOptions()
+            .setFilter(String.format("PartitionKey ge '%s' and PartitionKey le '%s' and RowKey lt '%s'",
+                from, to, MARKER_PREFIX));
+        Map<LocalDate, DailyFeedbackAggregate> byDay = new TreeMap<>();
+        try {
+            Iterator<TableEntity> entities = new RetryingPagedIterator<>(
+                tableClient.listEntities(options, null, null), retryPolicy);
+            while (entities.hasNext()) {
+                TableEntity entity = entities.next();
+                DailyFeedbackAggregate aggregate = toAggregate(entity);
+                byDay.merge(aggregate.day(), aggregate, DailyFeedbackAggregate::merge);
+            }
+        } catch (Exception e) {
+            if (fastInit && TableStorageFeedbackGatewayImpl.isTableNotFound(e)) {
+                logger.debug("Tabela de agregados '{}' ainda não existe: nenhum agregado", tableName);
+                return List.of();
+            }
+            throw new FeedbackPersistenceException("Falha ao buscar agregados do período", e);
+        }
+        return new ArrayList<>(byDay.values());
+    }
+
+    /**
+     * Soma ao shard os feedbacks ainda sem marcador, gravando os marcadores e a linha na
+     * mesma transação; a linha é regravada com o ETag lido.
+     */
+    private void apply(BucketKey key, List<Feedback> feedbacks) {
+        String partitionKey = key.day().toString();
+        String rowKey = String.format("%02d", key.shard());
+        List<Feedback> pending = new ArrayList<>(feedbacks);
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            TableEntity current = retryPolicy.execute(() -> findEntity(partitionKey, rowKey));
+            TableEntity row = current != null ? current : new TableEntity(partitionKey, rowKey);
+            Delta.of(pending).applyTo(row);
+
+            List<TableTransactionAction> actions = new ArrayList<>(pending.size() + 1);
+            pending.forEach(feedback -> actions.add(
+                new TableTransactionAction(TableTransactionActionType.CREATE, marker(partitionKey, feedback.getId()))));
+            actions.add(current != null
+                ? new TableTransactionAction(TableTransactionActionType.UPDATE_REPLACE, row, true)
+                : new TableTransactionAction(TableTransactionActionType.CREATE, row));
+
+            try {
+                tableClient.submitTransaction(actions);
+                return;
+            } catch (HttpResponseException e) {
+                if (provisionTableOnDemand(e)) {
+                    continue;
+                }
+                int status = statusOf(e);
+                if (status != 409 && status != 412) {
+                    throw new FeedbackPersistenceException("Falha ao atualizar agregado do dia " + partitionKey, e);
+                }
+                if (failedActionIndex(e) == pending.size()) {
+                    logger.debug("Conflito ao atualizar agregado {}/{} (tentativa {}/{})",
+                        partitionKey, rowKey, attempt, MAX_ATTEMPTS);
+                } else {
+                    int before = pending.size();
+                    pending.removeIf(feedback -> markerExists(partitionKey, feedback.getId()));
+                    logger.debug("Agregado {}/{}: {} feedback(s) já somado(s) foram ignorados",
+                        partitionKey, rowKey, before - pending.size());
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        throw new FeedbackPersistenceException(String.format(
+            "Falha ao atualizar agregado do dia %s: conflitos após %d tentativas", partitionKey, MAX_ATTEMPTS));
+    }
+
+    /**
+     * Remove os contadores e os marcadores do dia, para recálculo pela FeedbackAggregateRebuild.
+     *
+     * @return Quantidade de linhas removidas
+     */
+    public int clearDay(LocalDate day) {
+        String partitionKey = day.toString();
+        ListEntitiesOptions options = new ListEntitiesOptions()
+            .setFilter(String.format("PartitionKey eq '%s'", partitionKey))
+            .setSelect(List.of("RowKey"));
+        List<TableTransactionAction> deletes = new ArrayList<>();
+        int removed = 0;
+        try {
+            Iterator<TableEntity> entities = new RetryingPagedIterator<>(
+                tableClient.listEntities(options, null, null), retryPolicy);
+            while (entities.hasNext()) {
+                TableEntity entity = entities.next();
+                deletes.add(new TableTransactionAction(TableTransactionActionType.DELETE,
+                    new TableEntity(partitionKey, entity.getRowKey())));
+                if (deletes.size() == MAX_TRANSACTION_ACTIONS) {
+                    removed += submitDeletes(deletes);
+                }
+            }
+            removed += submitDeletes(deletes);
+        } catch (Exception e) {
+            throw new FeedbackPersistenceException("Falha ao limpar agregados do dia " + partitionKey, e);
+        }
+        return removed;
+    }
+
+    private int submitDeletes(List<TableTransactionAction> deletes) {
+        if (deletes.isEmpty()) {
+            return 0;
+        }
+        List<TableTransactionAction> batch = List.copyOf(deletes);
+        retryPolicy.run(() -> tableClient.submitTransaction(batch));
+        deletes.clear();
+        return batch.size();
+    }
+
+    /**
+     * Cria a tabela quando a inicialização rápida a encontrou ausente.
+     *
+     * @return true se a tabela foi criada (ou já existia) e a transação pode ser refeita
+     */
+    private boolean provisionTableOnDemand(HttpResponseException cause) {
+        if (!fastInit || !TableStorageFeedbackGatewayImpl.isTableNotFound(cause)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            tableClient.createTable();
+        } catch (HttpResponseException e) {
+            if (statusOf(e) != 409) {
+                throw new FeedbackPersistenceException("Falha ao criar tabela de agregados " + tableName, e);
+            }
+        }
+        logger.info("Tabela de agregados '{}' criada sob demanda em {} ms", tableName,
+            (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Substitui a política de novas tentativas (testes e benchmarks).
+     */
+    void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    private TableEntity findEntity(String partitionKey, String rowKey) {
+        try {
+            return tableClient.getEntity(partitionKey, rowKey);
+        } catch (HttpResponseException e) {
+            if (statusOf(e) == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private boolean markerExists(String partitionKey, String feedbackId) {
+        return retryPolicy.execute(() -> findEntity(partitionKey, MARKER_PREFIX + feedbackId)) != null;
+    }
+
+    private static TableEntity marker(String partitionKey, String feedbackId) {
+        return new TableEntity(partitionKey, MARKER_PREFIX + feedbackId);
+    }
+
+    /**
+     * Posição da ação que falhou na transação, ou -1 quando o serviço não a informa
+     * (os marcadores são então conferidos um a um).
+     */
+    private static int failedActionIndex(HttpResponseException e) {
+        if (e instanceof TableTransactionFailedException failed && failed.getFailedTransactionActionIndex() != null) {
+            return failed.getFailedTransactionActionIndex();
+        }
+        return -1;
+    }
+
+    private int shardOf(String id) {
+        return id == null ? 0 : Math.floorMod(id.hashCode(), shards);
+    }
+
+    private static int statusOf(HttpResponseException e) {
+        return e.getResponse() != null ? e.getResponse().getStatusCode() : 0;
+    }
+
+    static DailyFeedbackAggregate toAggregate(TableEntity entity) {
+        Map<String, Long> urgencies = new HashMap<>();
+        entity.getProperties().forEach((name, value) -> {
+            if (name.startsWith(URGENCY_PREFIX)) {
+                urgencies.put(name.substring(URGENCY_PREFIX.length()), toLong(value));
+            }
+        });
+        return new DailyFeedbackAggregate(
+            LocalDate.parse(entity.getPartitionKey()),
+            toLong(entity.getProperty(COUNT_PROPERTY)),
+            toLong(entity.getProperty(SCORE_SUM_PROPERTY)),
+            urgencies);
+    }
+
+    private static long toLong(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(value.toString());
+    }
+
+    private record BucketKey(LocalDate day, int shard) {
+    }
+
+    /**
+     * Incremento a aplicar em uma linha de agregado.
+     */
+    private static final class Delta {
+        private long count;
+        private long scoreSum;
+        private final Map<String, Long> urgencies = new HashMap<>();
+
+        static Delta of(Collection<Feedback> feedbacks) {
+            Delta delta = new Delta();
+            feedbacks.forEach(delta::add);
+            return delta;
+        }
+
+        void add(Feedback feedback) {
+            count++;
+            scoreSum += feedback.getScore().getValue();
+            urgencies.merge(feedback.getUrgency().getValue(), 1L, Long::sum);
+        }
+
+        void applyTo(TableEntity entity) {
+            entity.addProperty(COUNT_PROPERTY, toLong(entity.getProperty(COUNT_PROPERTY)) + count);
+            entity.addProperty(SCORE_SUM_PROPERTY, toLong(entity.getProperty(SCORE_SUM_PROPERTY)) + scoreSum);
+            urgencies.forEach((urgency, value) -> {
+                String property = URGENCY_PREFIX + urgency;
+                entity.addProperty(property, toLong(entity.getProperty(property)) + value);
+            });
+        }
+    }
+}
@@ -2,14 +2,24 @@ package br.com.fiap.postech.feedback.infrastructure.gateways;
 
 import br.com.fiap.postech.feedback.domain.entities.Feedback;
 import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
 import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackPartitionScheme;
 import br.com.fiap.postech.feedback.infrastructure.mappers.TableStorageFeedbackMapper;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import br.com.fiap.postech.feedback.infrastructure.resilience.SdkRetries;
 import com.azure.data.tables.TableClient;
 import com.azure.data.tables.TableClientBuilder;
 import com.azure.data.tables.TableServiceClient;
 import com.azure.data.tables.TableServiceClientBuilder;
+import com.azure.data.tables.models.ListEntitiesOptions;
+import com.azure.data.tables.models.TableErrorCode;
 import com.azure.data.tables.models.TableEntity;
 import com.azure.data.tables.models.TableServiceException;
+import com.azure.data.tables.models.TableTransactionAction;
+import com.azure.data.tables.models.TableTransactionActionType;
+import com.azure.data.tables.models.TableTransactionFailedException;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -22,8 +32,16 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementação do gateway de feedback usando Azure Table Storage.
@@ -35,6 +53,14 @@ import java.util.UUID;
  * - Implementação mais simples
  * - Custo menor
  * - Azurite já configurado no projeto
+ * 
+ * Inicialização rápida (azure.storage.fast-init=true): init() apenas monta o TableClient,
+ * sem criar/verificar a tabela nem testar a conexão, então o cold start não paga essas
+ * chamadas de rede. A tabela deve ser provisionada no deploy (StorageProvisioner); se
+ * ainda não existir, é criada na primeira gravação que receber TableNotFound.
+ * 
+ * As gravações passam pela {@link RetryPolicy} do Storage: só falhas transitórias
+ * (429/503, rede) são repetidas, com espera exponencial com jitter e orçamento global.
  */
 @Startup
 @ApplicationScoped
@@ -42,20 +68,65 @@ public class TableStorageFeedbackGatewayImpl implements FeedbackGateway {
 
     private static final Logger logger = LoggerFactory.getLogger(TableStorageFeedbackGatewayImpl.class);
 
+    /**
+     * Limite de operações por transação do Table Storage.
+     */
+    static final int MAX_TRANSACTION_ACTIONS = 100;
+
     @ConfigProperty(name = "azure.storage.connection-string")
     String storageConnectionString;
 
     @ConfigProperty(name = "azure.table.table-name", defaultValue = "feedbacks")
     String tableName;
 
+    @ConfigProperty(name = "azure.table.partition-granularity", defaultValue = "DAY")
+    String partitionGranularity;
+
+    @ConfigProperty(name = "azure.table.partition-shards", defaultValue = "1")
+    String partitionShards;
+
+    @ConfigProperty(name = "azure.storage.fast-init", defaultValue = "false")
+    String fastInit;
+
+    private FeedbackPartitionScheme partitionScheme;
     private TableClient tableClient;
     private TableServiceClient tableServiceClient;
+    private RetryPolicy retryPolicy = RetryPolicy.storage();
+
+    /**
+     * Construtor para CDI: as configurações são injetadas via @ConfigProperty.
+     */
+    public TableStorageFeedbackGatewayImpl() {
+    }
+
+    /**
+     * Construtor para criação manual nas Azure Functions (sem CDI e sem reflection).
+     * Valores nulos ou em branco usam os mesmos padrões do @ConfigProperty.
+     *
+     * @param storageConnectionString Connection string do Storage Account
+     * @param tableName Nome da tabela de feedbacks
+     * @param partitionGranularity Granularidade da partição (DAY ou HOUR)
+     * @param partitionShards Número de shards da partição
+     * @param fastInit "true" para a inicialização rápida
+     */
+    public TableStorageFeedbackGatewayImpl(String storageConnectionString, String tableName,
+                                           String partitionGranularity, String partitionShards,
+                                           String fastInit) {
+        this.storageConnectionString = storageConnectionString;
+        this.tableName = tableName == null || tableName.isBlank() ? "feedbacks" : tableName;
+        this.partitionGranularity = partitionGranularity;
+        this.partitionShards = partitionShards;
+        this.fastInit = fastInit;
+    }
 
     @PostConstruct
     public void init() {
+        long start = System.nanoTime();
         try {
             logger.info("Inicializando Table Storage Gateway...");
             logger.info("  - Table Name: {}", tableName);
+            partitionScheme = FeedbackPartitionScheme.of(partitionGranularity, partitionShards);
+            logger.info("  - Particionamento: {}", partitionScheme);
             logger.info("  - Connection String configurada: {}", 
                 storageConnectionString != null && !storageConnectionString.isBlank());
             
@@ -64,14 +135,24 @@ public class TableStorageFeedbackGatewayImpl implements FeedbackGateway {
                     "Connection string do Table Storage não está configurada. Verifique a propriedade azure.storage.connection-string");
             }
             
-            tableServiceClient = new TableServiceClientBuilder()
+            if (isFastInit()) {
+                tableClient = SdkRetries.disabled(new TableClientBuilder())
+                        .connectionString(storageConnectionString)
+                        .tableName(tableName)
+                        .buildClient();
+                logger.info("Table Storage Gateway inicializado (modo rápido, sem verificação da tabela) em {} ms",
+                    elapsedMillis(start));
+                return;
+            }
+            
+            tableServiceClient = SdkRetries.disabled(new TableServiceClientBuilder())
                     .connectionString(storageConnectionString)
                     .buildClient();
             
             logger.info("TableServiceClient criado com sucesso");
             
             try {
-                tableServiceClient.createTableIfNotExists(tableName);
+                retryPolicy.run(() -> tableServiceClient.createTableIfNotExists(tableName));
                 logger.info("Tabela '{}' criada ou já existe no Table Storage", tableName);
             } catch (TableServiceException e) {
                 String errorMessage = e.getMessage();
@@ -91,7 +172,7 @@ public class TableStorageFeedbackGatewayImpl implements FeedbackGateway {
                 logger.warn("Não foi possível verificar a existência da tabela '{}': {}", tableName, e.getMessage());
             }
             
-            tableClient = new TableClientBuilder()
+            tableClient = SdkRetries.disabled(new TableClientBuilder())
                     .connectionString(storageConnectionString)
                     .tableName(tableName)
                     .buildClient();
@@ -102,7 +183,7 @@ public class TableStorageFeedbackGatewayImpl implements FeedbackGateway {
             try {
                 logger.info("Testando conexão com a tabela '{}'...", tableName);
                 // Apenas verificar se consegue acessar a tabela (não importa se está vazia)
-                tableClient.listEntities().iterator().hasNext(); // Força uma tentativa de acesso
+                retryPolicy.execute(() -> tableClient.listEntities().iterator().hasNext()); // Força uma tentativa de acesso
                 logger.info("Conexão com a tabela '{}' testada com sucesso", tableName);
             } catch (Exception e) {
                 logger.error("ERRO ao testar conexão com a tabela '{}': {}", tableName, e.getMessage(), e);
@@ -116,7 +197,7 @@ public class TableStorageFeedbackGatewayImpl implements FeedbackGateway {
                     "TableClient não foi criado corretamente. Verifique a connection string e o nome da tabela.");
             }
             
-            logger.info("Table Storage Gateway inicializado com sucesso");
+            logger.info("Table Storage Gateway inicializado com sucesso em {} ms", elapsedMillis(start));
 
         } catch (TableServiceException e) {
             logger.error("Erro ao conectar ao Table Storage (TableServiceException). Mensagem: {}", 
@@ -130,6 +211,49 @@ public class TableStorageFeedbackGatewayImpl implements FeedbackGateway {
         }
     }
 
+    private boolean isFastInit() {
+        return fastInit != null && Boolean.parseBoolean(fastInit.trim());
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Indica se o erro é de tabela inexistente (possível apenas na inicialização rápida).
+     */
+    static boolean isTableNotFound(Exception e) {
+        if (e instanceof TableServiceException tableError && tableError.getValue() != null
+                && TableErrorCode.TABLE_NOT_FOUND.equals(tableError.getValue().getErrorCode())) {
+            return true;
+        }
+        String message = e.getMessage();
+        return message != null && message.contains("TableNotFound");
+    }
+
+    /**
+     * Cria a tabela sob demanda quando a inicialização rápida encontrou a tabela ausente.
+     *
+     * @return true se a tabela foi criada (ou já existia) e a operação pode ser repetida
+     */
+    private boolean provisionTableOnDemand(Exception cause) {
+        if (!isFastInit() || !isTableNotFound(cause)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            tableClient.createTable();
+        } catch (TableServiceException e) {
+            int statusCode = e.getResponse() != null ? e.getResponse().getStatusCode() : 0;
+            if (statusCode != 409) {
+                logger.error("Falha ao criar tabela '{}' sob demanda: {}", tableName, e.getMessage());
+                return false;
+            }
+        }
+        logger.info("Tabela '{}' criada sob demanda em {} ms", tableName, elapsedMillis(start));
+        return true;
+    }
+
     @PreDestroy
     public void cleanup() {
         logger.info("Table Storage desconectado");
@@ -138,112 +262,244 @@ public class TableStorageFeedbackGatewayImpl implements FeedbackGateway {
     @Override
     public void save(Feedback feedback) {
         validateTableClient();
+        assignDefaults(feedback);
         
-        int maxRetries = 3;
-        int retryDelayMs = 500;
+        try {
+            TableEntity entity = TableStorageFeedbackMapper.toTableEntity(feedback, getPartitionScheme());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Gravando feedback na tabela '{}': PartitionKey={}, RowKey={}, propriedades={}",
+                    tableName, entity.getPartitionKey(), entity.getRowKey(), entity.getProperties());
+            }
+            
+            retryPolicy.run(() -> upsert(entity));
+            
+            logger.debug("Feedback salvo no Table Storage: id={}", feedback.getId());
+        } catch (TableTransactionFailedException e) {
+            logger.error("Erro de transação ao salvar feedback: {}", e.getMessage(), e);
+            throw new FeedbackPersistenceException("Falha ao salvar feedback no Table Storage (erro de transação)", e);
+        } catch (com.azure.core.exception.HttpResponseException e) {
+            int statusCode = e.getResponse() != null ? e.getResponse().getStatusCode() : 0;
+            logger.error("Erro HTTP ao salvar feedback. Status: {}, Mensagem: {}", statusCode, e.getMessage(), e);
+            throw new FeedbackPersistenceException(
+                String.format("Falha ao salvar feedback no Table Storage (erro HTTP %d): %s", 
+                    statusCode, e.getMessage()), e);
+        } catch (Exception e) {
+            logger.error("Erro ao salvar feedback. Tipo: {}, Mensagem: {}", 
+                e.getClass().getName(), e.getMessage(), e);
+            throw new FeedbackPersistenceException("Falha ao salvar feedback no Table Storage", e);
+        }
+    }
+
+    /**
+     * Grava a entidade; na inicialização rápida, cria a tabela ausente e repete a gravação uma vez.
+     */
+    private void upsert(TableEntity entity) {
+        try {
+            tableClient.upsertEntity(entity);
+        } catch (com.azure.core.exception.HttpResponseException e) {
+            if (!provisionTableOnDemand(e)) {
+                throw e;
+            }
+            tableClient.upsertEntity(entity);
+        }
+    }
+
+    /**
+     * Persiste os feedbacks em lote usando transações (entity group transactions) do Table Storage.
+     * 
+     * As entidades são agrupadas por PartitionKey, já que uma transação só pode
+     * conter uma partição, e enviadas em blocos de até {@value #MAX_TRANSACTION_ACTIONS}
+     * operações, o limite do serviço. Assim cada bloco custa uma única chamada HTTP.
+     * 
+     * Se uma operação falha, o serviço rejeita o bloco inteiro e informa o índice
+     * da operação: esse feedback é registrado como falha e o restante do bloco é reenviado.
+     * Falhas sem índice (ex.: erro de rede) marcam todo o bloco como falho.
+     */
+    @Override
+    public BatchSaveResult saveAll(Collection<Feedback> feedbacks) {
+        validateTableClient();
+        FeedbackPartitionScheme scheme = getPartitionScheme();
         
-        for (int attempt = 1; attempt <= maxRetries; attempt++) {
+        List<String> savedIds = new ArrayList<>(feedbacks.size());
+        List<BatchSaveResult.Failure> failures = new ArrayList<>();
+        Map<String, List<TableEntity>> entitiesByPartition = new LinkedHashMap<>();
+        
+        for (Feedback feedback : feedbacks) {
             try {
-                if (attempt > 1) {
-                    logger.info("Tentativa {}/{} de salvamento...", attempt, maxRetries);
-                    Thread.sleep(retryDelayMs);
-                    retryDelayMs *= 2; // Exponential backoff
-                } else {
-                    logger.info("Iniciando salvamento de feedback no Table Storage...");
-                }
-                
-                logger.info("  - Table Client inicializado: {}", tableClient != null);
-                logger.info("  - Table Name: {}", tableName);
-                
-                if (feedback.getId() == null) {
-                    feedback.setId(UUID.randomUUID().toString());
-                    logger.debug("ID gerado para feedback: {}", feedback.getId());
-                }
-
-                if (feedback.getCreatedAt() == null) {
-                    feedback.setCreatedAt(LocalDateTime.now());
-                    logger.debug("CreatedAt definido para feedback: {}", feedback.getCreatedAt());
-                }
+                assignDefaults(feedback);
+                TableEntity entity = TableStorageFeedbackMapper.toTableEntity(feedback, scheme);
+                entitiesByPartition.computeIfAbsent(entity.getPartitionKey(), key -> new ArrayList<>()).add(entity);
+            } catch (Exception e) {
+                failures.add(new BatchSaveResult.Failure(feedback.getId(),
+                    String.format("Feedback inválido para persistência: %s", e.getMessage())));
+            }
+        }
+        
+        int transactions = 0;
+        for (List<TableEntity> partitionEntities : entitiesByPartition.values()) {
+            for (int start = 0; start < partitionEntities.size(); start += MAX_TRANSACTION_ACTIONS) {
+                int end = Math.min(partitionEntities.size(), start + MAX_TRANSACTION_ACTIONS);
+                transactions += submitTransaction(
+                    new ArrayList<>(partitionEntities.subList(start, end)), savedIds, failures);
+            }
+        }
+        
+        logger.info("Lote gravado no Table Storage: {} salvos, {} falhas, {} partições, {} transações",
+            savedIds.size(), failures.size(), entitiesByPartition.size(), transactions);
+        return new BatchSaveResult(savedIds, failures);
+    }
 
-                TableEntity entity = TableStorageFeedbackMapper.toTableEntity(feedback);
-                logger.info("Entidade criada - PartitionKey: {}, RowKey: {}", 
-                    entity.getPartitionKey(), entity.getRowKey());
-                logger.debug("Propriedades da entidade: {}", entity.getProperties());
-                
-                logger.info("Chamando upsertEntity no Table Storage...");
-                tableClient.upsertEntity(entity);
-                logger.info("upsertEntity executado com sucesso");
-
-                logger.info("✅ Feedback salvo no Table Storage: id={}, partitionKey={}, rowKey={}", 
-                    feedback.getId(), entity.getPartitionKey(), entity.getRowKey());
-                
-                return; // Sucesso - sair do loop
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                logger.error("Thread interrompida durante salvamento", e);
-                throw new FeedbackPersistenceException("Salvamento interrompido", e);
-            } catch (com.azure.data.tables.models.TableTransactionFailedException e) {
-                logger.error("Erro de transação ao salvar feedback (tentativa {}/{}): {}", 
-                    attempt, maxRetries, e.getMessage(), e);
-                if (attempt == maxRetries) {
-                    throw new FeedbackPersistenceException("Falha ao salvar feedback no Table Storage (erro de transação)", e);
+    /**
+     * Envia um bloco de entidades da mesma partição, reenviando sem a operação
+     * rejeitada até o bloco ser aceito ou esvaziar.
+     * 
+     * @return Número de transações enviadas
+     */
+    private int submitTransaction(List<TableEntity> entities, List<String> savedIds,
+                                  List<BatchSaveResult.Failure> failures) {
+        int transactions = 0;
+        boolean tableProvisioned = false;
+        while (!entities.isEmpty()) {
+            List<TableTransactionAction> actions = new ArrayList<>(entities.size());
+            for (TableEntity entity : entities) {
+                actions.add(new TableTransactionAction(TableTransactionActionType.UPSERT_MERGE, entity));
+            }
+            transactions++;
+            try {
+                retryPolicy.execute(() -> tableClient.submitTransaction(actions));
+                entities.forEach(entity -> savedIds.add(feedbackIdOf(entity)));
+                return transactions;
+            } catch (TableTransactionFailedException e) {
+                if (!tableProvisioned && provisionTableOnDemand(e)) {
+                    tableProvisioned = true;
+                    continue;
                 }
-                // Continuar para próxima tentativa
-            } catch (com.azure.core.exception.HttpResponseException e) {
-                int statusCode = e.getResponse() != null ? e.getResponse().getStatusCode() : 0;
-                logger.error("Erro HTTP ao salvar feedback (tentativa {}/{}). Status: {}, Mensagem: {}", 
-                    attempt, maxRetries, statusCode, e.getMessage(), e);
-                
-                // Retry apenas para erros temporários (5xx)
-                if (statusCode >= 500 && attempt < maxRetries) {
-                    logger.info("Erro temporário detectado, tentando novamente...");
-                    // Continuar para próxima tentativa
-                } else {
-                    throw new FeedbackPersistenceException(
-                        String.format("Falha ao salvar feedback no Table Storage (erro HTTP %d): %s", 
-                            statusCode, e.getMessage()), e);
+                Integer failedIndex = e.getFailedTransactionActionIndex();
+                if (failedIndex == null || failedIndex < 0 || failedIndex >= entities.size()) {
+                    logger.error("Transação rejeitada sem índice de operação: {}", e.getMessage());
+                    failAll(entities, e.getMessage(), failures);
+                    return transactions;
                 }
+                TableEntity rejected = entities.remove((int) failedIndex);
+                logger.warn("Operação {} rejeitada na transação (RowKey={}): {}",
+                    failedIndex, rejected.getRowKey(), e.getMessage());
+                failures.add(new BatchSaveResult.Failure(feedbackIdOf(rejected), e.getMessage()));
             } catch (Exception e) {
-                logger.error("Erro ao salvar feedback (tentativa {}/{}). Tipo: {}, Mensagem: {}", 
-                    attempt, maxRetries, e.getClass().getName(), e.getMessage(), e);
-                if (attempt == maxRetries) {
-                    logger.error("Stack trace completo:", e);
-                    throw new FeedbackPersistenceException("Falha ao salvar feedback no Table Storage", e);
+                if (!tableProvisioned && provisionTableOnDemand(e)) {
+                    tableProvisioned = true;
+                    continue;
                 }
-                // Continuar para próxima tentativa
+                logger.error("Erro ao enviar transação ao Table Storage: {}", e.getMessage(), e);
+                failAll(entities, e.getMessage(), failures);
+                return transactions;
             }
         }
+        return transactions;
     }
 
+    private static void failAll(List<TableEntity> entities, String reason, List<BatchSaveResult.Failure> failures) {
+        for (TableEntity entity : entities) {
+            failures.add(new BatchSaveResult.Failure(feedbackIdOf(entity), reason));
+        }
+    }
+
+    private static String feedbackIdOf(TableEntity entity) {
+        return (String) entity.getProperty(TableStorageFeedbackMapper.ID_PROPERTY);
+    }
+
+    private static void assignDefaults(Feedback feedback) {
+        if (feedback.getId() == null) {
+            feedback.setId(UUID.randomUUID().toString());
+            logger.debug("ID gerado para feedback: {}", feedback.getId());
+        }
+
+        if (feedback.getCreatedAt() == null) {
+            feedback.setCreatedAt(LocalDateTime.now());
+            logger.debug("CreatedAt definido para feedback: {}", feedback.getCreatedAt());
+        }
+    }
+
+    /**
+     * Busca os feedbacks do período com filtro aplicado no servidor.
+     * 
+     * Materializa o resultado de {@link #streamByPeriod(Instant, Instant)}; para períodos
+     * grandes prefira o stream, que mantém apenas uma página por shard em memória.
+     */
     @Override
     public List<Feedback> findByPeriod(Instant from, Instant to) {
+        try (Stream<Feedback> feedbacks = streamByPeriod(from, to)) {
+            List<Feedback> result = feedbacks.toList();
+            logger.debug("Encontrados {} feedbacks no período", result.size());
+            return result;
+        }
+    }
+
+    /**
+     * Busca os feedbacks do período sob demanda.
+     * 
+     * Para cada shard é feita uma consulta restrita ao intervalo de PartitionKeys
+     * (buckets de tempo) e de RowKeys (timestamp + id) do período. Cada consulta
+     * já volta em ordem cronológica; os shards são intercalados por RowKey, então
+     * o resultado sai ordenado do mais antigo para o mais recente sem ordenação em memória.
+     * Apenas as colunas necessárias são retornadas ($select).
+     * 
+     * As páginas seguintes (continuation token) só são buscadas quando o stream
+     * avança além da página corrente, então a memória usada não depende do volume do período.
+     * Cada página passa pela RetryPolicy ({@link RetryingPagedIterator}): uma falha transitória
+     * repete só a página, sem interromper a leitura.
+     */
+    @Override
+    public Stream<Feedback> streamByPeriod(Instant from, Instant to) {
+        LocalDateTime fromDateTime = LocalDateTime.ofInstant(from, ZoneId.systemDefault());
+        LocalDateTime toDateTime = LocalDateTime.ofInstant(to, ZoneId.systemDefault());
+        Iterator<TableEntity> entities = queryPeriod(fromDateTime, toDateTime);
+        
+        Iterator<Feedback> feedbacks = new FeedbackPeriodIterator(entities, fromDateTime, toDateTime);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(feedbacks, Spliterator.ORDERED | Spliterator.NONNULL),
+            false);
+    }
+
+    /**
+     * Mesma consulta de {@link #streamByPeriod(Instant, Instant)}, com cada linha
+     * copiada direto para as colunas do bloco, sem criar um Feedback por linha.
+     */
+    @Override
+    public Stream<FeedbackBatch> streamBatchesByPeriod(Instant from, Instant to, int batchSize) {
+        LocalDateTime fromDateTime = LocalDateTime.ofInstant(from, ZoneId.systemDefault());
+        LocalDateTime toDateTime = LocalDateTime.ofInstant(to, ZoneId.systemDefault());
+        Iterator<TableEntity> entities = queryPeriod(fromDateTime, toDateTime);
+        
+        Iterator<FeedbackBatch> batches = new FeedbackBatchIterator(entities, fromDateTime, toDateTime, batchSize);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL),
+            false);
+    }
+
+    /**
+     * Abre a consulta do período: uma por shard, intercaladas por RowKey.
+     * As linhas ainda não foram filtradas pelo createdAt exato.
+     */
+    private Iterator<TableEntity> queryPeriod(LocalDateTime fromDateTime, LocalDateTime toDateTime) {
         validateTableClient();
         
         try {
-            LocalDateTime fromDateTime = LocalDateTime.ofInstant(from, ZoneId.systemDefault());
-            LocalDateTime toDateTime = LocalDateTime.ofInstant(to, ZoneId.systemDefault());
-            
-            List<Feedback> feedbacks = new ArrayList<>();
+            FeedbackPartitionScheme scheme = getPartitionScheme();
             
             logger.debug("Buscando feedbacks no período: {} até {}", fromDateTime, toDateTime);
             
-            for (TableEntity entity : tableClient.listEntities()) {
-                String createdAtStr = (String) entity.getProperty("createdAt");
-                if (createdAtStr != null) {
-                    LocalDateTime createdAt = LocalDateTime.parse(createdAtStr);
-                    
-                    if (!createdAt.isBefore(fromDateTime) && !createdAt.isAfter(toDateTime)) {
-                        Feedback feedback = TableStorageFeedbackMapper.toEntity(entity);
-                        feedbacks.add(feedback);
-                    }
-                }
+            List<Iterator<TableEntity>> shardResults = new ArrayList<>();
+            for (FeedbackPartitionScheme.PartitionKeyRange range
+                    : scheme.partitionKeyRanges(fromDateTime, toDateTime)) {
+                ListEntitiesOptions options = new ListEntitiesOptions()
+                        .setFilter(buildPeriodFilter(range,
+                            scheme.rowKeyLowerBound(fromDateTime), scheme.rowKeyUpperBound(toDateTime)))
+                        .setSelect(TableStorageFeedbackMapper.SELECTED_PROPERTIES);
+                shardResults.add(new RetryingPagedIterator<>(tableClient.listEntities(options, null, null), retryPolicy));
             }
-            
-            feedbacks.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-            
-            logger.debug("Encontrados {} feedbacks no período", feedbacks.size());
-            return feedbacks;
+            return shardResults.size() == 1
+                ? shardResults.get(0)
+                : new RowKeyMergeIterator(shardResults);
 
         } catch (Exception e) {
             logger.error("Erro ao buscar feedbacks do período: {}", e.getMessage(), e);
@@ -251,6 +507,38 @@ public class TableStorageFeedbackGatewayImpl implements FeedbackGateway {
         }
     }
 
+    /**
+     * Monta o filtro OData do período para um intervalo de PartitionKeys e RowKeys.
+     */
+    static String buildPeriodFilter(FeedbackPartitionScheme.PartitionKeyRange range,
+                                    String rowKeyLower, String rowKeyUpper) {
+        return String.format(
+            "PartitionKey ge '%s' and PartitionKey le '%s' and RowKey ge '%s' and RowKey le '%s'",
+            escape(range.lower()), escape(range.upper()), escape(rowKeyLower), escape(rowKeyUpper));
+    }
+
+    private static String escape(String value) {
+        return value.replace("'", "''");
+    }
+
+    /**
+     * Esquema de particionamento em uso. Quando o gateway é criado sem passar
+     * pelo init() (ex.: testes), o esquema é derivado da configuração atual.
+     */
+    FeedbackPartitionScheme getPartitionScheme() {
+        if (partitionScheme == null) {
+            partitionScheme = FeedbackPartitionScheme.of(partitionGranularity, partitionShards);
+        }
+        return partitionScheme;
+    }
+
+    /**
+     * Substitui a política de novas tentativas (testes e benchmarks).
+     */
+    void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
     private void validateTableClient() {
         if (tableClient == null) {
             logger.error("ERRO CRÍTICO: TableClient é null. Verifique se o método init() foi chamado corretamente.");
@@ -0,0 +1,125 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import com.microsoft.azure.functions.HttpMethod;
+import com.microsoft.azure.functions.HttpRequestMessage;
+import com.microsoft.azure.functions.HttpResponseMessage;
+import com.microsoft.azure.functions.HttpStatus;
+import com.microsoft.azure.functions.HttpStatusType;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HttpRequestMessage montado a partir da requisição encaminhada pelo host no modo
+ * custom handler, para que as funções HTTP rodem sem o worker Java do Azure Functions.
+ *
+ * @param <T> Tipo do corpo esperado pela função
+ */
+final class CustomHandlerHttpRequest<T> implements HttpRequestMessage<T> {
+
+    private final URI uri;
+    private final HttpMethod method;
+    private final Map<String, String> headers;
+    private final Map<String, String> queryParameters;
+    private final T body;
+
+    CustomHandlerHttpRequest(URI uri, HttpMethod method, Map<String, String> headers,
+                             Map<String, String> queryParameters, T body) {
+        this.uri = uri;
+        this.method = method;
+        this.headers = headers != null ? headers : Map.of();
+        this.queryParameters = queryParameters != null ? queryParameters : Map.of();
+        this.body = body;
+    }
+
+    @Override
+    public URI getUri() {
+        return uri;
+    }
+
+    @Override
+    public HttpMethod getHttpMethod() {
+        return method;
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Map<String, String> getQueryParameters() {
+        return queryParameters;
+    }
+
+    @Override
+    public T getBody() {
+        return body;
+    }
+
+    @Override
+    public HttpResponseMessage.Builder createResponseBuilder(HttpStatus status) {
+        return new ResponseBuilder(status);
+    }
+
+    @Override
+    public HttpResponseMessage.Builder createResponseBuilder(HttpStatusType status) {
+        return new ResponseBuilder(status);
+    }
+
+    /**
+     * Resposta produzida pela função, convertida depois para a resposta HTTP do custom handler.
+     */
+    record Response(HttpStatusType status, Map<String, String> headers, Object body)
+            implements HttpResponseMessage {
+
+        @Override
+        public HttpStatusType getStatus() {
+            return status;
+        }
+
+        @Override
+        public String getHeader(String key) {
+            return headers.get(key);
+        }
+
+        @Override
+        public Object getBody() {
+            return body;
+        }
+    }
+
+    private static final class ResponseBuilder implements HttpResponseMessage.Builder {
+        private HttpStatusType status;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private Object body;
+
+        ResponseBuilder(HttpStatusType status) {
+            this.status = status;
+        }
+
+        @Override
+        public HttpResponseMessage.Builder status(HttpStatusType status) {
+            this.status = status;
+            return this;
+        }
+
+        @Override
+        public HttpResponseMessage.Builder header(String key, String value) {
+            headers.put(key, value);
+            return this;
+        }
+
+        @Override
+        public HttpResponseMessage.Builder body(Object body) {
+            this.body = body;
+            return this;
+        }
+
+        @Override
+        public HttpResponseMessage build() {
+            return new Response(status, Map.copyOf(headers), body);
+        }
+    }
+}
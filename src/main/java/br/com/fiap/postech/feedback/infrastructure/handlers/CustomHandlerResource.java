@@ -0,0 +1,227 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchItemResult;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchResponse;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackResponse;
+import br.com.fiap.postech.feedback.application.dtos.responses.WeeklyReportResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.microsoft.azure.functions.ExecutionContext;
+import com.microsoft.azure.functions.HttpMethod;
+import com.microsoft.azure.functions.HttpResponseMessage;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Ponto de entrada do modo custom handler do Azure Functions (build nativo).
+ *
+ * O host do Azure Functions encaminha as requisições HTTP sem alteração
+ * (enableForwardingHttpRequest) e envia os demais gatilhos como POST /{nomeDaFunção}
+ * com o payload de invocação ({"Data": {...}, "Metadata": {...}}). Este recurso
+ * converte cada chamada para a assinatura das funções Java existentes, então a
+ * lógica é a mesma do worker Java; muda apenas o processo que a executa.
+ *
+ * Fora do host (quarkus:dev ou o executável nativo direto) os mesmos endpoints
+ * podem ser chamados com qualquer cliente HTTP para testes locais.
+ *
+ * As classes serializadas pelo Jackson fora dos recursos REST são registradas para
+ * reflection aqui, pois o build nativo não as descobre sozinho.
+ */
+@RegisterForReflection(
+    targets = {
+        FeedbackRequest.class,
+        FeedbackResponse.class,
+        FeedbackBatchResponse.class,
+        FeedbackBatchItemResult.class,
+        WeeklyReportResponse.class
+    },
+    classNames = "br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackQueueMessageMapper$FeedbackMessage")
+@Path("/")
+public class CustomHandlerResource {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomHandlerResource.class);
+
+    private static final URI BASE_URI = URI.create("http://localhost/");
+    private static final String INVOCATION_OK = "{\"Outputs\":{},\"Logs\":[],\"ReturnValue\":null}";
+
+    private final FeedbackHttpFunction feedbackHttpFunction;
+    private final HealthHttpFunction healthHttpFunction;
+    private final WeeklyReportFunction weeklyReportFunction;
+    private final FeedbackQueueFunction feedbackQueueFunction;
+    private final NotificationQueueFunction notificationQueueFunction;
+    private final ObjectMapper objectMapper;
+
+    public CustomHandlerResource() {
+        this(new FeedbackHttpFunction(), new HealthHttpFunction(), new WeeklyReportFunction(),
+            new FeedbackQueueFunction(), new NotificationQueueFunction(), FunctionDependencies.objectMapper());
+    }
+
+    CustomHandlerResource(FeedbackHttpFunction feedbackHttpFunction, HealthHttpFunction healthHttpFunction,
+                          WeeklyReportFunction weeklyReportFunction, FeedbackQueueFunction feedbackQueueFunction,
+                          NotificationQueueFunction notificationQueueFunction, ObjectMapper objectMapper) {
+        this.feedbackHttpFunction = feedbackHttpFunction;
+        this.healthHttpFunction = healthHttpFunction;
+        this.weeklyReportFunction = weeklyReportFunction;
+        this.feedbackQueueFunction = feedbackQueueFunction;
+        this.notificationQueueFunction = notificationQueueFunction;
+        this.objectMapper = objectMapper;
+    }
+
+    @POST
+    @Path("api/avaliacao")
+    @Consumes(MediaType.WILDCARD)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response submitFeedback(byte[] body) {
+        return toResponse(feedbackHttpFunction.submitFeedback(
+            httpRequest("api/avaliacao", HttpMethod.POST, Optional.ofNullable(body)), context("avaliacao")));
+    }
+
+    @POST
+    @Path("api/avaliacao/lote")
+    @Consumes(MediaType.WILDCARD)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response submitFeedbackBatch(byte[] body) {
+        return toResponse(feedbackHttpFunction.submitFeedbackBatch(
+            httpRequest("api/avaliacao/lote", HttpMethod.POST, Optional.ofNullable(body)), context("avaliacaoLote")));
+    }
+
+    @GET
+    @Path("api/health")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response checkHealth() {
+        return toResponse(healthHttpFunction.checkHealth(
+            httpRequest("api/health", HttpMethod.GET, (Void) null), context("health")));
+    }
+
+    @POST
+    @Path("weeklyReport")
+    @Consumes(MediaType.WILDCARD)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response weeklyReport(String payload) {
+        return invoke("weeklyReport", payload, "timerInfo", weeklyReportFunction::run);
+    }
+
+    @POST
+    @Path("feedbackIngestQueue")
+    @Consumes(MediaType.WILDCARD)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response feedbackIngestQueue(String payload) {
+        return invoke("feedbackIngestQueue", payload, "message", feedbackQueueFunction::run);
+    }
+
+    @POST
+    @Path("feedbackNotificationQueue")
+    @Consumes(MediaType.WILDCARD)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response feedbackNotificationQueue(String payload) {
+        return invoke("feedbackNotificationQueue", payload, "message", notificationQueueFunction::run);
+    }
+
+    @POST
+    @Path("feedbackNotificationDigest")
+    @Consumes(MediaType.WILDCARD)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response feedbackNotificationDigest(String payload) {
+        return invoke("feedbackNotificationDigest", payload, "timerInfo", notificationQueueFunction::sendDigest);
+    }
+
+    /**
+     * Executa uma função não-HTTP com o valor do binding de entrada e devolve o
+     * resultado de invocação esperado pelo host; falhas viram 500 para que o host
+     * aplique as novas tentativas (e a fila poison) como no worker Java.
+     */
+    private Response invoke(String functionName, String payload, String bindingName,
+                            BiConsumer<String, ExecutionContext> function) {
+        try {
+            function.accept(bindingData(payload, bindingName), context(functionName));
+            return Response.ok(INVOCATION_OK, MediaType.APPLICATION_JSON).build();
+        } catch (Exception e) {
+            logger.error("Falha ao executar {} no custom handler: {}", functionName, e.getMessage(), e);
+            ObjectNode result = objectMapper.createObjectNode();
+            result.putObject("Outputs");
+            result.putArray("Logs").add(String.valueOf(e.getMessage()));
+            result.putNull("ReturnValue");
+            return Response.serverError().entity(result.toString()).type(MediaType.APPLICATION_JSON).build();
+        }
+    }
+
+    /**
+     * Extrai o valor do binding do payload de invocação. Mensagens de fila chegam
+     * como string JSON; o timer chega como objeto e é repassado serializado, como no worker Java.
+     */
+    String bindingData(String payload, String bindingName) throws Exception {
+        if (payload == null || payload.isBlank()) {
+            return null;
+        }
+        JsonNode value = objectMapper.readTree(payload).path("Data").path(bindingName);
+        if (value.isMissingNode() || value.isNull()) {
+            return null;
+        }
+        return value.isTextual() ? value.asText() : value.toString();
+    }
+
+    private Response toResponse(HttpResponseMessage message) {
+        Response.ResponseBuilder builder = Response.status(message.getStatusCode());
+        if (message instanceof CustomHandlerHttpRequest.Response response) {
+            response.headers().forEach(builder::header);
+        }
+        Object body = message.getBody();
+        if (body == null) {
+            return builder.build();
+        }
+        if (body instanceof byte[] || body instanceof String) {
+            return builder.entity(body).build();
+        }
+        try {
+            return builder.entity(objectMapper.writeValueAsString(body)).build();
+        } catch (Exception e) {
+            logger.error("Falha ao serializar resposta do custom handler: {}", e.getMessage(), e);
+            return Response.serverError().build();
+        }
+    }
+
+    private static <T> CustomHandlerHttpRequest<T> httpRequest(String path, HttpMethod method, T body) {
+        return new CustomHandlerHttpRequest<>(BASE_URI.resolve(path), method, Map.of(), Map.of(), body);
+    }
+
+    private static ExecutionContext context(String functionName) {
+        return new InvocationContext(functionName, UUID.randomUUID().toString());
+    }
+
+    /**
+     * ExecutionContext mínimo do custom handler: nome da função, id da invocação e logger.
+     */
+    private record InvocationContext(String functionName, String invocationId) implements ExecutionContext {
+
+        @Override
+        public java.util.logging.Logger getLogger() {
+            return java.util.logging.Logger.getLogger(functionName);
+        }
+
+        @Override
+        public String getInvocationId() {
+            return invocationId;
+        }
+
+        @Override
+        public String getFunctionName() {
+            return functionName;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackDomainException;
+import br.com.fiap.postech.feedback.infrastructure.config.JsonCodec;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê os itens do corpo de um envio em lote, um de cada vez.
+ * 
+ * Formatos aceitos, detectados pelo primeiro caractere não branco:
+ * - Array JSON ({@code [ {...}, {...} ]}): lido com o parser de streaming do Jackson,
+ *   materializando apenas o item corrente
+ * - NDJSON (um objeto JSON por linha): lido linha a linha; linhas em branco são ignoradas
+ * 
+ * O corpo HTTP é lido direto dos bytes UTF-8 ({@link #open(byte[], ObjectMapper)}): o array
+ * usa o parser de bytes do Jackson e o NDJSON é separado procurando '\n' nos bytes, sem
+ * decodificar o corpo para caracteres. A variante com {@link Reader} é usada nos testes.
+ * 
+ * Um item com campos inválidos é reportado lançando {@link FeedbackDomainException}
+ * em {@link #next()} e a leitura continua no item seguinte. Um erro de sintaxe em um
+ * array encerra a leitura, pois não é possível localizar o próximo item com segurança;
+ * no NDJSON a linha é descartada e a leitura continua.
+ */
+final class FeedbackBatchReader implements Iterator<FeedbackRequest>, Closeable {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final BufferedReader reader;
+    private final byte[] body;
+    private int position;
+    private final ObjectReader requestReader;
+    private final JsonParser arrayParser;
+    private FeedbackRequest nextRequest;
+    private FeedbackDomainException nextError;
+    private boolean finished;
+
+    private FeedbackBatchReader(BufferedReader reader, byte[] body, int position,
+                                ObjectMapper objectMapper, JsonParser arrayParser) {
+        this.reader = reader;
+        this.body = body;
+        this.position = position;
+        this.requestReader = objectMapper == JsonCodec.mapper()
+            ? JsonCodec.feedbackRequestReader()
+            : objectMapper.readerFor(FeedbackRequest.class);
+        this.arrayParser = arrayParser;
+    }
+
+    /**
+     * Abre o leitor sobre o corpo em bytes UTF-8, detectando o formato (array JSON ou NDJSON).
+     */
+    static FeedbackBatchReader open(byte[] body, ObjectMapper objectMapper) throws IOException {
+        int start = startsWithBom(body) ? UTF8_BOM.length : 0;
+        int first = firstNonWhitespace(body, start, body.length);
+        if (first >= body.length || body[first] != '[') {
+            return new FeedbackBatchReader(null, body, start, objectMapper, null);
+        }
+        JsonParser parser = objectMapper.createParser(body, first, body.length - first);
+        parser.nextToken();
+        return new FeedbackBatchReader(null, body, body.length, objectMapper, parser);
+    }
+
+    /**
+     * Abre o leitor sobre caracteres já decodificados, detectando o formato do corpo.
+     */
+    static FeedbackBatchReader open(Reader body, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = body instanceof BufferedReader buffered ? buffered : new BufferedReader(body);
+        if (firstNonWhitespace(reader) != '[') {
+            return new FeedbackBatchReader(reader, null, 0, objectMapper, null);
+        }
+        JsonParser parser = objectMapper.createParser(reader);
+        parser.nextToken();
+        return new FeedbackBatchReader(reader, null, 0, objectMapper, parser);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRequest == null && nextError == null && !finished) {
+            if (arrayParser != null) {
+                advanceArray();
+            } else if (body != null) {
+                advanceByteLine();
+            } else {
+                advanceLine();
+            }
+        }
+        return nextRequest != null || nextError != null;
+    }
+
+    @Override
+    public FeedbackRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        FeedbackRequest request = nextRequest;
+        FeedbackDomainException error = nextError;
+        nextRequest = null;
+        nextError = null;
+        if (error != null) {
+            throw error;
+        }
+        return request;
+    }
+
+    private void advanceArray() {
+        try {
+            JsonToken token = arrayParser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                finished = true;
+                return;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                arrayParser.skipChildren();
+                nextError = new FeedbackDomainException("Item do lote deve ser um objeto JSON");
+                return;
+            }
+            JsonNode item = arrayParser.readValueAsTree();
+            nextRequest = toRequest(item);
+        } catch (FeedbackDomainException e) {
+            nextError = e;
+        } catch (IOException e) {
+            finished = true;
+            nextError = new FeedbackDomainException("JSON inválido: " + originalMessage(e));
+        }
+    }
+
+    private void advanceLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+
+            if (line == null) {
+                finished = true;
+                return;
+            }
+            nextRequest = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            nextError = new FeedbackDomainException("JSON inválido: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            finished = true;
+            nextError = new FeedbackDomainException("Falha ao ler o corpo da requisição: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Próxima linha NDJSON não vazia, delimitada por '\n' nos bytes; o '\r' de CRLF é
+     * espaço em branco para o parser. Como '\n' nunca aparece dentro de um caractere
+     * UTF-8 multibyte, a busca byte a byte é segura.
+     */
+    private void advanceByteLine() {
+        while (position < body.length) {
+            int start = position;
+            int end = start;
+            while (end < body.length && body[end] != '\n') {
+                end++;
+            }
+            position = end + 1;
+            if (firstNonWhitespace(body, start, end) >= end) {
+                continue;
+            }
+            try {
+                nextRequest = requestReader.readValue(body, start, end - start);
+            } catch (JsonProcessingException e) {
+                nextError = new FeedbackDomainException("JSON inválido: " + e.getOriginalMessage());
+            } catch (IOException e) {
+                nextError = new FeedbackDomainException("Falha ao ler o corpo da requisição: " + e.getMessage());
+            }
+            return;
+        }
+        finished = true;
+    }
+
+    private FeedbackRequest toRequest(JsonNode item) {
+        try {
+            return requestReader.readValue(item);
+        } catch (IOException e) {
+            throw new FeedbackDomainException("Item inválido: " + originalMessage(e));
+        }
+    }
+
+    private static String originalMessage(IOException e) {
+        return e instanceof JsonProcessingException processing ? processing.getOriginalMessage() : e.getMessage();
+    }
+
+    private static boolean startsWithBom(byte[] body) {
+        return body.length >= UTF8_BOM.length
+            && body[0] == UTF8_BOM[0] && body[1] == UTF8_BOM[1] && body[2] == UTF8_BOM[2];
+    }
+
+    /**
+     * Índice do primeiro byte que não é espaço em branco JSON em [from, to),
+     * ou {@code to} quando não há nenhum.
+     */
+    private static int firstNonWhitespace(byte[] body, int from, int to) {
+        int index = from;
+        while (index < to) {
+            byte b = body[index];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return index;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private static int firstNonWhitespace(BufferedReader reader) throws IOException {
+        while (true) {
+            reader.mark(1);
+            int c = reader.read();
+            if (c == -1 || !Character.isWhitespace(c)) {
+                reader.reset();
+                return c;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (arrayParser != null) {
+            arrayParser.close();
+        }
+        if (reader != null) {
+            reader.close();
+        }
+    }
+}
@@ -1,64 +1,115 @@
 package br.com.fiap.postech.feedback.infrastructure.handlers;
 
 import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchResponse;
 import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackResponse;
+import br.com.fiap.postech.feedback.application.usecases.CreateFeedbackBatchUseCase;
+import br.com.fiap.postech.feedback.application.usecases.CreateFeedbackBatchUseCaseImpl;
 import br.com.fiap.postech.feedback.application.usecases.CreateFeedbackUseCase;
 import br.com.fiap.postech.feedback.application.usecases.CreateFeedbackUseCaseImpl;
+import br.com.fiap.postech.feedback.application.usecases.EnqueueFeedbackUseCaseImpl;
 import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
 import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.AggregatingFeedbackGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.CoalescingEmailNotificationGateway;
 import br.com.fiap.postech.feedback.infrastructure.gateways.EmailNotificationGatewayImpl;
+import br.com.fiap.postech.feedback.infrastructure.gateways.InMemoryFeedbackGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.OutboxEmailNotificationGatewayImpl;
+import br.com.fiap.postech.feedback.infrastructure.gateways.StorageQueueFeedbackGatewayImpl;
+import br.com.fiap.postech.feedback.infrastructure.gateways.TableStorageFeedbackAggregateGatewayImpl;
 import br.com.fiap.postech.feedback.infrastructure.gateways.TableStorageFeedbackGatewayImpl;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import br.com.fiap.postech.feedback.infrastructure.config.JsonCodec;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
 import com.microsoft.azure.functions.*;
 import com.microsoft.azure.functions.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
+import java.time.Duration;
 import java.util.Optional;
 
 /**
  * Azure Function HTTP Trigger para receber feedbacks.
  * 
- * Expõe o endpoint POST /api/avaliacao que recebe feedbacks de avaliação.
+ * Expõe o endpoint POST /api/avaliacao que recebe feedbacks de avaliação
+ * e o endpoint POST /api/avaliacao/lote que recebe vários feedbacks por requisição.
+ * 
+ * Com FEEDBACK_INGEST_MODE=async, POST /api/avaliacao apenas valida e enfileira
+ * o feedback (202 Accepted); a FeedbackQueueFunction grava e notifica depois.
+ * 
+ * Emails de feedback crítico são registrados na fila de notificações (outbox)
+ * e enviados pela NotificationQueueFunction, fora da requisição HTTP
+ * (FEEDBACK_NOTIFICATION_MODE=direct mantém o envio direto).
  * 
  * Esta função cria as dependências manualmente (sem Quarkus CDI) seguindo
- * o mesmo padrão das outras funções Azure (WeeklyReportFunction).
+ * o mesmo padrão das outras funções Azure (WeeklyReportFunction): construtores
+ * públicos e chamada direta de init(), sem reflection, o que mantém o cold start
+ * enxuto e dispensa configuração de reflection no build nativo.
+ * Os gateways são compartilhados com as demais funções via FunctionDependencies.
+ * 
+ * O corpo chega como byte[] (dataType binary) e é lido direto pelo parser UTF-8 do
+ * Jackson, sem a conversão intermediária para String. Corpos acima do limite
+ * (FEEDBACK_MAX_BODY_BYTES / FEEDBACK_BATCH_MAX_BODY_BYTES) são recusados com 413
+ * antes de qualquer parsing. As respostas também são byte[]: corpos de erro fixos
+ * pré-codificados e o corpo de sucesso montado por template (ResponseBodies).
+ * 
+ * Cada POST /api/avaliacao e /api/avaliacao/lote gera uma única linha de resumo
+ * (RequestSummaryLog), com amostragem dos sucessos; os detalhes do caminho da requisição
+ * ficam em DEBUG.
  */
 public class FeedbackHttpFunction {
 
     private static final Logger logger = LoggerFactory.getLogger(FeedbackHttpFunction.class);
     private static volatile CreateFeedbackUseCase createFeedbackUseCase;
+    private static volatile CreateFeedbackBatchUseCase createFeedbackBatchUseCase;
+    private static FeedbackGateway feedbackGateway;
+    private static final boolean asyncIngestMode = isAsyncIngestMode();
+    private static EmailNotificationGateway emailNotificationGateway;
+    private static final int DEFAULT_DIGEST_MAX_ITEMS = 50;
+    private static final int DEFAULT_AGGREGATE_SHARDS = 4;
+    private static final int DEFAULT_MAX_BODY_BYTES = 16 * 1024;
+    private static final int DEFAULT_BATCH_MAX_BODY_BYTES = 4 * 1024 * 1024;
+    private static final int maxBodyBytes = getIntEnv("FEEDBACK_MAX_BODY_BYTES", DEFAULT_MAX_BODY_BYTES);
+    private static final int batchMaxBodyBytes = getIntEnv("FEEDBACK_BATCH_MAX_BODY_BYTES", DEFAULT_BATCH_MAX_BODY_BYTES);
     private static final Object lock = new Object();
-    private static final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final RequestSummaryLog requestLog = RequestSummaryLog.fromEnvironment("avaliacao");
+    private static final RequestSummaryLog batchRequestLog = RequestSummaryLog.fromEnvironment("avaliacaoLote");
     
     private static final String CONTENT_TYPE_HEADER = "Content-Type";
     private static final String APPLICATION_JSON = "application/json";
+
+    private final boolean asyncIngest;
+
+    public FeedbackHttpFunction() {
+        this(asyncIngestMode);
+    }
+
+    /**
+     * @param asyncIngest true para ingestão assíncrona; o construtor público lê FEEDBACK_INGEST_MODE
+     */
+    FeedbackHttpFunction(boolean asyncIngest) {
+        this.asyncIngest = asyncIngest;
+    }
     
     /**
      * Obtém CreateFeedbackUseCase: cria manualmente (sem CDI) de forma lazy.
      * Thread-safe para garantir inicialização única.
      */
-    private static CreateFeedbackUseCase getCreateFeedbackUseCase() {
+    private static CreateFeedbackUseCase getCreateFeedbackUseCase(boolean asyncIngest) {
         if (createFeedbackUseCase == null) {
             synchronized (lock) {
                 if (createFeedbackUseCase == null) {
                     try {
                         logger.info("Inicializando CreateFeedbackUseCase...");
                         
-                        String storageConnectionString = getStorageConnectionString();
-                        String tableName = getTableName();
-                        
-                        // Criar gateways
-                        FeedbackGateway feedbackGateway = createFeedbackGateway(storageConnectionString, tableName);
-                        EmailNotificationGateway emailGateway = createEmailGateway();
-                        
-                        // Criar use case
-                        createFeedbackUseCase = new CreateFeedbackUseCaseImpl(feedbackGateway, emailGateway);
+                        if (asyncIngest) {
+                            // Modo assíncrono: apenas a fila é necessária na requisição HTTP
+                            createFeedbackUseCase = new EnqueueFeedbackUseCaseImpl(FunctionDependencies.ingestQueueGateway());
+                        } else {
+                            initGateways();
+                            createFeedbackUseCase = new CreateFeedbackUseCaseImpl(feedbackGateway, emailNotificationGateway);
+                        }
                         
                         logger.info("CreateFeedbackUseCase inicializado com sucesso");
                     } catch (Exception e) {
@@ -71,6 +122,41 @@ public class FeedbackHttpFunction {
         return createFeedbackUseCase;
     }
     
+    /**
+     * Obtém CreateFeedbackBatchUseCase: cria manualmente (sem CDI) de forma lazy,
+     * reaproveitando os gateways do envio individual.
+     */
+    private static CreateFeedbackBatchUseCase getCreateFeedbackBatchUseCase() {
+        if (createFeedbackBatchUseCase == null) {
+            synchronized (lock) {
+                if (createFeedbackBatchUseCase == null) {
+                    try {
+                        logger.info("Inicializando CreateFeedbackBatchUseCase...");
+                        initGateways();
+                        createFeedbackBatchUseCase = new CreateFeedbackBatchUseCaseImpl(feedbackGateway, emailNotificationGateway);
+                        logger.info("CreateFeedbackBatchUseCase inicializado com sucesso");
+                    } catch (Exception e) {
+                        logger.error("Erro ao inicializar CreateFeedbackBatchUseCase: {}", e.getMessage(), e);
+                        throw new RuntimeException("Falha ao inicializar CreateFeedbackBatchUseCase: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+        return createFeedbackBatchUseCase;
+    }
+    
+    /**
+     * Cria os gateways uma única vez para todos os casos de uso. Chamado sob o lock.
+     */
+    private static void initGateways() {
+        if (feedbackGateway == null) {
+            feedbackGateway = FunctionDependencies.feedbackGateway();
+        }
+        if (emailNotificationGateway == null) {
+            emailNotificationGateway = FunctionDependencies.notificationGateway();
+        }
+    }
+    
     /**
      * Obtém a connection string do Storage Account.
      * Ordem de prioridade:
@@ -79,7 +165,7 @@ public class FeedbackHttpFunction {
      * 3. azure.storage.connection-string (formato Quarkus)
      * 4. Fallback para desenvolvimento local
      */
-    private static String getStorageConnectionString() {
+    static String getStorageConnectionString() {
         String connectionString = System.getenv("AZURE_STORAGE_CONNECTION_STRING");
         if (connectionString == null || connectionString.isBlank()) {
             connectionString = System.getenv("AzureWebJobsStorage");
@@ -108,7 +194,7 @@ public class FeedbackHttpFunction {
     /**
      * Obtém o nome da tabela do Table Storage.
      */
-    private static String getTableName() {
+    static String getTableName() {
         String tableName = System.getenv("azure.table.table-name");
         if (tableName == null || tableName.isBlank()) {
             tableName = "feedbacks";
@@ -117,39 +203,288 @@ public class FeedbackHttpFunction {
         return tableName;
     }
     
-    private static FeedbackGateway createFeedbackGateway(String connectionString, String tableName) {
+    /**
+     * Indica se a ingestão é assíncrona (FEEDBACK_INGEST_MODE=async): o feedback é
+     * validado e enfileirado, e a FeedbackQueueFunction faz a gravação.
+     */
+    private static boolean isAsyncIngestMode() {
+        String mode = System.getenv("FEEDBACK_INGEST_MODE");
+        return mode != null && mode.trim().equalsIgnoreCase("async");
+    }
+    
+    /**
+     * Obtém o nome da fila de ingestão assíncrona.
+     */
+    static String getIngestQueueName() {
+        String queueName = System.getenv("FEEDBACK_INGEST_QUEUE");
+        if (queueName == null || queueName.isBlank()) {
+            queueName = "feedback-ingest";
+        }
+        return queueName;
+    }
+    
+    /**
+     * Indica se o relatório semanal é gerado a partir dos agregados diários
+     * (REPORT_SOURCE=aggregates); nesse modo toda gravação atualiza os agregados.
+     */
+    static boolean isAggregateReportSource() {
+        String source = System.getenv("REPORT_SOURCE");
+        return source != null && source.trim().equalsIgnoreCase("aggregates");
+    }
+    
+    /**
+     * Indica se os feedbacks ficam em memória no processo (FEEDBACK_STORE=memory)
+     * em vez do Table Storage (padrão: table).
+     */
+    static boolean isMemoryStore() {
+        String store = System.getenv("FEEDBACK_STORE");
+        return store != null && store.trim().equalsIgnoreCase("memory");
+    }
+    
+    /**
+     * Cria o gateway em memória, com retenção máxima de FEEDBACK_MEMORY_MAX_ITEMS
+     * feedbacks (0 = sem limite). Os dados se perdem quando o processo termina.
+     */
+    static FeedbackGateway createMemoryFeedbackGateway() {
+        int maxItems = getIntEnv("FEEDBACK_MEMORY_MAX_ITEMS", 0);
+        logger.warn("Feedbacks armazenados em memória (FEEDBACK_STORE=memory): os dados não sobrevivem ao processo. "
+            + "Retenção máxima: {} itens (0 = sem limite)", maxItems);
+        return new InMemoryFeedbackGateway(maxItems);
+    }
+    
+    /**
+     * Envolve o gateway de feedbacks para atualizar os agregados diários a cada
+     * gravação quando REPORT_SOURCE=aggregates; caso contrário devolve o próprio gateway.
+     */
+    static FeedbackGateway withAggregates(FeedbackGateway gateway) {
+        if (!isAggregateReportSource()) {
+            return gateway;
+        }
+        return new AggregatingFeedbackGateway(gateway, FunctionDependencies.aggregateGateway());
+    }
+    
+    static FeedbackAggregateGateway createAggregateGateway(String connectionString) {
+        String tableName = System.getenv("FEEDBACK_AGGREGATE_TABLE");
+        if (tableName == null || tableName.isBlank()) {
+            tableName = "feedbackaggregates";
+        }
+        int shards = getIntEnv("FEEDBACK_AGGREGATE_SHARDS", DEFAULT_AGGREGATE_SHARDS);
+        try {
+            logger.debug("Criando TableStorageFeedbackAggregateGatewayImpl (tabela '{}', {} shards)...", tableName, shards);
+            TableStorageFeedbackAggregateGatewayImpl gateway =
+                new TableStorageFeedbackAggregateGatewayImpl(connectionString, tableName, shards, getStorageFastInit());
+            gateway.init();
+            logger.debug("TableStorageFeedbackAggregateGatewayImpl inicializado");
+            return gateway;
+        } catch (Exception e) {
+            logger.error("Erro ao criar TableStorageFeedbackAggregateGatewayImpl: {}", e.getMessage(), e);
+            throw new RuntimeException("Falha ao criar FeedbackAggregateGateway: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Obtém a flag de inicialização rápida dos gateways de Storage (tabelas, filas e
+     * container). {@code azure.table.fast-init} continua aceito como nome antigo.
+     */
+    static String getStorageFastInit() {
+        String fastInit = System.getenv("azure.storage.fast-init");
+        if (fastInit == null || fastInit.isBlank()) {
+            fastInit = System.getenv("azure.table.fast-init");
+        }
+        return fastInit;
+    }
+    
+    /**
+     * Obtém o nome da fila de notificações (outbox) consumida pela NotificationQueueFunction.
+     */
+    static String getNotificationQueueName() {
+        String queueName = System.getenv("FEEDBACK_NOTIFICATION_QUEUE");
+        if (queueName == null || queueName.isBlank()) {
+            queueName = "feedback-notifications";
+        }
+        return queueName;
+    }
+    
+    /**
+     * Obtém o nome da fila do resumo de notificações, drenada por janela pela
+     * NotificationQueueFunction (sem Queue Trigger).
+     */
+    static String getNotificationDigestQueueName() {
+        String queueName = System.getenv("FEEDBACK_NOTIFICATION_DIGEST_QUEUE");
+        if (queueName == null || queueName.isBlank()) {
+            queueName = "feedback-notifications-digest";
+        }
+        return queueName;
+    }
+    
+    /**
+     * Janela do resumo de notificações em segundos (FEEDBACK_NOTIFICATION_DIGEST_WINDOW_SECONDS;
+     * 0 desativa o resumo).
+     */
+    static int getNotificationDigestWindowSeconds() {
+        return Math.max(0, getIntEnv("FEEDBACK_NOTIFICATION_DIGEST_WINDOW_SECONDS", 0));
+    }
+    
+    /**
+     * Cria o gateway de notificação usado pelos casos de uso de feedback.
+     * Por padrão registra o email na fila de notificações (outbox), deixando o envio
+     * para a NotificationQueueFunction; com FEEDBACK_NOTIFICATION_MODE=direct envia
+     * pelo Mailtrap dentro da própria execução.
+     * 
+     * Com o resumo ativo (FEEDBACK_NOTIFICATION_DIGEST_WINDOW_SECONDS > 0) a outbox grava na
+     * fila do resumo, que não tem Queue Trigger: a NotificationQueueFunction a drena por janela.
+     */
+    static EmailNotificationGateway createNotificationGateway() {
+        String mode = System.getenv("FEEDBACK_NOTIFICATION_MODE");
+        if (mode != null && mode.trim().equalsIgnoreCase("direct")) {
+            return withDigest(createEmailDeliveryGateway());
+        }
+        if (getNotificationDigestWindowSeconds() > 0) {
+            return FunctionDependencies.notificationDigestQueueGateway();
+        }
+        return FunctionDependencies.notificationQueueGateway();
+    }
+    
+    /**
+     * Cria o gateway que envia o email de fato (Mailtrap), protegido pelo circuit breaker.
+     */
+    static EmailNotificationGateway createEmailDeliveryGateway() {
+        return FunctionDependencies.withResilience(createEmailGateway());
+    }
+    
+    /**
+     * No envio direto, com FEEDBACK_NOTIFICATION_DIGEST_WINDOW_SECONDS > 0, agrupa as
+     * notificações em memória em um email de resumo por janela (ou a cada
+     * FEEDBACK_NOTIFICATION_DIGEST_MAX_ITEMS), com envio do pendente no encerramento do processo.
+     * 
+     * Não é usado com a outbox: lá o resumo é montado pela NotificationQueueFunction a partir
+     * da fila do resumo, cujas mensagens só são removidas depois do envio.
+     */
+    private static EmailNotificationGateway withDigest(EmailNotificationGateway gateway) {
+        int windowSeconds = getNotificationDigestWindowSeconds();
+        if (windowSeconds <= 0) {
+            return gateway;
+        }
+        int maxItems = getNotificationDigestMaxItems();
+        CoalescingEmailNotificationGateway digest = new CoalescingEmailNotificationGateway(
+            gateway, Duration.ofSeconds(windowSeconds), maxItems);
+        Runtime.getRuntime().addShutdownHook(new Thread(digest::close, "email-digest-shutdown"));
+        logger.info("Digest de notificações ativo: janela={}s, máximo={} itens", windowSeconds, maxItems);
+        return digest;
+    }
+    
+    /**
+     * Número máximo de notificações por email de resumo: FEEDBACK_NOTIFICATION_DIGEST_MAX_ITEMS
+     * quando FEEDBACK_NOTIFICATION_DIGEST_WINDOW_SECONDS > 0; caso contrário 1 (sem resumo).
+     */
+    static int getNotificationDigestMaxItems() {
+        if (getNotificationDigestWindowSeconds() <= 0) {
+            return 1;
+        }
+        return Math.max(1, getIntEnv("FEEDBACK_NOTIFICATION_DIGEST_MAX_ITEMS", DEFAULT_DIGEST_MAX_ITEMS));
+    }
+    
+    private static int getIntEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("{} inválido: '{}'. Usando {}", name, value, defaultValue);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Indica se o corpo está ausente ou contém apenas espaços em branco (ASCII),
+     * sem decodificá-lo para String.
+     */
+    static boolean isBlank(byte[] body) {
+        if (body == null) {
+            return true;
+        }
+        for (byte b : body) {
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 503 para chamadas recusadas pelo circuit breaker ou bulkhead, com Retry-After
+     * (segundos) quando o circuito informa quanto falta para a chamada de teste.
+     */
+    private static HttpResponseMessage serviceUnavailable(HttpRequestMessage<?> request,
+                                                          DependencyUnavailableException unavailable) {
+        logger.warn("Requisição recusada: {}", unavailable.getMessage());
+        long retryAfterSeconds = Math.max(1, (unavailable.getRetryAfter().toMillis() + 999) / 1000);
+        return request.createResponseBuilder(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ResponseBodies.error(unavailable.getMessage()))
+                .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
+                .header("Retry-After", Long.toString(retryAfterSeconds))
+                .build();
+    }
+    
+    private static HttpResponseMessage payloadTooLarge(HttpRequestMessage<?> request, int length, int limit) {
+        logger.warn("Corpo da requisição recusado: {} bytes (limite {} bytes)", length, limit);
+        return request.createResponseBuilder(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(ResponseBodies.error("Corpo da requisição excede o limite de " + limit + " bytes"))
+                .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
+                .build();
+    }
+    
+    static OutboxEmailNotificationGatewayImpl createOutboxGateway(String connectionString, String queueName) {
+        try {
+            logger.debug("Criando OutboxEmailNotificationGatewayImpl para a fila '{}'...", queueName);
+            OutboxEmailNotificationGatewayImpl gateway = new OutboxEmailNotificationGatewayImpl(
+                connectionString, queueName, getStorageFastInit());
+            gateway.init();
+            logger.debug("OutboxEmailNotificationGatewayImpl inicializado");
+            return gateway;
+        } catch (Exception e) {
+            logger.error("Erro ao criar OutboxEmailNotificationGatewayImpl: {}", e.getMessage(), e);
+            throw new RuntimeException("Falha ao criar EmailNotificationGateway: " + e.getMessage(), e);
+        }
+    }
+    
+    static StorageQueueFeedbackGatewayImpl createQueueGateway(String connectionString, String queueName) {
+        try {
+            logger.debug("Criando StorageQueueFeedbackGatewayImpl para a fila '{}'...", queueName);
+            StorageQueueFeedbackGatewayImpl gateway = new StorageQueueFeedbackGatewayImpl(
+                connectionString, queueName, getStorageFastInit());
+            gateway.init();
+            logger.debug("StorageQueueFeedbackGatewayImpl inicializado");
+            return gateway;
+        } catch (Exception e) {
+            logger.error("Erro ao criar StorageQueueFeedbackGatewayImpl: {}", e.getMessage(), e);
+            throw new RuntimeException("Falha ao criar FeedbackQueueGateway: " + e.getMessage(), e);
+        }
+    }
+    
+    static FeedbackGateway createFeedbackGateway(String connectionString, String tableName) {
         try {
             logger.debug("Criando TableStorageFeedbackGatewayImpl...");
             
-            TableStorageFeedbackGatewayImpl gateway = new TableStorageFeedbackGatewayImpl();
-            
-            // Configurar campos via reflection
-            setField(gateway, "storageConnectionString", connectionString);
-            setField(gateway, "tableName", tableName);
-            
-            // Inicializar
-            invokeMethod(gateway, "init");
-            
-            // Verificar inicialização
-            Object tableClient = getField(gateway, "tableClient");
-            if (tableClient == null) {
-                throw new RuntimeException("TableClient não foi inicializado corretamente");
-            }
+            TableStorageFeedbackGatewayImpl gateway = new TableStorageFeedbackGatewayImpl(
+                connectionString,
+                tableName,
+                System.getenv("azure.table.partition-granularity"),
+                System.getenv("azure.table.partition-shards"),
+                getStorageFastInit());
+            gateway.init();
             
             logger.debug("TableStorageFeedbackGatewayImpl inicializado");
             return gateway;
-        } catch (java.lang.reflect.InvocationTargetException e) {
-            Throwable cause = e.getCause();
-            logger.error("Erro ao inicializar TableStorageFeedbackGatewayImpl: {}", 
-                cause != null ? cause.getMessage() : e.getMessage(), cause != null ? cause : e);
-            throw new RuntimeException("Falha ao criar FeedbackGateway", cause != null ? cause : e);
         } catch (Exception e) {
             logger.error("Erro ao criar TableStorageFeedbackGatewayImpl: {}", e.getMessage(), e);
             throw new RuntimeException("Falha ao criar FeedbackGateway: " + e.getMessage(), e);
         }
     }
     
-    private static EmailNotificationGateway createEmailGateway() {
+    static EmailNotificationGateway createEmailGateway() {
         try {
             logger.debug("Criando EmailNotificationGatewayImpl...");
             
@@ -167,127 +502,181 @@ public class FeedbackHttpFunction {
             }
             
             EmailNotificationGatewayImpl gateway = new EmailNotificationGatewayImpl(mailtrapToken, adminEmail, mailtrapInboxId);
-            invokeMethod(gateway, "init");
+            gateway.init();
             
-            Object mailtrapClient = getField(gateway, "mailtrapClient");
-            if (mailtrapClient == null) {
+            if (!gateway.isConfigured()) {
                 logger.warn("MailtrapClient não inicializado. Verifique configurações do Mailtrap.");
             }
             
             logger.debug("EmailNotificationGatewayImpl inicializado");
             return gateway;
-        } catch (java.lang.reflect.InvocationTargetException e) {
-            Throwable cause = e.getCause();
-            logger.error("Erro ao inicializar EmailNotificationGatewayImpl: {}", 
-                cause != null ? cause.getMessage() : e.getMessage(), cause != null ? cause : e);
-            throw new RuntimeException("Falha ao criar EmailNotificationGateway", cause != null ? cause : e);
         } catch (Exception e) {
             logger.error("Erro ao criar EmailNotificationGatewayImpl: {}", e.getMessage(), e);
             throw new RuntimeException("Falha ao criar EmailNotificationGateway: " + e.getMessage(), e);
         }
     }
     
-    /**
-     * Métodos auxiliares para reflection (evita duplicação de código).
-     */
-    private static void setField(Object target, String fieldName, Object value) throws Exception {
-        java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        field.set(target, value);
-    }
-    
-    private static Object getField(Object target, String fieldName) throws Exception {
-        java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        return field.get(target);
-    }
-    
-    private static void invokeMethod(Object target, String methodName) throws Exception {
-        java.lang.reflect.Method method = target.getClass().getDeclaredMethod(methodName);
-        method.setAccessible(true);
-        method.invoke(target);
-    }
-
     @FunctionName("avaliacao")
     public HttpResponseMessage submitFeedback(
             @HttpTrigger(
                     name = "req",
                     methods = {HttpMethod.POST},
                     authLevel = AuthorizationLevel.ANONYMOUS,
-                    route = "avaliacao"
-            ) HttpRequestMessage<Optional<String>> request,
+                    route = "avaliacao",
+                    dataType = "binary"
+            ) HttpRequestMessage<Optional<byte[]>> request,
             final ExecutionContext context) {
         
-        context.getLogger().info("Recebendo requisição POST /api/avaliacao");
-        
+        context.getLogger().fine("Recebendo requisição POST /api/avaliacao");
+        long start = System.nanoTime();
+        HttpResponseMessage response = handleFeedback(request);
+        requestLog.record(response != null ? response.getStatusCode() : 0, start);
+        return response;
+    }
+    
+    private HttpResponseMessage handleFeedback(HttpRequestMessage<Optional<byte[]>> request) {
         try {
-            // Ler corpo da requisição
-            Optional<String> bodyOptional = request.getBody();
-            if (bodyOptional.isEmpty() || bodyOptional.get().isBlank()) {
+            // Ler corpo da requisição (bytes UTF-8, sem conversão para String)
+            byte[] body = request.getBody().orElse(null);
+            if (body != null && body.length > maxBodyBytes) {
+                return payloadTooLarge(request, body.length, maxBodyBytes);
+            }
+            if (isBlank(body)) {
                 return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
-                        .body("{\"error\": \"Corpo da requisição é obrigatório\"}")
+                        .body(ResponseBodies.BODY_REQUIRED)
                         .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
                         .build();
             }
             
-            String bodyString = bodyOptional.get();
-            
-            // Converter JSON para FeedbackRequest
-            FeedbackRequest feedbackRequest = objectMapper.readValue(bodyString, FeedbackRequest.class);
+            // Converter JSON para FeedbackRequest direto dos bytes
+            FeedbackRequest feedbackRequest = JsonCodec.feedbackRequestReader().readValue(body);
             
             // Validar campos obrigatórios
             if (feedbackRequest.description() == null || feedbackRequest.description().trim().isEmpty()) {
                 return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
-                        .body("{\"error\": \"Campo 'descricao' é obrigatório\"}")
+                        .body(ResponseBodies.DESCRIPTION_REQUIRED)
                         .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
                         .build();
             }
             
             if (feedbackRequest.score() == null) {
                 return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
-                        .body("{\"error\": \"Campo 'nota' é obrigatório\"}")
+                        .body(ResponseBodies.SCORE_REQUIRED)
                         .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
                         .build();
             }
             
             if (feedbackRequest.score() < 0 || feedbackRequest.score() > 10) {
                 return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
-                        .body("{\"error\": \"Campo 'nota' deve estar entre 0 e 10\"}")
+                        .body(ResponseBodies.SCORE_OUT_OF_RANGE)
                         .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
                         .build();
             }
             
             // Processar feedback (inicialização lazy)
-            CreateFeedbackUseCase useCase = getCreateFeedbackUseCase();
-            
-            logger.info("Processando feedback: descricao={}, nota={}, urgencia={}", 
-                feedbackRequest.description(), feedbackRequest.score(), feedbackRequest.urgency());
+            CreateFeedbackUseCase useCase = getCreateFeedbackUseCase(asyncIngest);
             
             FeedbackResponse response = useCase.execute(feedbackRequest);
             
-            logger.info("Feedback processado com sucesso: id={}", response.id());
-            
-            // Retornar resposta de sucesso
-            String responseBody = objectMapper.writeValueAsString(Map.of(
-                "id", response.id(),
-                "status", "recebido"
-            ));
+            logger.debug("Feedback processado: id={}, nota={}, urgencia={}",
+                response.id(), feedbackRequest.score(), feedbackRequest.urgency());
             
-            return request.createResponseBuilder(HttpStatus.CREATED)
-                    .body(responseBody)
+            // Retornar resposta de sucesso (202 no modo assíncrono: gravação feita pela fila)
+            return request.createResponseBuilder(asyncIngest ? HttpStatus.ACCEPTED : HttpStatus.CREATED)
+                    .body(ResponseBodies.accepted(response.id(), asyncIngest))
                     .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
                     .build();
                     
         } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
             logger.error("Erro ao processar JSON", e);
             return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
-                    .body("{\"error\": \"JSON inválido: " + e.getMessage() + "\"}")
+                    .body(ResponseBodies.error("JSON inválido: " + e.getOriginalMessage()))
                     .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
                     .build();
         } catch (Exception e) {
+            DependencyUnavailableException unavailable = DependencyUnavailableException.find(e);
+            if (unavailable != null) {
+                return serviceUnavailable(request, unavailable);
+            }
             logger.error("Erro ao processar feedback", e);
             return request.createResponseBuilder(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("{\"error\": \"Erro interno: " + e.getMessage() + "\"}")
+                    .body(ResponseBodies.error("Erro interno: " + e.getMessage()))
+                    .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
+                    .build();
+        }
+    }
+
+    /**
+     * Recebe vários feedbacks em uma requisição (array JSON ou NDJSON).
+     * 
+     * Os itens são lidos um a um do corpo, validados e persistidos em blocos;
+     * a resposta traz o resultado de cada item. Itens inválidos não impedem
+     * o processamento dos demais.
+     */
+    @FunctionName("avaliacaoLote")
+    public HttpResponseMessage submitFeedbackBatch(
+            @HttpTrigger(
+                    name = "req",
+                    methods = {HttpMethod.POST},
+                    authLevel = AuthorizationLevel.ANONYMOUS,
+                    route = "avaliacao/lote",
+                    dataType = "binary"
+            ) HttpRequestMessage<Optional<byte[]>> request,
+            final ExecutionContext context) {
+        
+        context.getLogger().fine("Recebendo requisição POST /api/avaliacao/lote");
+        long start = System.nanoTime();
+        HttpResponseMessage response = handleFeedbackBatch(request);
+        batchRequestLog.record(response != null ? response.getStatusCode() : 0, start);
+        return response;
+    }
+    
+    private HttpResponseMessage handleFeedbackBatch(HttpRequestMessage<Optional<byte[]>> request) {
+        try {
+            byte[] body = request.getBody().orElse(null);
+            if (body != null && body.length > batchMaxBodyBytes) {
+                return payloadTooLarge(request, body.length, batchMaxBodyBytes);
+            }
+            if (isBlank(body)) {
+                return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
+                        .body(ResponseBodies.BODY_REQUIRED)
+                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
+                        .build();
+            }
+            
+            FeedbackBatchResponse response;
+            try (FeedbackBatchReader reader = FeedbackBatchReader.open(body, JsonCodec.mapper())) {
+                response = getCreateFeedbackBatchUseCase().execute(reader);
+            }
+            
+            if (response.total() == 0) {
+                return request.createResponseBuilder(HttpStatus.BAD_REQUEST)
+                        .body(ResponseBodies.BATCH_EMPTY)
+                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
+                        .build();
+            }
+            
+            DependencyUnavailableException refused = DependencyUnavailableException.find(response.failureCause());
+            if (refused != null) {
+                return serviceUnavailable(request, refused);
+            }
+            
+            logger.debug("Lote processado: total={}, recebidos={}, rejeitados={}, falhas={}",
+                response.total(), response.received(), response.rejected(), response.failed());
+            
+            return request.createResponseBuilder(HttpStatus.OK)
+                    .body(JsonCodec.batchResponseWriter().writeValueAsBytes(response))
+                    .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
+                    .build();
+                    
+        } catch (Exception e) {
+            DependencyUnavailableException unavailable = DependencyUnavailableException.find(e);
+            if (unavailable != null) {
+                return serviceUnavailable(request, unavailable);
+            }
+            logger.error("Erro ao processar lote de feedbacks", e);
+            return request.createResponseBuilder(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseBodies.error("Erro interno: " + e.getMessage()))
                     .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
                     .build();
         }
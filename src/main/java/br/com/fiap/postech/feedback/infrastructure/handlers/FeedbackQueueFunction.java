@@ -0,0 +1,162 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import br.com.fiap.postech.feedback.application.usecases.ProcessQueuedFeedbacksUseCase;
+import br.com.fiap.postech.feedback.application.usecases.ProcessQueuedFeedbacksUseCaseImpl;
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.infrastructure.config.FunctionProcessingException;
+import br.com.fiap.postech.feedback.infrastructure.gateways.StorageQueueFeedbackGatewayImpl;
+import br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackQueueMessageMapper;
+import com.azure.storage.queue.models.QueueMessageItem;
+import com.microsoft.azure.functions.ExecutionContext;
+import com.microsoft.azure.functions.annotation.FunctionName;
+import com.microsoft.azure.functions.annotation.QueueTrigger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Azure Function Queue Trigger que persiste os feedbacks recebidos no modo assíncrono.
+ * 
+ * Cada execução é disparada por uma mensagem da fila de ingestão (FEEDBACK_INGEST_QUEUE)
+ * e aproveita para retirar até FEEDBACK_INGEST_DRAIN_SIZE mensagens adicionais, gravando
+ * todas com uma única chamada a FeedbackGateway.saveAll (transações de até 100 por partição).
+ * 
+ * Mensagens adicionais só são removidas da fila depois de gravadas; as que falharem voltam
+ * a ficar visíveis e são reprocessadas. Se o feedback da mensagem que disparou a execução
+ * falhar, a função lança exceção para que o runtime aplique as novas tentativas
+ * (maxDequeueCount do host.json) e, esgotadas, envie a mensagem para a fila "-poison".
+ * 
+ * NOTA: Esta função cria dependências manualmente (sem CDI), como as demais.
+ */
+public class FeedbackQueueFunction {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackQueueFunction.class);
+    private static final int DEFAULT_DRAIN_SIZE = 31;
+    private static final Duration DRAIN_VISIBILITY_TIMEOUT = Duration.ofMinutes(2);
+
+    private static volatile ProcessQueuedFeedbacksUseCase processQueuedFeedbacksUseCase;
+    private static final Object lock = new Object();
+
+    @FunctionName("feedbackIngestQueue")
+    public void run(
+            @QueueTrigger(
+                    name = "message",
+                    queueName = "%FEEDBACK_INGEST_QUEUE%",
+                    connection = "AzureWebJobsStorage"
+            ) String message,
+            final ExecutionContext context) {
+
+        Feedback triggered;
+        try {
+            triggered = FeedbackQueueMessageMapper.toEntity(message);
+        } catch (Exception e) {
+            logger.error("Mensagem inválida na fila de ingestão: {}", e.getMessage());
+            throw new FunctionProcessingException("Mensagem inválida na fila de ingestão", e);
+        }
+
+        List<Feedback> feedbacks = new ArrayList<>();
+        feedbacks.add(triggered);
+        List<DrainedMessage> drained = drainAdditionalMessages();
+        drained.forEach(item -> feedbacks.add(item.feedback()));
+
+        BatchSaveResult result = getProcessQueuedFeedbacksUseCase().execute(feedbacks);
+        Set<String> savedIds = new HashSet<>(result.savedIds());
+
+        for (DrainedMessage item : drained) {
+            if (savedIds.contains(item.feedback().getId())) {
+                try {
+                    getQueueGateway().delete(item.message());
+                } catch (Exception e) {
+                    // A mensagem será reentregue e regravada (upsert idempotente)
+                    logger.warn("Falha ao remover mensagem {} da fila: {}", item.message().getMessageId(), e.getMessage());
+                }
+            }
+        }
+
+        context.getLogger().info("Feedbacks da fila processados: " + result.savedCount()
+            + " salvos, " + result.failures().size() + " falhas");
+
+        if (!savedIds.contains(triggered.getId())) {
+            throw new FunctionProcessingException(
+                String.format("Falha ao persistir feedback da fila: id=%s", triggered.getId()));
+        }
+    }
+
+    /**
+     * Retira mensagens adicionais da fila para gravar junto com a que disparou a execução.
+     * Mensagens que não puderem ser lidas são deixadas na fila para o fluxo normal
+     * (novas tentativas e fila "-poison").
+     */
+    private List<DrainedMessage> drainAdditionalMessages() {
+        int drainSize = getDrainSize();
+        if (drainSize == 0) {
+            return List.of();
+        }
+
+        List<DrainedMessage> drained = new ArrayList<>();
+        try {
+            for (QueueMessageItem message : getQueueGateway().receive(drainSize, DRAIN_VISIBILITY_TIMEOUT)) {
+                try {
+                    drained.add(new DrainedMessage(message, FeedbackQueueMessageMapper.toEntity(message.getBody().toString())));
+                } catch (Exception e) {
+                    logger.warn("Mensagem {} ignorada no lote: {}", message.getMessageId(), e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Não foi possível retirar mensagens adicionais da fila: {}", e.getMessage());
+        }
+        return drained;
+    }
+
+    /**
+     * Obtém ProcessQueuedFeedbacksUseCase: cria manualmente (sem CDI) de forma lazy.
+     * Package-private para permitir mock em testes.
+     */
+    ProcessQueuedFeedbacksUseCase getProcessQueuedFeedbacksUseCase() {
+        if (processQueuedFeedbacksUseCase == null) {
+            synchronized (lock) {
+                if (processQueuedFeedbacksUseCase == null) {
+                    logger.info("Inicializando ProcessQueuedFeedbacksUseCase...");
+                    processQueuedFeedbacksUseCase = new ProcessQueuedFeedbacksUseCaseImpl(
+                        FunctionDependencies.feedbackGateway(),
+                        FunctionDependencies.notificationGateway());
+                }
+            }
+        }
+        return processQueuedFeedbacksUseCase;
+    }
+
+    /**
+     * Obtém o gateway da fila de ingestão, compartilhado com a FeedbackHttpFunction.
+     * Package-private para permitir mock em testes.
+     */
+    StorageQueueFeedbackGatewayImpl getQueueGateway() {
+        return FunctionDependencies.ingestQueueGateway();
+    }
+
+    /**
+     * Quantidade de mensagens adicionais retiradas por execução (0 desativa).
+     * Package-private para permitir mock em testes.
+     */
+    int getDrainSize() {
+        String value = System.getenv("FEEDBACK_INGEST_DRAIN_SIZE");
+        if (value == null || value.isBlank()) {
+            return DEFAULT_DRAIN_SIZE;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("FEEDBACK_INGEST_DRAIN_SIZE inválido: '{}'. Usando {}", value, DEFAULT_DRAIN_SIZE);
+            return DEFAULT_DRAIN_SIZE;
+        }
+    }
+
+    private record DrainedMessage(QueueMessageItem message, Feedback feedback) {
+    }
+}
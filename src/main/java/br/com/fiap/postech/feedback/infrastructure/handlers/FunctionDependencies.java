@@ -0,0 +1,194 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import br.com.fiap.postech.feedback.domain.gateways.ReportStorageGateway;
+import br.com.fiap.postech.feedback.infrastructure.config.JsonCodec;
+import br.com.fiap.postech.feedback.infrastructure.gateways.OutboxEmailNotificationGatewayImpl;
+import br.com.fiap.postech.feedback.infrastructure.gateways.ResilientEmailNotificationGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.ResilientFeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.ResilientFeedbackGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.ResilientReportStorageGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.StorageQueueFeedbackGatewayImpl;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * Contêiner de dependências compartilhado por todas as Azure Functions do processo.
+ * 
+ * Cada dependência (clientes do Table/Blob/Queue Storage, Mailtrap, ObjectMapper) é criada
+ * uma única vez, na primeira vez em que alguma função precisa dela, e reaproveitada pelas
+ * execuções seguintes de qualquer função: o custo de conexão e de verificação de
+ * tabelas/containers é pago apenas uma vez por instância do worker.
+ * 
+ * Se a criação falhar, nada é guardado e a próxima execução tenta novamente.
+ * A criação em si continua nas funções (create*); aqui ficam o cache e a proteção
+ * (circuit breaker + bulkhead) de Table, Blob e Mailtrap.
+ */
+final class FunctionDependencies {
+
+    private static final Logger logger = LoggerFactory.getLogger(FunctionDependencies.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonCodec.mapper();
+
+    private static final Lazy<FeedbackGateway> FEEDBACK_GATEWAY = new Lazy<>("FeedbackGateway",
+        () -> FeedbackHttpFunction.withAggregates(FeedbackHttpFunction.isMemoryStore()
+            ? FeedbackHttpFunction.createMemoryFeedbackGateway()
+            : withResilience(FeedbackHttpFunction.createFeedbackGateway(
+                FeedbackHttpFunction.getStorageConnectionString(), FeedbackHttpFunction.getTableName()))));
+
+    private static final Lazy<EmailNotificationGateway> NOTIFICATION_GATEWAY = new Lazy<>("EmailNotificationGateway",
+        FeedbackHttpFunction::createNotificationGateway);
+
+    private static final Lazy<EmailNotificationGateway> EMAIL_DELIVERY_GATEWAY = new Lazy<>("EmailDeliveryGateway",
+        FeedbackHttpFunction::createEmailDeliveryGateway);
+
+    private static final Lazy<OutboxEmailNotificationGatewayImpl> NOTIFICATION_QUEUE_GATEWAY = new Lazy<>("NotificationQueueGateway",
+        () -> FeedbackHttpFunction.createOutboxGateway(
+            FeedbackHttpFunction.getStorageConnectionString(), FeedbackHttpFunction.getNotificationQueueName()));
+
+    private static final Lazy<OutboxEmailNotificationGatewayImpl> NOTIFICATION_DIGEST_QUEUE_GATEWAY = new Lazy<>("NotificationDigestQueueGateway",
+        () -> FeedbackHttpFunction.createOutboxGateway(
+            FeedbackHttpFunction.getStorageConnectionString(), FeedbackHttpFunction.getNotificationDigestQueueName()));
+
+    private static final Lazy<StorageQueueFeedbackGatewayImpl> INGEST_QUEUE_GATEWAY = new Lazy<>("FeedbackQueueGateway",
+        () -> FeedbackHttpFunction.createQueueGateway(
+            FeedbackHttpFunction.getStorageConnectionString(), FeedbackHttpFunction.getIngestQueueName()));
+
+    private static final Lazy<ReportStorageGateway> REPORT_STORAGE_GATEWAY = new Lazy<>("ReportStorageGateway",
+        () -> withResilience(WeeklyReportFunction.createReportStorageGateway(
+            FeedbackHttpFunction.getStorageConnectionString(), WeeklyReportFunction.getContainerName(), OBJECT_MAPPER)));
+
+    private static final Lazy<FeedbackAggregateGateway> AGGREGATE_GATEWAY = new Lazy<>("FeedbackAggregateGateway",
+        () -> withResilience(FeedbackHttpFunction.createAggregateGateway(FeedbackHttpFunction.getStorageConnectionString())));
+
+    private FunctionDependencies() {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada");
+    }
+
+    /**
+     * Gateway de feedbacks (Table Storage, ou em memória com FEEDBACK_STORE=memory), com
+     * atualização de agregados quando REPORT_SOURCE=aggregates.
+     */
+    static FeedbackGateway feedbackGateway() {
+        return FEEDBACK_GATEWAY.get();
+    }
+
+    /**
+     * Gateway de notificação usado pelos casos de uso (outbox ou envio direto).
+     */
+    static EmailNotificationGateway notificationGateway() {
+        return NOTIFICATION_GATEWAY.get();
+    }
+
+    /**
+     * Gateway que envia o email de fato (Mailtrap), usado pela NotificationQueueFunction.
+     */
+    static EmailNotificationGateway emailDeliveryGateway() {
+        return EMAIL_DELIVERY_GATEWAY.get();
+    }
+
+    /**
+     * Fila de notificações (outbox) sem resumo: produtor nos casos de uso, consumida pelo
+     * Queue Trigger da NotificationQueueFunction.
+     */
+    static OutboxEmailNotificationGatewayImpl notificationQueueGateway() {
+        return NOTIFICATION_QUEUE_GATEWAY.get();
+    }
+
+    /**
+     * Fila do resumo de notificações: produtor nos casos de uso, drenada por janela pelo
+     * Timer Trigger da NotificationQueueFunction.
+     */
+    static OutboxEmailNotificationGatewayImpl notificationDigestQueueGateway() {
+        return NOTIFICATION_DIGEST_QUEUE_GATEWAY.get();
+    }
+
+    static StorageQueueFeedbackGatewayImpl ingestQueueGateway() {
+        return INGEST_QUEUE_GATEWAY.get();
+    }
+
+    static ReportStorageGateway reportStorageGateway() {
+        return REPORT_STORAGE_GATEWAY.get();
+    }
+
+    static FeedbackAggregateGateway aggregateGateway() {
+        return AGGREGATE_GATEWAY.get();
+    }
+
+    static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Protege o gateway do Table Storage com o circuit breaker e o bulkhead da dependência "table".
+     */
+    static FeedbackGateway withResilience(FeedbackGateway gateway) {
+        return DependencyGuard.isEnabled()
+            ? new ResilientFeedbackGateway(gateway, DependencyGuard.of(DependencyGuard.TABLE))
+            : gateway;
+    }
+
+    /**
+     * Protege a tabela de agregados com a mesma dependência "table" dos feedbacks.
+     */
+    static FeedbackAggregateGateway withResilience(FeedbackAggregateGateway gateway) {
+        return DependencyGuard.isEnabled()
+            ? new ResilientFeedbackAggregateGateway(gateway, DependencyGuard.of(DependencyGuard.TABLE))
+            : gateway;
+    }
+
+    /**
+     * Protege o gateway do Blob Storage com o circuit breaker e o bulkhead da dependência "blob".
+     */
+    static ReportStorageGateway withResilience(ReportStorageGateway gateway) {
+        return DependencyGuard.isEnabled()
+            ? new ResilientReportStorageGateway(gateway, DependencyGuard.of(DependencyGuard.BLOB))
+            : gateway;
+    }
+
+    /**
+     * Protege o envio pelo Mailtrap com o circuit breaker e o bulkhead da dependência "mailtrap".
+     */
+    static EmailNotificationGateway withResilience(EmailNotificationGateway gateway) {
+        return DependencyGuard.isEnabled()
+            ? new ResilientEmailNotificationGateway(gateway, DependencyGuard.of(DependencyGuard.MAILTRAP))
+            : gateway;
+    }
+
+    /**
+     * Valor criado sob demanda uma única vez (double-checked locking).
+     * Falhas na criação não são guardadas: a próxima chamada tenta de novo.
+     */
+    static final class Lazy<T> {
+        private final String name;
+        private final Supplier<T> factory;
+        private volatile T value;
+
+        Lazy(String name, Supplier<T> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+
+        T get() {
+            T current = value;
+            if (current == null) {
+                synchronized (this) {
+                    current = value;
+                    if (current == null) {
+                        long start = System.nanoTime();
+                        current = factory.get();
+                        value = current;
+                        logger.info("{} inicializado em {} ms", name, (System.nanoTime() - start) / 1_000_000);
+                    }
+                }
+            }
+            return current;
+        }
+    }
+}
@@ -2,15 +2,19 @@ package br.com.fiap.postech.feedback.infrastructure.handlers;
 
 import com.microsoft.azure.functions.*;
 import com.microsoft.azure.functions.annotation.*;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Azure Function HTTP Trigger para health check.
  * 
  * Expõe o endpoint GET /api/health que verifica o status da aplicação.
+ * O campo "dependencias" traz o estado do circuito e os contadores de cada
+ * dependência protegida (Table, Blob, Mailtrap) já usada pelo processo.
  */
 public class HealthHttpFunction {
 
@@ -30,11 +34,14 @@ public class HealthHttpFunction {
         
         try {
             // Verificar status básico da aplicação
-            Map<String, Object> healthStatus = Map.of(
-                "status", "UP",
-                "service", "feedback-sync",
-                "version", "1.0.0"
-            );
+            Map<String, Object> healthStatus = new LinkedHashMap<>();
+            healthStatus.put("status", "UP");
+            healthStatus.put("service", "feedback-sync");
+            healthStatus.put("version", "1.0.0");
+            
+            Map<String, Object> dependencies = new LinkedHashMap<>();
+            DependencyGuard.all().forEach(metrics -> dependencies.put(metrics.name(), metrics.toMap()));
+            healthStatus.put("dependencias", dependencies);
             
             return request.createResponseBuilder(HttpStatus.OK)
                     .body(healthStatus)
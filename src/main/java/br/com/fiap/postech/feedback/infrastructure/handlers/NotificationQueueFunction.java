@@ -0,0 +1,181 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.infrastructure.config.FunctionProcessingException;
+import br.com.fiap.postech.feedback.infrastructure.gateways.CoalescingEmailNotificationGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.OutboxEmailNotificationGatewayImpl;
+import com.azure.storage.queue.models.QueueMessageItem;
+import com.microsoft.azure.functions.ExecutionContext;
+import com.microsoft.azure.functions.annotation.FunctionName;
+import com.microsoft.azure.functions.annotation.QueueTrigger;
+import com.microsoft.azure.functions.annotation.TimerTrigger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Azure Functions que enviam as notificações registradas na outbox pelos casos de uso
+ * de feedback.
+ * 
+ * Sem resumo, o Queue Trigger envia um email por mensagem da fila de notificações. Se o
+ * envio falhar, a função lança exceção para que o runtime aplique novas tentativas
+ * (maxDequeueCount do host.json) e, esgotadas, mova a mensagem para a fila "-poison".
+ * 
+ * Com FEEDBACK_NOTIFICATION_DIGEST_WINDOW_SECONDS > 0, os casos de uso gravam na fila do
+ * resumo (FEEDBACK_NOTIFICATION_DIGEST_QUEUE), que não tem Queue Trigger. O Timer Trigger
+ * roda a cada minuto em uma única instância (o runtime garante um timer por aplicação) e,
+ * quando a notificação pendente mais antiga completa a janela, envia todas as pendentes em
+ * um email de resumo (até FEEDBACK_NOTIFICATION_DIGEST_MAX_ITEMS por email). As mensagens
+ * só são removidas depois do envio; se ele falhar, voltam a ficar visíveis e entram na
+ * janela seguinte.
+ * 
+ * A entrega é ao menos uma vez: se a instância cair depois do envio, ou a remoção da
+ * mensagem falhar, a mensagem volta a ficar visível e o mesmo email (ou resumo) é enviado
+ * de novo. As mensagens trazem apenas o conteúdo do email, sem id para deduplicação.
+ * 
+ * NOTA: Esta função cria dependências manualmente (sem CDI), como as demais.
+ */
+public class NotificationQueueFunction {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationQueueFunction.class);
+    private static final Duration DIGEST_VISIBILITY_TIMEOUT = Duration.ofMinutes(2);
+
+    /**
+     * Verificação da janela do resumo: a cada minuto.
+     */
+    static final String DIGEST_SCHEDULE = "0 * * * * *";
+
+    /**
+     * Limite de emails de resumo por execução (o restante fica para a execução seguinte).
+     */
+    static final int MAX_DIGEST_EMAILS_PER_RUN = 10;
+
+    @FunctionName("feedbackNotificationQueue")
+    public void run(
+            @QueueTrigger(
+                    name = "message",
+                    queueName = "%FEEDBACK_NOTIFICATION_QUEUE%",
+                    connection = "AzureWebJobsStorage"
+            ) String message,
+            final ExecutionContext context) {
+
+        if (message == null || message.isBlank()) {
+            logger.warn("Mensagem de notificação vazia ignorada");
+            return;
+        }
+
+        try {
+            getEmailNotificationGateway().sendAdminNotification(message);
+            context.getLogger().info("Notificação enviada ao admin");
+        } catch (Exception e) {
+            logger.error("Falha ao enviar notificação: {}", e.getMessage(), e);
+            throw new FunctionProcessingException("Falha ao enviar notificação", e);
+        }
+    }
+
+    @FunctionName("feedbackNotificationDigest")
+    public void sendDigest(
+            @TimerTrigger(
+                    name = "timerInfo",
+                    schedule = DIGEST_SCHEDULE
+            ) String timerInfo,
+            final ExecutionContext context) {
+
+        int windowSeconds = getDigestWindowSeconds();
+        if (windowSeconds <= 0) {
+            return;
+        }
+
+        OutboxEmailNotificationGatewayImpl digestQueue = getDigestQueueGateway();
+        OffsetDateTime oldest = digestQueue.oldestPendingTime();
+        if (oldest == null || oldest.plusSeconds(windowSeconds).isAfter(now())) {
+            return;
+        }
+
+        int maxItems = getDigestMaxItems();
+        int sent = 0;
+        for (int email = 0; email < MAX_DIGEST_EMAILS_PER_RUN; email++) {
+            List<QueueMessageItem> pending = digestQueue.receive(maxItems, DIGEST_VISIBILITY_TIMEOUT);
+            if (pending.isEmpty()) {
+                break;
+            }
+            List<String> items = new ArrayList<>(pending.size());
+            for (QueueMessageItem item : pending) {
+                if (item.getBody() != null && !item.getBody().toString().isBlank()) {
+                    items.add(item.getBody().toString());
+                }
+            }
+
+            if (!items.isEmpty()) {
+                try {
+                    getEmailNotificationGateway().sendAdminNotification(
+                        items.size() == 1 ? items.get(0) : CoalescingEmailNotificationGateway.buildDigest(items));
+                } catch (Exception e) {
+                    logger.error("Falha ao enviar resumo de notificações: {}", e.getMessage(), e);
+                    throw new FunctionProcessingException("Falha ao enviar resumo de notificações", e);
+                }
+                sent += items.size();
+            }
+            pending.forEach(item -> delete(digestQueue, item));
+
+            if (pending.size() < maxItems) {
+                break;
+            }
+        }
+
+        context.getLogger().info("Resumo de notificações enviado ao admin com " + sent + " feedback(s) crítico(s)");
+    }
+
+    private static void delete(OutboxEmailNotificationGatewayImpl queue, QueueMessageItem item) {
+        try {
+            queue.delete(item);
+        } catch (Exception e) {
+            // A notificação volta a ficar visível e entra no próximo resumo (entrega ao menos uma vez)
+            logger.warn("Falha ao remover notificação {} da fila: {}", item.getMessageId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Obtém o gateway que envia o email de fato (Mailtrap), criado uma vez por processo.
+     * Package-private para permitir mock em testes.
+     */
+    EmailNotificationGateway getEmailNotificationGateway() {
+        return FunctionDependencies.emailDeliveryGateway();
+    }
+
+    /**
+     * Obtém a fila do resumo, compartilhada com os casos de uso que a alimentam.
+     * Package-private para permitir mock em testes.
+     */
+    OutboxEmailNotificationGatewayImpl getDigestQueueGateway() {
+        return FunctionDependencies.notificationDigestQueueGateway();
+    }
+
+    /**
+     * Janela do resumo em segundos (0 desativa).
+     * Package-private para permitir mock em testes.
+     */
+    int getDigestWindowSeconds() {
+        return FeedbackHttpFunction.getNotificationDigestWindowSeconds();
+    }
+
+    /**
+     * Número máximo de notificações por email (1 sem digest).
+     * Package-private para permitir mock em testes.
+     */
+    int getDigestMaxItems() {
+        return FeedbackHttpFunction.getNotificationDigestMaxItems();
+    }
+
+    /**
+     * Instante atual, comparado com o registro da notificação mais antiga.
+     * Package-private para permitir mock em testes.
+     */
+    OffsetDateTime now() {
+        return OffsetDateTime.now();
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Linha de resumo por requisição das funções HTTP: uma única linha INFO com operação,
+ * status e duração, no lugar dos vários logs espalhados pelo caminho da requisição.
+ *
+ * Respostas de sucesso são amostradas (1 a cada FEEDBACK_LOG_SUCCESS_SAMPLE; a primeira
+ * sempre entra) e erros são sempre registrados. Com FEEDBACK_LOG_FORMAT=json a linha sai
+ * como objeto JSON, pronta para consulta estruturada no Application Insights; o padrão é
+ * texto chave=valor. Nada é montado quando o nível INFO está desativado.
+ */
+final class RequestSummaryLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestSummaryLog.class);
+
+    private final String operation;
+    private final int successSampleRate;
+    private final boolean json;
+    private final AtomicLong successes = new AtomicLong();
+
+    RequestSummaryLog(String operation, int successSampleRate, boolean json) {
+        this.operation = operation;
+        this.successSampleRate = Math.max(1, successSampleRate);
+        this.json = json;
+    }
+
+    /**
+     * Cria o resumo lendo FEEDBACK_LOG_SUCCESS_SAMPLE (padrão 1: toda requisição)
+     * e FEEDBACK_LOG_FORMAT (text ou json).
+     */
+    static RequestSummaryLog fromEnvironment(String operation) {
+        int sampleRate = 1;
+        String sample = System.getenv("FEEDBACK_LOG_SUCCESS_SAMPLE");
+        if (sample != null && !sample.isBlank()) {
+            try {
+                sampleRate = Integer.parseInt(sample.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("FEEDBACK_LOG_SUCCESS_SAMPLE inválido: '{}'. Usando 1", sample);
+            }
+        }
+        String format = System.getenv("FEEDBACK_LOG_FORMAT");
+        return new RequestSummaryLog(operation, sampleRate, format != null && format.trim().equalsIgnoreCase("json"));
+    }
+
+    /**
+     * Registra o resumo da requisição iniciada em startNanos (System.nanoTime()).
+     */
+    void record(int status, long startNanos) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        boolean error = status >= 400;
+        if (!error && !sampled()) {
+            return;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        logger.info(format(status, elapsedMillis, error ? 1 : successSampleRate));
+    }
+
+    /**
+     * Indica se a próxima resposta de sucesso entra na amostra.
+     */
+    boolean sampled() {
+        return successSampleRate == 1 || successes.getAndIncrement() % successSampleRate == 0;
+    }
+
+    String format(int status, long elapsedMillis, int sampleRate) {
+        StringBuilder line = new StringBuilder(96);
+        if (json) {
+            line.append("{\"operacao\":\"");
+            JsonStringEncoder.getInstance().quoteAsString(operation, line);
+            line.append("\",\"status\":").append(status)
+                .append(",\"duracaoMs\":").append(elapsedMillis)
+                .append(",\"amostra\":").append(sampleRate)
+                .append('}');
+        } else {
+            line.append(operation)
+                .append(" status=").append(status)
+                .append(" duracaoMs=").append(elapsedMillis)
+                .append(" amostra=1/").append(sampleRate);
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Corpos de resposta JSON das funções HTTP, já codificados em UTF-8.
+ *
+ * Os erros de validação têm texto fixo e são codificados uma única vez na carga da
+ * classe; o corpo de sucesso é montado copiando prefixo, id e sufixo pré-codificados,
+ * sem Map nem serialização via ObjectMapper. Mensagens variáveis (JSON inválido,
+ * erro interno) passam pelo JsonStringEncoder do Jackson para ficarem escapadas.
+ *
+ * Os arrays devolvidos são compartilhados entre requisições e não devem ser alterados.
+ */
+final class ResponseBodies {
+
+    private static final byte[] ERROR_PREFIX = utf8("{\"error\": \"");
+    private static final byte[] ERROR_SUFFIX = utf8("\"}");
+    private static final byte[] ID_PREFIX = utf8("{\"id\":\"");
+    private static final byte[] RECEIVED_SUFFIX = utf8("\",\"status\":\"recebido\"}");
+    private static final byte[] QUEUED_SUFFIX = utf8("\",\"status\":\"enfileirado\"}");
+
+    static final byte[] BODY_REQUIRED = error("Corpo da requisição é obrigatório");
+    static final byte[] DESCRIPTION_REQUIRED = error("Campo 'descricao' é obrigatório");
+    static final byte[] SCORE_REQUIRED = error("Campo 'nota' é obrigatório");
+    static final byte[] SCORE_OUT_OF_RANGE = error("Campo 'nota' deve estar entre 0 e 10");
+    static final byte[] BATCH_EMPTY = error("Nenhum feedback encontrado no lote");
+
+    private ResponseBodies() {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada");
+    }
+
+    /**
+     * Corpo de sucesso de POST /api/avaliacao: {"id":"...","status":"recebido"}
+     * ou, no modo assíncrono, "enfileirado".
+     */
+    static byte[] accepted(String id, boolean queued) {
+        return concat(ID_PREFIX, JsonStringEncoder.getInstance().quoteAsUTF8(id), queued ? QUEUED_SUFFIX : RECEIVED_SUFFIX);
+    }
+
+    /**
+     * Corpo de erro com mensagem variável: {"error": "..."}.
+     */
+    static byte[] error(String message) {
+        return concat(ERROR_PREFIX, JsonStringEncoder.getInstance().quoteAsUTF8(String.valueOf(message)), ERROR_SUFFIX);
+    }
+
+    private static byte[] concat(byte[] prefix, byte[] value, byte[] suffix) {
+        byte[] body = new byte[prefix.length + value.length + suffix.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(value, 0, body, prefix.length, value.length);
+        System.arraycopy(suffix, 0, body, prefix.length + value.length, suffix.length);
+        return body;
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
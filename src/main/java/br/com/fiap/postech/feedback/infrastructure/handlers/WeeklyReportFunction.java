@@ -2,11 +2,10 @@ package br.com.fiap.postech.feedback.infrastructure.handlers;
 
 import br.com.fiap.postech.feedback.application.usecases.GenerateWeeklyReportUseCase;
 import br.com.fiap.postech.feedback.application.usecases.GenerateWeeklyReportUseCaseImpl;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.domain.gateways.ReportStorageGateway;
 import br.com.fiap.postech.feedback.infrastructure.gateways.BlobReportStorageGatewayImpl;
-import br.com.fiap.postech.feedback.infrastructure.gateways.TableStorageFeedbackGatewayImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.microsoft.azure.functions.*;
 import com.microsoft.azure.functions.annotation.*;
 import org.slf4j.Logger;
@@ -21,11 +20,15 @@ import org.slf4j.LoggerFactory;
  * Responsabilidade única: Agendar e disparar a geração de relatórios semanais
  * 
  * NOTA: Esta função cria dependências manualmente (sem CDI) para evitar problemas
- * de inicialização com Azure Functions TimerTrigger.
+ * de inicialização com Azure Functions TimerTrigger. O caso de uso e os gateways são
+ * criados na primeira execução e reaproveitados (FunctionDependencies), então os disparos
+ * seguintes não reabrem conexões nem verificam tabela/container novamente.
  */
 public class WeeklyReportFunction {
 
     private static final Logger logger = LoggerFactory.getLogger(WeeklyReportFunction.class);
+    private static volatile GenerateWeeklyReportUseCase generateWeeklyReportUseCase;
+    private static final Object lock = new Object();
 
     @FunctionName("weeklyReport")
     public void run(
@@ -73,87 +76,73 @@ public class WeeklyReportFunction {
     }
 
     /**
-     * Obtém GenerateWeeklyReportUseCase: cria manualmente (sem CDI).
+     * Obtém GenerateWeeklyReportUseCase: cria manualmente (sem CDI) na primeira execução
+     * e reaproveita nas seguintes, com os gateways compartilhados de FunctionDependencies.
      * Package-private para permitir mock em testes.
      */
     GenerateWeeklyReportUseCase getGenerateWeeklyReportUseCase() {
-        logger.info("Criando GenerateWeeklyReportUseCase manualmente");
-        
-        // Obter variáveis de ambiente
-        String storageConnectionString = System.getenv("azure.storage.connection-string");
-        if (storageConnectionString == null || storageConnectionString.isBlank()) {
-            storageConnectionString = System.getenv("AZURE_STORAGE_CONNECTION_STRING");
-        }
-        if (storageConnectionString == null || storageConnectionString.isBlank()) {
-            storageConnectionString = "UseDevelopmentStorage=true"; // Padrão para Azurite local
-        }
-        
-        String tableName = System.getenv("azure.table.table-name");
-        if (tableName == null || tableName.isBlank()) {
-            tableName = "feedbacks";
+        if (generateWeeklyReportUseCase == null) {
+            synchronized (lock) {
+                if (generateWeeklyReportUseCase == null) {
+                    try {
+                        logger.info("Criando GenerateWeeklyReportUseCase manualmente");
+                        
+                        // Com REPORT_SOURCE=aggregates as métricas vêm dos agregados diários
+                        FeedbackAggregateGateway aggregateGateway = FeedbackHttpFunction.isAggregateReportSource()
+                            ? FunctionDependencies.aggregateGateway()
+                            : null;
+                        
+                        generateWeeklyReportUseCase = new GenerateWeeklyReportUseCaseImpl(
+                            FunctionDependencies.feedbackGateway(),
+                            FunctionDependencies.reportStorageGateway(),
+                            aggregateGateway
+                        );
+                        
+                        logger.info("✓ GenerateWeeklyReportUseCase criado manualmente");
+                    } catch (Exception e) {
+                        logger.error("❌ Erro ao criar dependências manualmente: {}", e.getMessage(), e);
+                        throw new RuntimeException("Falha ao criar GenerateWeeklyReportUseCase", e);
+                    }
+                }
+            }
         }
-        
+        return generateWeeklyReportUseCase;
+    }
+
+    /**
+     * Obtém o nome do container dos relatórios no Blob Storage.
+     */
+    static String getContainerName() {
         String containerName = System.getenv("azure.storage.container-name");
         if (containerName == null || containerName.isBlank()) {
             containerName = "weekly-reports";
         }
-        
-        logger.info("Configurações - Table: {}, Container: {}", tableName, containerName);
-        
-        // Criar gateways manualmente usando reflection para configurar campos privados
+        return containerName;
+    }
+
+    static ReportStorageGateway createReportStorageGateway(String connectionString, String containerName,
+                                                           ObjectMapper objectMapper) {
         try {
-            // Criar TableStorageFeedbackGatewayImpl
-            TableStorageFeedbackGatewayImpl feedbackGateway = new TableStorageFeedbackGatewayImpl();
-            java.lang.reflect.Field storageField = TableStorageFeedbackGatewayImpl.class.getDeclaredField("storageConnectionString");
-            storageField.setAccessible(true);
-            storageField.set(feedbackGateway, storageConnectionString);
-            
-            java.lang.reflect.Field tableField = TableStorageFeedbackGatewayImpl.class.getDeclaredField("tableName");
-            tableField.setAccessible(true);
-            tableField.set(feedbackGateway, tableName);
-            
-            // Inicializar via reflection
-            java.lang.reflect.Method initMethod = TableStorageFeedbackGatewayImpl.class.getDeclaredMethod("init");
-            initMethod.setAccessible(true);
-            initMethod.invoke(feedbackGateway);
-            logger.info("✓ TableStorageFeedbackGatewayImpl inicializado");
-            
-            // Criar BlobReportStorageGatewayImpl
+            logger.info("Configurações - Container: {}", containerName);
             BlobReportStorageGatewayImpl reportStorageGateway = new BlobReportStorageGatewayImpl(
-                storageConnectionString,
+                connectionString,
                 containerName,
-                getObjectMapper()
+                objectMapper,
+                FeedbackHttpFunction.getStorageFastInit()
             );
-            
-            // Inicializar via reflection
-            java.lang.reflect.Method blobInitMethod = BlobReportStorageGatewayImpl.class.getDeclaredMethod("init");
-            blobInitMethod.setAccessible(true);
-            blobInitMethod.invoke(reportStorageGateway);
+            reportStorageGateway.init();
             logger.info("✓ BlobReportStorageGatewayImpl inicializado");
-            
-            // Criar use case
-            GenerateWeeklyReportUseCase useCase = new GenerateWeeklyReportUseCaseImpl(
-                feedbackGateway,
-                reportStorageGateway
-            );
-            
-            logger.info("✓ GenerateWeeklyReportUseCase criado manualmente");
-            return useCase;
-            
+            return reportStorageGateway;
         } catch (Exception e) {
-            logger.error("❌ Erro ao criar dependências manualmente: {}", e.getMessage(), e);
-            throw new RuntimeException("Falha ao criar GenerateWeeklyReportUseCase", e);
+            throw new RuntimeException("Falha ao criar ReportStorageGateway (Blob Storage): " + e.getMessage(), e);
         }
     }
 
     /**
-     * Obtém ObjectMapper: cria manualmente (sem CDI).
+     * Obtém ObjectMapper compartilhado pelas funções.
      * Package-private para permitir mock em testes.
      */
     ObjectMapper getObjectMapper() {
-        logger.info("Criando ObjectMapper manualmente");
-        return new ObjectMapper()
-                .registerModule(new JavaTimeModule())
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return FunctionDependencies.objectMapper();
     }
 }
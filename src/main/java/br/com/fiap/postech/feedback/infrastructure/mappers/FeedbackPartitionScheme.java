@@ -0,0 +1,202 @@
+package br.com.fiap.postech.feedback.infrastructure.mappers;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Esquema de particionamento dos feedbacks no Azure Table Storage.
+ *
+ * Cada feedback é gravado em uma partição derivada da data de criação
+ * (bucket por dia ou por hora) e, opcionalmente, prefixada por um shard
+ * calculado a partir do id. Assim as escritas deixam de cair todas na
+ * mesma partição e o throughput escala com o número de partições.
+ *
+ * Formato da PartitionKey:
+ * - shards = 1: {@code yyyyMMdd} (DAY) ou {@code yyyyMMddHH} (HOUR)
+ * - shards > 1: {@code NN-yyyyMMdd} (DAY) ou {@code NN-yyyyMMddHH} (HOUR)
+ *
+ * O bucket vem depois do shard para que cada shard seja um intervalo
+ * contíguo e ordenado cronologicamente de PartitionKeys.
+ *
+ * A RowKey é {@code yyyyMMddHHmmssnnnnnnnnn_id}: timestamp de largura fixa
+ * seguido do id. A ordem lexicográfica das RowKeys é a ordem cronológica,
+ * então consultas por intervalo voltam ordenadas do servidor dentro de cada
+ * shard, e o id no sufixo garante unicidade sem alterar o id público.
+ *
+ * Alterar granularidade ou número de shards muda o layout das chaves:
+ * execute {@link br.com.fiap.postech.feedback.infrastructure.migration.FeedbackPartitionBackfill}
+ * para regravar as linhas existentes.
+ */
+public final class FeedbackPartitionScheme {
+
+    /**
+     * Granularidade do bucket de tempo usado na PartitionKey.
+     */
+    public enum Granularity {
+        DAY("yyyyMMdd"),
+        HOUR("yyyyMMddHH");
+
+        private final DateTimeFormatter formatter;
+
+        Granularity(String pattern) {
+            this.formatter = DateTimeFormatter.ofPattern(pattern);
+        }
+
+        String format(LocalDateTime dateTime) {
+            return formatter.format(dateTime);
+        }
+    }
+
+    private static final int MAX_SHARDS = 100;
+    private static final DateTimeFormatter ROW_KEY_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmssnnnnnnnnn");
+    private static final String ROW_KEY_SEPARATOR = "_";
+    private static final String ROW_KEY_UPPER_SENTINEL = "~";
+    private static final FeedbackPartitionScheme DEFAULT = new FeedbackPartitionScheme(Granularity.DAY, 1);
+
+    private final Granularity granularity;
+    private final int shards;
+
+    public FeedbackPartitionScheme(Granularity granularity, int shards) {
+        if (granularity == null) {
+            throw new IllegalArgumentException("Granularidade do particionamento é obrigatória");
+        }
+        if (shards < 1 || shards > MAX_SHARDS) {
+            throw new IllegalArgumentException(
+                String.format("Número de shards deve estar entre 1 e %d, mas foi %d", MAX_SHARDS, shards));
+        }
+        this.granularity = granularity;
+        this.shards = shards;
+    }
+
+    /**
+     * Esquema padrão: bucket diário, sem shards.
+     */
+    public static FeedbackPartitionScheme defaultScheme() {
+        return DEFAULT;
+    }
+
+    /**
+     * Cria o esquema a partir dos valores de configuração
+     * ({@code azure.table.partition-granularity} e {@code azure.table.partition-shards}).
+     * Valores ausentes ou em branco usam o padrão (DAY, 1 shard).
+     */
+    public static FeedbackPartitionScheme of(String granularity, String shards) {
+        Granularity parsedGranularity = granularity == null || granularity.isBlank()
+            ? Granularity.DAY
+            : parseGranularity(granularity);
+        int parsedShards = shards == null || shards.isBlank() ? 1 : parseShards(shards);
+        return new FeedbackPartitionScheme(parsedGranularity, parsedShards);
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Calcula a PartitionKey de um feedback a partir do id e da data de criação.
+     *
+     * @param id Id do feedback (define o shard)
+     * @param createdAt Data de criação (define o bucket de tempo)
+     * @return PartitionKey no formato do esquema
+     */
+    public String partitionKeyFor(String id, LocalDateTime createdAt) {
+        String bucket = granularity.format(createdAt);
+        if (shards == 1) {
+            return bucket;
+        }
+        return shardPrefix(shardOf(id)) + bucket;
+    }
+
+    /**
+     * Calcula a RowKey de um feedback: timestamp de largura fixa + id.
+     *
+     * @param id Id do feedback
+     * @param createdAt Data de criação
+     * @return RowKey ordenável cronologicamente
+     */
+    public String rowKeyFor(String id, LocalDateTime createdAt) {
+        return ROW_KEY_TIMESTAMP.format(createdAt) + ROW_KEY_SEPARATOR + id;
+    }
+
+    /**
+     * Menor RowKey possível para um feedback criado em {@code from} (inclusivo).
+     */
+    public String rowKeyLowerBound(LocalDateTime from) {
+        return ROW_KEY_TIMESTAMP.format(from);
+    }
+
+    /**
+     * Maior RowKey possível para um feedback criado em {@code to} (inclusivo).
+     * O sentinela '~' ordena depois do separador e de qualquer caractere de id.
+     */
+    public String rowKeyUpperBound(LocalDateTime to) {
+        return ROW_KEY_TIMESTAMP.format(to) + ROW_KEY_UPPER_SENTINEL;
+    }
+
+    /**
+     * Intervalo fechado [lower, upper] de PartitionKeys contíguas de um shard.
+     */
+    public record PartitionKeyRange(String lower, String upper) {
+    }
+
+    /**
+     * Calcula os intervalos de PartitionKey que cobrem o período informado,
+     * um por shard. Cada intervalo pode ser consultado com um filtro
+     * {@code PartitionKey ge lower and PartitionKey le upper}.
+     *
+     * @param from Início do período (inclusivo)
+     * @param to Fim do período (inclusivo)
+     * @return Intervalos de PartitionKey, na ordem dos shards
+     */
+    public List<PartitionKeyRange> partitionKeyRanges(LocalDateTime from, LocalDateTime to) {
+        String lowerBucket = granularity.format(from);
+        String upperBucket = granularity.format(to);
+        if (shards == 1) {
+            return List.of(new PartitionKeyRange(lowerBucket, upperBucket));
+        }
+        List<PartitionKeyRange> ranges = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            String prefix = shardPrefix(shard);
+            ranges.add(new PartitionKeyRange(prefix + lowerBucket, prefix + upperBucket));
+        }
+        return ranges;
+    }
+
+    int shardOf(String id) {
+        return id == null ? 0 : Math.floorMod(id.hashCode(), shards);
+    }
+
+    static String shardPrefix(int shard) {
+        return String.format("%02d-", shard);
+    }
+
+    private static Granularity parseGranularity(String value) {
+        try {
+            return Granularity.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                String.format("Granularidade de partição inválida: '%s'. Use DAY ou HOUR", value), e);
+        }
+    }
+
+    private static int parseShards(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                String.format("Número de shards inválido: '%s'", value), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return granularity + "/" + shards;
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.fiap.postech.feedback.infrastructure.mappers;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.infrastructure.config.JsonCodec;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mapper responsável por converter entre Feedback (entidade de domínio)
+ * e o corpo JSON das mensagens da fila de ingestão.
+ * 
+ * A mensagem carrega id e createdAt definidos no recebimento, então regravar
+ * a mesma mensagem (reentrega da fila) resulta na mesma linha da tabela.
+ */
+public class FeedbackQueueMessageMapper {
+
+    private static final ObjectReader messageReader = JsonCodec.mapper().readerFor(FeedbackMessage.class);
+    private static final ObjectWriter messageWriter = JsonCodec.mapper().writerFor(FeedbackMessage.class);
+
+    private FeedbackQueueMessageMapper() {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada");
+    }
+
+    /**
+     * Corpo da mensagem da fila de ingestão.
+     */
+    record FeedbackMessage(
+            @JsonProperty("id") String id,
+            @JsonProperty("descricao") String description,
+            @JsonProperty("nota") int score,
+            @JsonProperty("urgencia") String urgency,
+            @JsonProperty("createdAt") String createdAt) {
+    }
+
+    /**
+     * Converte Feedback para o corpo JSON da mensagem.
+     * 
+     * @param feedback Entidade de domínio
+     * @return JSON da mensagem
+     */
+    public static String toMessage(Feedback feedback) {
+        try {
+            return messageWriter.writeValueAsString(new FeedbackMessage(
+                feedback.getId(),
+                feedback.getDescription(),
+                feedback.getScore().getValue(),
+                feedback.getUrgency().getValue(),
+                feedback.getCreatedAt().toString()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Falha ao serializar feedback para a fila", e);
+        }
+    }
+
+    /**
+     * Converte o corpo JSON da mensagem para Feedback.
+     * 
+     * @param message JSON da mensagem
+     * @return Entidade de domínio Feedback
+     */
+    public static Feedback toEntity(String message) {
+        FeedbackMessage body;
+        try {
+            body = messageReader.readValue(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Mensagem da fila inválida: " + e.getOriginalMessage(), e);
+        }
+        return Feedback.reconstruct(body.id(), body.description(), body.score(), body.urgency(),
+            LocalDateTime.parse(body.createdAt()));
+    }
+}
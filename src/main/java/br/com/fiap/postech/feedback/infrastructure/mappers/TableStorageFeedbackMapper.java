@@ -3,9 +3,11 @@ package br.com.fiap.postech.feedback.infrastructure.mappers;
 import br.com.fiap.postech.feedback.domain.entities.Feedback;
 import br.com.fiap.postech.feedback.domain.entities.Score;
 import br.com.fiap.postech.feedback.domain.entities.Urgency;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
 import com.azure.data.tables.models.TableEntity;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Mapper responsável por converter entre Feedback (entidade de domínio)
@@ -16,25 +18,47 @@ import java.time.LocalDateTime;
  */
 public class TableStorageFeedbackMapper {
 
-    private static final String PARTITION_KEY = "feedback";
-    private static final String ID_PROPERTY = "id";
-    private static final String DESCRIPTION_PROPERTY = "description";
-    private static final String SCORE_PROPERTY = "score";
-    private static final String URGENCY_PROPERTY = "urgency";
-    private static final String CREATED_AT_PROPERTY = "createdAt";
+    public static final String ID_PROPERTY = "id";
+    public static final String DESCRIPTION_PROPERTY = "description";
+    public static final String SCORE_PROPERTY = "score";
+    public static final String URGENCY_PROPERTY = "urgency";
+    public static final String CREATED_AT_PROPERTY = "createdAt";
+
+    /**
+     * Colunas necessárias para reconstruir um Feedback (usadas em $select nas consultas).
+     */
+    public static final List<String> SELECTED_PROPERTIES = List.of(
+        "PartitionKey", "RowKey",
+        ID_PROPERTY, DESCRIPTION_PROPERTY, SCORE_PROPERTY, URGENCY_PROPERTY, CREATED_AT_PROPERTY);
 
     private TableStorageFeedbackMapper() {
         throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada");
     }
 
     /**
-     * Converte Feedback (entidade de domínio) para TableEntity.
+     * Converte Feedback (entidade de domínio) para TableEntity
+     * usando o esquema de particionamento padrão.
      * 
      * @param feedback Entidade de domínio
      * @return TableEntity para persistência no Table Storage
      */
     public static TableEntity toTableEntity(Feedback feedback) {
-        TableEntity entity = new TableEntity(PARTITION_KEY, feedback.getId());
+        return toTableEntity(feedback, FeedbackPartitionScheme.defaultScheme());
+    }
+
+    /**
+     * Converte Feedback (entidade de domínio) para TableEntity.
+     * PartitionKey e RowKey são calculadas pelo esquema de particionamento informado;
+     * o id do feedback é mantido na propriedade {@code id}.
+     * 
+     * @param feedback Entidade de domínio
+     * @param partitionScheme Esquema de particionamento da tabela
+     * @return TableEntity para persistência no Table Storage
+     */
+    public static TableEntity toTableEntity(Feedback feedback, FeedbackPartitionScheme partitionScheme) {
+        String partitionKey = partitionScheme.partitionKeyFor(feedback.getId(), feedback.getCreatedAt());
+        String rowKey = partitionScheme.rowKeyFor(feedback.getId(), feedback.getCreatedAt());
+        TableEntity entity = new TableEntity(partitionKey, rowKey);
         
         entity.addProperty(ID_PROPERTY, feedback.getId());
         entity.addProperty(DESCRIPTION_PROPERTY, feedback.getDescription());
@@ -52,7 +76,7 @@ public class TableStorageFeedbackMapper {
      * @return Entidade de domínio Feedback
      */
     public static Feedback toEntity(TableEntity entity) {
-        String id = entity.getRowKey();
+        String id = getStringProperty(entity, ID_PROPERTY, entity.getRowKey());
         String description = getStringProperty(entity, DESCRIPTION_PROPERTY);
         Integer scoreValue = getIntegerProperty(entity, SCORE_PROPERTY);
         String urgencyValue = getStringProperty(entity, URGENCY_PROPERTY, "LOW");
@@ -69,6 +93,30 @@ public class TableStorageFeedbackMapper {
         return feedback;
     }
 
+    /**
+     * Adiciona a linha a um bloco colunar sem criar o Feedback (leituras em massa).
+     * Usa os mesmos valores padrão e validações de {@link #toEntity(TableEntity)}.
+     * 
+     * @param batch Bloco em montagem
+     * @param entity TableEntity do Table Storage
+     * @param createdAt Data de criação já convertida (ver {@link #getCreatedAt(TableEntity)})
+     */
+    public static void addTo(FeedbackBatch.Builder batch, TableEntity entity, LocalDateTime createdAt) {
+        batch.add(
+            getStringProperty(entity, DESCRIPTION_PROPERTY),
+            getIntegerProperty(entity, SCORE_PROPERTY),
+            getStringProperty(entity, URGENCY_PROPERTY, "LOW"),
+            createdAt);
+    }
+
+    /**
+     * Data de criação gravada na linha, ou null quando a propriedade não existe.
+     */
+    public static LocalDateTime getCreatedAt(TableEntity entity) {
+        String createdAt = getStringProperty(entity, CREATED_AT_PROPERTY);
+        return createdAt != null ? LocalDateTime.parse(createdAt) : null;
+    }
+
     private static String getStringProperty(TableEntity entity, String propertyName) {
         Object value = entity.getProperty(propertyName);
         return value != null ? value.toString() : null;
@@ -0,0 +1,180 @@
+package br.com.fiap.postech.feedback.infrastructure.migration;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.TableStorageFeedbackAggregateGatewayImpl;
+import br.com.fiap.postech.feedback.infrastructure.gateways.TableStorageFeedbackGatewayImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Ferramenta que recalcula os agregados diários (REPORT_SOURCE=aggregates) de um intervalo
+ * de dias a partir da tabela de feedbacks.
+ *
+ * Para cada dia, remove os contadores e os marcadores do dia e soma de novo todos os
+ * feedbacks gravados nele, em blocos de {@value #RECORD_CHUNK_SIZE}. É o reparo para os
+ * dias em que a atualização dos agregados falhou depois de o feedback ser salvo (ver
+ * AggregatingFeedbackGateway). Como cada feedback é somado uma única vez por marcador,
+ * gravações que chegam durante o recálculo não são contadas em dobro, e a ferramenta pode
+ * ser executada novamente com segurança.
+ *
+ * Uso (variáveis de ambiente iguais às das Functions):
+ * <pre>
+ *   java -cp feedback-sync.jar br.com.fiap.postech.feedback.infrastructure.migration.FeedbackAggregateRebuild --from=2026-05-04 [--to=2026-05-10] [--dry-run]
+ * </pre>
+ * - {@code --to}: último dia (inclusivo); padrão: hoje
+ * - {@code --dry-run}: apenas conta os feedbacks de cada dia
+ */
+public class FeedbackAggregateRebuild {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackAggregateRebuild.class);
+
+    static final int RECORD_CHUNK_SIZE = 500;
+    private static final int DEFAULT_AGGREGATE_SHARDS = 4;
+
+    private final FeedbackGateway feedbackGateway;
+    private final TableStorageFeedbackAggregateGatewayImpl aggregateGateway;
+
+    public FeedbackAggregateRebuild(FeedbackGateway feedbackGateway,
+                                    TableStorageFeedbackAggregateGatewayImpl aggregateGateway) {
+        this.feedbackGateway = feedbackGateway;
+        this.aggregateGateway = aggregateGateway;
+    }
+
+    /**
+     * Resultado do recálculo.
+     *
+     * @param days Dias processados
+     * @param feedbacks Feedbacks somados (ou contados, no dry run)
+     * @param failedDays Dias que não puderam ser recalculados
+     */
+    public record Result(long days, long feedbacks, long failedDays) {
+    }
+
+    /**
+     * Recalcula os agregados dos dias de {@code from} a {@code to} (inclusivos).
+     *
+     * @param dryRun Quando true, não grava nada (apenas contabiliza)
+     * @return Contadores da execução
+     */
+    public Result run(LocalDate from, LocalDate to, boolean dryRun) {
+        logger.info("Iniciando recálculo dos agregados: de {} a {}, dryRun={}", from, to, dryRun);
+
+        long days = 0;
+        long feedbacks = 0;
+        long failedDays = 0;
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            days++;
+            try {
+                long dayFeedbacks = rebuildDay(day, dryRun);
+                feedbacks += dayFeedbacks;
+                logger.info("Agregados do dia {}: {} feedback(s)", day, dayFeedbacks);
+            } catch (Exception e) {
+                failedDays++;
+                logger.error("Falha ao recalcular agregados do dia {}: {}", day, e.getMessage());
+            }
+        }
+
+        Result result = new Result(days, feedbacks, failedDays);
+        logger.info("Recálculo concluído: {}", result);
+        return result;
+    }
+
+    private long rebuildDay(LocalDate day, boolean dryRun) {
+        ZoneId zone = ZoneId.systemDefault();
+        Instant start = day.atStartOfDay(zone).toInstant();
+        Instant end = day.plusDays(1).atStartOfDay(zone).toInstant().minusNanos(1);
+
+        if (!dryRun) {
+            aggregateGateway.clearDay(day);
+        }
+
+        long count = 0;
+        List<Feedback> chunk = new ArrayList<>(RECORD_CHUNK_SIZE);
+        try (Stream<Feedback> stream = feedbackGateway.streamByPeriod(start, end)) {
+            Iterator<Feedback> items = stream.iterator();
+            while (items.hasNext()) {
+                chunk.add(items.next());
+                count++;
+                if (chunk.size() == RECORD_CHUNK_SIZE) {
+                    record(chunk, dryRun);
+                }
+            }
+        }
+        record(chunk, dryRun);
+        return count;
+    }
+
+    private void record(List<Feedback> chunk, boolean dryRun) {
+        if (!dryRun && !chunk.isEmpty()) {
+            aggregateGateway.record(chunk);
+        }
+        chunk.clear();
+    }
+
+    public static void main(String[] args) {
+        LocalDate from = null;
+        LocalDate to = LocalDate.now();
+        boolean dryRun = false;
+        for (String arg : args) {
+            if (arg.startsWith("--from=")) {
+                from = LocalDate.parse(arg.substring("--from=".length()));
+            } else if (arg.startsWith("--to=")) {
+                to = LocalDate.parse(arg.substring("--to=".length()));
+            } else if (arg.equals("--dry-run")) {
+                dryRun = true;
+            }
+        }
+        if (from == null) {
+            throw new IllegalArgumentException("Informe o primeiro dia com --from=yyyy-MM-dd");
+        }
+
+        String connectionString = System.getenv("AZURE_STORAGE_CONNECTION_STRING");
+        if (connectionString == null || connectionString.isBlank()) {
+            connectionString = System.getenv("azure.storage.connection-string");
+        }
+        if (connectionString == null || connectionString.isBlank()) {
+            throw new FeedbackPersistenceException(
+                "AZURE_STORAGE_CONNECTION_STRING não configurada. Não é possível recalcular os agregados.");
+        }
+
+        TableStorageFeedbackGatewayImpl feedbackGateway = new TableStorageFeedbackGatewayImpl(
+            connectionString,
+            System.getenv("azure.table.table-name"),
+            System.getenv("azure.table.partition-granularity"),
+            System.getenv("azure.table.partition-shards"),
+            "true");
+        feedbackGateway.init();
+
+        String aggregateTable = System.getenv("FEEDBACK_AGGREGATE_TABLE");
+        if (aggregateTable == null || aggregateTable.isBlank()) {
+            aggregateTable = "feedbackaggregates";
+        }
+        TableStorageFeedbackAggregateGatewayImpl aggregateGateway = new TableStorageFeedbackAggregateGatewayImpl(
+            connectionString, aggregateTable, intEnv("FEEDBACK_AGGREGATE_SHARDS", DEFAULT_AGGREGATE_SHARDS));
+        aggregateGateway.init();
+
+        Result result = new FeedbackAggregateRebuild(feedbackGateway, aggregateGateway).run(from, to, dryRun);
+        if (result.failedDays() > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int intEnv(String variable, int defaultValue) {
+        String value = System.getenv(variable);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value.trim());
+    }
+}
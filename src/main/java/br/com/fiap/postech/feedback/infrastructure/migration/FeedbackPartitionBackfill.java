@@ -0,0 +1,143 @@
+package br.com.fiap.postech.feedback.infrastructure.migration;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackPartitionScheme;
+import br.com.fiap.postech.feedback.infrastructure.mappers.TableStorageFeedbackMapper;
+import com.azure.data.tables.TableClient;
+import com.azure.data.tables.TableClientBuilder;
+import com.azure.data.tables.models.TableEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ferramenta de migração que regrava as linhas existentes da tabela de feedbacks
+ * no layout definido pelo {@link FeedbackPartitionScheme}.
+ *
+ * Percorre toda a tabela, recalcula PartitionKey/RowKey de cada linha e, quando
+ * diferentes do layout atual, grava a linha na nova posição e remove a antiga.
+ * Linhas que já estão no layout correto são ignoradas, então a ferramenta pode
+ * ser executada novamente com segurança (idempotente).
+ *
+ * Uso (variáveis de ambiente iguais às das Functions):
+ * <pre>
+ *   java -cp feedback-sync.jar br.com.fiap.postech.feedback.infrastructure.migration.FeedbackPartitionBackfill [--dry-run] [--keep-source]
+ * </pre>
+ * - {@code --dry-run}: apenas conta as linhas que seriam migradas
+ * - {@code --keep-source}: grava no novo layout sem remover a linha antiga
+ */
+public class FeedbackPartitionBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackPartitionBackfill.class);
+
+    private final TableClient tableClient;
+    private final FeedbackPartitionScheme partitionScheme;
+
+    public FeedbackPartitionBackfill(TableClient tableClient, FeedbackPartitionScheme partitionScheme) {
+        this.tableClient = tableClient;
+        this.partitionScheme = partitionScheme;
+    }
+
+    /**
+     * Resultado da migração.
+     *
+     * @param scanned Linhas lidas
+     * @param migrated Linhas regravadas no novo layout
+     * @param skipped Linhas que já estavam no layout correto
+     * @param failed Linhas que não puderam ser migradas
+     */
+    public record Result(long scanned, long migrated, long skipped, long failed) {
+    }
+
+    /**
+     * Executa a migração.
+     *
+     * @param dryRun Quando true, não grava nada (apenas contabiliza)
+     * @param deleteSource Quando true, remove a linha antiga após gravar a nova
+     * @return Contadores da execução
+     */
+    public Result run(boolean dryRun, boolean deleteSource) {
+        logger.info("Iniciando backfill de partições: esquema={}, dryRun={}, deleteSource={}",
+            partitionScheme, dryRun, deleteSource);
+
+        long scanned = 0;
+        long migrated = 0;
+        long skipped = 0;
+        long failed = 0;
+
+        for (TableEntity source : tableClient.listEntities()) {
+            scanned++;
+            try {
+                Feedback feedback = TableStorageFeedbackMapper.toEntity(source);
+                TableEntity target = TableStorageFeedbackMapper.toTableEntity(feedback, partitionScheme);
+
+                if (sameKeys(source, target)) {
+                    skipped++;
+                    continue;
+                }
+
+                if (!dryRun) {
+                    tableClient.upsertEntity(target);
+                    if (deleteSource) {
+                        tableClient.deleteEntity(source.getPartitionKey(), source.getRowKey());
+                    }
+                }
+                migrated++;
+            } catch (Exception e) {
+                failed++;
+                logger.error("Falha ao migrar linha PartitionKey={}, RowKey={}: {}",
+                    source.getPartitionKey(), source.getRowKey(), e.getMessage());
+            }
+
+            if (scanned % 1000 == 0) {
+                logger.info("Backfill em andamento: {} linhas lidas, {} migradas", scanned, migrated);
+            }
+        }
+
+        Result result = new Result(scanned, migrated, skipped, failed);
+        logger.info("Backfill concluído: {}", result);
+        return result;
+    }
+
+    private static boolean sameKeys(TableEntity source, TableEntity target) {
+        return source.getPartitionKey().equals(target.getPartitionKey())
+            && source.getRowKey().equals(target.getRowKey());
+    }
+
+    public static void main(String[] args) {
+        List<String> options = Arrays.asList(args);
+        boolean dryRun = options.contains("--dry-run");
+        boolean deleteSource = !options.contains("--keep-source");
+
+        String connectionString = System.getenv("AZURE_STORAGE_CONNECTION_STRING");
+        if (connectionString == null || connectionString.isBlank()) {
+            connectionString = System.getenv("azure.storage.connection-string");
+        }
+        if (connectionString == null || connectionString.isBlank()) {
+            throw new FeedbackPersistenceException(
+                "AZURE_STORAGE_CONNECTION_STRING não configurada. Não é possível executar o backfill.");
+        }
+
+        String tableName = System.getenv("azure.table.table-name");
+        if (tableName == null || tableName.isBlank()) {
+            tableName = "feedbacks";
+        }
+
+        TableClient tableClient = new TableClientBuilder()
+                .connectionString(connectionString)
+                .tableName(tableName)
+                .buildClient();
+
+        FeedbackPartitionScheme scheme = FeedbackPartitionScheme.of(
+            System.getenv("azure.table.partition-granularity"),
+            System.getenv("azure.table.partition-shards"));
+
+        Result result = new FeedbackPartitionBackfill(tableClient, scheme).run(dryRun, deleteSource);
+        if (result.failed() > 0) {
+            System.exit(1);
+        }
+    }
+}
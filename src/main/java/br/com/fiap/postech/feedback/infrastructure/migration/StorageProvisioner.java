@@ -0,0 +1,134 @@
+package br.com.fiap.postech.feedback.infrastructure.migration;
+
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import com.azure.data.tables.TableServiceClient;
+import com.azure.data.tables.TableServiceClientBuilder;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.queue.QueueServiceClient;
+import com.azure.storage.queue.QueueServiceClientBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ferramenta de deploy que provisiona os recursos de Storage usados pelas Functions:
+ * tabelas de feedbacks e de agregados, filas de ingestão e de notificações e o
+ * container dos relatórios semanais.
+ *
+ * Executada uma vez por deploy, permite ligar a inicialização rápida dos gateways
+ * ({@code azure.storage.fast-init=true}), que não cria nem verifica tabelas, filas e
+ * container no cold start.
+ * Todas as criações são "if not exists", então a ferramenta pode ser executada
+ * novamente com segurança.
+ *
+ * Uso (variáveis de ambiente iguais às das Functions):
+ * <pre>
+ *   java -cp feedback-sync.jar br.com.fiap.postech.feedback.infrastructure.migration.StorageProvisioner
+ * </pre>
+ */
+public class StorageProvisioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageProvisioner.class);
+
+    private final TableServiceClient tableServiceClient;
+    private final QueueServiceClient queueServiceClient;
+    private final BlobServiceClient blobServiceClient;
+
+    public StorageProvisioner(TableServiceClient tableServiceClient, QueueServiceClient queueServiceClient,
+                              BlobServiceClient blobServiceClient) {
+        this.tableServiceClient = tableServiceClient;
+        this.queueServiceClient = queueServiceClient;
+        this.blobServiceClient = blobServiceClient;
+    }
+
+    /**
+     * Recursos a provisionar.
+     *
+     * @param tables Nomes das tabelas
+     * @param queues Nomes das filas
+     * @param containers Nomes dos containers de blob
+     */
+    public record Resources(List<String> tables, List<String> queues, List<String> containers) {
+    }
+
+    /**
+     * Cria os recursos que ainda não existem.
+     *
+     * @param resources Recursos a provisionar
+     * @return Recursos que não puderam ser criados (vazio em caso de sucesso)
+     */
+    public List<String> run(Resources resources) {
+        logger.info("Provisionando recursos de Storage: {}", resources);
+        List<String> failures = new ArrayList<>();
+
+        for (String table : resources.tables()) {
+            provision("tabela", table, () -> tableServiceClient.createTableIfNotExists(table), failures);
+        }
+        for (String queue : resources.queues()) {
+            provision("fila", queue, () -> queueServiceClient.getQueueClient(queue).createIfNotExists(), failures);
+        }
+        for (String container : resources.containers()) {
+            provision("container", container, () -> blobServiceClient.createBlobContainerIfNotExists(container),
+                failures);
+        }
+
+        if (failures.isEmpty()) {
+            logger.info("Provisionamento concluído");
+        } else {
+            logger.error("Provisionamento concluído com falhas: {}", failures);
+        }
+        return failures;
+    }
+
+    private static void provision(String kind, String name, Runnable action, List<String> failures) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+            logger.info("{} '{}' pronta em {} ms", kind, name, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            failures.add(kind + ":" + name);
+            logger.error("Falha ao provisionar {} '{}': {}", kind, name, e.getMessage());
+        }
+    }
+
+    /**
+     * Monta a lista de recursos a partir das mesmas variáveis de ambiente lidas pelas Functions.
+     */
+    static Resources resourcesFromEnvironment() {
+        return new Resources(
+            List.of(env("azure.table.table-name", "feedbacks"),
+                env("FEEDBACK_AGGREGATE_TABLE", "feedbackaggregates")),
+            List.of(env("FEEDBACK_INGEST_QUEUE", "feedback-ingest"),
+                env("FEEDBACK_NOTIFICATION_QUEUE", "feedback-notifications"),
+                env("FEEDBACK_NOTIFICATION_DIGEST_QUEUE", "feedback-notifications-digest")),
+            List.of(env("azure.storage.container-name", "weekly-reports")));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static void main(String[] args) {
+        String connectionString = System.getenv("AZURE_STORAGE_CONNECTION_STRING");
+        if (connectionString == null || connectionString.isBlank()) {
+            connectionString = System.getenv("azure.storage.connection-string");
+        }
+        if (connectionString == null || connectionString.isBlank()) {
+            throw new FeedbackPersistenceException(
+                "AZURE_STORAGE_CONNECTION_STRING não configurada. Não é possível provisionar os recursos.");
+        }
+
+        StorageProvisioner provisioner = new StorageProvisioner(
+            new TableServiceClientBuilder().connectionString(connectionString).buildClient(),
+            new QueueServiceClientBuilder().connectionString(connectionString).buildClient(),
+            new BlobServiceClientBuilder().connectionString(connectionString).buildClient());
+
+        if (!provisioner.run(resourcesFromEnvironment()).isEmpty()) {
+            System.exit(1);
+        }
+    }
+}
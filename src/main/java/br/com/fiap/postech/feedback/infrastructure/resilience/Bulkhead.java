@@ -0,0 +1,72 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limite de chamadas simultâneas a uma dependência.
+ *
+ * Cada chamada ocupa uma vaga; sem vaga livre, a chamada espera no máximo {@code maxWait}
+ * e depois é recusada. Assim uma dependência lenta prende no máximo {@code maxConcurrent}
+ * threads do worker, e as demais requisições falham rápido em vez de se acumularem.
+ */
+public final class Bulkhead {
+
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public Bulkhead(int maxConcurrent, Duration maxWait) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent do bulkhead deve ser maior que zero");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = Math.max(0, maxWait.toNanos());
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Ocupa uma vaga, esperando no máximo {@code maxWait}.
+     *
+     * @return false quando não houve vaga a tempo (ou a thread foi interrompida)
+     */
+    public boolean tryAcquire() {
+        boolean acquired;
+        if (maxWaitNanos == 0) {
+            acquired = permits.tryAcquire();
+        } else {
+            try {
+                acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+        }
+        if (!acquired) {
+            rejected.incrementAndGet();
+        }
+        return acquired;
+    }
+
+    /**
+     * Libera a vaga ocupada por {@link #tryAcquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int activeCalls() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public long rejected() {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,232 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker por dependência, com janela deslizante das últimas N chamadas.
+ *
+ * - FECHADO: as chamadas passam; quando a janela tem ao menos {@code minimumCalls} chamadas
+ *   e a taxa de falhas (incluindo chamadas lentas, acima de {@code slowCallDuration})
+ *   atinge {@code failureRateThreshold}%, o circuito abre
+ * - ABERTO: as chamadas são recusadas na hora, sem tocar na dependência, por {@code openDuration}
+ * - MEIO_ABERTO: passado o tempo aberto, uma única chamada de teste é liberada; sucesso fecha
+ *   o circuito (janela zerada), falha o reabre por mais {@code openDuration}
+ *
+ * Thread-safe; o estado é protegido por sincronização simples, pois cada operação
+ * é O(1) e muito mais barata que a chamada remota protegida. O relógio é injetável para testes.
+ */
+public final class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final long slowCallNanos;
+    private final LongSupplier clock;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openUntil;
+    private boolean probeInFlight;
+
+    private long successful;
+    private long failed;
+    private long slow;
+    private long rejected;
+
+    private CircuitBreaker(Builder builder) {
+        this.name = builder.name;
+        this.window = new boolean[Math.max(1, builder.windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(builder.minimumCalls, window.length));
+        this.failureRateThreshold = Math.max(1, Math.min(100, builder.failureRateThreshold));
+        this.openNanos = builder.openDuration.toNanos();
+        this.slowCallNanos = builder.slowCallDuration.toNanos();
+        this.clock = builder.clock;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Pede permissão para uma chamada.
+     *
+     * @return false quando o circuito está aberto (ou o teste do meio-aberto já está em curso)
+     *         e a chamada deve falhar na hora
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && clock.getAsLong() - openUntil >= 0) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        rejected++;
+        return false;
+    }
+
+    /**
+     * Devolve uma permissão que não chegou a ser usada (ex.: recusa do bulkhead),
+     * sem contar como sucesso nem falha.
+     */
+    public synchronized void releasePermission() {
+        probeInFlight = false;
+    }
+
+    /**
+     * Registra uma chamada concluída com sucesso; chamadas mais lentas que
+     * {@code slowCallDuration} contam como falha na janela.
+     */
+    public synchronized void onSuccess(long elapsedNanos) {
+        successful++;
+        boolean isSlow = elapsedNanos > slowCallNanos;
+        if (isSlow) {
+            slow++;
+        }
+        onResult(isSlow);
+    }
+
+    /**
+     * Registra uma chamada que terminou em erro.
+     */
+    public synchronized void onError() {
+        failed++;
+        onResult(true);
+    }
+
+    private void onResult(boolean failure) {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            transitionTo(failure ? State.OPEN : State.CLOSED);
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (windowCalls == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+        if (windowCalls >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        if (next == State.OPEN) {
+            openUntil = clock.getAsLong() + openNanos;
+            logger.warn("Circuito '{}' ABERTO ({} de {} chamadas com falha ou lentas); chamadas recusadas por {} ms",
+                name, windowFailures, windowCalls, TimeUnit.NANOSECONDS.toMillis(openNanos));
+        } else if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCalls = 0;
+            windowFailures = 0;
+            logger.info("Circuito '{}' FECHADO após chamada de teste bem-sucedida", name);
+        } else {
+            logger.info("Circuito '{}' MEIO_ABERTO: liberando chamada de teste (antes: {})", name, previous);
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Tempo restante até o circuito liberar uma chamada de teste (zero se não está aberto).
+     */
+    public synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openUntil - clock.getAsLong()));
+    }
+
+    public synchronized Metrics metrics() {
+        return new Metrics(state, successful, failed, slow, rejected);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Contadores acumulados desde a criação do circuito.
+     */
+    public record Metrics(State state, long successful, long failed, long slow, long rejected) {
+    }
+
+    public static final class Builder {
+        private final String name;
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder windowSize(int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        public Builder minimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        public Builder failureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+        public Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import io.mailtrap.exception.http.HttpException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Proteção de uma dependência remota: circuit breaker + bulkhead.
+ *
+ * Ordem de cada chamada: o circuito é consultado primeiro (aberto → recusa na hora, sem
+ * ocupar vaga), depois o bulkhead (sem vaga → recusa, sem contar como falha do circuito).
+ * Recusas lançam {@link DependencyUnavailableException}; erros da operação são relançados
+ * sem alteração. Só contam como falha no circuito os erros que indicam a dependência
+ * indisponível ({@link #isDependencyFailure(Throwable)}: timeouts, 429 e 5xx); um 400 ou 409
+ * é uma resposta do serviço e conta como chamada concluída.
+ *
+ * Há uma instância por dependência no processo ({@link #of(String)}), configurada pelas
+ * variáveis de ambiente com o prefixo do nome (ex.: TABLE_BULKHEAD_MAX_CONCURRENT);
+ * {@link #all()} expõe as métricas de todas para o health check.
+ */
+public final class DependencyGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(DependencyGuard.class);
+
+    public static final String TABLE = "table";
+    public static final String BLOB = "blob";
+    public static final String MAILTRAP = "mailtrap";
+
+    private static final Map<String, DependencyGuard> REGISTRY = new ConcurrentHashMap<>();
+
+    /**
+     * Padrões por dependência: vagas simultâneas e duração acima da qual a chamada é lenta.
+     * Gravações no Table são curtas e numerosas; uploads de relatório são raros e longos.
+     */
+    private static final Map<String, Defaults> DEFAULTS = Map.of(
+        TABLE, new Defaults(32, Duration.ofSeconds(5)),
+        BLOB, new Defaults(4, Duration.ofSeconds(30)),
+        MAILTRAP, new Defaults(8, Duration.ofSeconds(5)));
+    private static final Defaults FALLBACK_DEFAULTS = new Defaults(16, Duration.ofSeconds(5));
+
+    static final int DEFAULT_MAX_WAIT_MS = 250;
+    static final int DEFAULT_FAILURE_RATE = 50;
+    static final int DEFAULT_OPEN_SECONDS = 30;
+
+    private static final int MAX_CAUSE_DEPTH = 10;
+
+    private record Defaults(int maxConcurrent, Duration slowCall) {
+    }
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Predicate<Throwable> failure;
+
+    public DependencyGuard(String name, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this(name, circuitBreaker, bulkhead, DependencyGuard::isDependencyFailure);
+    }
+
+    /**
+     * @param failure Decide quais erros da operação contam como falha no circuito
+     */
+    public DependencyGuard(String name, CircuitBreaker circuitBreaker, Bulkhead bulkhead, Predicate<Throwable> failure) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.failure = failure;
+    }
+
+    /**
+     * Proteção compartilhada da dependência {@code name}, criada no primeiro uso.
+     */
+    public static DependencyGuard of(String name) {
+        return REGISTRY.computeIfAbsent(name, DependencyGuard::fromEnvironment);
+    }
+
+    /**
+     * Métricas das dependências já protegidas no processo, em ordem de nome.
+     */
+    public static List<Metrics> all() {
+        List<Metrics> metrics = new ArrayList<>();
+        REGISTRY.values().forEach(guard -> metrics.add(guard.metrics()));
+        metrics.sort((a, b) -> a.name().compareTo(b.name()));
+        return metrics;
+    }
+
+    /**
+     * Indica se a proteção está ativa (RESILIENCE_ENABLED, padrão true).
+     */
+    public static boolean isEnabled() {
+        String value = System.getenv("RESILIENCE_ENABLED");
+        return value == null || value.isBlank() || !value.trim().equalsIgnoreCase("false");
+    }
+
+    /**
+     * Monta a proteção a partir das variáveis de ambiente, com o prefixo do nome em maiúsculas:
+     * {PREFIXO}_BULKHEAD_MAX_CONCURRENT, {PREFIXO}_BULKHEAD_MAX_WAIT_MS (250),
+     * {PREFIXO}_CIRCUIT_FAILURE_RATE (50), {PREFIXO}_CIRCUIT_OPEN_SECONDS (30)
+     * e {PREFIXO}_CIRCUIT_SLOW_CALL_MS.
+     */
+    static DependencyGuard fromEnvironment(String name) {
+        String prefix = name.toUpperCase(Locale.ROOT);
+        Defaults defaults = DEFAULTS.getOrDefault(name, FALLBACK_DEFAULTS);
+        int maxConcurrent = intEnv(prefix + "_BULKHEAD_MAX_CONCURRENT", defaults.maxConcurrent());
+        int maxWaitMillis = intEnv(prefix + "_BULKHEAD_MAX_WAIT_MS", DEFAULT_MAX_WAIT_MS);
+        CircuitBreaker circuitBreaker = CircuitBreaker.builder(name)
+            .failureRateThreshold(intEnv(prefix + "_CIRCUIT_FAILURE_RATE", DEFAULT_FAILURE_RATE))
+            .openDuration(Duration.ofSeconds(intEnv(prefix + "_CIRCUIT_OPEN_SECONDS", DEFAULT_OPEN_SECONDS)))
+            .slowCallDuration(Duration.ofMillis(intEnv(prefix + "_CIRCUIT_SLOW_CALL_MS", (int) defaults.slowCall().toMillis())))
+            .build();
+        logger.info("Proteção da dependência '{}': até {} chamadas simultâneas, espera máxima {} ms",
+            name, Math.max(1, maxConcurrent), Math.max(0, maxWaitMillis));
+        return new DependencyGuard(name, circuitBreaker,
+            new Bulkhead(Math.max(1, maxConcurrent), Duration.ofMillis(Math.max(0, maxWaitMillis))));
+    }
+
+    private static int intEnv(String variable, int defaultValue) {
+        String value = System.getenv(variable);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("{} inválido: '{}'. Usando {}", variable, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Executa a operação sob o circuito e o bulkhead da dependência.
+     *
+     * @throws DependencyUnavailableException Quando a chamada é recusada sem executar
+     */
+    public <T> T execute(Supplier<T> operation) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new DependencyUnavailableException(name, "circuito aberto", circuitBreaker.remainingOpen());
+        }
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            throw new DependencyUnavailableException(name,
+                "limite de " + bulkhead.maxConcurrent() + " chamadas simultâneas atingido", Duration.ZERO);
+        }
+        long start = System.nanoTime();
+        try {
+            T result = operation.get();
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException | Error e) {
+            if (failure.test(e)) {
+                circuitBreaker.onError();
+            } else {
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+            }
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Executa a operação sem retorno sob o circuito e o bulkhead da dependência.
+     */
+    public void run(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Indica se o erro mostra a dependência indisponível: as falhas transitórias do Storage
+     * ({@link RetryPolicy#isTransient(Throwable)}) ou uma resposta 429/5xx do Mailtrap,
+     * procuradas na cadeia de causas (os gateways embrulham o erro do SDK).
+     */
+    public static boolean isDependencyFailure(Throwable error) {
+        if (RetryPolicy.isTransient(error)) {
+            return true;
+        }
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof HttpException httpError) {
+                int status = httpError.getStatusCode();
+                return status == 429 || status >= 500;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Metrics metrics() {
+        CircuitBreaker.Metrics circuit = circuitBreaker.metrics();
+        return new Metrics(name, circuit.state(), circuit.successful(), circuit.failed(), circuit.slow(),
+            circuit.rejected(), bulkhead.activeCalls(), bulkhead.maxConcurrent(), bulkhead.rejected());
+    }
+
+    /**
+     * Estado do circuito e contadores da dependência: chamadas concluídas, com erro, lentas,
+     * recusadas pelo circuito, em curso e recusadas pelo bulkhead.
+     */
+    public record Metrics(String name, CircuitBreaker.State state, long successful, long failed, long slow,
+                          long circuitRejected, int activeCalls, int maxConcurrent, long bulkheadRejected) {
+
+        public Map<String, Object> toMap() {
+            return Map.of(
+                "estado", state.name(),
+                "sucessos", successful,
+                "falhas", failed,
+                "lentas", slow,
+                "recusadasCircuito", circuitRejected,
+                "emCurso", activeCalls,
+                "maxSimultaneas", maxConcurrent,
+                "recusadasBulkhead", bulkheadRejected);
+        }
+    }
+}
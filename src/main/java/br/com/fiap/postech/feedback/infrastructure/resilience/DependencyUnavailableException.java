@@ -0,0 +1,50 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import java.time.Duration;
+
+/**
+ * Chamada recusada sem tocar na dependência: circuito aberto ou bulkhead sem vaga.
+ *
+ * Os decorators dos gateways a encapsulam na exceção de domínio correspondente;
+ * {@link #find(Throwable)} a recupera da cadeia de causas para responder 503.
+ */
+public class DependencyUnavailableException extends RuntimeException {
+
+    private static final int MAX_CAUSE_DEPTH = 10;
+
+    private final String dependency;
+    private final Duration retryAfter;
+
+    public DependencyUnavailableException(String dependency, String reason, Duration retryAfter) {
+        super("Dependência '" + dependency + "' indisponível: " + reason);
+        this.dependency = dependency;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getDependency() {
+        return dependency;
+    }
+
+    /**
+     * Sugestão de espera antes de tentar de novo (zero quando não há previsão).
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Procura a recusa na cadeia de causas de {@code error}.
+     *
+     * @return A exceção encontrada, ou null
+     */
+    public static DependencyUnavailableException find(Throwable error) {
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof DependencyUnavailableException unavailable) {
+                return unavailable;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Orçamento de novas tentativas compartilhado entre as operações de uma dependência.
+ *
+ * Funciona como um balde de fichas: cada operação nova deposita {@code ratio} ficha
+ * (ex.: 0,2) e cada nova tentativa consome uma ficha inteira. Assim, em regime, as
+ * novas tentativas ficam limitadas a uma fração das operações, e um pico de falhas
+ * (throttling 429/503) não multiplica a carga sobre o serviço que já está sobrecarregado.
+ * O balde começa cheio ({@code capacity} fichas) para absorver falhas isoladas.
+ *
+ * Thread-safe; as fichas são guardadas em milésimos para evitar ponto flutuante.
+ */
+public final class RetryBudget {
+
+    private static final long UNIT = 1000;
+
+    private final long depositPerRequest;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * @param ratio Fichas depositadas por operação (novas tentativas por operação em regime)
+     * @param capacity Máximo de fichas acumuladas (rajada de novas tentativas permitida)
+     */
+    public RetryBudget(double ratio, int capacity) {
+        if (ratio < 0 || capacity < 0) {
+            throw new IllegalArgumentException("ratio e capacity do orçamento de novas tentativas não podem ser negativos");
+        }
+        this.depositPerRequest = Math.round(ratio * UNIT);
+        this.capacity = capacity * UNIT;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * Registra uma operação nova (primeira tentativa).
+     */
+    public void recordRequest() {
+        if (depositPerRequest > 0) {
+            balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(capacity, current + deposit));
+        }
+    }
+
+    /**
+     * Consome uma ficha para uma nova tentativa.
+     *
+     * @return false quando o orçamento está esgotado e a falha deve ser propagada
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Fichas inteiras disponíveis no momento.
+     */
+    public long available() {
+        return balance.get() / UNIT;
+    }
+}
@@ -0,0 +1,322 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.DoubleSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Política de novas tentativas para as chamadas aos serviços do Storage.
+ *
+ * - Só repete falhas transitórias ({@link #isTransient(Throwable)}): 408, 429, 500, 502,
+ *   503, 504 e erros de rede; falhas de validação, conflitos e 4xx são propagados na hora
+ * - Espera exponencial com jitter completo: aleatório entre 0 e min(maxDelay, baseDelay × 2^(n-1)),
+ *   o que espalha as novas tentativas de instâncias diferentes no tempo
+ * - Respeita Retry-After / x-ms-retry-after-ms da resposta; se o serviço pedir uma espera
+ *   maior que maxDelay, a falha é propagada em vez de bloquear a execução
+ * - Cada nova tentativa consome uma ficha do {@link RetryBudget}; com o orçamento esgotado
+ *   a falha é propagada, evitando tempestades de novas tentativas sob throttling
+ *
+ * A última exceção da operação é relançada sem alteração, então os gateways mantêm o
+ * mesmo tratamento de erro de antes. O {@link Sleeper} é injetável para testes.
+ * Os clientes do SDK são montados sem novas tentativas próprias ({@link SdkRetries}),
+ * então esta é a única camada de repetição.
+ */
+public final class RetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+
+    static final int DEFAULT_MAX_ATTEMPTS = 3;
+    static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(200);
+    static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(2);
+    static final double DEFAULT_BUDGET_RATIO = 0.2;
+    static final int DEFAULT_BUDGET_CAPACITY = 10;
+
+    private static final int MAX_CAUSE_DEPTH = 10;
+    private static final HttpHeaderName[] RETRY_AFTER_MILLIS_HEADERS = {
+        HttpHeaderName.X_MS_RETRY_AFTER_MS, HttpHeaderName.RETRY_AFTER_MS
+    };
+
+    private static final class StorageHolder {
+        private static final RetryPolicy STORAGE = fromEnvironment("storage");
+    }
+
+    /**
+     * Espera entre tentativas.
+     */
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(Duration delay) throws InterruptedException;
+    }
+
+    private final String name;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final RetryBudget budget;
+    private final Sleeper sleeper;
+    private final DoubleSupplier random;
+    private final Predicate<Throwable> retryable;
+
+    private RetryPolicy(Builder builder) {
+        this.name = builder.name;
+        this.maxAttempts = Math.max(1, builder.maxAttempts);
+        this.baseDelayMillis = Math.max(0, builder.baseDelay.toMillis());
+        this.maxDelayMillis = Math.max(baseDelayMillis, builder.maxDelay.toMillis());
+        this.budget = builder.budget;
+        this.sleeper = builder.sleeper;
+        this.random = builder.random;
+        this.retryable = builder.retryable;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Política compartilhada pelos gateways do Storage (Table, Queue e Blob), com um
+     * único orçamento de novas tentativas para o processo.
+     */
+    public static RetryPolicy storage() {
+        return StorageHolder.STORAGE;
+    }
+
+    /**
+     * Monta a política a partir das variáveis de ambiente:
+     * STORAGE_RETRY_MAX_ATTEMPTS (padrão 3), STORAGE_RETRY_BASE_DELAY_MS (200),
+     * STORAGE_RETRY_MAX_DELAY_MS (2000) e STORAGE_RETRY_BUDGET_RATIO (0.2).
+     */
+    static RetryPolicy fromEnvironment(String name) {
+        double ratio = DEFAULT_BUDGET_RATIO;
+        String ratioValue = System.getenv("STORAGE_RETRY_BUDGET_RATIO");
+        if (ratioValue != null && !ratioValue.isBlank()) {
+            try {
+                ratio = Double.parseDouble(ratioValue.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("STORAGE_RETRY_BUDGET_RATIO inválido: '{}'. Usando {}", ratioValue, DEFAULT_BUDGET_RATIO);
+            }
+        }
+        return builder(name)
+            .maxAttempts(intEnv("STORAGE_RETRY_MAX_ATTEMPTS", DEFAULT_MAX_ATTEMPTS))
+            .baseDelay(Duration.ofMillis(intEnv("STORAGE_RETRY_BASE_DELAY_MS", (int) DEFAULT_BASE_DELAY.toMillis())))
+            .maxDelay(Duration.ofMillis(intEnv("STORAGE_RETRY_MAX_DELAY_MS", (int) DEFAULT_MAX_DELAY.toMillis())))
+            .budget(new RetryBudget(Math.max(0, ratio), DEFAULT_BUDGET_CAPACITY))
+            .build();
+    }
+
+    private static int intEnv(String variable, int defaultValue) {
+        String value = System.getenv(variable);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("{} inválido: '{}'. Usando {}", variable, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Executa a operação, repetindo falhas transitórias conforme a política.
+     *
+     * @return Resultado da primeira tentativa bem-sucedida
+     * @throws RuntimeException A última falha da operação, sem alteração
+     */
+    public <T> T execute(Supplier<T> operation) {
+        budget.recordRequest();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !retryable.test(e)) {
+                    throw e;
+                }
+                long delay = delayMillis(attempt, e);
+                if (delay < 0) {
+                    logger.warn("{}: serviço pediu espera acima de {} ms; falha propagada sem nova tentativa",
+                        name, maxDelayMillis);
+                    throw e;
+                }
+                if (!budget.tryAcquire()) {
+                    logger.warn("{}: orçamento de novas tentativas esgotado; falha propagada: {}", name, e.getMessage());
+                    throw e;
+                }
+                logger.warn("{}: falha transitória (status {}), tentativa {}/{} em {} ms",
+                    name, statusOf(e), attempt + 1, maxAttempts, delay);
+                try {
+                    sleeper.sleep(Duration.ofMillis(delay));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Executa a operação sem retorno, repetindo falhas transitórias conforme a política.
+     */
+    public void run(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Espera antes da tentativa {@code attempt + 1}: o Retry-After da resposta quando
+     * presente, senão o jitter completo sobre o teto exponencial.
+     *
+     * @return Espera em ms, ou -1 quando o Retry-After excede maxDelay
+     */
+    long delayMillis(int attempt, Throwable error) {
+        Long retryAfter = retryAfterMillis(error);
+        if (retryAfter != null) {
+            return retryAfter > maxDelayMillis ? -1 : retryAfter;
+        }
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        return (long) (random.getAsDouble() * ceiling);
+    }
+
+    /**
+     * Indica se a falha é transitória: status HTTP 408, 429, 500, 502, 503 ou 504,
+     * ou erro de rede (IOException / timeout) em qualquer ponto da cadeia de causas.
+     */
+    public static boolean isTransient(Throwable error) {
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof HttpResponseException httpError && httpError.getResponse() != null) {
+                int status = httpError.getResponse().getStatusCode();
+                return status == 408 || status == 429 || status == 500
+                    || status == 502 || status == 503 || status == 504;
+            }
+            if (current instanceof IOException || current instanceof UncheckedIOException
+                    || current instanceof TimeoutException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * Espera pedida pelo serviço (x-ms-retry-after-ms, retry-after-ms ou Retry-After
+     * em segundos ou data HTTP), ou null quando a resposta não traz o cabeçalho.
+     */
+    static Long retryAfterMillis(Throwable error) {
+        HttpResponse response = responseOf(error);
+        if (response == null || response.getHeaders() == null) {
+            return null;
+        }
+        for (HttpHeaderName header : RETRY_AFTER_MILLIS_HEADERS) {
+            String value = response.getHeaders().getValue(header);
+            if (value != null && !value.isBlank()) {
+                try {
+                    return Math.max(0, Long.parseLong(value.trim()));
+                } catch (NumberFormatException e) {
+                    logger.debug("Cabeçalho {} inválido: '{}'", header, value);
+                }
+            }
+        }
+        String retryAfter = response.getHeaders().getValue(HttpHeaderName.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        try {
+            return Math.max(0, Long.parseLong(retryAfter.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            try {
+                Instant at = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return Math.max(0, Duration.between(Instant.now(), at).toMillis());
+            } catch (DateTimeParseException invalid) {
+                logger.debug("Cabeçalho Retry-After inválido: '{}'", retryAfter);
+                return null;
+            }
+        }
+    }
+
+    private static HttpResponse responseOf(Throwable error) {
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof HttpResponseException httpError) {
+                return httpError.getResponse();
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    private static int statusOf(Throwable error) {
+        HttpResponse response = responseOf(error);
+        return response != null ? response.getStatusCode() : 0;
+    }
+
+    public static final class Builder {
+        private final String name;
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Duration baseDelay = DEFAULT_BASE_DELAY;
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+        private RetryBudget budget = new RetryBudget(DEFAULT_BUDGET_RATIO, DEFAULT_BUDGET_CAPACITY);
+        private Sleeper sleeper = delay -> Thread.sleep(delay.toMillis());
+        private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+        private Predicate<Throwable> retryable = RetryPolicy::isTransient;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder budget(RetryBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        public Builder sleeper(Sleeper sleeper) {
+            this.sleeper = sleeper;
+            return this;
+        }
+
+        public Builder random(DoubleSupplier random) {
+            this.random = random;
+            return this;
+        }
+
+        public Builder retryable(Predicate<Throwable> retryable) {
+            this.retryable = retryable;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
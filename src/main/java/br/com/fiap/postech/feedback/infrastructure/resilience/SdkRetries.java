@@ -0,0 +1,62 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import com.azure.core.http.policy.FixedDelayOptions;
+import com.azure.core.http.policy.RetryOptions;
+import com.azure.data.tables.TableClientBuilder;
+import com.azure.data.tables.TableServiceClientBuilder;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.common.policy.RequestRetryOptions;
+import com.azure.storage.common.policy.RetryPolicyType;
+import com.azure.storage.queue.QueueClientBuilder;
+import com.azure.storage.queue.QueueServiceClientBuilder;
+
+import java.time.Duration;
+
+/**
+ * Desliga as novas tentativas internas dos clientes do Azure SDK.
+ *
+ * Por padrão cada cliente do SDK repete a requisição (Table: 3 novas tentativas; Blob e
+ * Queue: até 4 tentativas) antes de devolver o erro. Somadas à {@link RetryPolicy} dos
+ * gateways, uma chamada viraria até 12 requisições sem passar pelo {@link RetryBudget}.
+ * Os clientes usados pelos gateways são montados com uma única tentativa, e a
+ * RetryPolicy, com o seu orçamento, é a única camada de novas tentativas.
+ */
+public final class SdkRetries {
+
+    private SdkRetries() {
+    }
+
+    /**
+     * Table Storage: nenhuma nova tentativa.
+     */
+    public static RetryOptions tableRetryOptions() {
+        return new RetryOptions(new FixedDelayOptions(0, Duration.ZERO));
+    }
+
+    /**
+     * Blob e Queue Storage: uma única tentativa (maxTries 1).
+     */
+    public static RequestRetryOptions storageRetryOptions() {
+        return new RequestRetryOptions(RetryPolicyType.FIXED, 1, (Integer) null, null, null, null);
+    }
+
+    public static TableClientBuilder disabled(TableClientBuilder builder) {
+        return builder.retryOptions(tableRetryOptions());
+    }
+
+    public static TableServiceClientBuilder disabled(TableServiceClientBuilder builder) {
+        return builder.retryOptions(tableRetryOptions());
+    }
+
+    public static QueueClientBuilder disabled(QueueClientBuilder builder) {
+        return builder.retryOptions(storageRetryOptions());
+    }
+
+    public static QueueServiceClientBuilder disabled(QueueServiceClientBuilder builder) {
+        return builder.retryOptions(storageRetryOptions());
+    }
+
+    public static BlobServiceClientBuilder disabled(BlobServiceClientBuilder builder) {
+        return builder.retryOptions(storageRetryOptions());
+    }
+}
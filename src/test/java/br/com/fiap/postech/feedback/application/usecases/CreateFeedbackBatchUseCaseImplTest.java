@@ -0,0 +1,239 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchItemResult;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchResponse;
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackDomainException;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para CreateFeedbackBatchUseCaseImpl")
+class CreateFeedbackBatchUseCaseImplTest {
+
+    @Mock
+    private FeedbackGateway feedbackGateway;
+
+    @Mock
+    private EmailNotificationGateway emailNotificationGateway;
+
+    @InjectMocks
+    private CreateFeedbackBatchUseCaseImpl createFeedbackBatchUseCase;
+
+    @Test
+    @DisplayName("Deve persistir itens válidos e rejeitar inválidos mantendo a ordem")
+    void devePersistirItensValidosERejeitarInvalidosMantendoOrdem() {
+        when(feedbackGateway.saveAll(anyCollection())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(List.of(
+            new FeedbackRequest("Aula boa", 8, "LOW"),
+            new FeedbackRequest("", 8, "LOW"),
+            new FeedbackRequest("Sem nota", null, "LOW"),
+            new FeedbackRequest("Nota fora do intervalo", 11, "LOW"),
+            new FeedbackRequest("Urgência inválida", 5, "URGENTE"),
+            new FeedbackRequest("Aula ótima", 10, null)).iterator());
+
+        assertEquals(6, response.total());
+        assertEquals(2, response.received());
+        assertEquals(4, response.rejected());
+        assertEquals(0, response.failed());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), response.items().stream().map(FeedbackBatchItemResult::index).toList());
+        assertEquals(FeedbackBatchItemResult.RECEIVED, response.items().get(0).status());
+        assertNotNull(response.items().get(0).id());
+        assertEquals(FeedbackBatchItemResult.REJECTED, response.items().get(1).status());
+        assertEquals("Descrição é obrigatória", response.items().get(1).error());
+        assertEquals("Nota é obrigatória", response.items().get(2).error());
+        assertEquals(FeedbackBatchItemResult.RECEIVED, response.items().get(5).status());
+        verify(feedbackGateway, times(1)).saveAll(anyCollection());
+        verify(feedbackGateway, never()).save(any(Feedback.class));
+    }
+
+    @Test
+    @DisplayName("Deve persistir em blocos de 100 feedbacks")
+    @SuppressWarnings("unchecked")
+    void devePersistirEmBlocosDeCemFeedbacks() {
+        when(feedbackGateway.saveAll(anyCollection())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+        List<FeedbackRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            requests.add(new FeedbackRequest("Aula " + i, 7, "MEDIUM"));
+        }
+
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(requests.iterator());
+
+        ArgumentCaptor<Collection<Feedback>> blocos = ArgumentCaptor.forClass(Collection.class);
+        verify(feedbackGateway, times(3)).saveAll(blocos.capture());
+        assertEquals(List.of(100, 100, 50), blocos.getAllValues().stream().map(Collection::size).toList());
+        assertEquals(250, response.received());
+    }
+
+    @Test
+    @DisplayName("Deve reportar falhas de persistência por item")
+    void deveReportarFalhasDePersistenciaPorItem() {
+        when(feedbackGateway.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<Feedback> feedbacks = new ArrayList<>(invocation.<Collection<Feedback>>getArgument(0));
+            return new BatchSaveResult(
+                List.of(feedbacks.get(0).getId()),
+                List.of(new BatchSaveResult.Failure(feedbacks.get(1).getId(), "Operação rejeitada")));
+        });
+
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(List.of(
+            new FeedbackRequest("Aula 1", 7, "LOW"),
+            new FeedbackRequest("Aula 2", 7, "LOW")).iterator());
+
+        assertEquals(1, response.received());
+        assertEquals(1, response.failed());
+        FeedbackBatchItemResult falha = response.items().get(1);
+        assertEquals(FeedbackBatchItemResult.FAILED, falha.status());
+        assertEquals("Operação rejeitada", falha.error());
+        assertNotNull(falha.id());
+    }
+
+    @Test
+    @DisplayName("Deve marcar o bloco como falho quando o gateway lança exceção")
+    void deveMarcarBlocoComoFalhoQuandoGatewayLancaExcecao() {
+        when(feedbackGateway.saveAll(anyCollection()))
+            .thenThrow(new FeedbackPersistenceException("Table Storage client não foi inicializado"));
+
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(List.of(
+            new FeedbackRequest("Aula 1", 7, "LOW"),
+            new FeedbackRequest("Aula 2", 7, "LOW")).iterator());
+
+        assertEquals(2, response.failed());
+        assertEquals(0, response.received());
+    }
+
+    @Test
+    @DisplayName("Deve expor a causa quando nenhum item foi persistido por falha do bloco inteiro")
+    void deveExporCausaQuandoNenhumItemFoiPersistidoPorFalhaDoBloco() {
+        FeedbackPersistenceException falha = new FeedbackPersistenceException("circuito aberto");
+        when(feedbackGateway.saveAll(anyCollection())).thenThrow(falha);
+
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(List.of(
+            new FeedbackRequest("Aula 1", 7, "LOW"),
+            new FeedbackRequest("", 7, "LOW")).iterator());
+
+        assertEquals(1, response.failed());
+        assertEquals(1, response.rejected());
+        assertSame(falha, response.failureCause());
+    }
+
+    @Test
+    @DisplayName("Não deve expor causa quando parte do lote foi persistida ou a falha é de item")
+    void naoDeveExporCausaQuandoParteDoLoteFoiPersistida() {
+        when(feedbackGateway.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<Feedback> feedbacks = new ArrayList<>(invocation.<Collection<Feedback>>getArgument(0));
+            return new BatchSaveResult(List.of(),
+                List.of(new BatchSaveResult.Failure(feedbacks.get(0).getId(), "Operação rejeitada")));
+        });
+
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(List.of(
+            new FeedbackRequest("Aula 1", 7, "LOW")).iterator());
+
+        assertEquals(1, response.failed());
+        assertNull(response.failureCause());
+    }
+
+    @Test
+    @DisplayName("Deve registrar como rejeitado item que não pôde ser lido e continuar")
+    void deveRegistrarComoRejeitadoItemQueNaoPodeSerLidoEContinuar() {
+        when(feedbackGateway.saveAll(anyCollection())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+        Iterator<FeedbackRequest> requests = new Iterator<>() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return position < 2;
+            }
+
+            @Override
+            public FeedbackRequest next() {
+                if (position >= 2) {
+                    throw new NoSuchElementException();
+                }
+                if (position++ == 0) {
+                    throw new FeedbackDomainException("JSON inválido: Unexpected character");
+                }
+                return new FeedbackRequest("Aula boa", 9, "LOW");
+            }
+        };
+
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(requests);
+
+        assertEquals(2, response.total());
+        assertEquals(FeedbackBatchItemResult.REJECTED, response.items().get(0).status());
+        assertEquals("JSON inválido: Unexpected character", response.items().get(0).error());
+        assertEquals(FeedbackBatchItemResult.RECEIVED, response.items().get(1).status());
+    }
+
+    @Test
+    @DisplayName("Deve notificar apenas feedbacks críticos persistidos mesmo com falha no email")
+    void deveNotificarApenasFeedbacksCriticosPersistidos() {
+        when(feedbackGateway.saveAll(anyCollection())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+        doThrow(new NotificationException("Falha no envio")).doNothing()
+            .when(emailNotificationGateway).sendAdminNotification(anyString());
+
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(List.of(
+            new FeedbackRequest("Aula ruim", 2, "HIGH"),
+            new FeedbackRequest("Aula boa", 8, "LOW"),
+            new FeedbackRequest("Aula péssima", 0, "HIGH")).iterator());
+
+        assertEquals(3, response.received());
+        verify(emailNotificationGateway, times(2)).sendAdminNotification(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve marcar como falha o item crítico cuja notificação não foi registrada na outbox")
+    void deveMarcarComoFalhaItemCriticoSemNotificacaoNaOutbox() {
+        when(feedbackGateway.saveAll(anyCollection())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+        when(emailNotificationGateway.isDeferred()).thenReturn(true);
+        doThrow(new NotificationException("Falha ao registrar notificação na fila")).doNothing()
+            .when(emailNotificationGateway).sendAdminNotification(anyString());
+
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(List.of(
+            new FeedbackRequest("Aula ruim", 2, "HIGH"),
+            new FeedbackRequest("Aula boa", 8, "LOW"),
+            new FeedbackRequest("Aula péssima", 0, "HIGH")).iterator());
+
+        assertEquals(2, response.received());
+        assertEquals(1, response.failed());
+        FeedbackBatchItemResult first = response.items().get(0);
+        assertEquals(FeedbackBatchItemResult.FAILED, first.status());
+        assertNull(response.failureCause());
+    }
+
+    @Test
+    @DisplayName("Deve retornar lote vazio sem chamar o gateway")
+    void deveRetornarLoteVazioSemChamarGateway() {
+        FeedbackBatchResponse response = createFeedbackBatchUseCase.execute(List.<FeedbackRequest>of().iterator());
+
+        assertEquals(0, response.total());
+        assertTrue(response.items().isEmpty());
+        verifyNoInteractions(feedbackGateway);
+    }
+
+    private static BatchSaveResult savedAll(Collection<Feedback> feedbacks) {
+        return new BatchSaveResult(feedbacks.stream().map(Feedback::getId).toList(), List.of());
+    }
+}
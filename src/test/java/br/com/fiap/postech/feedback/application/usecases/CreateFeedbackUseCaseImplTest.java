@@ -171,4 +171,16 @@ class CreateFeedbackUseCaseImplTest {
         verify(feedbackGateway, times(1)).save(any(Feedback.class));
         verify(emailNotificationGateway, times(1)).sendAdminNotification(anyString());
     }
+
+    @Test
+    @DisplayName("Deve propagar falha ao registrar notificação na outbox")
+    void devePropagarFalhaAoRegistrarNotificacaoNaOutbox() {
+        when(emailNotificationGateway.isDeferred()).thenReturn(true);
+        doThrow(new NotificationException("Falha ao registrar notificação na fila"))
+            .when(emailNotificationGateway).sendAdminNotification(anyString());
+
+        assertThrows(NotificationException.class, () -> createFeedbackUseCase.execute(requestCritico));
+
+        verify(feedbackGateway, times(1)).save(any(Feedback.class));
+    }
 }
@@ -0,0 +1,63 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackResponse;
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackDomainException;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackQueueGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para EnqueueFeedbackUseCaseImpl")
+class EnqueueFeedbackUseCaseImplTest {
+
+    @Mock
+    private FeedbackQueueGateway feedbackQueueGateway;
+
+    @InjectMocks
+    private EnqueueFeedbackUseCaseImpl enqueueFeedbackUseCase;
+
+    @Test
+    @DisplayName("Deve validar e enfileirar feedback com id e data definidos")
+    void deveValidarEEnfileirarFeedbackComIdEDataDefinidos() {
+        FeedbackResponse response = enqueueFeedbackUseCase.execute(new FeedbackRequest("Aula boa", 2, "HIGH"));
+
+        ArgumentCaptor<Feedback> captor = ArgumentCaptor.forClass(Feedback.class);
+        verify(feedbackQueueGateway).enqueue(captor.capture());
+        Feedback enqueued = captor.getValue();
+        assertNotNull(enqueued.getId());
+        assertNotNull(enqueued.getCreatedAt());
+        assertEquals(enqueued.getId(), response.id());
+        assertEquals(2, response.score());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar feedback inválido sem enfileirar")
+    void deveRejeitarFeedbackInvalidoSemEnfileirar() {
+        FeedbackRequest request = new FeedbackRequest("Aula boa", null, "LOW");
+
+        assertThrows(FeedbackDomainException.class, () -> enqueueFeedbackUseCase.execute(request));
+        verifyNoInteractions(feedbackQueueGateway);
+    }
+
+    @Test
+    @DisplayName("Deve propagar falha da fila")
+    void devePropagarFalhaDaFila() {
+        doThrow(new FeedbackPersistenceException("Falha ao enfileirar feedback"))
+            .when(feedbackQueueGateway).enqueue(any());
+        FeedbackRequest request = new FeedbackRequest("Aula boa", 8, "LOW");
+
+        assertThrows(FeedbackPersistenceException.class, () -> enqueueFeedbackUseCase.execute(request));
+    }
+}
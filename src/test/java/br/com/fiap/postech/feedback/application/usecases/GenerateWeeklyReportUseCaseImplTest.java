@@ -2,21 +2,29 @@ package br.com.fiap.postech.feedback.application.usecases;
 
 import br.com.fiap.postech.feedback.application.dtos.responses.WeeklyReportResponse;
 import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.gateways.DailyFeedbackAggregate;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
 import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
 import br.com.fiap.postech.feedback.domain.gateways.ReportStorageGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,7 +35,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("Testes para GenerateWeeklyReportUseCaseImpl")
 class GenerateWeeklyReportUseCaseImplTest {
 
-    @Mock
+    // Métodos padrão reais: os blocos lidos pelo caso de uso vêm do streamByPeriod simulado
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private FeedbackGateway feedbackGateway;
 
     @Mock
@@ -38,9 +47,30 @@ class GenerateWeeklyReportUseCaseImplTest {
 
     private List<Feedback> feedbacks;
 
+    private List<FeedbackBatch> savedBatches;
+
+    private Map<String, Object> savedSummary;
+
     @BeforeEach
     void setUp() {
         feedbacks = new ArrayList<>();
+        savedBatches = new ArrayList<>();
+        savedSummary = null;
+    }
+
+    /**
+     * Simula o gateway de relatório consumindo o stream de blocos antes de
+     * pedir o resumo, como faz a implementação real.
+     */
+    @SuppressWarnings("unchecked")
+    private void stubSaveWeeklyReport(String fileName) {
+        when(reportStorageGateway.saveWeeklyReport(any(Stream.class), any())).thenAnswer(invocation -> {
+            Stream<FeedbackBatch> batches = invocation.getArgument(0);
+            Supplier<Map<String, Object>> summary = invocation.getArgument(1);
+            batches.forEach(savedBatches::add);
+            savedSummary = summary.get();
+            return fileName;
+        });
     }
 
     @Test
@@ -65,10 +95,9 @@ class GenerateWeeklyReportUseCaseImplTest {
         feedbacks.add(feedback2);
         feedbacks.add(feedback3);
 
-        when(feedbackGateway.findByPeriod(any(Instant.class), any(Instant.class)))
-            .thenReturn(feedbacks);
-        when(reportStorageGateway.saveWeeklyReport(anyMap()))
-            .thenReturn("relatorio-2024-01-15.json");
+        when(feedbackGateway.streamByPeriod(any(Instant.class), any(Instant.class)))
+            .thenReturn(feedbacks.stream());
+        stubSaveWeeklyReport("relatorio-2024-01-15.json");
         when(reportStorageGateway.getReportUrl("relatorio-2024-01-15.json"))
             .thenReturn("https://storage.blob.core.windows.net/reports/relatorio-2024-01-15.json");
 
@@ -81,16 +110,16 @@ class GenerateWeeklyReportUseCaseImplTest {
         assertNotNull(response.getAvaliacoesPorUrgencia());
         assertNotNull(response.getReportUrl());
 
-        verify(feedbackGateway, times(1)).findByPeriod(any(Instant.class), any(Instant.class));
-        verify(reportStorageGateway, times(1)).saveWeeklyReport(anyMap());
+        verify(feedbackGateway, times(1)).streamByPeriod(any(Instant.class), any(Instant.class));
+        verify(reportStorageGateway, times(1)).saveWeeklyReport(any(Stream.class), any());
         verify(reportStorageGateway, times(1)).getReportUrl(anyString());
     }
 
     @Test
     @DisplayName("Deve gerar relatório vazio quando não há feedbacks")
     void deveGerarRelatorioVazioQuandoNaoHaFeedbacks() {
-        when(feedbackGateway.findByPeriod(any(Instant.class), any(Instant.class)))
-            .thenReturn(new ArrayList<>());
+        when(feedbackGateway.streamByPeriod(any(Instant.class), any(Instant.class)))
+            .thenReturn(Stream.empty());
 
         WeeklyReportResponse response = generateWeeklyReportUseCase.execute();
 
@@ -102,7 +131,8 @@ class GenerateWeeklyReportUseCaseImplTest {
         assertNotNull(response.getAvaliacoesPorUrgencia());
         assertTrue(response.getAvaliacoesPorUrgencia().isEmpty());
 
-        verify(feedbackGateway, times(1)).findByPeriod(any(Instant.class), any(Instant.class));
+        verify(feedbackGateway, times(1)).streamByPeriod(any(Instant.class), any(Instant.class));
+        verify(reportStorageGateway, never()).saveWeeklyReport(any(Stream.class), any());
         verify(reportStorageGateway, never()).saveWeeklyReport(anyMap());
     }
 
@@ -125,10 +155,9 @@ class GenerateWeeklyReportUseCaseImplTest {
         feedbacks.add(feedback2);
         feedbacks.add(feedback3);
 
-        when(feedbackGateway.findByPeriod(any(Instant.class), any(Instant.class)))
-            .thenReturn(feedbacks);
-        when(reportStorageGateway.saveWeeklyReport(anyMap()))
-            .thenReturn("relatorio.json");
+        when(feedbackGateway.streamByPeriod(any(Instant.class), any(Instant.class)))
+            .thenReturn(feedbacks.stream());
+        stubSaveWeeklyReport("relatorio.json");
         when(reportStorageGateway.getReportUrl(anyString()))
             .thenReturn("https://storage.blob.core.windows.net/reports/relatorio.json");
 
@@ -159,10 +188,9 @@ class GenerateWeeklyReportUseCaseImplTest {
         feedbacks.add(feedback2);
         feedbacks.add(feedback3);
 
-        when(feedbackGateway.findByPeriod(any(Instant.class), any(Instant.class)))
-            .thenReturn(feedbacks);
-        when(reportStorageGateway.saveWeeklyReport(anyMap()))
-            .thenReturn("relatorio.json");
+        when(feedbackGateway.streamByPeriod(any(Instant.class), any(Instant.class)))
+            .thenReturn(feedbacks.stream());
+        stubSaveWeeklyReport("relatorio.json");
         when(reportStorageGateway.getReportUrl(anyString()))
             .thenReturn("https://storage.blob.core.windows.net/reports/relatorio.json");
 
@@ -192,10 +220,9 @@ class GenerateWeeklyReportUseCaseImplTest {
         feedbacks.add(feedback2);
         feedbacks.add(feedback3);
 
-        when(feedbackGateway.findByPeriod(any(Instant.class), any(Instant.class)))
-            .thenReturn(feedbacks);
-        when(reportStorageGateway.saveWeeklyReport(anyMap()))
-            .thenReturn("relatorio.json");
+        when(feedbackGateway.streamByPeriod(any(Instant.class), any(Instant.class)))
+            .thenReturn(feedbacks.stream());
+        stubSaveWeeklyReport("relatorio.json");
         when(reportStorageGateway.getReportUrl(anyString()))
             .thenReturn("https://storage.blob.core.windows.net/reports/relatorio.json");
 
@@ -206,4 +233,136 @@ class GenerateWeeklyReportUseCaseImplTest {
         assertEquals(1L, avaliacoesPorUrgencia.get("MEDIUM"));
         assertEquals(1L, avaliacoesPorUrgencia.get("HIGH"));
     }
+
+    @Test
+    @DisplayName("Deve gravar cada feedback no relatório e o resumo após consumir o stream")
+    void deveGravarCadaFeedbackNoRelatorioEResumoAposConsumirStream() {
+        Feedback feedback1 = new Feedback("Aula 1", 4, "LOW");
+        feedback1.setCreatedAt(LocalDateTime.now());
+        feedback1.setId("id1");
+
+        Feedback feedback2 = new Feedback("Aula 2", 8, "HIGH");
+        feedback2.setCreatedAt(LocalDateTime.now());
+        feedback2.setId("id2");
+
+        feedbacks.add(feedback1);
+        feedbacks.add(feedback2);
+
+        when(feedbackGateway.streamByPeriod(any(Instant.class), any(Instant.class)))
+            .thenReturn(feedbacks.stream());
+        stubSaveWeeklyReport("relatorio.json");
+        when(reportStorageGateway.getReportUrl(anyString()))
+            .thenReturn("https://storage.blob.core.windows.net/reports/relatorio.json");
+
+        generateWeeklyReportUseCase.execute();
+
+        assertEquals(1, savedBatches.size());
+        FeedbackBatch bloco = savedBatches.get(0);
+        assertEquals(2, bloco.size());
+        assertEquals("Aula 1", bloco.description(0));
+        assertEquals("LOW", bloco.urgency(0));
+        assertEquals(4, bloco.score(0));
+        assertEquals(feedback1.getCreatedAt(), bloco.createdAt(0));
+
+        assertNotNull(savedSummary);
+        assertEquals(2, savedSummary.get("total_avaliacoes"));
+        assertEquals(6.0, (Double) savedSummary.get("media_avaliacoes"), 0.01);
+        assertNotNull(savedSummary.get("periodo_inicio"));
+        assertNotNull(savedSummary.get("periodo_fim"));
+        assertNotNull(savedSummary.get("data_geracao"));
+        assertFalse(savedSummary.containsKey("feedbacks"));
+    }
+
+    @Test
+    @DisplayName("Deve fechar o stream de feedbacks ao final da geração")
+    void deveFecharStreamDeFeedbacksAoFinalDaGeracao() {
+        Feedback feedback = new Feedback("Aula", 6, "MEDIUM");
+        feedback.setCreatedAt(LocalDateTime.now());
+        feedback.setId("id1");
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(feedbackGateway.streamByPeriod(any(Instant.class), any(Instant.class)))
+            .thenReturn(Stream.of(feedback).onClose(() -> closed.set(true)));
+        stubSaveWeeklyReport("relatorio.json");
+        when(reportStorageGateway.getReportUrl(anyString()))
+            .thenReturn("https://storage.blob.core.windows.net/reports/relatorio.json");
+
+        generateWeeklyReportUseCase.execute();
+
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("Deve consumir vários blocos do gateway e acumular as métricas de todos")
+    void deveConsumirVariosBlocosEAcumularMetricas() {
+        int total = GenerateWeeklyReportUseCaseImpl.REPORT_BATCH_SIZE * 2 + 10;
+        LocalDateTime inicio = LocalDate.now().atStartOfDay();
+        for (int i = 0; i < total; i++) {
+            feedbacks.add(Feedback.reconstruct("id" + i, "Aula " + i, i % 2 == 0 ? 10 : 0,
+                i < total / 2 ? "LOW" : "HIGH", inicio.plusSeconds(i)));
+        }
+
+        when(feedbackGateway.streamByPeriod(any(Instant.class), any(Instant.class)))
+            .thenReturn(feedbacks.stream());
+        stubSaveWeeklyReport("relatorio.json");
+        when(reportStorageGateway.getReportUrl(anyString()))
+            .thenReturn("https://storage.blob.core.windows.net/reports/relatorio.json");
+
+        WeeklyReportResponse response = generateWeeklyReportUseCase.execute();
+
+        assertEquals(total, response.getTotalAvaliacoes());
+        assertEquals(5.0, response.getMediaAvaliacoes(), 0.01);
+        assertEquals((long) total, response.getAvaliacoesPorDia().get(LocalDate.now().toString()));
+        assertEquals((long) total / 2, response.getAvaliacoesPorUrgencia().get("HIGH"));
+        assertEquals(3, savedBatches.size());
+        assertEquals(total, savedBatches.stream().mapToInt(FeedbackBatch::size).sum());
+        FeedbackBatch ultimoBloco = savedBatches.get(2);
+        assertEquals("Aula " + (total - 1), ultimoBloco.description(ultimoBloco.size() - 1));
+        verify(feedbackGateway).streamBatchesByPeriod(any(Instant.class), any(Instant.class),
+            eq(GenerateWeeklyReportUseCaseImpl.REPORT_BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("Deve gerar relatório a partir dos agregados diários sem ler feedbacks")
+    @SuppressWarnings("unchecked")
+    void deveGerarRelatorioAPartirDosAgregadosDiariosSemLerFeedbacks() {
+        FeedbackAggregateGateway aggregateGateway = mock(FeedbackAggregateGateway.class);
+        GenerateWeeklyReportUseCaseImpl useCase =
+            new GenerateWeeklyReportUseCaseImpl(feedbackGateway, reportStorageGateway, aggregateGateway);
+        LocalDate today = LocalDate.now();
+        when(aggregateGateway.findDaily(any(LocalDate.class), eq(today))).thenReturn(List.of(
+            new DailyFeedbackAggregate(today, 3, 15, Map.of("LOW", 2L, "HIGH", 1L)),
+            new DailyFeedbackAggregate(today.minusDays(1), 1, 10, Map.of("LOW", 1L))));
+        when(reportStorageGateway.saveWeeklyReport(anyMap())).thenReturn("relatorio.json");
+        when(reportStorageGateway.getReportUrl("relatorio.json")).thenReturn("https://storage/relatorio.json");
+
+        WeeklyReportResponse response = useCase.execute();
+
+        assertEquals(4, response.getTotalAvaliacoes());
+        assertEquals(6.25, response.getMediaAvaliacoes(), 0.001);
+        assertEquals(3L, response.getAvaliacoesPorUrgencia().get("LOW"));
+        assertEquals(3L, response.getAvaliacoesPorDia().get(today.toString()));
+        assertEquals("https://storage/relatorio.json", response.getReportUrl());
+        verifyNoInteractions(feedbackGateway);
+
+        org.mockito.ArgumentCaptor<Map<String, Object>> summary = org.mockito.ArgumentCaptor.forClass(Map.class);
+        verify(reportStorageGateway).saveWeeklyReport(summary.capture());
+        assertEquals(4, summary.getValue().get("total_avaliacoes"));
+        assertFalse(summary.getValue().containsKey("feedbacks"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar relatório vazio quando não há agregados no período")
+    void deveRetornarRelatorioVazioQuandoNaoHaAgregadosNoPeriodo() {
+        FeedbackAggregateGateway aggregateGateway = mock(FeedbackAggregateGateway.class);
+        GenerateWeeklyReportUseCaseImpl useCase =
+            new GenerateWeeklyReportUseCaseImpl(feedbackGateway, reportStorageGateway, aggregateGateway);
+        when(aggregateGateway.findDaily(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
+
+        WeeklyReportResponse response = useCase.execute();
+
+        assertEquals(0, response.getTotalAvaliacoes());
+        assertNull(response.getReportUrl());
+        verifyNoInteractions(reportStorageGateway);
+    }
 }
@@ -0,0 +1,85 @@
+package br.com.fiap.postech.feedback.application.usecases;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ProcessQueuedFeedbacksUseCaseImpl")
+class ProcessQueuedFeedbacksUseCaseImplTest {
+
+    @Mock
+    private FeedbackGateway feedbackGateway;
+
+    @Mock
+    private EmailNotificationGateway emailNotificationGateway;
+
+    @InjectMocks
+    private ProcessQueuedFeedbacksUseCaseImpl processQueuedFeedbacksUseCase;
+
+    @Test
+    @DisplayName("Deve persistir em lote e notificar apenas críticos salvos")
+    void devePersistirEmLoteENotificarApenasCriticosSalvos() {
+        Feedback criticoSalvo = feedback("id-1", "Aula ruim", 1);
+        Feedback criticoFalhou = feedback("id-2", "Aula péssima", 0);
+        Feedback normal = feedback("id-3", "Aula boa", 9);
+        List<Feedback> feedbacks = List.of(criticoSalvo, criticoFalhou, normal);
+        when(feedbackGateway.saveAll(feedbacks)).thenReturn(new BatchSaveResult(
+            List.of("id-1", "id-3"), List.of(new BatchSaveResult.Failure("id-2", "erro"))));
+
+        BatchSaveResult result = processQueuedFeedbacksUseCase.execute(feedbacks);
+
+        assertEquals(2, result.savedCount());
+        assertTrue(result.hasFailures());
+        verify(emailNotificationGateway, times(1)).sendAdminNotification(contains("Aula ruim"));
+        verifyNoMoreInteractions(emailNotificationGateway);
+    }
+
+    @Test
+    @DisplayName("Não deve falhar quando envio de email falha")
+    void naoDeveFalharQuandoEnvioDeEmailFalha() {
+        List<Feedback> feedbacks = List.of(feedback("id-1", "Aula ruim", 1));
+        when(feedbackGateway.saveAll(feedbacks)).thenReturn(new BatchSaveResult(List.of("id-1"), List.of()));
+        doThrow(new NotificationException("Mailtrap indisponível"))
+            .when(emailNotificationGateway).sendAdminNotification(anyString());
+
+        BatchSaveResult result = assertDoesNotThrow(() -> processQueuedFeedbacksUseCase.execute(feedbacks));
+
+        assertEquals(1, result.savedCount());
+    }
+
+    private static Feedback feedback(String id, String description, int score) {
+        return Feedback.reconstruct(id, description, score, "MEDIUM", LocalDateTime.of(2026, 2, 1, 9, 0));
+    }
+
+    @Test
+    @DisplayName("Deve devolver como falha o feedback cuja notificação não foi registrada na outbox")
+    void deveDevolverComoFalhaFeedbackSemNotificacaoNaOutbox() {
+        List<Feedback> feedbacks = List.of(feedback("id-1", "Aula ruim", 1), feedback("id-2", "Aula boa", 9));
+        when(feedbackGateway.saveAll(feedbacks)).thenReturn(new BatchSaveResult(List.of("id-1", "id-2"), List.of()));
+        when(emailNotificationGateway.isDeferred()).thenReturn(true);
+        doThrow(new NotificationException("Falha ao registrar notificação na fila"))
+            .when(emailNotificationGateway).sendAdminNotification(anyString());
+
+        BatchSaveResult result = processQueuedFeedbacksUseCase.execute(feedbacks);
+
+        assertEquals(List.of("id-2"), result.savedIds());
+        assertEquals("id-1", result.failures().get(0).feedbackId());
+    }
+}
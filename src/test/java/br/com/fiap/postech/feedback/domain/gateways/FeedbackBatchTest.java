@@ -0,0 +1,96 @@
+package br.com.fiap.postech.feedback.domain.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para FeedbackBatch")
+class FeedbackBatchTest {
+
+    @Test
+    @DisplayName("Deve preservar os valores de cada linha nas colunas")
+    void devePreservarValoresDeCadaLinha() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30, 15, 123456789);
+        FeedbackBatch batch = FeedbackBatch.builder(1)
+            .add("Aula ótima 👍", 9, "high", createdAt)
+            .add(null, 0, null, LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1))
+            .add("Áudio ruim", 3, "MEDIUM", createdAt.plusDays(1))
+            .build();
+
+        assertEquals(3, batch.size());
+        assertEquals("Aula ótima 👍", batch.description(0));
+        assertEquals(9, batch.score(0));
+        assertEquals("HIGH", batch.urgency(0));
+        assertEquals(createdAt, batch.createdAt(0));
+        assertEquals(LocalDate.of(2024, 1, 15).toEpochDay(), batch.epochDay(0));
+        assertEquals(createdAt.toLocalTime().toNanoOfDay(), batch.nanoOfDay(0));
+
+        assertNull(batch.description(1));
+        assertEquals("LOW", batch.urgency(1));
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1), batch.createdAt(1));
+        assertEquals(LocalDate.of(1969, 12, 31).toEpochDay(), batch.epochDay(1));
+        assertEquals(LocalTime.of(23, 59, 59, 1).toNanoOfDay(), batch.nanoOfDay(1));
+
+        assertEquals("Áudio ruim", batch.description(2));
+        assertEquals("MEDIUM", batch.urgency(2));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar nota e urgência inválidas como os Value Objects")
+    void deveRejeitarNotaEUrgenciaInvalidas() {
+        FeedbackBatch.Builder builder = FeedbackBatch.builder(4);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add("Aula", 11, "LOW", now));
+        assertThrows(IllegalArgumentException.class, () -> builder.add("Aula", 5, "URGENTE", now));
+        assertThrows(IllegalArgumentException.class, () -> builder.add("Aula", 5, "LOW", null));
+        assertEquals(0, builder.size());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IndexOutOfBoundsException para linha fora do bloco")
+    void deveLancarExcecaoParaLinhaForaDoBloco() {
+        FeedbackBatch batch = FeedbackBatch.builder(1).add("Aula", 5, "LOW", LocalDateTime.now()).build();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.score(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.description(-1));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar o stream em blocos na ordem original e fechar a origem")
+    void deveAgruparStreamEmBlocos() {
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 15, 8, 0);
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<Feedback> feedbacks = Stream.of(1, 2, 3, 4, 5)
+            .map(i -> Feedback.reconstruct("id" + i, "Aula " + i, i, "LOW", inicio.plusMinutes(i)))
+            .onClose(() -> closed.set(true));
+
+        List<FeedbackBatch> batches;
+        try (Stream<FeedbackBatch> stream = FeedbackBatch.partition(feedbacks, 2)) {
+            batches = stream.toList();
+        }
+
+        assertEquals(List.of(2, 2, 1), batches.stream().map(FeedbackBatch::size).toList());
+        assertEquals("Aula 3", batches.get(1).description(0));
+        assertEquals(5, batches.get(2).score(0));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de bloco não positivo")
+    void deveRejeitarTamanhoDeBlocoNaoPositivo() {
+        assertThrows(IllegalArgumentException.class, () -> FeedbackBatch.partition(Stream.empty(), 0));
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.fiap.postech.feedback.domain.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para os métodos padrão de FeedbackGateway")
+class FeedbackGatewayTest {
+
+    @Test
+    @DisplayName("Deve salvar lote um a um e reportar falhas individuais")
+    void deveSalvarLoteUmAUmEReportarFalhasIndividuais() {
+        List<Feedback> salvos = new ArrayList<>();
+        FeedbackGateway gateway = new FeedbackGateway() {
+            @Override
+            public void save(Feedback feedback) {
+                if ("id2".equals(feedback.getId())) {
+                    throw new FeedbackPersistenceException("Falha ao salvar feedback no Table Storage");
+                }
+                salvos.add(feedback);
+            }
+
+            @Override
+            public List<Feedback> findByPeriod(Instant from, Instant to) {
+                return List.of();
+            }
+        };
+
+        BatchSaveResult result = gateway.saveAll(List.of(feedback("id1"), feedback("id2"), feedback("id3")));
+
+        assertEquals(List.of("id1", "id3"), result.savedIds());
+        assertEquals(2, salvos.size());
+        assertTrue(result.hasFailures());
+        assertEquals("id2", result.failures().get(0).feedbackId());
+        assertEquals("Falha ao salvar feedback no Table Storage", result.failures().get(0).reason());
+    }
+
+    @Test
+    @DisplayName("Deve delegar streamByPeriod para findByPeriod por padrão")
+    void deveDelegarStreamByPeriodParaFindByPeriodPorPadrao() {
+        List<Feedback> feedbacks = List.of(feedback("id1"), feedback("id2"));
+        FeedbackGateway gateway = new FeedbackGateway() {
+            @Override
+            public void save(Feedback feedback) {
+            }
+
+            @Override
+            public List<Feedback> findByPeriod(Instant from, Instant to) {
+                return feedbacks;
+            }
+        };
+
+        assertEquals(feedbacks, gateway.streamByPeriod(Instant.now(), Instant.now()).toList());
+    }
+
+    private static Feedback feedback(String id) {
+        Feedback feedback = new Feedback("Aula", 7, "MEDIUM");
+        feedback.setId(id);
+        return feedback;
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.fiap.postech.feedback.infrastructure.config;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchItemResult;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para JsonCodec")
+class JsonCodecTest {
+
+    @Test
+    @DisplayName("Deve ler FeedbackRequest com o reader pré-construído")
+    void deveLerFeedbackRequestComReaderPreConstruido() throws Exception {
+        FeedbackRequest request = JsonCodec.feedbackRequestReader()
+            .readValue("{\"descricao\":\"Aula boa\",\"nota\":8,\"urgencia\":\"LOW\"}");
+
+        assertEquals("Aula boa", request.description());
+        assertEquals(8, request.score());
+        assertEquals("LOW", request.urgency());
+    }
+
+    @Test
+    @DisplayName("Deve escrever datas em ISO-8601 com o writer compartilhado")
+    void deveEscreverDatasEmIsoComWriterCompartilhado() throws Exception {
+        String json = JsonCodec.writer().writeValueAsString(Map.of("createdAt", LocalDateTime.of(2024, 1, 15, 10, 30)));
+
+        assertEquals("{\"createdAt\":\"2024-01-15T10:30:00\"}", json);
+    }
+
+    @Test
+    @DisplayName("Deve escrever a resposta do lote com o writer do tipo")
+    void deveEscreverRespostaDoLote() throws Exception {
+        FeedbackBatchResponse response = new FeedbackBatchResponse(1, 1, 0, 0,
+            List.of(FeedbackBatchItemResult.received(0, "id-1")));
+
+        String json = JsonCodec.batchResponseWriter().writeValueAsString(response);
+
+        assertTrue(json.contains("\"recebidos\":1"));
+        assertTrue(json.contains("\"id-1\""));
+    }
+
+    @Test
+    @DisplayName("Deve expor ao CDI o mesmo ObjectMapper usado pelas Functions")
+    void deveExporMesmoObjectMapperAoCdi() {
+        assertSame(JsonCodec.mapper(), new JacksonConfig().objectMapper());
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para AggregatingFeedbackGateway")
+class AggregatingFeedbackGatewayTest {
+
+    @Mock
+    private FeedbackGateway delegate;
+
+    @Mock
+    private FeedbackAggregateGateway aggregateGateway;
+
+    @InjectMocks
+    private AggregatingFeedbackGateway gateway;
+
+    @Test
+    @DisplayName("Deve atualizar agregados após salvar feedback")
+    void deveAtualizarAgregadosAposSalvarFeedback() {
+        Feedback feedback = feedback("id-1");
+
+        gateway.save(feedback);
+
+        verify(delegate).save(feedback);
+        verify(aggregateGateway).record(List.of(feedback));
+    }
+
+    @Test
+    @DisplayName("Não deve atualizar agregados quando gravação falha")
+    void naoDeveAtualizarAgregadosQuandoGravacaoFalha() {
+        Feedback feedback = feedback("id-1");
+        doThrow(new FeedbackPersistenceException("erro")).when(delegate).save(feedback);
+
+        assertThrows(FeedbackPersistenceException.class, () -> gateway.save(feedback));
+        verifyNoInteractions(aggregateGateway);
+    }
+
+    @Test
+    @DisplayName("Deve agregar apenas feedbacks salvos no lote")
+    void deveAgregarApenasFeedbacksSalvosNoLote() {
+        Feedback salvo = feedback("id-1");
+        Feedback falhou = feedback("id-2");
+        List<Feedback> feedbacks = List.of(salvo, falhou);
+        when(delegate.saveAll(feedbacks)).thenReturn(new BatchSaveResult(
+            List.of("id-1"), List.of(new BatchSaveResult.Failure("id-2", "erro"))));
+
+        gateway.saveAll(feedbacks);
+
+        verify(aggregateGateway).record(List.of(salvo));
+    }
+
+    @Test
+    @DisplayName("Não deve propagar falha ao atualizar agregados")
+    void naoDevePropagarFalhaAoAtualizarAgregados() {
+        doThrow(new FeedbackPersistenceException("conflito")).when(aggregateGateway).record(anyCollection());
+
+        assertDoesNotThrow(() -> gateway.save(feedback("id-1")));
+    }
+
+    private static Feedback feedback(String id) {
+        return Feedback.reconstruct(id, "Aula", 7, "LOW", LocalDateTime.of(2026, 5, 4, 10, 0));
+    }
+}
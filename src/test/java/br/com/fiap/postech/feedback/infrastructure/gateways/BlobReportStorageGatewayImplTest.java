@@ -1,9 +1,14 @@
 package br.com.fiap.postech.feedback.infrastructure.gateways;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -18,11 +23,18 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,10 +44,15 @@ import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.options.BlockBlobCommitBlockListOptions;
+import com.azure.storage.blob.specialized.BlockBlobClient;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Testes para BlobReportStorageGatewayImpl")
@@ -69,6 +86,36 @@ class BlobReportStorageGatewayImplTest {
         containerField.set(gateway, containerClient);
     }
 
+    @Test
+    @DisplayName("Deve criar o container uma única vez, antes do primeiro upload (modo rápido)")
+    void deveCriarOContainerAntesDoPrimeiroUploadNoModoRapido() throws Exception {
+        BlobReportStorageGatewayImpl rapido = new BlobReportStorageGatewayImpl(
+            "UseDevelopmentStorage=true", "test-container", objectMapper, "true");
+        Field containerField = BlobReportStorageGatewayImpl.class.getDeclaredField("containerClient");
+        containerField.setAccessible(true);
+        containerField.set(rapido, containerClient);
+        when(containerClient.createIfNotExists()).thenReturn(true);
+        when(containerClient.getBlobClient(anyString())).thenReturn(blobClient);
+
+        rapido.saveReport("a.json", "{}");
+        rapido.saveReport("b.json", "{}");
+
+        InOrder inOrder = inOrder(containerClient, blobClient);
+        inOrder.verify(containerClient).createIfNotExists();
+        inOrder.verify(blobClient).upload(any(ByteArrayInputStream.class), anyLong(), eq(true));
+        verify(containerClient, times(1)).createIfNotExists();
+    }
+
+    @Test
+    @DisplayName("Não deve verificar o container no upload fora do modo rápido")
+    void naoDeveVerificarOContainerNoUploadForaDoModoRapido() {
+        when(containerClient.getBlobClient(anyString())).thenReturn(blobClient);
+
+        gateway.saveReport("a.json", "{}");
+
+        verify(containerClient, never()).createIfNotExists();
+    }
+
     @Test
     @DisplayName("Deve salvar relatório com sucesso")
     void deveSalvarRelatorioComSucesso() {
@@ -503,4 +550,139 @@ class BlobReportStorageGatewayImplTest {
         assertTrue(exception.getMessage().contains("Falha ao salvar relatório no Blob Storage"));
     }
 
+
+    @Test
+    @DisplayName("Deve gravar relatório semanal em streaming com itens e resumo")
+    void deveGravarRelatorioSemanalEmStreamingComItensEResumo() throws Exception {
+        BlobReportStorageGatewayImpl streamingGateway = spy(new BlobReportStorageGatewayImpl(
+            "DefaultEndpointsProtocol=https;AccountName=test;AccountKey=test;EndpointSuffix=core.windows.net",
+            "test-container",
+            new ObjectMapper()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        doReturn(capturingStream(out, 8)).when(streamingGateway).openReportStream(anyString());
+        AtomicInteger consumidos = new AtomicInteger();
+
+        FeedbackBatch primeiroBloco = FeedbackBatch.builder(1)
+            .add("Aula 1", 7, "LOW", LocalDateTime.of(2026, 5, 4, 10, 0)).build();
+        FeedbackBatch segundoBloco = FeedbackBatch.builder(1)
+            .add(null, 9, "HIGH", LocalDateTime.of(2026, 5, 5, 8, 30, 15)).build();
+
+        String fileName = streamingGateway.saveWeeklyReport(
+            Stream.of(primeiroBloco, segundoBloco).peek(bloco -> consumidos.addAndGet(bloco.size())),
+            () -> Map.of("total_avaliacoes", consumidos.get()));
+
+        assertTrue(fileName.startsWith("relatorios/relatorio-"));
+        assertTrue(fileName.endsWith(".json"));
+        JsonNode report = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals(2, report.get("feedbacks").size());
+        JsonNode primeiro = report.get("feedbacks").get(0);
+        assertEquals("Aula 1", primeiro.get("descricao").asText());
+        assertEquals("LOW", primeiro.get("urgencia").asText());
+        assertEquals("2026-05-04T10:00", primeiro.get("data_envio").asText());
+        assertEquals(7, primeiro.get("nota").asInt());
+        JsonNode segundo = report.get("feedbacks").get(1);
+        assertTrue(segundo.get("descricao").isNull());
+        assertEquals("2026-05-05T08:30:15", segundo.get("data_envio").asText());
+        assertEquals(9, segundo.get("nota").asInt());
+        assertEquals(2, report.get("total_avaliacoes").asInt());
+    }
+
+    @Test
+    @DisplayName("Deve enviar blocos e publicar o blob com content-type JSON só no final")
+    void deveEnviarBlocosEPublicarBlobComContentTypeJsonSoNoFinal() {
+        BlockBlobClient blockBlobClient = mock(BlockBlobClient.class);
+        when(containerClient.getBlobClient(anyString())).thenReturn(blobClient);
+        when(blobClient.getBlockBlobClient()).thenReturn(blockBlobClient);
+        BlobReportStorageGatewayImpl streamingGateway = streamingGateway();
+
+        FeedbackBatch bloco = FeedbackBatch.builder(1).add("Aula", 7, "LOW", LocalDateTime.of(2026, 5, 4, 10, 0)).build();
+
+        streamingGateway.saveWeeklyReport(Stream.of(bloco), () -> Map.of("total_avaliacoes", 1));
+
+        verify(blockBlobClient).stageBlock(anyString(), any(InputStream.class), anyLong());
+        ArgumentCaptor<BlockBlobCommitBlockListOptions> options =
+            ArgumentCaptor.forClass(BlockBlobCommitBlockListOptions.class);
+        verify(blockBlobClient).commitBlockListWithResponse(options.capture(), any(), any());
+        assertEquals(1, options.getValue().getBase64BlockIds().size());
+        assertEquals("application/json", options.getValue().getHeaders().getContentType());
+    }
+
+    @Test
+    @DisplayName("Não deve publicar o blob quando o stream de feedbacks falha no meio")
+    void naoDevePublicarBlobQuandoStreamDeFeedbacksFalhaNoMeio() {
+        BlockBlobClient blockBlobClient = mock(BlockBlobClient.class);
+        BlobReportStorageGatewayImpl streamingGateway = spy(streamingGateway());
+        doReturn(new StagedBlockBlobOutputStream(blockBlobClient, new BlobHttpHeaders(), semNovasTentativas(), 16))
+            .when(streamingGateway).openReportStream(anyString());
+        RuntimeException erro = new RuntimeException("Falha ao ler próxima página");
+        Stream<FeedbackBatch> feedbacks = Stream.iterate(1, i -> i + 1)
+            .map(i -> {
+                if (i > 1000) {
+                    throw erro;
+                }
+                return FeedbackBatch.builder(1).add("Aula " + i, 7, "LOW", LocalDateTime.of(2026, 5, 4, 10, 0)).build();
+            });
+
+        FeedbackPersistenceException exception = assertThrows(
+            FeedbackPersistenceException.class,
+            () -> streamingGateway.saveWeeklyReport(feedbacks, Map::of)
+        );
+
+        assertEquals(erro, exception.getCause());
+        verify(blockBlobClient, atLeastOnce()).stageBlock(anyString(), any(InputStream.class), anyLong());
+        verify(blockBlobClient, never()).commitBlockListWithResponse(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar FeedbackPersistenceException quando falha o upload em streaming")
+    void deveLancarFeedbackPersistenceExceptionQuandoFalhaUploadEmStreaming() {
+        RuntimeException erro = new RuntimeException("Erro de conexão");
+        when(containerClient.getBlobClient(anyString())).thenThrow(erro);
+
+        FeedbackPersistenceException exception = assertThrows(
+            FeedbackPersistenceException.class,
+            () -> gateway.saveWeeklyReport(Stream.empty(), Map::of)
+        );
+
+        assertTrue(exception.getMessage().contains("Falha ao salvar relatório semanal no Blob Storage"));
+        assertEquals(erro, exception.getCause());
+    }
+
+    private BlobReportStorageGatewayImpl streamingGateway() {
+        BlobReportStorageGatewayImpl streamingGateway = new BlobReportStorageGatewayImpl(
+            "DefaultEndpointsProtocol=https;AccountName=test;AccountKey=test;EndpointSuffix=core.windows.net",
+            "test-container",
+            new ObjectMapper());
+        try {
+            Field containerField = BlobReportStorageGatewayImpl.class.getDeclaredField("containerClient");
+            containerField.setAccessible(true);
+            containerField.set(streamingGateway, containerClient);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        streamingGateway.setRetryPolicy(semNovasTentativas());
+        return streamingGateway;
+    }
+
+    private static RetryPolicy semNovasTentativas() {
+        return RetryPolicy.builder("teste").maxAttempts(1).build();
+    }
+
+    /**
+     * Upload em blocos que grava os blocos confirmados em {@code target}.
+     */
+    private static StagedBlockBlobOutputStream capturingStream(ByteArrayOutputStream target, int blockSize) {
+        ByteArrayOutputStream staged = new ByteArrayOutputStream();
+        return new StagedBlockBlobOutputStream(null, null, semNovasTentativas(), blockSize) {
+            @Override
+            void stageBlock(String blockId, byte[] data, int length) {
+                staged.write(data, 0, length);
+            }
+
+            @Override
+            void commitBlocks(java.util.List<String> ids) {
+                target.writeBytes(staged.toByteArray());
+            }
+        };
+    }
 }
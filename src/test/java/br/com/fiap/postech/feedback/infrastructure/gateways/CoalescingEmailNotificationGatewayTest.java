@@ -0,0 +1,132 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para CoalescingEmailNotificationGateway")
+class CoalescingEmailNotificationGatewayTest {
+
+    @Mock
+    private EmailNotificationGateway delegate;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private ScheduledFuture<Object> scheduledFuture;
+
+    private CoalescingEmailNotificationGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(scheduledFuture).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        gateway = new CoalescingEmailNotificationGateway(delegate, Duration.ofSeconds(60), 3, scheduler);
+    }
+
+    @Test
+    @DisplayName("Deve agendar envio na primeira notificação e enviar digest ao fim da janela")
+    void deveAgendarEnvioNaPrimeiraNotificacaoEEnviarDigestAoFimDaJanela() {
+        gateway.sendAdminNotification("Feedback A");
+        gateway.sendAdminNotification("Feedback B");
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(1)).schedule(flush.capture(), eq(60000L), eq(TimeUnit.MILLISECONDS));
+        verifyNoInteractions(delegate);
+
+        flush.getValue().run();
+
+        ArgumentCaptor<String> content = ArgumentCaptor.forClass(String.class);
+        verify(delegate, times(1)).sendAdminNotification(content.capture());
+        assertTrue(content.getValue().startsWith("Resumo: 2 feedbacks críticos recebidos"));
+        assertTrue(content.getValue().contains("Feedback A"));
+        assertTrue(content.getValue().contains("Feedback B"));
+    }
+
+    @Test
+    @DisplayName("Deve enviar digest imediatamente ao atingir o máximo de itens")
+    void deveEnviarDigestImediatamenteAoAtingirMaximoDeItens() {
+        gateway.sendAdminNotification("A");
+        gateway.sendAdminNotification("B");
+        gateway.sendAdminNotification("C");
+
+        verify(delegate, times(1)).sendAdminNotification(anyString());
+        verify(scheduledFuture).cancel(false);
+    }
+
+    @Test
+    @DisplayName("Deve enviar conteúdo original quando há apenas uma notificação")
+    void deveEnviarConteudoOriginalQuandoHaApenasUmaNotificacao() {
+        gateway.sendAdminNotification("Feedback único");
+
+        gateway.flush();
+
+        verify(delegate).sendAdminNotification("Feedback único");
+    }
+
+    @Test
+    @DisplayName("Deve enviar pendentes no fechamento e enviar individualmente depois")
+    void deveEnviarPendentesNoFechamentoEEnviarIndividualmenteDepois() {
+        gateway.sendAdminNotification("A");
+        gateway.sendAdminNotification("B");
+
+        gateway.close();
+        gateway.sendAdminNotification("C");
+
+        verify(delegate).sendAdminNotification(CoalescingEmailNotificationGateway.buildDigest(List.of("A", "B")));
+        verify(delegate).sendAdminNotification("C");
+        verify(scheduler).shutdown();
+    }
+
+    @Test
+    @DisplayName("Não deve propagar falha do envio agrupado")
+    void naoDevePropagarFalhaDoEnvioAgrupado() {
+        doThrow(new NotificationException("Mailtrap indisponível")).when(delegate).sendAdminNotification(anyString());
+        gateway.sendAdminNotification("A");
+
+        assertDoesNotThrow(gateway::flush);
+    }
+
+    @Test
+    @DisplayName("Deve numerar itens do digest")
+    void deveNumerarItensDoDigest() {
+        String digest = CoalescingEmailNotificationGateway.buildDigest(List.of("A", "B"));
+
+        assertEquals("Resumo: 2 feedbacks críticos recebidos\n\n--- Feedback 1 de 2 ---\nA\n\n--- Feedback 2 de 2 ---\nB\n", digest);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar janela não positiva")
+    void deveRejeitarJanelaNaoPositiva() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new CoalescingEmailNotificationGateway(delegate, Duration.ZERO, 3, scheduler));
+    }
+}
@@ -4,6 +4,7 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -80,6 +81,16 @@ class EmailNotificationGatewayImplTest {
         assertEquals(adminEmail, mail.getTo().get(0).getEmail());
     }
 
+    @Test
+    @DisplayName("Deve indicar se o cliente Mailtrap está configurado")
+    void deveIndicarSeClienteMailtrapEstaConfigurado() {
+        EmailNotificationGatewayImpl gatewaySemToken = new EmailNotificationGatewayImpl("", adminEmail, (Long) null);
+        gatewaySemToken.init();
+
+        assertTrue(gateway.isConfigured());
+        assertFalse(gatewaySemToken.isConfigured());
+    }
+
     @Test
     @DisplayName("Deve lançar NotificationException quando Mailtrap lança exceção")
     void deveLancarNotificationExceptionQuandoMailtrapLancaExcecao() {
@@ -0,0 +1,80 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackPartitionScheme;
+import br.com.fiap.postech.feedback.infrastructure.mappers.TableStorageFeedbackMapper;
+import com.azure.data.tables.models.TableEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para FeedbackBatchIterator")
+class FeedbackBatchIteratorTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2024, 1, 15, 0, 0);
+    private static final LocalDateTime FIM = LocalDateTime.of(2024, 1, 21, 23, 59, 59);
+
+    @Test
+    @DisplayName("Deve montar blocos apenas com linhas dentro do período")
+    void deveMontarBlocosApenasComLinhasDentroDoPeriodo() {
+        Iterator<TableEntity> entities = List.of(
+            entity("Antes", 1, INICIO.minusSeconds(1)),
+            entity("Início", 2, INICIO),
+            new TableEntity("20240115", "sem-data"),
+            entity("Meio", 3, INICIO.plusDays(3)),
+            entity("Fim", 4, FIM),
+            entity("Depois", 5, FIM.plusSeconds(1))).iterator();
+
+        FeedbackBatchIterator iterator = new FeedbackBatchIterator(entities, INICIO, FIM, 2);
+
+        List<FeedbackBatch> batches = new ArrayList<>();
+        iterator.forEachRemaining(batches::add);
+
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals("Início", batches.get(0).description(0));
+        assertEquals(3, batches.get(0).score(1));
+        assertEquals(INICIO.plusDays(3), batches.get(0).createdAt(1));
+        assertEquals(1, batches.get(1).size());
+        assertEquals("Fim", batches.get(1).description(0));
+        assertEquals("MEDIUM", batches.get(1).urgency(0));
+    }
+
+    @Test
+    @DisplayName("Deve lançar NoSuchElementException quando nenhuma linha está no período")
+    void deveLancarNoSuchElementExceptionQuandoNenhumaLinhaEstaNoPeriodo() {
+        FeedbackBatchIterator iterator = new FeedbackBatchIterator(
+            List.of(entity("Depois", 5, FIM.plusDays(1))).iterator(), INICIO, FIM, 10);
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("Deve traduzir linha inválida para FeedbackPersistenceException")
+    void deveTraduzirLinhaInvalidaParaFeedbackPersistenceException() {
+        TableEntity invalida = entity("Aula", 5, INICIO.plusHours(1));
+        invalida.addProperty(TableStorageFeedbackMapper.SCORE_PROPERTY, 42);
+
+        FeedbackBatchIterator iterator = new FeedbackBatchIterator(List.of(invalida).iterator(), INICIO, FIM, 10);
+
+        FeedbackPersistenceException exception = assertThrows(FeedbackPersistenceException.class, iterator::hasNext);
+        assertEquals("Falha ao buscar feedbacks do período", exception.getMessage());
+    }
+
+    private static TableEntity entity(String description, int score, LocalDateTime createdAt) {
+        Feedback feedback = Feedback.reconstruct("id-" + score, description, score, "MEDIUM", createdAt);
+        return TableStorageFeedbackMapper.toTableEntity(feedback, FeedbackPartitionScheme.defaultScheme());
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.infrastructure.config.JsonCodec;
+
+@DisplayName("Testes para FeedbackBatchJsonWriter")
+class FeedbackBatchJsonWriterTest {
+
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
+
+    @Test
+    @DisplayName("Deve escrever as linhas com os mesmos campos e datas de LocalDateTime.toString")
+    void deveEscreverLinhasComMesmosCamposEDatas() throws Exception {
+        List<LocalDateTime> datas = List.of(
+            LocalDateTime.of(2026, 5, 4, 0, 0),
+            LocalDateTime.of(2026, 5, 4, 9, 5, 7),
+            LocalDateTime.of(2026, 5, 4, 23, 59, 0, 120_000_000),
+            LocalDateTime.of(2026, 5, 5, 8, 0, 0, 120_400_000),
+            LocalDateTime.of(2026, 5, 5, 8, 0, 1, 1),
+            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999));
+        FeedbackBatch.Builder builder = FeedbackBatch.builder(datas.size());
+        List<Map<String, Object>> esperado = new ArrayList<>();
+        for (int i = 0; i < datas.size(); i++) {
+            String descricao = i == 1 ? null : "Aula \"" + i + "\" — ótima";
+            builder.add(descricao, i, i % 2 == 0 ? "LOW" : "HIGH", datas.get(i));
+            Map<String, Object> item = new HashMap<>();
+            item.put("descricao", descricao);
+            item.put("urgencia", i % 2 == 0 ? "LOW" : "HIGH");
+            item.put("data_envio", datas.get(i).toString());
+            item.put("nota", i);
+            esperado.add(item);
+        }
+
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            new FeedbackBatchJsonWriter().write(generator, builder.build());
+            generator.writeEndArray();
+        }
+
+        assertEquals(objectMapper.valueToTree(esperado), objectMapper.readTree(out.toString()));
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackPartitionScheme;
+import br.com.fiap.postech.feedback.infrastructure.mappers.TableStorageFeedbackMapper;
+import com.azure.data.tables.models.TableEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para FeedbackPeriodIterator")
+class FeedbackPeriodIteratorTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2024, 1, 15, 0, 0);
+    private static final LocalDateTime FIM = LocalDateTime.of(2024, 1, 21, 23, 59, 59);
+
+    @Test
+    @DisplayName("Deve converter apenas linhas dentro do período")
+    void deveConverterApenasLinhasDentroDoPeriodo() {
+        TableEntity semCreatedAt = new TableEntity("20240115", "sem-data");
+        Iterator<TableEntity> entities = List.of(
+            entity("antes", INICIO.minusSeconds(1)),
+            entity("inicio", INICIO),
+            semCreatedAt,
+            entity("fim", FIM),
+            entity("depois", FIM.plusSeconds(1))).iterator();
+
+        FeedbackPeriodIterator iterator = new FeedbackPeriodIterator(entities, INICIO, FIM);
+
+        List<String> ids = new ArrayList<>();
+        iterator.forEachRemaining(feedback -> ids.add(feedback.getId()));
+
+        assertEquals(List.of("inicio", "fim"), ids);
+    }
+
+    @Test
+    @DisplayName("Deve lançar NoSuchElementException quando não há mais feedbacks")
+    void deveLancarNoSuchElementExceptionQuandoNaoHaMaisFeedbacks() {
+        FeedbackPeriodIterator iterator = new FeedbackPeriodIterator(
+            List.of(entity("depois", FIM.plusDays(1))).iterator(), INICIO, FIM);
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("Deve traduzir falha de leitura para FeedbackPersistenceException")
+    void deveTraduzirFalhaDeLeituraParaFeedbackPersistenceException() {
+        RuntimeException erro = new RuntimeException("Falha ao buscar próxima página");
+        Iterator<TableEntity> entities = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                throw erro;
+            }
+
+            @Override
+            public TableEntity next() {
+                throw new NoSuchElementException();
+            }
+        };
+
+        FeedbackPeriodIterator iterator = new FeedbackPeriodIterator(entities, INICIO, FIM);
+
+        FeedbackPersistenceException exception = assertThrows(FeedbackPersistenceException.class, iterator::hasNext);
+        assertEquals("Falha ao buscar feedbacks do período", exception.getMessage());
+        assertEquals(erro, exception.getCause());
+    }
+
+    private static TableEntity entity(String id, LocalDateTime createdAt) {
+        Feedback feedback = new Feedback("Aula", 7, "MEDIUM");
+        feedback.setId(id);
+        feedback.setCreatedAt(createdAt);
+        return TableStorageFeedbackMapper.toTableEntity(feedback, FeedbackPartitionScheme.defaultScheme());
+    }
+}
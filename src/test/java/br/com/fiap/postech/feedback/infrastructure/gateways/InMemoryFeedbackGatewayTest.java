@@ -0,0 +1,158 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+
+@DisplayName("Testes para InMemoryFeedbackGateway")
+class InMemoryFeedbackGatewayTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 5, 4, 10, 0);
+
+    private final InMemoryFeedbackGateway gateway = new InMemoryFeedbackGateway();
+
+    @Test
+    @DisplayName("Deve retornar os feedbacks do período em ordem cronológica, com limites inclusivos")
+    void deveRetornarFeedbacksDoPeriodoEmOrdemCronologica() {
+        gateway.save(feedback("c", MONDAY.plusHours(2)));
+        gateway.save(feedback("a", MONDAY));
+        gateway.save(feedback("fora", MONDAY.minusSeconds(1)));
+        gateway.save(feedback("b", MONDAY.plusHours(1)));
+        gateway.save(feedback("depois", MONDAY.plusHours(2).plusNanos(1)));
+
+        List<Feedback> result = gateway.findByPeriod(instant(MONDAY), instant(MONDAY.plusHours(2)));
+
+        assertEquals(List.of("a", "b", "c"), result.stream().map(Feedback::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve substituir o feedback regravado com o mesmo id, mesmo com outra data")
+    void deveSubstituirFeedbackRegravado() {
+        gateway.save(feedback("id-1", MONDAY));
+        gateway.save(Feedback.reconstruct("id-1", "Atualizado", 9, "HIGH", MONDAY.plusDays(1)));
+
+        assertEquals(1, gateway.size());
+        assertTrue(gateway.findByPeriod(instant(MONDAY), instant(MONDAY.plusHours(1))).isEmpty());
+        List<Feedback> result = gateway.findByPeriod(instant(MONDAY), instant(MONDAY.plusDays(2)));
+        assertEquals("Atualizado", result.get(0).getDescription());
+    }
+
+    @Test
+    @DisplayName("Deve gerar id e data quando ausentes")
+    void deveGerarIdEDataQuandoAusentes() {
+        Feedback feedback = new Feedback("Sem id", 7, "LOW");
+        feedback.setId(null);
+        feedback.setCreatedAt(null);
+
+        gateway.save(feedback);
+
+        assertNotNull(feedback.getId());
+        assertNotNull(feedback.getCreatedAt());
+        assertEquals(1, gateway.size());
+    }
+
+    @Test
+    @DisplayName("Não deve refletir alterações feitas no objeto após a gravação")
+    void naoDeveRefletirAlteracoesAposGravacao() {
+        Feedback feedback = feedback("id-1", MONDAY);
+        gateway.save(feedback);
+
+        feedback.setCreatedAt(MONDAY.plusYears(1));
+
+        assertEquals(1, gateway.findByPeriod(instant(MONDAY), instant(MONDAY)).size());
+    }
+
+    @Test
+    @DisplayName("Não deve refletir alterações feitas nos feedbacks lidos")
+    void naoDeveRefletirAlteracoesNosFeedbacksLidos() {
+        gateway.save(feedback("id-1", MONDAY));
+
+        Feedback lido = gateway.findByPeriod(instant(MONDAY), instant(MONDAY)).get(0);
+        lido.setId("outro");
+        lido.setCreatedAt(MONDAY.plusYears(1));
+
+        List<Feedback> result = gateway.findByPeriod(instant(MONDAY), instant(MONDAY));
+        assertEquals(List.of("id-1"), result.stream().map(Feedback::getId).toList());
+        assertEquals(MONDAY, result.get(0).getCreatedAt());
+
+        gateway.save(feedback("id-1", MONDAY.plusMinutes(1)));
+        assertEquals(1, gateway.size());
+    }
+
+    @Test
+    @DisplayName("Deve descartar os mais antigos ao exceder a retenção máxima")
+    void deveDescartarMaisAntigosAoExcederRetencao() {
+        InMemoryFeedbackGateway limited = new InMemoryFeedbackGateway(2);
+        limited.save(feedback("1", MONDAY));
+        limited.save(feedback("2", MONDAY.plusMinutes(1)));
+        limited.save(feedback("3", MONDAY.plusMinutes(2)));
+
+        List<Feedback> result = limited.findByPeriod(instant(MONDAY), instant(MONDAY.plusHours(1)));
+
+        assertEquals(2, limited.size());
+        assertEquals(List.of("2", "3"), result.stream().map(Feedback::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve gravar lotes pela implementação padrão de saveAll")
+    void deveGravarLotes() {
+        BatchSaveResult result = gateway.saveAll(List.of(feedback("a", MONDAY), feedback("b", MONDAY)));
+
+        assertEquals(List.of("a", "b"), result.savedIds());
+        assertTrue(result.failures().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando o fim do período é anterior ao início")
+    void deveRetornarVazioParaPeriodoInvertido() {
+        gateway.save(feedback("a", MONDAY));
+
+        assertTrue(gateway.findByPeriod(instant(MONDAY.plusHours(1)), instant(MONDAY)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar feedback nulo")
+    void deveRejeitarFeedbackNulo() {
+        assertThrows(FeedbackPersistenceException.class, () -> gateway.save(null));
+    }
+
+    @Test
+    @DisplayName("Deve manter a contagem correta com gravações concorrentes do mesmo id")
+    void deveManterContagemComGravacoesConcorrentes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            IntStream.range(0, 2000).forEach(i -> executor.submit(
+                () -> gateway.save(feedback("id-" + (i % 50), MONDAY.plusSeconds(i)))));
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(50, gateway.size());
+        assertEquals(50, gateway.findByPeriod(instant(MONDAY), instant(MONDAY.plusHours(1))).size());
+    }
+
+    private static Feedback feedback(String id, LocalDateTime createdAt) {
+        return Feedback.reconstruct(id, "Aula", 7, "LOW", createdAt);
+    }
+
+    private static Instant instant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
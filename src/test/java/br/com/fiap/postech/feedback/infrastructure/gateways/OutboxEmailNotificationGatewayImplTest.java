@@ -0,0 +1,73 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.azure.storage.queue.QueueClient;
+
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para OutboxEmailNotificationGatewayImpl")
+class OutboxEmailNotificationGatewayImplTest {
+
+    @Mock
+    private QueueClient queueClient;
+
+    private OutboxEmailNotificationGatewayImpl gateway;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gateway = new OutboxEmailNotificationGatewayImpl("UseDevelopmentStorage=true", "feedback-notifications");
+
+        // Injetar fila com queueClient mockado usando reflection
+        Field queueField = OutboxEmailNotificationGatewayImpl.class.getDeclaredField("queue");
+        queueField.setAccessible(true);
+        queueField.set(gateway, new StorageQueue(queueClient, "feedback-notifications"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar conteúdo do email na fila")
+    void deveRegistrarConteudoDoEmailNaFila() {
+        gateway.sendAdminNotification("Descrição: Aula ruim");
+
+        verify(queueClient).sendMessage("Descrição: Aula ruim");
+    }
+
+    @Test
+    @DisplayName("Deve indicar envio posterior, para que a falha no registro seja propagada")
+    void deveIndicarEnvioPosterior() {
+        assertTrue(gateway.isDeferred());
+    }
+
+    @Test
+    @DisplayName("Deve lançar NotificationException quando envio para a fila falha")
+    void deveLancarNotificationExceptionQuandoEnvioParaFilaFalha() {
+        when(queueClient.sendMessage(anyString())).thenThrow(new RuntimeException("fila indisponível"));
+
+        NotificationException exception = assertThrows(NotificationException.class,
+            () -> gateway.sendAdminNotification("conteúdo"));
+
+        assertEquals("Falha ao registrar notificação na fila", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve lançar NotificationException quando connection string não está configurada")
+    void deveLancarNotificationExceptionQuandoConnectionStringNaoEstaConfigurada() {
+        OutboxEmailNotificationGatewayImpl semConexao = new OutboxEmailNotificationGatewayImpl(null, "feedback-notifications");
+
+        assertThrows(NotificationException.class, semConexao::init);
+    }
+}
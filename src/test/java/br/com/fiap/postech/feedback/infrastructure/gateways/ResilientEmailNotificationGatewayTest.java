@@ -0,0 +1,58 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.Bulkhead;
+import br.com.fiap.postech.feedback.infrastructure.resilience.CircuitBreaker;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
+import io.mailtrap.exception.http.HttpServerException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ResilientEmailNotificationGateway")
+class ResilientEmailNotificationGatewayTest {
+
+    @Mock
+    private EmailNotificationGateway delegate;
+
+    private final DependencyGuard guard = new DependencyGuard("mailtrap",
+        CircuitBreaker.builder("mailtrap").windowSize(2).minimumCalls(2).failureRateThreshold(100).build(),
+        new Bulkhead(2, Duration.ZERO));
+
+    @Test
+    @DisplayName("Deve enviar a notificação pelo gateway protegido")
+    void deveEnviarNotificacao() {
+        new ResilientEmailNotificationGateway(delegate, guard).sendAdminNotification("mensagem");
+
+        verify(delegate).sendAdminNotification("mensagem");
+    }
+
+    @Test
+    @DisplayName("Deve falhar rápido com NotificationException quando o Mailtrap está com o circuito aberto")
+    void deveFalharRapidoQuandoCircuitoEstaAberto() {
+        ResilientEmailNotificationGateway gateway = new ResilientEmailNotificationGateway(delegate, guard);
+        doThrow(new NotificationException("Mailtrap indisponível", new HttpServerException("Service Unavailable", 503))).when(delegate).sendAdminNotification("mensagem");
+        for (int i = 0; i < 2; i++) {
+            assertThrows(NotificationException.class, () -> gateway.sendAdminNotification("mensagem"));
+        }
+
+        NotificationException error = assertThrows(NotificationException.class,
+            () -> gateway.sendAdminNotification("mensagem"));
+
+        assertInstanceOf(DependencyUnavailableException.class, error.getCause());
+        verify(delegate, times(2)).sendAdminNotification("mensagem");
+    }
+}
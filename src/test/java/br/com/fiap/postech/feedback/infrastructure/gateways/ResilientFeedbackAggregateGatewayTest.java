@@ -0,0 +1,89 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.DailyFeedbackAggregate;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackAggregateGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.Bulkhead;
+import br.com.fiap.postech.feedback.infrastructure.resilience.CircuitBreaker;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ResilientFeedbackAggregateGateway")
+class ResilientFeedbackAggregateGatewayTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 5, 4);
+
+    @Mock
+    private FeedbackAggregateGateway delegate;
+
+    private DependencyGuard guard;
+    private ResilientFeedbackAggregateGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        guard = new DependencyGuard("table",
+            CircuitBreaker.builder("table").windowSize(2).minimumCalls(2).failureRateThreshold(100).build(),
+            new Bulkhead(4, Duration.ZERO));
+        gateway = new ResilientFeedbackAggregateGateway(delegate, guard);
+    }
+
+    @Test
+    @DisplayName("Deve delegar atualização e leitura dos agregados registrando sucesso")
+    void deveDelegarAtualizacaoELeitura() {
+        List<Feedback> feedbacks = List.of(feedback());
+        List<DailyFeedbackAggregate> aggregates = List.of(new DailyFeedbackAggregate(DAY, 1, 7, Map.of("LOW", 1L)));
+        when(delegate.findDaily(DAY, DAY)).thenReturn(aggregates);
+
+        gateway.record(feedbacks);
+
+        assertEquals(aggregates, gateway.findDaily(DAY, DAY));
+        verify(delegate).record(feedbacks);
+        assertEquals(2, guard.metrics().successful());
+    }
+
+    @Test
+    @DisplayName("Deve falhar rápido com FeedbackPersistenceException quando o circuito do Table Storage está aberto")
+    void deveFalharRapidoQuandoCircuitoEstaAberto() {
+        List<Feedback> feedbacks = List.of(feedback());
+        doThrow(new UncheckedIOException(new IOException("timeout"))).when(delegate).record(feedbacks);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(UncheckedIOException.class, () -> gateway.record(feedbacks));
+        }
+
+        FeedbackPersistenceException error = assertThrows(FeedbackPersistenceException.class,
+            () -> gateway.findDaily(DAY, DAY));
+
+        assertInstanceOf(DependencyUnavailableException.class, error.getCause());
+        verify(delegate, times(2)).record(feedbacks);
+        verify(delegate, never()).findDaily(DAY, DAY);
+    }
+
+    private static Feedback feedback() {
+        return Feedback.reconstruct("id-1", "Aula", 7, "LOW", LocalDateTime.of(2026, 5, 4, 10, 0));
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.Bulkhead;
+import br.com.fiap.postech.feedback.infrastructure.resilience.CircuitBreaker;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ResilientFeedbackGateway")
+class ResilientFeedbackGatewayTest {
+
+    @Mock
+    private FeedbackGateway delegate;
+
+    private DependencyGuard guard;
+    private ResilientFeedbackGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        guard = new DependencyGuard("table",
+            CircuitBreaker.builder("table").windowSize(2).minimumCalls(2).failureRateThreshold(100).build(),
+            new Bulkhead(4, Duration.ZERO));
+        gateway = new ResilientFeedbackGateway(delegate, guard);
+    }
+
+    @Test
+    @DisplayName("Deve delegar gravações e consultas registrando sucesso")
+    void deveDelegarGravacoesEConsultas() {
+        Feedback feedback = feedback("id-1");
+        BatchSaveResult result = new BatchSaveResult(List.of("id-1"), List.of());
+        Instant from = Instant.parse("2026-05-04T00:00:00Z");
+        Instant to = from.plusSeconds(3600);
+        when(delegate.saveAll(List.of(feedback))).thenReturn(result);
+        when(delegate.findByPeriod(from, to)).thenReturn(List.of(feedback));
+
+        gateway.save(feedback);
+
+        assertEquals(result, gateway.saveAll(List.of(feedback)));
+        assertEquals(List.of(feedback), gateway.findByPeriod(from, to));
+        verify(delegate).save(feedback);
+        assertEquals(3, guard.metrics().successful());
+    }
+
+    @Test
+    @DisplayName("Deve falhar rápido com FeedbackPersistenceException quando o circuito está aberto")
+    void deveFalharRapidoQuandoCircuitoEstaAberto() {
+        Feedback feedback = feedback("id-1");
+        doThrow(new FeedbackPersistenceException("timeout", new UncheckedIOException(new IOException("timeout")))).when(delegate).save(feedback);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(FeedbackPersistenceException.class, () -> gateway.save(feedback));
+        }
+
+        FeedbackPersistenceException error = assertThrows(FeedbackPersistenceException.class, () -> gateway.save(feedback));
+
+        assertInstanceOf(DependencyUnavailableException.class, error.getCause());
+        verify(delegate, times(2)).save(feedback);
+    }
+
+    private static Feedback feedback(String id) {
+        return Feedback.reconstruct(id, "Aula", 7, "LOW", LocalDateTime.of(2026, 5, 4, 10, 0));
+    }
+}
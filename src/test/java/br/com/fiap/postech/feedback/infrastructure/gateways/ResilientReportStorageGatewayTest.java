@@ -0,0 +1,97 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.domain.gateways.ReportStorageGateway;
+import br.com.fiap.postech.feedback.infrastructure.resilience.Bulkhead;
+import br.com.fiap.postech.feedback.infrastructure.resilience.CircuitBreaker;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para ResilientReportStorageGateway")
+class ResilientReportStorageGatewayTest {
+
+    @Mock
+    private ReportStorageGateway delegate;
+
+    @Test
+    @DisplayName("Deve delegar o upload e a URL do relatório")
+    void deveDelegarUploadEUrl() {
+        ResilientReportStorageGateway gateway = new ResilientReportStorageGateway(delegate, guard(1));
+        Map<String, Object> report = Map.of("total", 1);
+        when(delegate.saveWeeklyReport(report)).thenReturn("relatorio.json");
+        when(delegate.getReportUrl("relatorio.json")).thenReturn("http://blob/relatorio.json");
+
+        assertEquals("relatorio.json", gateway.saveWeeklyReport(report));
+        assertEquals("http://blob/relatorio.json", gateway.getReportUrl("relatorio.json"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o upload com FeedbackPersistenceException quando não há vaga no bulkhead")
+    void deveRecusarUploadSemVagaNoBulkhead() {
+        DependencyGuard guard = guard(1);
+        ResilientReportStorageGateway gateway = new ResilientReportStorageGateway(delegate, guard);
+
+        FeedbackPersistenceException error = guard.execute(() ->
+            assertThrows(FeedbackPersistenceException.class, () -> gateway.saveReport("a.json", "{}")));
+
+        assertInstanceOf(DependencyUnavailableException.class, error.getCause());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Deve repassar a proteção às chamadas do Blob no relatório em streaming")
+    void deveRepassarProtecaoAsChamadasDoBlobNoRelatorioEmStreaming() {
+        BlobReportStorageGatewayImpl blob = mock(BlobReportStorageGatewayImpl.class);
+        doReturn(true).when(blob).guardsBlobCalls();
+        DependencyGuard guard = guard(1);
+        ResilientReportStorageGateway gateway = new ResilientReportStorageGateway(blob, guard);
+        Stream<FeedbackBatch> feedbacks = Stream.empty();
+        Supplier<Map<String, Object>> summary = Map::of;
+        doReturn("relatorio.json").when(blob).saveWeeklyReport(feedbacks, summary);
+
+        String fileName = guard.execute(() -> gateway.saveWeeklyReport(feedbacks, summary));
+
+        assertEquals("relatorio.json", fileName);
+        verify(blob).guardBlobCalls(guard);
+    }
+
+    @Test
+    @DisplayName("Deve proteger a escrita inteira em streaming de outros gateways")
+    void deveProtegerEscritaInteiraDeOutrosGateways() {
+        DependencyGuard guard = guard(1);
+        ResilientReportStorageGateway gateway = new ResilientReportStorageGateway(delegate, guard);
+
+        FeedbackPersistenceException error = guard.execute(() ->
+            assertThrows(FeedbackPersistenceException.class, () -> gateway.saveWeeklyReport(Stream.empty(), Map::of)));
+
+        assertTrue(error.getCause() instanceof DependencyUnavailableException);
+        verifyNoInteractions(delegate);
+    }
+
+    private static DependencyGuard guard(int maxConcurrent) {
+        return new DependencyGuard("blob", CircuitBreaker.builder("blob").build(),
+            new Bulkhead(maxConcurrent, Duration.ZERO));
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.PagedResponseBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para RetryingPagedIterator")
+class RetryingPagedIteratorTest {
+
+    private final RetryPolicy retryPolicy = RetryPolicy.builder("teste").sleeper(delay -> { }).build();
+
+    @Test
+    @DisplayName("Deve percorrer as páginas pelo continuation token, inclusive páginas vazias")
+    void devePercorrerPaginasPeloContinuationToken() {
+        List<String> tokens = new ArrayList<>();
+        PagedIterable<String> pages = new PagedIterable<>(
+            () -> page(List.of("a", "b"), "2"),
+            token -> {
+                tokens.add(token);
+                return token.equals("2") ? page(List.of(), "3") : page(List.of("c"), null);
+            });
+
+        List<String> items = new ArrayList<>();
+        new RetryingPagedIterator<>(pages, retryPolicy).forEachRemaining(items::add);
+
+        assertEquals(List.of("a", "b", "c"), items);
+        assertEquals(List.of("2", "3"), tokens);
+    }
+
+    @Test
+    @DisplayName("Deve repetir apenas a página que falhou com erro transitório")
+    void deveRepetirApenasPaginaQueFalhou() {
+        HttpResponseException serverBusy = httpError(503);
+        List<String> tokens = new ArrayList<>();
+        PagedIterable<String> pages = new PagedIterable<>(
+            () -> page(List.of("a"), "2"),
+            token -> {
+                tokens.add(token);
+                if (tokens.size() == 1) {
+                    throw serverBusy;
+                }
+                return page(List.of("b"), null);
+            });
+
+        List<String> items = new ArrayList<>();
+        new RetryingPagedIterator<>(pages, retryPolicy).forEachRemaining(items::add);
+
+        assertEquals(List.of("a", "b"), items);
+        assertEquals(List.of("2", "2"), tokens);
+    }
+
+    @Test
+    @DisplayName("Deve propagar falha não transitória sem nova tentativa")
+    void devePropagarFalhaNaoTransitoria() {
+        HttpResponseException badRequest = httpError(400);
+        int[] calls = {0};
+        PagedIterable<String> pages = new PagedIterable<>(() -> {
+            calls[0]++;
+            throw badRequest;
+        });
+
+        RetryingPagedIterator<String> iterator = new RetryingPagedIterator<>(pages, retryPolicy);
+
+        assertSame(badRequest, assertThrows(HttpResponseException.class, iterator::hasNext));
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    @DisplayName("Deve lançar NoSuchElementException depois da última página")
+    void deveLancarNoSuchElementDepoisDaUltimaPagina() {
+        RetryingPagedIterator<String> iterator = new RetryingPagedIterator<>(
+            new PagedIterable<>(() -> page(List.of(), null)), retryPolicy);
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    private static PagedResponse<String> page(List<String> items, String continuationToken) {
+        return new PagedResponseBase<Void, String>(null, 200, null, items, continuationToken, null);
+    }
+
+    private static HttpResponseException httpError(int status) {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        return new HttpResponseException("status " + status, response);
+    }
+}
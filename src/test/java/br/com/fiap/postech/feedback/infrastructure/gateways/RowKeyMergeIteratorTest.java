@@ -0,0 +1,61 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import com.azure.data.tables.models.TableEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para RowKeyMergeIterator")
+class RowKeyMergeIteratorTest {
+
+    @Test
+    @DisplayName("Deve intercalar fontes ordenadas mantendo a ordem por RowKey")
+    void deveIntercalarFontesOrdenadas() {
+        RowKeyMergeIterator iterator = new RowKeyMergeIterator(List.of(
+            entities("a", "d", "e"),
+            entities("b", "c"),
+            entities("f")));
+
+        List<String> rowKeys = new ArrayList<>();
+        iterator.forEachRemaining(entity -> rowKeys.add(entity.getRowKey()));
+
+        assertEquals(List.of("a", "b", "c", "d", "e", "f"), rowKeys);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar fontes vazias")
+    void deveIgnorarFontesVazias() {
+        RowKeyMergeIterator iterator = new RowKeyMergeIterator(List.of(
+            Collections.<TableEntity>emptyIterator(),
+            entities("a")));
+
+        assertEquals("a", iterator.next().getRowKey());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve lançar NoSuchElementException quando não há mais elementos")
+    void deveLancarNoSuchElementExceptionQuandoNaoHaMaisElementos() {
+        RowKeyMergeIterator iterator = new RowKeyMergeIterator(List.of());
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    private static Iterator<TableEntity> entities(String... rowKeys) {
+        List<TableEntity> entities = new ArrayList<>();
+        for (String rowKey : rowKeys) {
+            entities.add(new TableEntity("p", rowKey));
+        }
+        return entities.iterator();
+    }
+}
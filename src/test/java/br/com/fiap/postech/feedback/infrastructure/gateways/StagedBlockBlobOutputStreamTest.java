@@ -0,0 +1,139 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.fiap.postech.feedback.infrastructure.resilience.Bulkhead;
+import br.com.fiap.postech.feedback.infrastructure.resilience.CircuitBreaker;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+
+@DisplayName("Testes para StagedBlockBlobOutputStream")
+class StagedBlockBlobOutputStreamTest {
+
+    private final List<String> stagedIds = new ArrayList<>();
+    private final ByteArrayOutputStream stagedBytes = new ByteArrayOutputStream();
+    private List<String> committedIds;
+
+    @Test
+    @DisplayName("Deve enviar um bloco a cada buffer cheio e confirmar todos no commit")
+    void deveEnviarBlocosEConfirmarNoCommit() throws IOException {
+        StagedBlockBlobOutputStream out = stream(4);
+
+        out.write("0123456789".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(2, stagedIds.size());
+        assertNull(committedIds);
+
+        out.commit();
+
+        assertEquals(3, stagedIds.size());
+        assertEquals(stagedIds, committedIds);
+        assertEquals(1, stagedIds.stream().map(String::length).distinct().count());
+        assertEquals(3, stagedIds.stream().distinct().count());
+        assertEquals("0123456789", stagedBytes.toString(StandardCharsets.US_ASCII));
+        assertTrue(out.isCommitted());
+    }
+
+    @Test
+    @DisplayName("Não deve confirmar os blocos ao fechar sem commit")
+    void naoDeveConfirmarBlocosAoFecharSemCommit() throws IOException {
+        StagedBlockBlobOutputStream out = stream(4);
+        out.write("0123456789".getBytes(StandardCharsets.US_ASCII));
+
+        out.close();
+
+        assertNull(committedIds);
+        assertFalse(out.isCommitted());
+        assertThrows(IOException.class, out::commit);
+        assertThrows(IOException.class, () -> out.write(1));
+    }
+
+    @Test
+    @DisplayName("Deve repetir o envio do bloco em falha transitória")
+    void deveRepetirEnvioDoBlocoEmFalhaTransitoria() throws IOException {
+        int[] tentativas = {0};
+        RetryPolicy retryPolicy = RetryPolicy.builder("teste")
+            .maxAttempts(2)
+            .sleeper(delay -> { })
+            .retryable(e -> true)
+            .build();
+        StagedBlockBlobOutputStream out = new StagedBlockBlobOutputStream(null, null, retryPolicy, 4) {
+            @Override
+            void stageBlock(String blockId, byte[] data, int length) {
+                if (tentativas[0]++ == 0) {
+                    throw new IllegalStateException("503");
+                }
+                stagedIds.add(blockId);
+            }
+
+            @Override
+            void commitBlocks(List<String> ids) {
+                committedIds = ids;
+            }
+        };
+
+        out.write("ab".getBytes(StandardCharsets.US_ASCII));
+        out.commit();
+
+        assertEquals(2, tentativas[0]);
+        assertEquals(stagedIds, committedIds);
+    }
+
+    @Test
+    @DisplayName("Deve ocupar o bulkhead apenas durante cada chamada ao Blob")
+    void deveOcuparBulkheadApenasDuranteCadaChamadaAoBlob() throws IOException {
+        DependencyGuard guard = new DependencyGuard("blob", CircuitBreaker.builder("blob").build(),
+            new Bulkhead(1, Duration.ZERO));
+        int[] emCursoNoEnvio = {-1};
+        StagedBlockBlobOutputStream out = new StagedBlockBlobOutputStream(null, null,
+                RetryPolicy.builder("teste").maxAttempts(1).build(), guard, 4) {
+            @Override
+            void stageBlock(String blockId, byte[] data, int length) {
+                emCursoNoEnvio[0] = guard.metrics().activeCalls();
+                stagedIds.add(blockId);
+            }
+
+            @Override
+            void commitBlocks(List<String> ids) {
+                committedIds = ids;
+            }
+        };
+
+        out.write("012345".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(1, emCursoNoEnvio[0]);
+        assertEquals(0, guard.metrics().activeCalls());
+        guard.run(() -> assertThrows(DependencyUnavailableException.class, out::commit));
+        assertNull(committedIds);
+        out.commit();
+        assertEquals(stagedIds, committedIds);
+    }
+
+    private StagedBlockBlobOutputStream stream(int blockSize) {
+        return new StagedBlockBlobOutputStream(null, null, RetryPolicy.builder("teste").maxAttempts(1).build(), blockSize) {
+            @Override
+            void stageBlock(String blockId, byte[] data, int length) {
+                stagedIds.add(blockId);
+                stagedBytes.write(data, 0, length);
+            }
+
+            @Override
+            void commitBlocks(List<String> ids) {
+                committedIds = ids;
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.azure.storage.queue.QueueClient;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para StorageQueueFeedbackGatewayImpl")
+class StorageQueueFeedbackGatewayImplTest {
+
+    @Mock
+    private QueueClient queueClient;
+
+    private StorageQueueFeedbackGatewayImpl gateway;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gateway = new StorageQueueFeedbackGatewayImpl("UseDevelopmentStorage=true", "feedback-ingest");
+
+        // Injetar fila com queueClient mockado usando reflection
+        Field queueField = StorageQueueFeedbackGatewayImpl.class.getDeclaredField("queue");
+        queueField.setAccessible(true);
+        queueField.set(gateway, new StorageQueue(queueClient, "feedback-ingest"));
+    }
+
+    @Test
+    @DisplayName("Deve enfileirar feedback como JSON")
+    void deveEnfileirarFeedbackComoJson() {
+        Feedback feedback = Feedback.reconstruct("id-1", "Aula boa", 8, "LOW", LocalDateTime.of(2026, 1, 5, 10, 0));
+
+        gateway.enqueue(feedback);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(queueClient).sendMessage(captor.capture());
+        assertTrue(captor.getValue().contains("\"id\":\"id-1\""));
+        assertTrue(captor.getValue().contains("\"nota\":8"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar FeedbackPersistenceException quando envio para a fila falha")
+    void deveLancarFeedbackPersistenceExceptionQuandoEnvioParaFilaFalha() {
+        Feedback feedback = Feedback.reconstruct("id-1", "Aula boa", 8, "LOW", LocalDateTime.now());
+        when(queueClient.sendMessage(anyString())).thenThrow(new RuntimeException("fila indisponível"));
+
+        FeedbackPersistenceException exception = assertThrows(FeedbackPersistenceException.class,
+            () -> gateway.enqueue(feedback));
+
+        assertEquals("Falha ao enfileirar feedback", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve lançar FeedbackPersistenceException quando connection string não está configurada")
+    void deveLancarFeedbackPersistenceExceptionQuandoConnectionStringNaoEstaConfigurada() {
+        StorageQueueFeedbackGatewayImpl semConexao = new StorageQueueFeedbackGatewayImpl(" ", "feedback-ingest");
+
+        assertThrows(FeedbackPersistenceException.class, semConexao::init);
+    }
+
+    @Test
+    @DisplayName("Deve inicializar sem chamar a fila no modo rápido")
+    void deveInicializarSemChamarAFilaNoModoRapido() {
+        StorageQueueFeedbackGatewayImpl rapido = new StorageQueueFeedbackGatewayImpl(
+            "UseDevelopmentStorage=true", "feedback-ingest", "true");
+
+        assertDoesNotThrow(rapido::init);
+    }
+}
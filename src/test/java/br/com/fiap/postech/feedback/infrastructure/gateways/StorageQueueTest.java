@@ -0,0 +1,189 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.storage.queue.QueueClient;
+import com.azure.storage.queue.models.PeekedMessageItem;
+import com.azure.storage.queue.models.QueueMessageItem;
+import com.azure.storage.queue.models.QueueStorageException;
+
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para StorageQueue")
+class StorageQueueTest {
+
+    private static final Duration VISIBILITY_TIMEOUT = Duration.ofMinutes(1);
+
+    @Mock
+    private QueueClient queueClient;
+
+    private StorageQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new StorageQueue(queueClient, "feedback-ingest");
+        queue.setRetryPolicy(RetryPolicy.builder("teste").sleeper(delay -> { }).build());
+    }
+
+    @Test
+    @DisplayName("Deve receber mensagens em chamadas de até 32 e parar quando a fila esvazia")
+    void deveReceberMensagensEmChamadasDeAte32EPararQuandoFilaEsvazia() {
+        PagedIterable<QueueMessageItem> full = pagedOf(32);
+        PagedIterable<QueueMessageItem> partial = pagedOf(5);
+        when(queueClient.receiveMessages(eq(32), eq(VISIBILITY_TIMEOUT), isNull(), isNull()))
+            .thenReturn(full, partial);
+
+        List<QueueMessageItem> messages = queue.receive(70, VISIBILITY_TIMEOUT);
+
+        assertEquals(37, messages.size());
+        verify(queueClient, times(2)).receiveMessages(eq(32), eq(VISIBILITY_TIMEOUT), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("Deve pedir apenas o restante na última chamada de recebimento")
+    void devePedirApenasORestanteNaUltimaChamadaDeRecebimento() {
+        PagedIterable<QueueMessageItem> full = pagedOf(32);
+        PagedIterable<QueueMessageItem> rest = pagedOf(8);
+        when(queueClient.receiveMessages(eq(32), eq(VISIBILITY_TIMEOUT), isNull(), isNull())).thenReturn(full);
+        when(queueClient.receiveMessages(eq(8), eq(VISIBILITY_TIMEOUT), isNull(), isNull())).thenReturn(rest);
+
+        List<QueueMessageItem> messages = queue.receive(40, VISIBILITY_TIMEOUT);
+
+        assertEquals(40, messages.size());
+    }
+
+    @Test
+    @DisplayName("Não deve chamar a fila quando nenhuma mensagem é pedida")
+    void naoDeveChamarAFilaQuandoNenhumaMensagemEPedida() {
+        assertEquals(0, queue.receive(0, VISIBILITY_TIMEOUT).size());
+
+        verify(queueClient, never()).receiveMessages(anyInt(), eq(VISIBILITY_TIMEOUT), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("Deve remover mensagem usando id e pop receipt")
+    void deveRemoverMensagemUsandoIdEPopReceipt() {
+        queue.delete(new QueueMessageItem().setMessageId("msg-1").setPopReceipt("pop-1"));
+
+        verify(queueClient).deleteMessage("msg-1", "pop-1");
+    }
+
+    @Test
+    @DisplayName("Deve propagar falha de envio não transitória")
+    void devePropagarFalhaDeEnvioNaoTransitoria() {
+        when(queueClient.sendMessage("conteúdo")).thenThrow(new IllegalStateException("fila indisponível"));
+
+        assertThrows(IllegalStateException.class, () -> queue.send("conteúdo"));
+        verify(queueClient).sendMessage("conteúdo");
+    }
+
+    @Test
+    @DisplayName("Deve criar a fila e repetir o envio uma vez quando a fila ainda não existe (modo rápido)")
+    void deveCriarAFilaERepetirOEnvioQuandoAFilaNaoExiste() {
+        queue.createOnDemand();
+        QueueStorageException notFound = queueNotFound();
+        when(queueClient.sendMessage("conteúdo")).thenThrow(notFound).thenReturn(null);
+
+        queue.send("conteúdo");
+
+        verify(queueClient).createIfNotExists();
+        verify(queueClient, times(2)).sendMessage("conteúdo");
+    }
+
+    @Test
+    @DisplayName("Deve propagar o 404 sem criar a fila fora do modo rápido")
+    void devePropagarO404ForaDoModoRapido() {
+        QueueStorageException notFound = queueNotFound();
+        when(queueClient.sendMessage("conteúdo")).thenThrow(notFound);
+
+        assertThrows(QueueStorageException.class, () -> queue.send("conteúdo"));
+        verify(queueClient, never()).createIfNotExists();
+    }
+
+    @Test
+    @DisplayName("Deve devolver lista vazia ao receber de uma fila que ainda não existe (modo rápido)")
+    void deveDevolverListaVaziaAoReceberDeFilaInexistente() {
+        queue.createOnDemand();
+        QueueStorageException notFound = queueNotFound();
+        when(queueClient.receiveMessages(eq(32), eq(VISIBILITY_TIMEOUT), isNull(), isNull())).thenThrow(notFound);
+
+        assertTrue(queue.receive(32, VISIBILITY_TIMEOUT).isEmpty());
+        verify(queueClient, never()).createIfNotExists();
+    }
+
+    @Test
+    @DisplayName("Deve informar o registro da mensagem mais antiga sem retirá-la da fila")
+    void deveInformarRegistroDaMensagemMaisAntigaSemRetirala() {
+        OffsetDateTime insertion = OffsetDateTime.of(2026, 5, 4, 10, 0, 0, 0, ZoneOffset.UTC);
+        when(queueClient.peekMessage()).thenReturn(new PeekedMessageItem().setInsertionTime(insertion));
+
+        assertEquals(insertion, queue.oldestInsertionTime());
+        verify(queueClient, never()).receiveMessages(anyInt(), eq(VISIBILITY_TIMEOUT), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("Deve repetir o recebimento e o peek pela política de novas tentativas quando recebe 503")
+    void deveRepetirRecebimentoEPeekQuandoRecebe503() {
+        QueueStorageException serverBusy = queueError(503);
+        when(queueClient.receiveMessages(eq(32), eq(VISIBILITY_TIMEOUT), isNull(), isNull()))
+            .thenThrow(serverBusy).thenReturn(pagedOf(3));
+        when(queueClient.peekMessage()).thenThrow(serverBusy).thenReturn(null);
+
+        assertEquals(3, queue.receive(32, VISIBILITY_TIMEOUT).size());
+        assertNull(queue.oldestInsertionTime());
+
+        verify(queueClient, times(2)).receiveMessages(eq(32), eq(VISIBILITY_TIMEOUT), isNull(), isNull());
+        verify(queueClient, times(2)).peekMessage();
+    }
+
+    @Test
+    @DisplayName("Deve devolver null como registro mais antigo quando a fila está vazia")
+    void deveDevolverNullComoRegistroMaisAntigoQuandoFilaVazia() {
+        assertNull(queue.oldestInsertionTime());
+    }
+
+    private static QueueStorageException queueNotFound() {
+        return queueError(404);
+    }
+
+    private static QueueStorageException queueError(int status) {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        return new QueueStorageException("status " + status, response, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PagedIterable<QueueMessageItem> pagedOf(int count) {
+        PagedIterable<QueueMessageItem> paged = mock(PagedIterable.class);
+        List<QueueMessageItem> items = IntStream.range(0, count)
+            .mapToObj(i -> new QueueMessageItem().setMessageId("msg-" + i)).toList();
+        when(paged.iterator()).thenAnswer(invocation -> items.iterator());
+        return paged;
+    }
+}
@@ -0,0 +1,362 @@
+package br.com.fiap.postech.feedback.infrastructure.gateways;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.PagedResponseBase;
+import com.azure.data.tables.TableClient;
+import com.azure.data.tables.models.ListEntitiesOptions;
+import com.azure.data.tables.models.TableEntity;
+import com.azure.data.tables.models.TableServiceError;
+import com.azure.data.tables.models.TableServiceException;
+import com.azure.data.tables.models.TableTransactionAction;
+import com.azure.data.tables.models.TableTransactionActionType;
+import com.azure.data.tables.models.TableTransactionFailedException;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.DailyFeedbackAggregate;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Testes para TableStorageFeedbackAggregateGatewayImpl")
+class TableStorageFeedbackAggregateGatewayImplTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 5, 4, 10, 0);
+
+    @Mock
+    private TableClient tableClient;
+
+    private TableStorageFeedbackAggregateGatewayImpl gateway;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gateway = withMockedClient(
+            new TableStorageFeedbackAggregateGatewayImpl("UseDevelopmentStorage=true", "feedbackaggregates", 1));
+    }
+
+    private TableStorageFeedbackAggregateGatewayImpl withMockedClient(TableStorageFeedbackAggregateGatewayImpl target)
+            throws Exception {
+        // Injetar tableClient mockado usando reflection
+        Field tableClientField = TableStorageFeedbackAggregateGatewayImpl.class.getDeclaredField("tableClient");
+        tableClientField.setAccessible(true);
+        tableClientField.set(target, tableClient);
+        return target;
+    }
+
+    @Test
+    @DisplayName("Deve criar a tabela e refazer a transação quando a tabela ainda não existe (modo rápido)")
+    void deveCriarATabelaERefazerATransacaoNoModoRapido() throws Exception {
+        TableStorageFeedbackAggregateGatewayImpl rapido = withMockedClient(
+            new TableStorageFeedbackAggregateGatewayImpl("UseDevelopmentStorage=true", "feedbackaggregates", 1, "true"));
+        TableServiceException notFound = httpError(404);
+        TableTransactionFailedException tableNotFound = tableNotFound();
+        when(tableClient.getEntity("2026-05-04", "00")).thenThrow(notFound);
+        when(tableClient.submitTransaction(anyList())).thenThrow(tableNotFound).thenReturn(null);
+
+        rapido.record(List.of(feedback("a", 8, "LOW")));
+
+        verify(tableClient).createTable();
+        assertEquals(2, submittedTransactions(2).get(1).size());
+    }
+
+    @Test
+    @DisplayName("Não deve criar a tabela fora do modo rápido")
+    void naoDeveCriarATabelaForaDoModoRapido() {
+        TableServiceException notFound = httpError(404);
+        TableTransactionFailedException tableNotFound = tableNotFound();
+        when(tableClient.getEntity("2026-05-04", "00")).thenThrow(notFound);
+        when(tableClient.submitTransaction(anyList())).thenThrow(tableNotFound);
+
+        assertThrows(FeedbackPersistenceException.class, () -> gateway.record(List.of(feedback("a", 8, "LOW"))));
+        verify(tableClient, times(0)).createTable();
+    }
+
+    @Test
+    @DisplayName("Deve devolver lista vazia quando a tabela ainda não existe (modo rápido)")
+    void deveDevolverListaVaziaQuandoATabelaNaoExisteNoModoRapido() throws Exception {
+        TableStorageFeedbackAggregateGatewayImpl rapido = withMockedClient(
+            new TableStorageFeedbackAggregateGatewayImpl("UseDevelopmentStorage=true", "feedbackaggregates", 1, "true"));
+        TableTransactionFailedException tableNotFound = tableNotFound();
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), isNull(), isNull())).thenThrow(tableNotFound);
+
+        assertTrue(rapido.findDaily(LocalDate.of(2026, 5, 4), LocalDate.of(2026, 5, 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve criar linha do dia e marcadores na mesma transação quando agregado ainda não existe")
+    void deveCriarLinhaDoDiaQuandoAgregadoAindaNaoExiste() {
+        TableServiceException notFound = httpError(404);
+        when(tableClient.getEntity("2026-05-04", "00")).thenThrow(notFound);
+
+        gateway.record(List.of(feedback("a", 8, "LOW"), feedback("b", 2, "HIGH")));
+
+        List<TableTransactionAction> actions = submittedTransactions(1).get(0);
+        assertEquals(3, actions.size());
+        assertEquals("id_a", actions.get(0).getEntity().getRowKey());
+        assertEquals("id_b", actions.get(1).getEntity().getRowKey());
+        assertEquals(TableTransactionActionType.CREATE, actions.get(0).getActionType());
+        TableTransactionAction row = actions.get(2);
+        assertEquals(TableTransactionActionType.CREATE, row.getActionType());
+        TableEntity created = row.getEntity();
+        assertEquals("00", created.getRowKey());
+        assertEquals(2L, created.getProperty("count"));
+        assertEquals(10L, created.getProperty("scoreSum"));
+        assertEquals(1L, created.getProperty("urgency_LOW"));
+        assertEquals(1L, created.getProperty("urgency_HIGH"));
+    }
+
+    @Test
+    @DisplayName("Deve somar à linha existente usando ETag")
+    void deveSomarALinhaExistenteUsandoETag() {
+        when(tableClient.getEntity("2026-05-04", "00")).thenReturn(existing(3L, 20L, 3L));
+
+        gateway.record(List.of(feedback("a", 5, "LOW")));
+
+        TableTransactionAction row = submittedTransactions(1).get(0).get(1);
+        assertEquals(TableTransactionActionType.UPDATE_REPLACE, row.getActionType());
+        assertTrue(row.getIfUnchanged());
+        assertEquals(4L, row.getEntity().getProperty("count"));
+        assertEquals(25L, row.getEntity().getProperty("scoreSum"));
+        assertEquals(4L, row.getEntity().getProperty("urgency_LOW"));
+    }
+
+    @Test
+    @DisplayName("Deve reler e tentar novamente quando ETag mudou (412)")
+    void deveRelerETentarNovamenteQuandoETagMudou() {
+        when(tableClient.getEntity("2026-05-04", "00"))
+            .thenReturn(existing(3L, 20L, 3L), existing(4L, 27L, 4L));
+        TableTransactionFailedException conflict = transactionFailed(412, 1);
+        when(tableClient.submitTransaction(anyList())).thenThrow(conflict).thenReturn(null);
+
+        gateway.record(List.of(feedback("a", 5, "LOW")));
+
+        TableEntity row = submittedTransactions(2).get(1).get(1).getEntity();
+        assertEquals(5L, row.getProperty("count"));
+        assertEquals(32L, row.getProperty("scoreSum"));
+    }
+
+    @Test
+    @DisplayName("Não deve somar de novo feedback já registrado (reentrega ou regravação do mesmo id)")
+    void naoDeveSomarDeNovoFeedbackJaRegistrado() {
+        when(tableClient.getEntity("2026-05-04", "00")).thenAnswer(invocation -> existing(3L, 20L, 3L));
+        when(tableClient.getEntity("2026-05-04", "id_a")).thenReturn(new TableEntity("2026-05-04", "id_a"));
+        TableServiceException notFound = httpError(404);
+        when(tableClient.getEntity("2026-05-04", "id_b")).thenThrow(notFound);
+        TableTransactionFailedException alreadyApplied = transactionFailed(409, 0);
+        when(tableClient.submitTransaction(anyList())).thenThrow(alreadyApplied).thenReturn(null);
+
+        gateway.record(List.of(feedback("a", 5, "LOW"), feedback("b", 9, "LOW")));
+
+        List<TableTransactionAction> retried = submittedTransactions(2).get(1);
+        assertEquals(2, retried.size());
+        assertEquals("id_b", retried.get(0).getEntity().getRowKey());
+        assertEquals(4L, retried.get(1).getEntity().getProperty("count"));
+        assertEquals(29L, retried.get(1).getEntity().getProperty("scoreSum"));
+    }
+
+    @Test
+    @DisplayName("Deve encerrar sem nova gravação quando todos os feedbacks já foram somados")
+    void deveEncerrarQuandoTodosOsFeedbacksJaForamSomados() {
+        when(tableClient.getEntity("2026-05-04", "00")).thenReturn(existing(3L, 20L, 3L));
+        when(tableClient.getEntity("2026-05-04", "id_a")).thenReturn(new TableEntity("2026-05-04", "id_a"));
+        TableTransactionFailedException alreadyApplied = transactionFailed(409, 0);
+        when(tableClient.submitTransaction(anyList())).thenThrow(alreadyApplied);
+
+        gateway.record(List.of(feedback("a", 5, "LOW")));
+
+        submittedTransactions(1);
+    }
+
+    @Test
+    @DisplayName("Não deve repetir a transação em falha do serviço com resultado desconhecido")
+    void naoDeveRepetirTransacaoEmFalhaDoServico() {
+        gateway.setRetryPolicy(RetryPolicy.builder("teste").sleeper(delay -> { }).retryable(e -> true).build());
+        when(tableClient.getEntity("2026-05-04", "00")).thenReturn(existing(3L, 20L, 3L));
+        TableServiceException unavailable = httpError(503);
+        when(tableClient.submitTransaction(anyList())).thenThrow(unavailable);
+
+        List<Feedback> feedbacks = List.of(feedback("a", 5, "LOW"));
+
+        assertThrows(FeedbackPersistenceException.class, () -> gateway.record(feedbacks));
+        submittedTransactions(1);
+    }
+
+    @Test
+    @DisplayName("Deve lançar FeedbackPersistenceException após esgotar tentativas por conflito")
+    void deveLancarFeedbackPersistenceExceptionAposEsgotarTentativasPorConflito() {
+        TableTransactionFailedException conflict = transactionFailed(412, 1);
+        when(tableClient.getEntity("2026-05-04", "00")).thenAnswer(invocation -> existing(1L, 1L, 1L));
+        when(tableClient.submitTransaction(anyList())).thenThrow(conflict);
+
+        List<Feedback> feedbacks = List.of(feedback("a", 5, "LOW"));
+
+        assertThrows(FeedbackPersistenceException.class, () -> gateway.record(feedbacks));
+        submittedTransactions(TableStorageFeedbackAggregateGatewayImpl.MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("Deve dividir o shard em transações de até 100 ações")
+    void deveDividirShardEmTransacoesDeAte100Acoes() {
+        TableServiceException notFound = httpError(404);
+        when(tableClient.getEntity("2026-05-04", "00")).thenThrow(notFound);
+        List<Feedback> feedbacks = IntStream.range(0, 150).mapToObj(i -> feedback("f" + i, 7, "LOW")).toList();
+
+        gateway.record(feedbacks);
+
+        List<List<TableTransactionAction>> transactions = submittedTransactions(2);
+        assertEquals(100, transactions.get(0).size());
+        assertEquals(52, transactions.get(1).size());
+    }
+
+    @Test
+    @DisplayName("Deve remover contadores e marcadores do dia em transações")
+    void deveRemoverContadoresEMarcadoresDoDia() {
+        List<TableEntity> rows = IntStream.range(0, 101)
+            .mapToObj(i -> new TableEntity("2026-05-04", "id_f" + i)).toList();
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), isNull(), isNull())).thenReturn(singlePage(rows));
+
+        assertEquals(101, gateway.clearDay(LocalDate.of(2026, 5, 4)));
+
+        List<List<TableTransactionAction>> transactions = submittedTransactions(2);
+        assertEquals(100, transactions.get(0).size());
+        assertEquals(TableTransactionActionType.DELETE, transactions.get(1).get(0).getActionType());
+        ArgumentCaptor<ListEntitiesOptions> options = ArgumentCaptor.forClass(ListEntitiesOptions.class);
+        verify(tableClient).listEntities(options.capture(), isNull(), isNull());
+        assertEquals("PartitionKey eq '2026-05-04'", options.getValue().getFilter());
+    }
+
+    @Test
+    @DisplayName("Deve somar shards de cada dia na consulta por período")
+    void deveSomarShardsDeCadaDiaNaConsultaPorPeriodo() {
+        TableEntity shard0 = new TableEntity("2026-05-05", "00")
+            .addProperty("count", 2L).addProperty("scoreSum", 10L).addProperty("urgency_LOW", 2L);
+        TableEntity shard1 = new TableEntity("2026-05-05", "01")
+            .addProperty("count", 1L).addProperty("scoreSum", 1L).addProperty("urgency_HIGH", 1L);
+        TableEntity otherDay = new TableEntity("2026-05-04", "00")
+            .addProperty("count", 1L).addProperty("scoreSum", 7L).addProperty("urgency_MEDIUM", 1L);
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), isNull(), isNull()))
+            .thenReturn(singlePage(List.of(shard0, shard1, otherDay)));
+
+        List<DailyFeedbackAggregate> result = gateway.findDaily(LocalDate.of(2026, 5, 4), LocalDate.of(2026, 5, 10));
+
+        assertEquals(2, result.size());
+        assertEquals(LocalDate.of(2026, 5, 4), result.get(0).day());
+        DailyFeedbackAggregate merged = result.get(1);
+        assertEquals(3L, merged.count());
+        assertEquals(11L, merged.scoreSum());
+        assertEquals(2L, merged.countByUrgency().get("LOW"));
+        assertEquals(1L, merged.countByUrgency().get("HIGH"));
+
+        ArgumentCaptor<ListEntitiesOptions> options = ArgumentCaptor.forClass(ListEntitiesOptions.class);
+        verify(tableClient).listEntities(options.capture(), isNull(), isNull());
+        assertEquals("PartitionKey ge '2026-05-04' and PartitionKey le '2026-05-10' and RowKey lt 'id_'",
+            options.getValue().getFilter());
+    }
+
+    @Test
+    @DisplayName("Deve repetir a página de agregados que falhou com 503 e concluir a consulta")
+    void deveRepetirPaginaDeAgregadosQueFalhouCom503() {
+        gateway.setRetryPolicy(RetryPolicy.builder("teste").sleeper(delay -> { }).build());
+        TableEntity monday = new TableEntity("2026-05-04", "00")
+            .addProperty("count", 1L).addProperty("scoreSum", 7L).addProperty("urgency_LOW", 1L);
+        TableEntity tuesday = new TableEntity("2026-05-05", "00")
+            .addProperty("count", 2L).addProperty("scoreSum", 4L).addProperty("urgency_HIGH", 2L);
+        TableServiceException serverBusy = httpError(503);
+        int[] firstPageCalls = {0};
+        PagedIterable<TableEntity> paged = new PagedIterable<>(
+            () -> {
+                if (firstPageCalls[0]++ == 0) {
+                    throw serverBusy;
+                }
+                return page(List.of(monday), "2026-05-05;00");
+            },
+            token -> page(List.of(tuesday), null));
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), isNull(), isNull())).thenReturn(paged);
+
+        List<DailyFeedbackAggregate> result = gateway.findDaily(LocalDate.of(2026, 5, 4), LocalDate.of(2026, 5, 10));
+
+        assertEquals(2, firstPageCalls[0]);
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(1).count());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar número de shards fora do intervalo")
+    void deveRejeitarNumeroDeShardsForaDoIntervalo() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TableStorageFeedbackAggregateGatewayImpl("UseDevelopmentStorage=true", "t", 0));
+    }
+
+    private static Feedback feedback(String id, int score, String urgency) {
+        return Feedback.reconstruct(id, "Aula " + id, score, urgency, CREATED_AT);
+    }
+
+    private static TableEntity existing(long count, long scoreSum, long low) {
+        return new TableEntity("2026-05-04", "00")
+            .addProperty("count", count)
+            .addProperty("scoreSum", scoreSum)
+            .addProperty("urgency_LOW", low);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<TableTransactionAction>> submittedTransactions(int expected) {
+        ArgumentCaptor<List<TableTransactionAction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(tableClient, times(expected)).submitTransaction(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static TableTransactionFailedException transactionFailed(int status, int failedIndex) {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        return new TableTransactionFailedException("status " + status, response, null, failedIndex);
+    }
+
+    private static PagedIterable<TableEntity> singlePage(List<TableEntity> entities) {
+        return new PagedIterable<>(() -> page(entities, null));
+    }
+
+    private static PagedResponse<TableEntity> page(List<TableEntity> entities, String continuationToken) {
+        return new PagedResponseBase<Void, TableEntity>(null, 200, null, entities, continuationToken, null);
+    }
+
+    private static TableTransactionFailedException tableNotFound() {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(404);
+        return new TableTransactionFailedException("TableNotFound", response,
+            new TableServiceError("TableNotFound", "The table specified does not exist."), 0);
+    }
+
+    private static TableServiceException httpError(int status) {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        return new TableServiceException("status " + status, response);
+    }
+}
@@ -5,11 +5,14 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,11 +21,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,11 +37,21 @@ import org.mockito.quality.Strictness;
 
 import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.PagedResponseBase;
 import com.azure.data.tables.TableClient;
+import com.azure.data.tables.models.ListEntitiesOptions;
 import com.azure.data.tables.models.TableEntity;
+import com.azure.data.tables.models.TableTransactionAction;
+import com.azure.data.tables.models.TableTransactionActionType;
+import com.azure.data.tables.models.TableTransactionFailedException;
 
 import br.com.fiap.postech.feedback.domain.entities.Feedback;
 import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackBatch;
+import br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackPartitionScheme;
+import br.com.fiap.postech.feedback.infrastructure.resilience.RetryPolicy;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -167,16 +182,128 @@ class TableStorageFeedbackGatewayImplTest {
         entities.add(entity2);
         entities.add(entity3);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
         assertNotNull(feedbacks);
         assertEquals(2, feedbacks.size()); // Apenas 2 dentro do período
-        verify(tableClient, times(1)).listEntities();
+        verify(tableClient, times(1)).listEntities(any(ListEntitiesOptions.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve ler feedbacks do período sob demanda ao consumir o stream")
+    void deveLerFeedbacksDoPeriodoSobDemandaAoConsumirStream() {
+        Instant inicio = Instant.now().minusSeconds(86400);
+        Instant fim = Instant.now();
+        
+        TableEntity entity1 = createMockTableEntity("id1", "Aula 1", 7, "MEDIUM", LocalDateTime.now().minusHours(12));
+        TableEntity entity2 = createMockTableEntity("id2", "Aula 2", 5, "LOW", LocalDateTime.now().minusHours(6));
+        
+        int[] paginas = {0};
+        PagedIterable<TableEntity> pagedIterable = new PagedIterable<>(
+            () -> {
+                paginas[0]++;
+                return page(List.of(entity1), "pagina-2");
+            },
+            token -> {
+                paginas[0]++;
+                return page(List.of(entity2), null);
+            });
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(pagedIterable);
+
+        try (Stream<Feedback> feedbacks = gateway.streamByPeriod(inicio, fim)) {
+            assertEquals(0, paginas[0]);
+            
+            List<Feedback> primeiro = feedbacks.limit(1).toList();
+            
+            assertEquals(1, primeiro.size());
+            assertEquals("id1", primeiro.get(0).getId());
+            assertEquals(1, paginas[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler o período em blocos colunares sem criar feedbacks")
+    void deveLerPeriodoEmBlocosColunares() {
+        Instant inicio = Instant.now().minusSeconds(86400);
+        Instant fim = Instant.now();
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(12);
+        
+        List<TableEntity> entities = List.of(
+            createMockTableEntity("id1", "Aula 1", 7, "MEDIUM", createdAt),
+            createMockTableEntity("id2", "Aula 2", 5, "LOW", createdAt.plusHours(1)),
+            createMockTableEntity("id3", "Aula 3", 2, "HIGH", createdAt.plusHours(2)));
+        
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
+
+        List<FeedbackBatch> batches;
+        try (Stream<FeedbackBatch> stream = gateway.streamBatchesByPeriod(inicio, fim, 2)) {
+            batches = stream.toList();
+        }
+
+        assertEquals(2, batches.size());
+        assertEquals("Aula 1", batches.get(0).description(0));
+        assertEquals(createdAt, batches.get(0).createdAt(0));
+        assertEquals(5, batches.get(0).score(1));
+        assertEquals("HIGH", batches.get(1).urgency(0));
+    }
+
+    @Test
+    @DisplayName("Deve enviar filtro de período e colunas selecionadas para o servidor")
+    void deveEnviarFiltroDePeriodoEColunasSelecionadasParaOServidor() {
+        Instant inicio = LocalDateTime.of(2024, 1, 9, 0, 0).atZone(java.time.ZoneId.systemDefault()).toInstant();
+        Instant fim = LocalDateTime.of(2024, 1, 15, 23, 59, 59).atZone(java.time.ZoneId.systemDefault()).toInstant();
+        
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(List.of()));
+
+        gateway.findByPeriod(inicio, fim);
+
+        org.mockito.ArgumentCaptor<ListEntitiesOptions> captor = org.mockito.ArgumentCaptor.forClass(ListEntitiesOptions.class);
+        verify(tableClient).listEntities(captor.capture(), any(), any());
+        assertEquals(
+            "PartitionKey ge '20240109' and PartitionKey le '20240115' "
+                + "and RowKey ge '20240109000000000000000' and RowKey le '20240115235959000000000~'",
+            captor.getValue().getFilter());
+        assertTrue(captor.getValue().getSelect().containsAll(List.of("description", "score", "urgency", "createdAt")));
+    }
+
+    @Test
+    @DisplayName("Deve consultar um intervalo de partições por shard")
+    void deveConsultarUmIntervaloDeParticoesPorShard() throws Exception {
+        setField(gateway, "partitionShards", "4");
+        Instant inicio = Instant.now().minusSeconds(86400);
+        Instant fim = Instant.now();
+        
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any()))
+            .thenAnswer(invocation -> singlePage(List.of()));
+
+        gateway.findByPeriod(inicio, fim);
+
+        verify(tableClient, times(4)).listEntities(any(ListEntitiesOptions.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve intercalar resultados dos shards em ordem cronológica")
+    void deveIntercalarResultadosDosShardsEmOrdemCronologica() throws Exception {
+        setField(gateway, "partitionShards", "2");
+        Instant inicio = Instant.now().minusSeconds(86400);
+        Instant fim = Instant.now();
+        LocalDateTime base = LocalDateTime.now().minusHours(12);
+        
+        List<TableEntity> shard0 = List.of(
+            createMockTableEntity("id1", "Aula 1", 7, "LOW", base),
+            createMockTableEntity("id3", "Aula 3", 7, "LOW", base.plusHours(2)));
+        List<TableEntity> shard1 = List.of(
+            createMockTableEntity("id2", "Aula 2", 7, "LOW", base.plusHours(1)),
+            createMockTableEntity("id4", "Aula 4", 7, "LOW", base.plusHours(3)));
+        
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any()))
+            .thenReturn(singlePage(shard0), singlePage(shard1));
+
+        List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
+
+        assertEquals(List.of("id1", "id2", "id3", "id4"), feedbacks.stream().map(Feedback::getId).toList());
     }
 
     @Test
@@ -186,10 +313,7 @@ class TableStorageFeedbackGatewayImplTest {
         Instant fim = Instant.now();
         
         List<TableEntity> entities = new ArrayList<>();
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
@@ -198,8 +322,8 @@ class TableStorageFeedbackGatewayImplTest {
     }
 
     @Test
-    @DisplayName("Deve ordenar feedbacks por data (mais recente primeiro)")
-    void deveOrdenarFeedbacksPorDataMaisRecentePrimeiro() {
+    @DisplayName("Deve retornar feedbacks em ordem cronológica (mais antigo primeiro)")
+    void deveRetornarFeedbacksEmOrdemCronologica() {
         Instant inicio = Instant.now().minusSeconds(86400);
         Instant fim = Instant.now();
         
@@ -210,17 +334,13 @@ class TableStorageFeedbackGatewayImplTest {
         entities.add(entity1);
         entities.add(entity2);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
         assertEquals(2, feedbacks.size());
-        // Verificar que está ordenado (mais recente primeiro)
-        assertTrue(feedbacks.get(0).getCreatedAt().isAfter(feedbacks.get(1).getCreatedAt()) ||
-                   feedbacks.get(0).getCreatedAt().isEqual(feedbacks.get(1).getCreatedAt()));
+        // Ordem vem do servidor (RowKey cronológica), sem ordenação em memória
+        assertTrue(feedbacks.get(0).getCreatedAt().isBefore(feedbacks.get(1).getCreatedAt()));
     }
 
     @Test
@@ -230,7 +350,7 @@ class TableStorageFeedbackGatewayImplTest {
         Instant fim = Instant.now();
         RuntimeException erro = new RuntimeException("Erro de conexão");
         
-        when(tableClient.listEntities()).thenThrow(erro);
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenThrow(erro);
 
         FeedbackPersistenceException exception = assertThrows(
             FeedbackPersistenceException.class,
@@ -273,10 +393,7 @@ class TableStorageFeedbackGatewayImplTest {
         entities.add(entity1);
         entities.add(entity2);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
@@ -301,10 +418,7 @@ class TableStorageFeedbackGatewayImplTest {
         
         entities.add(entity1);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
@@ -323,10 +437,7 @@ class TableStorageFeedbackGatewayImplTest {
         
         entities.add(entity1);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
@@ -345,10 +456,7 @@ class TableStorageFeedbackGatewayImplTest {
         
         entities.add(entity1);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
@@ -367,10 +475,7 @@ class TableStorageFeedbackGatewayImplTest {
         
         entities.add(entity1);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
@@ -393,10 +498,7 @@ class TableStorageFeedbackGatewayImplTest {
         
         entities.add(entity1);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         // Deve lançar exceção ao tentar parsear data inválida
         assertThrows(
@@ -603,6 +705,12 @@ class TableStorageFeedbackGatewayImplTest {
         field.set(target, value);
     }
 
+    private Object getField(Object target, String fieldName) throws Exception {
+        java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
     @Test
     @DisplayName("Deve buscar feedbacks com createdAt null na entidade")
     void deveBuscarFeedbacksComCreatedAtNullNaEntidade() {
@@ -614,10 +722,7 @@ class TableStorageFeedbackGatewayImplTest {
         
         entities.add(entity1);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
@@ -640,10 +745,7 @@ class TableStorageFeedbackGatewayImplTest {
         
         entities.add(entity1);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         // Deve lançar exceção ao tentar parsear string vazia
         assertThrows(
@@ -743,10 +845,7 @@ class TableStorageFeedbackGatewayImplTest {
         entities.add(entity2);
         entities.add(entity3);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
@@ -773,10 +872,7 @@ class TableStorageFeedbackGatewayImplTest {
         entities.add(entity2);
         entities.add(entity3);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         List<Feedback> feedbacks = gateway.findByPeriod(inicio, fim);
 
@@ -808,10 +904,7 @@ class TableStorageFeedbackGatewayImplTest {
         
         entities.add(entity1);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
 
         FeedbackPersistenceException exception = assertThrows(
             FeedbackPersistenceException.class,
@@ -829,15 +922,10 @@ class TableStorageFeedbackGatewayImplTest {
         
         RuntimeException iteratorError = new RuntimeException("Erro ao iterar");
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        @SuppressWarnings("unchecked")
-        java.util.Iterator<TableEntity> iterator = mock(java.util.Iterator.class);
-        
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(iterator);
-        when(iterator.hasNext()).thenReturn(true);
-        when(iterator.next()).thenThrow(iteratorError);
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any()))
+            .thenReturn(new PagedIterable<TableEntity>(() -> {
+                throw iteratorError;
+            }));
 
         FeedbackPersistenceException exception = assertThrows(
             FeedbackPersistenceException.class,
@@ -913,10 +1001,7 @@ class TableStorageFeedbackGatewayImplTest {
         
         entities.add(entity1);
         
-        @SuppressWarnings("unchecked")
-        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
-        when(tableClient.listEntities()).thenReturn(pagedIterable);
-        when(pagedIterable.iterator()).thenReturn(entities.iterator());
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(singlePage(entities));
         
         // Quando createdAt é string vazia, getProperty retorna null, então a entidade é ignorada
         // Mas se houver erro ao parsear, será lançada exceção
@@ -931,8 +1016,197 @@ class TableStorageFeedbackGatewayImplTest {
         }
     }
 
+    @Test
+    @DisplayName("Deve salvar lote em uma transação por partição")
+    @SuppressWarnings("unchecked")
+    void deveSalvarLoteEmUmaTransacaoPorParticao() {
+        LocalDateTime dia1 = LocalDateTime.of(2024, 1, 15, 10, 0);
+        LocalDateTime dia2 = LocalDateTime.of(2024, 1, 16, 10, 0);
+        List<Feedback> feedbacks = List.of(
+            createFeedback("id1", dia1), createFeedback("id2", dia2), createFeedback("id3", dia1));
+
+        BatchSaveResult result = gateway.saveAll(feedbacks);
+
+        ArgumentCaptor<List<TableTransactionAction>> actions = ArgumentCaptor.forClass(List.class);
+        verify(tableClient, times(2)).submitTransaction(actions.capture());
+        assertEquals(2, actions.getAllValues().get(0).size());
+        assertEquals("20240115", actions.getAllValues().get(0).get(0).getEntity().getPartitionKey());
+        assertEquals(TableTransactionActionType.UPSERT_MERGE, actions.getAllValues().get(0).get(0).getActionType());
+        assertEquals(1, actions.getAllValues().get(1).size());
+        assertEquals("20240116", actions.getAllValues().get(1).get(0).getEntity().getPartitionKey());
+        assertEquals(List.of("id1", "id3", "id2"), result.savedIds());
+        assertFalse(result.hasFailures());
+        verify(tableClient, never()).upsertEntity(any(TableEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve dividir partição com mais de 100 feedbacks em várias transações")
+    @SuppressWarnings("unchecked")
+    void deveDividirParticaoComMaisDeCemFeedbacksEmVariasTransacoes() {
+        LocalDateTime dia = LocalDateTime.of(2024, 1, 15, 10, 0);
+        List<Feedback> feedbacks = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            feedbacks.add(createFeedback("id" + i, dia.plusSeconds(i)));
+        }
+
+        BatchSaveResult result = gateway.saveAll(feedbacks);
+
+        ArgumentCaptor<List<TableTransactionAction>> actions = ArgumentCaptor.forClass(List.class);
+        verify(tableClient, times(3)).submitTransaction(actions.capture());
+        assertEquals(List.of(100, 100, 50), actions.getAllValues().stream().map(List::size).toList());
+        assertEquals(250, result.savedCount());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar transação sem a operação rejeitada e reportar a falha")
+    @SuppressWarnings("unchecked")
+    void deveReenviarTransacaoSemOperacaoRejeitadaEReportarFalha() {
+        LocalDateTime dia = LocalDateTime.of(2024, 1, 15, 10, 0);
+        List<Feedback> feedbacks = List.of(
+            createFeedback("id1", dia), createFeedback("id2", dia.plusSeconds(1)), createFeedback("id3", dia.plusSeconds(2)));
+        TableTransactionFailedException erro = new TableTransactionFailedException("Operação 1 rejeitada", null, null, 1);
+        when(tableClient.submitTransaction(any(List.class)))
+            .thenThrow(erro)
+            .thenReturn(null);
+
+        BatchSaveResult result = gateway.saveAll(feedbacks);
+
+        ArgumentCaptor<List<TableTransactionAction>> actions = ArgumentCaptor.forClass(List.class);
+        verify(tableClient, times(2)).submitTransaction(actions.capture());
+        assertEquals(2, actions.getAllValues().get(1).size());
+        assertEquals(List.of("id1", "id3"), result.savedIds());
+        assertEquals(1, result.failures().size());
+        assertEquals("id2", result.failures().get(0).feedbackId());
+        assertEquals("Operação 1 rejeitada", result.failures().get(0).reason());
+    }
+
+    @Test
+    @DisplayName("Deve marcar todo o bloco como falho quando a transação falha sem índice")
+    @SuppressWarnings("unchecked")
+    void deveMarcarTodoBlocoComoFalhoQuandoTransacaoFalhaSemIndice() {
+        LocalDateTime dia = LocalDateTime.of(2024, 1, 15, 10, 0);
+        List<Feedback> feedbacks = List.of(createFeedback("id1", dia), createFeedback("id2", dia.plusSeconds(1)));
+        when(tableClient.submitTransaction(any(List.class))).thenThrow(new RuntimeException("Erro de conexão"));
+
+        BatchSaveResult result = gateway.saveAll(feedbacks);
+
+        verify(tableClient, times(1)).submitTransaction(any(List.class));
+        assertEquals(0, result.savedCount());
+        assertEquals(List.of("id1", "id2"),
+            result.failures().stream().map(BatchSaveResult.Failure::feedbackId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve gerar id e createdAt dos feedbacks do lote quando ausentes")
+    void deveGerarIdECreatedAtDosFeedbacksDoLoteQuandoAusentes() {
+        Feedback feedback = new Feedback("Aula boa", 7, "MEDIUM");
+        feedback.setId(null);
+        feedback.setCreatedAt(null);
+
+        BatchSaveResult result = gateway.saveAll(List.of(feedback));
+
+        assertNotNull(feedback.getId());
+        assertNotNull(feedback.getCreatedAt());
+        assertEquals(List.of(feedback.getId()), result.savedIds());
+    }
+
+    @Test
+    @DisplayName("Deve lançar FeedbackPersistenceException quando tableClient não está inicializado ao salvar lote")
+    void deveLancarFeedbackPersistenceExceptionQuandoTableClientNaoEstaInicializadoAoSalvarLote() throws Exception {
+        setField(gateway, "tableClient", null);
+        List<Feedback> feedbacks = List.of(createFeedback("id1", LocalDateTime.now()));
+
+        assertThrows(FeedbackPersistenceException.class, () -> gateway.saveAll(feedbacks));
+    }
+
+    @Test
+    @DisplayName("Deve inicializar em modo rápido sem criar nem verificar a tabela")
+    void deveInicializarEmModoRapidoSemVerificarTabela() throws Exception {
+        TableStorageFeedbackGatewayImpl gatewayRapido = new TableStorageFeedbackGatewayImpl();
+        setField(gatewayRapido, "storageConnectionString", "UseDevelopmentStorage=true");
+        setField(gatewayRapido, "tableName", "feedbacks");
+        setField(gatewayRapido, "fastInit", "true");
+
+        gatewayRapido.init();
+
+        assertNotNull(getField(gatewayRapido, "tableClient"));
+        assertNull(getField(gatewayRapido, "tableServiceClient"));
+    }
+
+    @Test
+    @DisplayName("Deve montar o gateway pelo construtor de configuração sem CDI")
+    void deveMontarGatewayPeloConstrutorDeConfiguracao() throws Exception {
+        TableStorageFeedbackGatewayImpl gatewayManual = new TableStorageFeedbackGatewayImpl(
+            "UseDevelopmentStorage=true", null, "HOUR", "2", "true");
+
+        gatewayManual.init();
+
+        assertEquals("feedbacks", getField(gatewayManual, "tableName"));
+        assertEquals("HOUR/2", getField(gatewayManual, "partitionScheme").toString());
+        assertNotNull(getField(gatewayManual, "tableClient"));
+    }
+
+    @Test
+    @DisplayName("Deve criar a tabela sob demanda e repetir o salvamento quando recebe TableNotFound em modo rápido")
+    void deveCriarTabelaSobDemandaQuandoRecebeTableNotFound() throws Exception {
+        setField(gateway, "fastInit", "true");
+        Feedback feedback = new Feedback("Aula boa", 7, "MEDIUM");
+        com.azure.core.exception.HttpResponseException erro =
+            mock(com.azure.core.exception.HttpResponseException.class);
+        when(erro.getMessage()).thenReturn("The table specified does not exist. TableNotFound");
+        doThrow(erro).doNothing().when(tableClient).upsertEntity(any(TableEntity.class));
+
+        gateway.save(feedback);
+
+        verify(tableClient).createTable();
+        verify(tableClient, times(2)).upsertEntity(any(TableEntity.class));
+    }
+
+    @Test
+    @DisplayName("Não deve criar a tabela sob demanda quando a inicialização rápida está desligada")
+    void naoDeveCriarTabelaSobDemandaSemModoRapido() {
+        Feedback feedback = new Feedback("Aula boa", 7, "MEDIUM");
+        com.azure.core.exception.HttpResponseException erro =
+            mock(com.azure.core.exception.HttpResponseException.class);
+        when(erro.getMessage()).thenReturn("TableNotFound");
+        doThrow(erro).when(tableClient).upsertEntity(any(TableEntity.class));
+
+        assertThrows(FeedbackPersistenceException.class, () -> gateway.save(feedback));
+
+        verify(tableClient, never()).createTable();
+    }
+
+    @Test
+    @DisplayName("Deve criar a tabela sob demanda e reenviar a transação do lote quando recebe TableNotFound")
+    @SuppressWarnings("unchecked")
+    void deveCriarTabelaSobDemandaAoSalvarLote() throws Exception {
+        setField(gateway, "fastInit", "true");
+        List<Feedback> feedbacks = List.of(createFeedback("id1", LocalDateTime.of(2024, 1, 15, 10, 0)));
+        TableTransactionFailedException erro = new TableTransactionFailedException("0:TableNotFound", null, null, 0);
+        when(tableClient.submitTransaction(any(List.class)))
+            .thenThrow(erro)
+            .thenReturn(null);
+
+        BatchSaveResult result = gateway.saveAll(feedbacks);
+
+        verify(tableClient).createTable();
+        verify(tableClient, times(2)).submitTransaction(any(List.class));
+        assertEquals(List.of("id1"), result.savedIds());
+        assertFalse(result.hasFailures());
+    }
+
+    private Feedback createFeedback(String id, LocalDateTime createdAt) {
+        Feedback feedback = new Feedback("Aula " + id, 7, "MEDIUM");
+        feedback.setId(id);
+        feedback.setCreatedAt(createdAt);
+        return feedback;
+    }
+
     private TableEntity createMockTableEntity(String id, String description, int score, String urgency, LocalDateTime createdAt) {
-        TableEntity entity = new TableEntity("feedback", id);
+        String rowKey = createdAt != null
+            ? FeedbackPartitionScheme.defaultScheme().rowKeyFor(id, createdAt)
+            : id;
+        TableEntity entity = new TableEntity("feedback", rowKey);
         entity.addProperty("id", id);
         entity.addProperty("description", description);
         entity.addProperty("score", score);
@@ -942,4 +1216,77 @@ class TableStorageFeedbackGatewayImplTest {
         }
         return entity;
     }
+
+    @Test
+    @DisplayName("Deve repetir a gravação pela política de novas tentativas quando recebe 503")
+    void deveRepetirGravacaoQuandoRecebe503() {
+        gateway.setRetryPolicy(RetryPolicy.builder("teste").sleeper(delay -> { }).build());
+        Feedback feedback = new Feedback("Aula boa", 7, "MEDIUM");
+        com.azure.core.http.HttpResponse resposta = mock(com.azure.core.http.HttpResponse.class);
+        when(resposta.getStatusCode()).thenReturn(503);
+        com.azure.core.exception.HttpResponseException erro =
+            new com.azure.core.exception.HttpResponseException("Server Busy", resposta);
+        doThrow(erro).doNothing().when(tableClient).upsertEntity(any(TableEntity.class));
+
+        gateway.save(feedback);
+
+        verify(tableClient, times(2)).upsertEntity(any(TableEntity.class));
+    }
+
+    @Test
+    @DisplayName("Não deve repetir a gravação quando o erro não é transitório")
+    void naoDeveRepetirGravacaoQuandoErroNaoETransitorio() {
+        gateway.setRetryPolicy(RetryPolicy.builder("teste").sleeper(delay -> { }).build());
+        Feedback feedback = new Feedback("Aula boa", 7, "MEDIUM");
+        doThrow(new IllegalStateException("entidade inválida")).when(tableClient).upsertEntity(any(TableEntity.class));
+
+        assertThrows(FeedbackPersistenceException.class, () -> gateway.save(feedback));
+
+        verify(tableClient, times(1)).upsertEntity(any(TableEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve repetir só a página que falhou com 503 e concluir a leitura do período")
+    void deveRepetirPaginaQueFalhouCom503EConcluirLeitura() {
+        gateway.setRetryPolicy(RetryPolicy.builder("teste").sleeper(delay -> { }).build());
+        Instant inicio = Instant.now().minusSeconds(86400);
+        Instant fim = Instant.now();
+        LocalDateTime base = LocalDateTime.now().minusHours(12);
+        TableEntity entity1 = createMockTableEntity("id1", "Aula 1", 7, "LOW", base);
+        TableEntity entity2 = createMockTableEntity("id2", "Aula 2", 2, "HIGH", base.plusHours(1));
+        com.azure.core.http.HttpResponse resposta = mock(com.azure.core.http.HttpResponse.class);
+        when(resposta.getStatusCode()).thenReturn(503);
+        com.azure.core.exception.HttpResponseException erro =
+            new com.azure.core.exception.HttpResponseException("Server Busy", resposta);
+        List<String> tokens = new ArrayList<>();
+        PagedIterable<TableEntity> pagedIterable = new PagedIterable<>(
+            () -> page(List.of(entity1), "pagina-2"),
+            token -> {
+                tokens.add(token);
+                if (tokens.size() == 1) {
+                    throw erro;
+                }
+                return page(List.of(entity2), null);
+            });
+        when(tableClient.listEntities(any(ListEntitiesOptions.class), any(), any())).thenReturn(pagedIterable);
+
+        List<FeedbackBatch> batches;
+        try (Stream<FeedbackBatch> stream = gateway.streamBatchesByPeriod(inicio, fim, 10)) {
+            batches = stream.toList();
+        }
+
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals("Aula 2", batches.get(0).description(1));
+        assertEquals(List.of("pagina-2", "pagina-2"), tokens);
+        verify(tableClient, times(1)).listEntities(any(ListEntitiesOptions.class), any(), any());
+    }
+
+    private static PagedIterable<TableEntity> singlePage(List<TableEntity> entities) {
+        return new PagedIterable<>(() -> page(entities, null));
+    }
+
+    private static PagedResponse<TableEntity> page(List<TableEntity> entities, String continuationToken) {
+        return new PagedResponseBase<Void, TableEntity>(null, 200, null, entities, continuationToken, null);
+    }
 }
@@ -0,0 +1,141 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import br.com.fiap.postech.feedback.infrastructure.config.FunctionProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.azure.functions.ExecutionContext;
+import com.microsoft.azure.functions.HttpRequestMessage;
+import com.microsoft.azure.functions.HttpStatus;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para CustomHandlerResource")
+class CustomHandlerResourceTest {
+
+    @Mock
+    private FeedbackHttpFunction feedbackHttpFunction;
+
+    @Mock
+    private WeeklyReportFunction weeklyReportFunction;
+
+    @Mock
+    private FeedbackQueueFunction feedbackQueueFunction;
+
+    @Mock
+    private NotificationQueueFunction notificationQueueFunction;
+
+    private CustomHandlerResource resource;
+
+    @BeforeEach
+    void setUp() {
+        resource = new CustomHandlerResource(feedbackHttpFunction, new HealthHttpFunction(), weeklyReportFunction,
+            feedbackQueueFunction, notificationQueueFunction, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Deve responder o health check com o corpo serializado em JSON")
+    void deveResponderHealthCheck() {
+        Response response = resource.checkHealth();
+
+        assertEquals(200, response.getStatus());
+        assertTrue(response.getEntity().toString().contains("\"status\":\"UP\""));
+        assertEquals("application/json", response.getHeaderString("Content-Type"));
+    }
+
+    @Test
+    @DisplayName("Deve repassar o corpo da requisição para a função HTTP e devolver a resposta dela")
+    @SuppressWarnings("unchecked")
+    void deveRepassarCorpoParaFuncaoHttp() {
+        when(feedbackHttpFunction.submitFeedback(any(), any(ExecutionContext.class))).thenAnswer(invocation -> {
+            HttpRequestMessage<Optional<byte[]>> request = invocation.getArgument(0);
+            return request.createResponseBuilder(HttpStatus.CREATED)
+                .body("{\"id\":\"1\",\"corpo\":" + new String(request.getBody().orElseThrow(), StandardCharsets.UTF_8) + "}")
+                .header("Content-Type", "application/json")
+                .build();
+        });
+
+        Response response = resource.submitFeedback("{\"nota\":8}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(201, response.getStatus());
+        assertEquals("{\"id\":\"1\",\"corpo\":{\"nota\":8}}", response.getEntity());
+        ArgumentCaptor<ExecutionContext> context = ArgumentCaptor.forClass(ExecutionContext.class);
+        verify(feedbackHttpFunction).submitFeedback(any(), context.capture());
+        assertEquals("avaliacao", context.getValue().getFunctionName());
+    }
+
+    @Test
+    @DisplayName("Deve repassar corpo em bytes sem serializar novamente")
+    void deveRepassarCorpoEmBytes() {
+        byte[] corpo = "{\"id\":\"1\",\"status\":\"recebido\"}".getBytes(StandardCharsets.UTF_8);
+        when(feedbackHttpFunction.submitFeedback(any(), any(ExecutionContext.class))).thenAnswer(invocation -> {
+            HttpRequestMessage<Optional<byte[]>> request = invocation.getArgument(0);
+            return request.createResponseBuilder(HttpStatus.CREATED).body(corpo).build();
+        });
+
+        Response response = resource.submitFeedback("{}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(201, response.getStatus());
+        assertSame(corpo, response.getEntity());
+    }
+
+    @Test
+    @DisplayName("Deve executar o timer com o timerInfo do payload de invocação")
+    void deveExecutarTimerComTimerInfoDoPayload() {
+        String payload = "{\"Data\":{\"timerInfo\":{\"IsPastDue\":false}},\"Metadata\":{}}";
+
+        Response response = resource.weeklyReport(payload);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"Outputs\":{},\"Logs\":[],\"ReturnValue\":null}", response.getEntity());
+        verify(weeklyReportFunction).run(eq("{\"IsPastDue\":false}"), any(ExecutionContext.class));
+    }
+
+    @Test
+    @DisplayName("Deve entregar a mensagem da fila como texto para a função")
+    void deveEntregarMensagemDaFilaComoTexto() {
+        String payload = "{\"Data\":{\"message\":\"{\\\"id\\\":\\\"1\\\"}\"},\"Metadata\":{}}";
+
+        Response response = resource.feedbackIngestQueue(payload);
+
+        assertEquals(200, response.getStatus());
+        verify(feedbackQueueFunction).run(eq("{\"id\":\"1\"}"), any(ExecutionContext.class));
+    }
+
+    @Test
+    @DisplayName("Deve responder 500 com o erro nos logs quando a função falha")
+    void deveResponder500QuandoFuncaoFalha() {
+        FunctionProcessingException erro = new FunctionProcessingException("Falha ao enviar notificação");
+        doThrow(erro).when(notificationQueueFunction).run(any(), any(ExecutionContext.class));
+
+        Response response = resource.feedbackNotificationQueue("{\"Data\":{\"message\":\"texto\"}}");
+
+        assertEquals(500, response.getStatus());
+        assertTrue(response.getEntity().toString().contains("Falha ao enviar notificação"));
+    }
+
+    @Test
+    @DisplayName("Deve devolver null quando o binding não está no payload")
+    void deveDevolverNullQuandoBindingAusente() throws Exception {
+        assertNull(resource.bindingData("{\"Data\":{}}", "message"));
+        assertNull(resource.bindingData("", "message"));
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackDomainException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para FeedbackBatchReader")
+class FeedbackBatchReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Deve ler itens de um array JSON")
+    void deveLerItensDeUmArrayJson() throws Exception {
+        String body = "  [{\"descricao\":\"Aula 1\",\"nota\":7,\"urgencia\":\"LOW\"},"
+            + "{\"descricao\":\"Aula 2\",\"nota\":2}]";
+
+        try (FeedbackBatchReader reader = open(body)) {
+            assertEquals(new FeedbackRequest("Aula 1", 7, "LOW"), reader.next());
+            assertEquals(new FeedbackRequest("Aula 2", 2, null), reader.next());
+            assertFalse(reader.hasNext());
+            assertThrows(NoSuchElementException.class, reader::next);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler itens NDJSON ignorando linhas em branco")
+    void deveLerItensNdjsonIgnorandoLinhasEmBranco() throws Exception {
+        String body = "{\"descricao\":\"Aula 1\",\"nota\":7}\n\n{\"descricao\":\"Aula 2\",\"nota\":9}\n";
+
+        try (FeedbackBatchReader reader = open(body)) {
+            assertEquals("Aula 1", reader.next().description());
+            assertEquals("Aula 2", reader.next().description());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar linha NDJSON inválida e continuar na seguinte")
+    void deveRejeitarLinhaNdjsonInvalidaEContinuar() throws Exception {
+        String body = "{\"descricao\":\"Aula 1\",\"nota\":7}\n{invalido}\n{\"descricao\":\"Aula 3\",\"nota\":5}";
+
+        try (FeedbackBatchReader reader = open(body)) {
+            assertEquals("Aula 1", reader.next().description());
+            FeedbackDomainException erro = assertThrows(FeedbackDomainException.class, reader::next);
+            assertTrue(erro.getMessage().startsWith("JSON inválido"));
+            assertEquals("Aula 3", reader.next().description());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar item do array com tipo inválido e continuar no seguinte")
+    void deveRejeitarItemDoArrayComTipoInvalidoEContinuar() throws Exception {
+        String body = "[{\"descricao\":\"Aula 1\",\"nota\":\"sete\"}, 42, {\"descricao\":\"Aula 3\",\"nota\":5}]";
+
+        try (FeedbackBatchReader reader = open(body)) {
+            FeedbackDomainException erroCampo = assertThrows(FeedbackDomainException.class, reader::next);
+            assertTrue(erroCampo.getMessage().startsWith("Item inválido"));
+            FeedbackDomainException erroTipo = assertThrows(FeedbackDomainException.class, reader::next);
+            assertEquals("Item do lote deve ser um objeto JSON", erroTipo.getMessage());
+            assertEquals("Aula 3", reader.next().description());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve encerrar leitura do array após erro de sintaxe")
+    void deveEncerrarLeituraDoArrayAposErroDeSintaxe() throws Exception {
+        String body = "[{\"descricao\":\"Aula 1\",\"nota\":7}, {\"descricao\": }, {\"descricao\":\"Aula 3\",\"nota\":5}]";
+
+        try (FeedbackBatchReader reader = open(body)) {
+            assertEquals("Aula 1", reader.next().description());
+            FeedbackDomainException erro = assertThrows(FeedbackDomainException.class, reader::next);
+            assertTrue(erro.getMessage().startsWith("JSON inválido"));
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para array sem itens")
+    void deveRetornarVazioParaArraySemItens() throws Exception {
+        try (FeedbackBatchReader reader = open("[]")) {
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler NDJSON em bytes com CRLF, BOM e caracteres acentuados")
+    void deveLerNdjsonEmBytesComCrlfBomEAcentos() throws Exception {
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        byte[] linhas = "{\"descricao\":\"Ótima aula\",\"nota\":9}\r\n  \r\n{\"descricao\":\"Não gostei\",\"nota\":2}"
+            .getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[bom.length + linhas.length];
+        System.arraycopy(bom, 0, body, 0, bom.length);
+        System.arraycopy(linhas, 0, body, bom.length, linhas.length);
+
+        try (FeedbackBatchReader reader = FeedbackBatchReader.open(body, objectMapper)) {
+            assertEquals("Ótima aula", reader.next().description());
+            assertEquals("Não gostei", reader.next().description());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler array JSON em bytes precedido de BOM e espaços")
+    void deveLerArrayJsonEmBytesPrecedidoDeBom() throws Exception {
+        byte[] json = " \n[{\"descricao\":\"Aula\",\"nota\":7}]".getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[json.length + 3];
+        body[0] = (byte) 0xEF;
+        body[1] = (byte) 0xBB;
+        body[2] = (byte) 0xBF;
+        System.arraycopy(json, 0, body, 3, json.length);
+
+        try (FeedbackBatchReader reader = FeedbackBatchReader.open(body, objectMapper)) {
+            assertEquals(new FeedbackRequest("Aula", 7, null), reader.next());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler o mesmo corpo a partir de caracteres já decodificados")
+    void deveLerMesmoCorpoAPartirDeCaracteres() throws Exception {
+        String body = "{\"descricao\":\"Aula 1\",\"nota\":7}\n{invalido}\n[1]";
+
+        try (FeedbackBatchReader reader = FeedbackBatchReader.open(new StringReader(body), objectMapper)) {
+            assertEquals("Aula 1", reader.next().description());
+            assertThrows(FeedbackDomainException.class, reader::next);
+            assertThrows(FeedbackDomainException.class, reader::next);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    private FeedbackBatchReader open(String body) throws Exception {
+        return FeedbackBatchReader.open(body.getBytes(StandardCharsets.UTF_8), objectMapper);
+    }
+}
@@ -1,5 +1,8 @@
 package br.com.fiap.postech.feedback.infrastructure.handlers;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -25,6 +28,7 @@ import static org.mockito.ArgumentMatchers.contains;
 import org.mockito.Mock;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -37,14 +41,20 @@ import com.microsoft.azure.functions.HttpRequestMessage;
 import com.microsoft.azure.functions.HttpResponseMessage;
 import com.microsoft.azure.functions.HttpStatus;
 
+import br.com.fiap.postech.feedback.application.dtos.requests.FeedbackRequest;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchItemResult;
+import br.com.fiap.postech.feedback.application.dtos.responses.FeedbackBatchResponse;
+import br.com.fiap.postech.feedback.application.usecases.CreateFeedbackBatchUseCase;
 import br.com.fiap.postech.feedback.application.usecases.CreateFeedbackUseCase;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyUnavailableException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Testes para FeedbackHttpFunction")
 class FeedbackHttpFunctionTest {
 
     @Mock
-    private HttpRequestMessage<Optional<String>> request;
+    private HttpRequestMessage<Optional<byte[]>> request;
 
     @Mock
     private ExecutionContext executionContext;
@@ -61,6 +71,9 @@ class FeedbackHttpFunctionTest {
     @Mock
     private CreateFeedbackUseCase createFeedbackUseCase;
 
+    @Mock
+    private CreateFeedbackBatchUseCase createFeedbackBatchUseCase;
+
     private FeedbackHttpFunction function;
     private ObjectMapper objectMapper;
 
@@ -81,7 +94,7 @@ class FeedbackHttpFunctionTest {
     void deveRetornarBadRequestQuandoCorpoEstaVazio() {
         when(request.getBody()).thenReturn(Optional.empty());
         when(request.createResponseBuilder(HttpStatus.BAD_REQUEST)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -89,15 +102,15 @@ class FeedbackHttpFunctionTest {
 
         assertNotNull(result);
         verify(request, times(1)).createResponseBuilder(HttpStatus.BAD_REQUEST);
-        verify(responseBuilder, times(1)).body(contains("Corpo da requisição é obrigatório"));
+        verify(responseBuilder, times(1)).body(bodyContaining("Corpo da requisição é obrigatório"));
     }
 
     @Test
     @DisplayName("Deve retornar BAD_REQUEST quando corpo da requisição está em branco")
     void deveRetornarBadRequestQuandoCorpoEstaEmBranco() {
-        when(request.getBody()).thenReturn(Optional.of("   "));
+        when(request.getBody()).thenReturn(body("   "));
         when(request.createResponseBuilder(HttpStatus.BAD_REQUEST)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -110,9 +123,9 @@ class FeedbackHttpFunctionTest {
     @Test
     @DisplayName("Deve retornar BAD_REQUEST quando JSON é inválido")
     void deveRetornarBadRequestQuandoJsonEInvalido() {
-        when(request.getBody()).thenReturn(Optional.of("{invalid json}"));
+        when(request.getBody()).thenReturn(body("{invalid json}"));
         when(request.createResponseBuilder(HttpStatus.BAD_REQUEST)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -120,16 +133,16 @@ class FeedbackHttpFunctionTest {
 
         assertNotNull(result);
         verify(request, times(1)).createResponseBuilder(HttpStatus.BAD_REQUEST);
-        verify(responseBuilder, times(1)).body(contains("JSON inválido"));
+        verify(responseBuilder, times(1)).body(bodyContaining("JSON inválido"));
     }
 
     @ParameterizedTest
     @MethodSource("descricoesInvalidasProvider")
     @DisplayName("Deve retornar BAD_REQUEST quando descrição é inválida")
     void deveRetornarBadRequestQuandoDescricaoEInvalida(String jsonBody, String descricaoEsperada) {
-        when(request.getBody()).thenReturn(Optional.of(jsonBody));
+        when(request.getBody()).thenReturn(body(jsonBody));
         when(request.createResponseBuilder(HttpStatus.BAD_REQUEST)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -138,7 +151,7 @@ class FeedbackHttpFunctionTest {
         assertNotNull(result);
         verify(request, times(1)).createResponseBuilder(HttpStatus.BAD_REQUEST);
         if (descricaoEsperada != null) {
-            verify(responseBuilder, times(1)).body(contains(descricaoEsperada));
+            verify(responseBuilder, times(1)).body(bodyContaining(descricaoEsperada));
         }
     }
 
@@ -160,9 +173,9 @@ class FeedbackHttpFunctionTest {
     @DisplayName("Deve retornar BAD_REQUEST quando nota está ausente")
     void deveRetornarBadRequestQuandoNotaEstaAusente() throws Exception {
         String json = objectMapper.writeValueAsString(Map.of("descricao", "Teste"));
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(HttpStatus.BAD_REQUEST)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -170,7 +183,7 @@ class FeedbackHttpFunctionTest {
 
         assertNotNull(result);
         verify(request, times(1)).createResponseBuilder(HttpStatus.BAD_REQUEST);
-        verify(responseBuilder, times(1)).body(contains("nota"));
+        verify(responseBuilder, times(1)).body(bodyContaining("nota"));
     }
 
     @ParameterizedTest
@@ -181,9 +194,9 @@ class FeedbackHttpFunctionTest {
             "descricao", "Teste",
             "nota", nota
         ));
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(HttpStatus.BAD_REQUEST)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -192,7 +205,7 @@ class FeedbackHttpFunctionTest {
         assertNotNull(result);
         verify(request, times(1)).createResponseBuilder(HttpStatus.BAD_REQUEST);
         if (descricaoEsperada != null) {
-            verify(responseBuilder, times(1)).body(contains(descricaoEsperada));
+            verify(responseBuilder, times(1)).body(bodyContaining(descricaoEsperada));
         }
     }
 
@@ -211,9 +224,9 @@ class FeedbackHttpFunctionTest {
             "descricao", "Teste",
             "nota", 8
         ));
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(HttpStatus.INTERNAL_SERVER_ERROR)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -226,21 +239,22 @@ class FeedbackHttpFunctionTest {
     }
 
     @Test
-    @DisplayName("Deve logar informações quando recebe requisição")
+    @DisplayName("Deve registrar a requisição recebida apenas em nível FINE")
     void deveLogarInformacoesQuandoRecebeRequisicao() throws Exception {
         String json = objectMapper.writeValueAsString(Map.of(
             "descricao", "Teste",
             "nota", 8
         ));
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(any(HttpStatus.class))).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
         function.submitFeedback(request, executionContext);
 
-        verify(logger, atLeastOnce()).info(contains("Recebendo requisição POST /api/avaliacao"));
+        verify(logger, atLeastOnce()).fine(contains("Recebendo requisição POST /api/avaliacao"));
+        verify(logger, never()).info(anyString());
     }
 
 
@@ -253,9 +267,9 @@ class FeedbackHttpFunctionTest {
             "descricao", "Teste",
             "nota", nota
         ));
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(any(HttpStatus.class))).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -282,10 +296,10 @@ class FeedbackHttpFunctionTest {
             "urgencia", "MEDIUM"
         ));
         
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         lenient().when(request.createResponseBuilder(HttpStatus.CREATED)).thenReturn(responseBuilder);
         lenient().when(request.createResponseBuilder(HttpStatus.INTERNAL_SERVER_ERROR)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -305,9 +319,9 @@ class FeedbackHttpFunctionTest {
             "descricao", "Feedback sem urgência",
             "nota", 7
         ));
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(any(HttpStatus.class))).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -339,38 +353,6 @@ class FeedbackHttpFunctionTest {
     }
 
 
-    @Test
-    @DisplayName("Deve usar setField corretamente via reflection")
-    void deveUsarSetFieldCorretamenteViaReflection() throws Exception {
-        Object testObject = new Object() {
-            @SuppressWarnings("unused")
-            private String testField;
-        };
-        
-        java.lang.reflect.Method method = FeedbackHttpFunction.class.getDeclaredMethod("setField", Object.class, String.class, Object.class);
-        method.setAccessible(true);
-        method.invoke(null, testObject, "testField", "test-value");
-        
-        java.lang.reflect.Field field = testObject.getClass().getDeclaredField("testField");
-        field.setAccessible(true);
-        assertEquals("test-value", field.get(testObject));
-    }
-
-    @Test
-    @DisplayName("Deve usar getField corretamente via reflection")
-    void deveUsarGetFieldCorretamenteViaReflection() throws Exception {
-        Object testObject = new Object() {
-            @SuppressWarnings("unused")
-            private String testField = "test-value";
-        };
-        
-        java.lang.reflect.Method method = FeedbackHttpFunction.class.getDeclaredMethod("getField", Object.class, String.class);
-        method.setAccessible(true);
-        Object result = method.invoke(null, testObject, "testField");
-        
-        assertEquals("test-value", result);
-    }
-
     @Test
     @DisplayName("Deve processar feedback com sucesso quando use case está inicializado")
     void deveProcessarFeedbackComSucessoQuandoUseCaseEstaInicializado() throws Exception {
@@ -384,9 +366,9 @@ class FeedbackHttpFunctionTest {
         useCaseField.setAccessible(true);
         useCaseField.set(null, null);
         
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(any(HttpStatus.class))).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
         
@@ -401,67 +383,6 @@ class FeedbackHttpFunctionTest {
 
 
 
-    @Test
-    @DisplayName("Deve usar invokeMethod corretamente via reflection")
-    void deveUsarInvokeMethodCorretamenteViaReflection() throws Exception {
-        Object testObject = new Object() {
-            @SuppressWarnings("unused")
-            private boolean methodCalled = false;
-            
-            @SuppressWarnings("unused")
-            private void testMethod() {
-                methodCalled = true;
-            }
-        };
-        
-        java.lang.reflect.Method method = FeedbackHttpFunction.class.getDeclaredMethod("invokeMethod", Object.class, String.class);
-        method.setAccessible(true);
-        method.invoke(null, testObject, "testMethod");
-        
-        java.lang.reflect.Field field = testObject.getClass().getDeclaredField("methodCalled");
-        field.setAccessible(true);
-        assertTrue((Boolean) field.get(testObject));
-    }
-
-    @Test
-    @DisplayName("Deve tratar erro quando setField falha com campo inexistente")
-    void deveTratarErroQuandoSetFieldFalhaComCampoInexistente() throws Exception {
-        Object testObject = new Object();
-        
-        java.lang.reflect.Method method = FeedbackHttpFunction.class.getDeclaredMethod("setField", Object.class, String.class, Object.class);
-        method.setAccessible(true);
-        
-        assertThrows(Exception.class, () -> {
-            method.invoke(null, testObject, "campoInexistente", "valor");
-        });
-    }
-
-    @Test
-    @DisplayName("Deve tratar erro quando getField falha com campo inexistente")
-    void deveTratarErroQuandoGetFieldFalhaComCampoInexistente() throws Exception {
-        Object testObject = new Object();
-        
-        java.lang.reflect.Method method = FeedbackHttpFunction.class.getDeclaredMethod("getField", Object.class, String.class);
-        method.setAccessible(true);
-        
-        assertThrows(Exception.class, () -> {
-            method.invoke(null, testObject, "campoInexistente");
-        });
-    }
-
-    @Test
-    @DisplayName("Deve tratar erro quando invokeMethod falha com método inexistente")
-    void deveTratarErroQuandoInvokeMethodFalhaComMetodoInexistente() throws Exception {
-        Object testObject = new Object();
-        
-        java.lang.reflect.Method method = FeedbackHttpFunction.class.getDeclaredMethod("invokeMethod", Object.class, String.class);
-        method.setAccessible(true);
-        
-        assertThrows(Exception.class, () -> {
-            method.invoke(null, testObject, "metodoInexistente");
-        });
-    }
-
     @Test
     @DisplayName("Deve processar feedback com sucesso quando use case está mockado")
     void deveProcessarFeedbackComSucessoQuandoUseCaseEstaMockado() throws Exception {
@@ -485,9 +406,9 @@ class FeedbackHttpFunctionTest {
             );
         
         when(createFeedbackUseCase.execute(any())).thenReturn(feedbackResponse);
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(HttpStatus.CREATED)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -501,6 +422,37 @@ class FeedbackHttpFunctionTest {
         useCaseField.set(null, null);
     }
 
+    @Test
+    @DisplayName("Deve retornar SERVICE_UNAVAILABLE com Retry-After quando a dependência recusa a chamada")
+    void deveRetornarServiceUnavailableQuandoDependenciaRecusaChamada() throws Exception {
+        String json = objectMapper.writeValueAsString(Map.of(
+            "descricao", "Feedback de teste",
+            "nota", 8
+        ));
+        java.lang.reflect.Field useCaseField = FeedbackHttpFunction.class.getDeclaredField("createFeedbackUseCase");
+        useCaseField.setAccessible(true);
+        useCaseField.set(null, createFeedbackUseCase);
+        
+        when(createFeedbackUseCase.execute(any())).thenThrow(new FeedbackPersistenceException("recusada",
+            new DependencyUnavailableException("table", "circuito aberto", java.time.Duration.ofMillis(1500))));
+        when(request.getBody()).thenReturn(body(json));
+        when(request.createResponseBuilder(HttpStatus.SERVICE_UNAVAILABLE)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        try {
+            HttpResponseMessage result = function.submitFeedback(request, executionContext);
+
+            assertNotNull(result);
+            verify(request, times(1)).createResponseBuilder(HttpStatus.SERVICE_UNAVAILABLE);
+            verify(responseBuilder).header("Retry-After", "2");
+            verify(responseBuilder).body(bodyContaining("circuito aberto"));
+        } finally {
+            useCaseField.set(null, null);
+        }
+    }
+
     @Test
     @DisplayName("Deve retornar INTERNAL_SERVER_ERROR quando use case lança exceção")
     void deveRetornarInternalServerErrorQuandoUseCaseLancaExcecao() throws Exception {
@@ -516,9 +468,9 @@ class FeedbackHttpFunctionTest {
         
         RuntimeException exception = new RuntimeException("Erro ao processar feedback");
         when(createFeedbackUseCase.execute(any())).thenThrow(exception);
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(HttpStatus.INTERNAL_SERVER_ERROR)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -526,7 +478,7 @@ class FeedbackHttpFunctionTest {
 
         assertNotNull(result);
         verify(request, times(1)).createResponseBuilder(HttpStatus.INTERNAL_SERVER_ERROR);
-        verify(responseBuilder, times(1)).body(contains("Erro interno"));
+        verify(responseBuilder, times(1)).body(bodyContaining("Erro interno"));
         
         // Limpar o campo estático após o teste
         useCaseField.set(null, null);
@@ -534,6 +486,18 @@ class FeedbackHttpFunctionTest {
 
 
 
+    @Test
+    @DisplayName("Deve montar os gateways sem helpers de reflection")
+    void deveMontarGatewaysSemHelpersDeReflection() {
+        List<String> metodos = Arrays.stream(FeedbackHttpFunction.class.getDeclaredMethods())
+            .map(java.lang.reflect.Method::getName)
+            .toList();
+
+        assertFalse(metodos.contains("setField"));
+        assertFalse(metodos.contains("getField"));
+        assertFalse(metodos.contains("invokeMethod"));
+    }
+
     @Test
     @DisplayName("Deve tratar erro quando createFeedbackGateway falha com InvocationTargetException")
     void deveTratarErroQuandoCreateFeedbackGatewayFalhaComInvocationTargetException() throws Exception {
@@ -593,9 +557,9 @@ class FeedbackHttpFunctionTest {
             );
         
         when(createFeedbackUseCase.execute(any())).thenReturn(feedbackResponse);
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(HttpStatus.CREATED)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
         when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
         when(responseBuilder.build()).thenReturn(response);
 
@@ -642,10 +606,10 @@ class FeedbackHttpFunctionTest {
             );
         
         when(createFeedbackUseCase.execute(any())).thenReturn(feedbackResponse);
-        when(request.getBody()).thenReturn(Optional.of(json));
+        when(request.getBody()).thenReturn(body(json));
         when(request.createResponseBuilder(HttpStatus.CREATED)).thenReturn(responseBuilder);
-        when(responseBuilder.body(anyString())).thenAnswer(invocation -> {
-            String body = invocation.getArgument(0);
+        when(responseBuilder.body(any(byte[].class))).thenAnswer(invocation -> {
+            String body = new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8);
             assertTrue(body.contains("\"id\""));
             assertTrue(body.contains("\"status\""));
             assertTrue(body.contains("recebido"));
@@ -658,9 +622,213 @@ class FeedbackHttpFunctionTest {
         HttpResponseMessage result = function.submitFeedback(request, executionContext);
 
         assertNotNull(result);
-        verify(responseBuilder, times(1)).body(anyString());
+        verify(responseBuilder, times(1)).body(any(byte[].class));
         
         // Limpar o campo estático após o teste
         useCaseField.set(null, null);
     }
+
+    @Test
+    @DisplayName("Deve retornar BAD_REQUEST quando corpo do lote está vazio")
+    void deveRetornarBadRequestQuandoCorpoDoLoteEstaVazio() {
+        when(request.getBody()).thenReturn(Optional.empty());
+        when(request.createResponseBuilder(HttpStatus.BAD_REQUEST)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        HttpResponseMessage result = function.submitFeedbackBatch(request, executionContext);
+
+        assertNotNull(result);
+        verify(responseBuilder, times(1)).body(bodyContaining("Corpo da requisição é obrigatório"));
+    }
+
+    @Test
+    @DisplayName("Deve processar lote e retornar OK com resultado por item")
+    void deveProcessarLoteERetornarOkComResultadoPorItem() throws Exception {
+        java.lang.reflect.Field useCaseField = FeedbackHttpFunction.class.getDeclaredField("createFeedbackBatchUseCase");
+        useCaseField.setAccessible(true);
+        useCaseField.set(null, createFeedbackBatchUseCase);
+
+        FeedbackBatchResponse batchResponse = new FeedbackBatchResponse(2, 1, 1, 0, java.util.List.of(
+            FeedbackBatchItemResult.received(0, "id-1"),
+            FeedbackBatchItemResult.rejected(1, "Nota é obrigatória")));
+        when(createFeedbackBatchUseCase.execute(any())).thenAnswer(invocation -> {
+            java.util.Iterator<FeedbackRequest> itens = invocation.getArgument(0);
+            assertEquals("Aula 1", itens.next().description());
+            assertEquals("Aula 2", itens.next().description());
+            assertFalse(itens.hasNext());
+            return batchResponse;
+        });
+        when(request.getBody()).thenReturn(body(
+            "{\"descricao\":\"Aula 1\",\"nota\":7}\n{\"descricao\":\"Aula 2\"}"));
+        when(request.createResponseBuilder(HttpStatus.OK)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        try {
+            HttpResponseMessage result = function.submitFeedbackBatch(request, executionContext);
+
+            assertNotNull(result);
+            verify(responseBuilder, times(1)).body(argThat((byte[] body) ->
+                text(body).contains("\"recebidos\":1") && text(body).contains("\"erro\":\"Nota é obrigatória\"")));
+        } finally {
+            useCaseField.set(null, null);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar SERVICE_UNAVAILABLE quando todos os itens do lote falham por recusa da dependência")
+    void deveRetornarServiceUnavailableQuandoLoteFalhaPorRecusa() throws Exception {
+        java.lang.reflect.Field useCaseField = FeedbackHttpFunction.class.getDeclaredField("createFeedbackBatchUseCase");
+        useCaseField.setAccessible(true);
+        useCaseField.set(null, createFeedbackBatchUseCase);
+
+        FeedbackPersistenceException recusa = new FeedbackPersistenceException("recusada",
+            new DependencyUnavailableException("table", "circuito aberto", java.time.Duration.ofMillis(1500)));
+        when(createFeedbackBatchUseCase.execute(any())).thenReturn(new FeedbackBatchResponse(1, 0, 0, 1,
+            java.util.List.of(FeedbackBatchItemResult.failed(0, "id-1", "recusada")), recusa));
+        when(request.getBody()).thenReturn(body("[{\"descricao\":\"Aula 1\",\"nota\":7}]"));
+        when(request.createResponseBuilder(HttpStatus.SERVICE_UNAVAILABLE)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        try {
+            function.submitFeedbackBatch(request, executionContext);
+
+            verify(request, times(1)).createResponseBuilder(HttpStatus.SERVICE_UNAVAILABLE);
+            verify(responseBuilder).header("Retry-After", "2");
+        } finally {
+            useCaseField.set(null, null);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar SERVICE_UNAVAILABLE quando o lote lança exceção causada por recusa da dependência")
+    void deveRetornarServiceUnavailableQuandoLoteLancaRecusa() throws Exception {
+        java.lang.reflect.Field useCaseField = FeedbackHttpFunction.class.getDeclaredField("createFeedbackBatchUseCase");
+        useCaseField.setAccessible(true);
+        useCaseField.set(null, createFeedbackBatchUseCase);
+
+        when(createFeedbackBatchUseCase.execute(any())).thenThrow(new FeedbackPersistenceException("recusada",
+            new DependencyUnavailableException("table", "bulkhead cheio", java.time.Duration.ZERO)));
+        when(request.getBody()).thenReturn(body("[{\"descricao\":\"Aula 1\",\"nota\":7}]"));
+        when(request.createResponseBuilder(HttpStatus.SERVICE_UNAVAILABLE)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        try {
+            function.submitFeedbackBatch(request, executionContext);
+
+            verify(responseBuilder).header("Retry-After", "1");
+            verify(responseBuilder).body(bodyContaining("bulkhead cheio"));
+        } finally {
+            useCaseField.set(null, null);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar BAD_REQUEST quando lote não tem itens")
+    void deveRetornarBadRequestQuandoLoteNaoTemItens() throws Exception {
+        java.lang.reflect.Field useCaseField = FeedbackHttpFunction.class.getDeclaredField("createFeedbackBatchUseCase");
+        useCaseField.setAccessible(true);
+        useCaseField.set(null, createFeedbackBatchUseCase);
+
+        when(createFeedbackBatchUseCase.execute(any()))
+            .thenReturn(new FeedbackBatchResponse(0, 0, 0, 0, java.util.List.of()));
+        when(request.getBody()).thenReturn(body("[]"));
+        when(request.createResponseBuilder(HttpStatus.BAD_REQUEST)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        try {
+            function.submitFeedbackBatch(request, executionContext);
+
+            verify(responseBuilder, times(1)).body(bodyContaining("Nenhum feedback encontrado no lote"));
+        } finally {
+            useCaseField.set(null, null);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar ACCEPTED com status enfileirado no modo assíncrono")
+    void deveRetornarAcceptedComStatusEnfileiradoNoModoAssincrono() throws Exception {
+        java.lang.reflect.Field useCaseField = FeedbackHttpFunction.class.getDeclaredField("createFeedbackUseCase");
+        useCaseField.setAccessible(true);
+        useCaseField.set(null, createFeedbackUseCase);
+        FeedbackHttpFunction asyncFunction = new FeedbackHttpFunction(true);
+
+        when(createFeedbackUseCase.execute(any())).thenReturn(
+            new br.com.fiap.postech.feedback.application.dtos.responses.FeedbackResponse(
+                "id-async", 8, "Feedback de teste", java.time.LocalDateTime.now()));
+        when(request.getBody()).thenReturn(body("{\"descricao\":\"Feedback de teste\",\"nota\":8}"));
+        when(request.createResponseBuilder(HttpStatus.ACCEPTED)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        try {
+            asyncFunction.submitFeedback(request, executionContext);
+
+            verify(responseBuilder, times(1)).body(argThat((byte[] body) ->
+                text(body).contains("enfileirado") && text(body).contains("id-async")));
+        } finally {
+            useCaseField.set(null, null);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar PAYLOAD_TOO_LARGE sem fazer parsing quando corpo excede o limite")
+    void deveRetornarPayloadTooLargeQuandoCorpoExcedeLimite() {
+        when(request.getBody()).thenReturn(Optional.of(new byte[16 * 1024 + 1]));
+        when(request.createResponseBuilder(HttpStatus.PAYLOAD_TOO_LARGE)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        HttpResponseMessage result = function.submitFeedback(request, executionContext);
+
+        assertNotNull(result);
+        verify(responseBuilder, times(1)).body(bodyContaining("excede o limite de 16384 bytes"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar PAYLOAD_TOO_LARGE quando corpo do lote excede o limite")
+    void deveRetornarPayloadTooLargeQuandoCorpoDoLoteExcedeLimite() {
+        when(request.getBody()).thenReturn(Optional.of(new byte[4 * 1024 * 1024 + 1]));
+        when(request.createResponseBuilder(HttpStatus.PAYLOAD_TOO_LARGE)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(byte[].class))).thenReturn(responseBuilder);
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        HttpResponseMessage result = function.submitFeedbackBatch(request, executionContext);
+
+        assertNotNull(result);
+        verify(request, times(1)).createResponseBuilder(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("Deve identificar corpo em branco sem converter os bytes para String")
+    void deveIdentificarCorpoEmBranco() {
+        assertTrue(FeedbackHttpFunction.isBlank(null));
+        assertTrue(FeedbackHttpFunction.isBlank(new byte[0]));
+        assertTrue(FeedbackHttpFunction.isBlank(" \t\r\n".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(FeedbackHttpFunction.isBlank(" {}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] bodyContaining(String expected) {
+        return argThat((byte[] body) -> body != null && text(body).contains(expected));
+    }
+
+    private static String text(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static Optional<byte[]> body(String json) {
+        return Optional.of(json.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,153 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.azure.core.util.BinaryData;
+import com.azure.storage.queue.models.QueueMessageItem;
+import com.microsoft.azure.functions.ExecutionContext;
+
+import br.com.fiap.postech.feedback.application.usecases.ProcessQueuedFeedbacksUseCase;
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.gateways.BatchSaveResult;
+import br.com.fiap.postech.feedback.infrastructure.config.FunctionProcessingException;
+import br.com.fiap.postech.feedback.infrastructure.gateways.StorageQueueFeedbackGatewayImpl;
+import br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackQueueMessageMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para FeedbackQueueFunction")
+class FeedbackQueueFunctionTest {
+
+    @Mock
+    private ExecutionContext executionContext;
+
+    @Mock
+    private Logger logger;
+
+    @Mock
+    private ProcessQueuedFeedbacksUseCase processQueuedFeedbacksUseCase;
+
+    @Mock
+    private StorageQueueFeedbackGatewayImpl queueGateway;
+
+    private FeedbackQueueFunction function;
+
+    @BeforeEach
+    void setUp() {
+        function = spy(new FeedbackQueueFunction());
+        lenient().when(executionContext.getLogger()).thenReturn(logger);
+        lenient().doReturn(processQueuedFeedbacksUseCase).when(function).getProcessQueuedFeedbacksUseCase();
+        lenient().doReturn(queueGateway).when(function).getQueueGateway();
+    }
+
+    @Test
+    @DisplayName("Deve gravar mensagem disparadora junto com mensagens adicionais e remover as salvas")
+    void deveGravarMensagemDisparadoraJuntoComAdicionaisERemoverAsSalvas() {
+        doReturn(31).when(function).getDrainSize();
+        QueueMessageItem salva = queueMessage("msg-2", feedback("id-2"));
+        QueueMessageItem falhou = queueMessage("msg-3", feedback("id-3"));
+        when(queueGateway.receive(anyInt(), any(Duration.class))).thenReturn(List.of(salva, falhou));
+        when(processQueuedFeedbacksUseCase.execute(any())).thenReturn(new BatchSaveResult(
+            List.of("id-1", "id-2"), List.of(new BatchSaveResult.Failure("id-3", "erro"))));
+
+        function.run(FeedbackQueueMessageMapper.toMessage(feedback("id-1")), executionContext);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Feedback>> captor = ArgumentCaptor.forClass(List.class);
+        verify(processQueuedFeedbacksUseCase).execute(captor.capture());
+        assertEquals(List.of("id-1", "id-2", "id-3"), captor.getValue().stream().map(Feedback::getId).toList());
+        verify(queueGateway).delete(salva);
+        verify(queueGateway, never()).delete(falhou);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar mensagem adicional inválida mantendo-a na fila")
+    void deveIgnorarMensagemAdicionalInvalidaMantendoNaFila() {
+        doReturn(31).when(function).getDrainSize();
+        QueueMessageItem invalida = new QueueMessageItem().setMessageId("msg-x").setBody(BinaryData.fromString("{invalido"));
+        when(queueGateway.receive(anyInt(), any(Duration.class))).thenReturn(List.of(invalida));
+        when(processQueuedFeedbacksUseCase.execute(any()))
+            .thenReturn(new BatchSaveResult(List.of("id-1"), List.of()));
+
+        assertDoesNotThrow(() -> function.run(FeedbackQueueMessageMapper.toMessage(feedback("id-1")), executionContext));
+
+        verify(queueGateway, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Não deve retirar mensagens adicionais quando drain size é zero")
+    void naoDeveRetirarMensagensAdicionaisQuandoDrainSizeEZero() {
+        doReturn(0).when(function).getDrainSize();
+        when(processQueuedFeedbacksUseCase.execute(any()))
+            .thenReturn(new BatchSaveResult(List.of("id-1"), List.of()));
+
+        function.run(FeedbackQueueMessageMapper.toMessage(feedback("id-1")), executionContext);
+
+        verifyNoInteractions(queueGateway);
+    }
+
+    @Test
+    @DisplayName("Deve continuar com a mensagem disparadora quando receber adicionais falha")
+    void deveContinuarComMensagemDisparadoraQuandoReceberAdicionaisFalha() {
+        doReturn(31).when(function).getDrainSize();
+        doThrow(new RuntimeException("fila indisponível")).when(queueGateway).receive(anyInt(), any(Duration.class));
+        when(processQueuedFeedbacksUseCase.execute(any()))
+            .thenReturn(new BatchSaveResult(List.of("id-1"), List.of()));
+
+        assertDoesNotThrow(() -> function.run(FeedbackQueueMessageMapper.toMessage(feedback("id-1")), executionContext));
+    }
+
+    @Test
+    @DisplayName("Deve lançar FunctionProcessingException quando feedback disparador não é salvo")
+    void deveLancarFunctionProcessingExceptionQuandoFeedbackDisparadorNaoESalvo() {
+        doReturn(0).when(function).getDrainSize();
+        when(processQueuedFeedbacksUseCase.execute(any())).thenReturn(new BatchSaveResult(
+            List.of(), List.of(new BatchSaveResult.Failure("id-1", "erro"))));
+
+        String message = FeedbackQueueMessageMapper.toMessage(feedback("id-1"));
+
+        assertThrows(FunctionProcessingException.class, () -> function.run(message, executionContext));
+    }
+
+    @Test
+    @DisplayName("Deve lançar FunctionProcessingException quando mensagem é inválida")
+    void deveLancarFunctionProcessingExceptionQuandoMensagemEInvalida() {
+        assertThrows(FunctionProcessingException.class, () -> function.run("{invalido", executionContext));
+
+        verifyNoInteractions(processQueuedFeedbacksUseCase);
+    }
+
+    private static Feedback feedback(String id) {
+        return Feedback.reconstruct(id, "Aula " + id, 7, "LOW", LocalDateTime.of(2026, 4, 1, 8, 0));
+    }
+
+    private static QueueMessageItem queueMessage(String messageId, Feedback feedback) {
+        return new QueueMessageItem()
+            .setMessageId(messageId)
+            .setPopReceipt("pop-" + messageId)
+            .setBody(BinaryData.fromString(FeedbackQueueMessageMapper.toMessage(feedback)));
+    }
+}
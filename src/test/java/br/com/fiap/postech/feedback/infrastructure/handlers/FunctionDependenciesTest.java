@@ -0,0 +1,56 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+@DisplayName("Testes para FunctionDependencies")
+class FunctionDependenciesTest {
+
+    @Test
+    @DisplayName("Deve criar dependência apenas uma vez e reaproveitar")
+    void deveCriarDependenciaApenasUmaVezEReaproveitar() {
+        AtomicInteger criacoes = new AtomicInteger();
+        FunctionDependencies.Lazy<Object> lazy = new FunctionDependencies.Lazy<>("teste", () -> {
+            criacoes.incrementAndGet();
+            return new Object();
+        });
+
+        Object primeira = lazy.get();
+        Object segunda = lazy.get();
+
+        assertSame(primeira, segunda);
+        assertEquals(1, criacoes.get());
+    }
+
+    @Test
+    @DisplayName("Deve tentar criar novamente quando a criação anterior falhou")
+    void deveTentarCriarNovamenteQuandoCriacaoAnteriorFalhou() {
+        AtomicInteger tentativas = new AtomicInteger();
+        FunctionDependencies.Lazy<String> lazy = new FunctionDependencies.Lazy<>("teste", () -> {
+            if (tentativas.incrementAndGet() == 1) {
+                throw new RuntimeException("Storage indisponível");
+            }
+            return "ok";
+        });
+
+        assertThrows(RuntimeException.class, lazy::get);
+        assertEquals("ok", lazy.get());
+        assertEquals(2, tentativas.get());
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar o mesmo ObjectMapper configurado")
+    void deveCompartilharMesmoObjectMapperConfigurado() {
+        assertSame(FunctionDependencies.objectMapper(), new WeeklyReportFunction().getObjectMapper());
+        assertFalse(FunctionDependencies.objectMapper().getSerializationConfig()
+            .isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+}
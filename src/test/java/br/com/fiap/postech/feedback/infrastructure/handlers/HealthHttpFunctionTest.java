@@ -1,5 +1,6 @@
 package br.com.fiap.postech.feedback.infrastructure.handlers;
 
+import br.com.fiap.postech.feedback.infrastructure.resilience.DependencyGuard;
 import com.microsoft.azure.functions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -82,6 +83,28 @@ class HealthHttpFunctionTest {
         verify(responseBuilder, times(1)).body(any(Map.class));
     }
 
+    @Test
+    @DisplayName("Deve incluir o estado do circuito das dependências protegidas")
+    void deveIncluirEstadoDasDependencias() {
+        HttpResponseMessage response = mock(HttpResponseMessage.class);
+        DependencyGuard.of("health-teste");
+        
+        when(request.createResponseBuilder(HttpStatus.OK)).thenReturn(responseBuilder);
+        when(responseBuilder.body(any(Map.class))).thenAnswer(invocation -> {
+            Map<String, Object> body = invocation.getArgument(0);
+            Map<?, ?> dependencies = (Map<?, ?>) body.get("dependencias");
+            Map<?, ?> dependency = (Map<?, ?>) dependencies.get("health-teste");
+            assertEquals("CLOSED", dependency.get("estado"));
+            return responseBuilder;
+        });
+        when(responseBuilder.header(anyString(), anyString())).thenReturn(responseBuilder);
+        when(responseBuilder.build()).thenReturn(response);
+
+        function.checkHealth(request, executionContext);
+
+        verify(responseBuilder, times(1)).body(any(Map.class));
+    }
+
     @Test
     @DisplayName("Deve retornar status DOWN quando ocorre exceção")
     void deveRetornarStatusDOWNQuandoOcorreExcecao() {
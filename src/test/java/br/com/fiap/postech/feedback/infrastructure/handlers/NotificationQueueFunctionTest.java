@@ -0,0 +1,171 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.azure.core.util.BinaryData;
+import com.azure.storage.queue.models.QueueMessageItem;
+import com.microsoft.azure.functions.ExecutionContext;
+
+import br.com.fiap.postech.feedback.domain.exceptions.NotificationException;
+import br.com.fiap.postech.feedback.domain.gateways.EmailNotificationGateway;
+import br.com.fiap.postech.feedback.infrastructure.config.FunctionProcessingException;
+import br.com.fiap.postech.feedback.infrastructure.gateways.CoalescingEmailNotificationGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.OutboxEmailNotificationGatewayImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para NotificationQueueFunction")
+class NotificationQueueFunctionTest {
+
+    private static final int WINDOW_SECONDS = 60;
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 5, 4, 10, 0, 0, 0, ZoneOffset.UTC);
+    private static final String TIMER_INFO = "{\"IsPastDue\":false}";
+
+    @Mock
+    private ExecutionContext executionContext;
+
+    @Mock
+    private Logger logger;
+
+    @Mock
+    private EmailNotificationGateway emailNotificationGateway;
+
+    @Mock
+    private OutboxEmailNotificationGatewayImpl digestQueueGateway;
+
+    private NotificationQueueFunction function;
+
+    @BeforeEach
+    void setUp() {
+        function = spy(new NotificationQueueFunction());
+        lenient().when(executionContext.getLogger()).thenReturn(logger);
+        lenient().doReturn(emailNotificationGateway).when(function).getEmailNotificationGateway();
+        lenient().doReturn(digestQueueGateway).when(function).getDigestQueueGateway();
+        lenient().doReturn(WINDOW_SECONDS).when(function).getDigestWindowSeconds();
+        lenient().doReturn(50).when(function).getDigestMaxItems();
+        lenient().doReturn(NOW).when(function).now();
+    }
+
+    @Test
+    @DisplayName("Deve enviar email com o conteúdo da mensagem")
+    void deveEnviarEmailComConteudoDaMensagem() {
+        function.run("Descrição: Aula ruim", executionContext);
+
+        verify(emailNotificationGateway).sendAdminNotification("Descrição: Aula ruim");
+        verifyNoInteractions(digestQueueGateway);
+    }
+
+    @Test
+    @DisplayName("Deve lançar FunctionProcessingException para nova tentativa quando envio falha")
+    void deveLancarFunctionProcessingExceptionParaNovaTentativaQuandoEnvioFalha() {
+        doThrow(new NotificationException("Mailtrap indisponível"))
+            .when(emailNotificationGateway).sendAdminNotification(anyString());
+
+        assertThrows(FunctionProcessingException.class, () -> function.run("conteúdo", executionContext));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar mensagem vazia")
+    void deveIgnorarMensagemVazia() {
+        function.run("  ", executionContext);
+
+        verifyNoInteractions(emailNotificationGateway);
+    }
+
+    @Test
+    @DisplayName("Deve enviar um único email com as N notificações registradas na mesma janela")
+    void deveEnviarUmUnicoEmailComAsNotificacoesDaMesmaJanela() {
+        List<QueueMessageItem> pendentes = IntStream.rangeClosed(1, 5)
+            .mapToObj(i -> notificacao("msg-" + i, "Descrição: Aula " + i)).toList();
+        when(digestQueueGateway.oldestPendingTime()).thenReturn(NOW.minusSeconds(WINDOW_SECONDS));
+        when(digestQueueGateway.receive(eq(50), any(Duration.class))).thenReturn(pendentes);
+
+        function.sendDigest(TIMER_INFO, executionContext);
+
+        verify(emailNotificationGateway, times(1)).sendAdminNotification(anyString());
+        verify(emailNotificationGateway).sendAdminNotification(CoalescingEmailNotificationGateway.buildDigest(
+            pendentes.stream().map(item -> item.getBody().toString()).toList()));
+        pendentes.forEach(item -> verify(digestQueueGateway).delete(item));
+    }
+
+    @Test
+    @DisplayName("Não deve retirar notificações antes de a janela da mais antiga terminar")
+    void naoDeveRetirarNotificacoesAntesDoFimDaJanela() {
+        when(digestQueueGateway.oldestPendingTime()).thenReturn(NOW.minusSeconds(WINDOW_SECONDS - 1));
+
+        function.sendDigest(TIMER_INFO, executionContext);
+
+        verify(digestQueueGateway, never()).receive(anyInt(), any(Duration.class));
+        verifyNoInteractions(emailNotificationGateway);
+    }
+
+    @Test
+    @DisplayName("Deve dividir em emails de até FEEDBACK_NOTIFICATION_DIGEST_MAX_ITEMS notificações")
+    void deveDividirEmEmailsDeAteMaxItens() {
+        doReturn(3).when(function).getDigestMaxItems();
+        when(digestQueueGateway.oldestPendingTime()).thenReturn(NOW.minusMinutes(5));
+        when(digestQueueGateway.receive(eq(3), any(Duration.class))).thenReturn(
+            List.of(notificacao("msg-1", "a"), notificacao("msg-2", "b"), notificacao("msg-3", "c")),
+            List.of(notificacao("msg-4", "d")));
+
+        function.sendDigest(TIMER_INFO, executionContext);
+
+        verify(emailNotificationGateway).sendAdminNotification(
+            CoalescingEmailNotificationGateway.buildDigest(List.of("a", "b", "c")));
+        verify(emailNotificationGateway).sendAdminNotification("d");
+        verify(digestQueueGateway, times(2)).receive(eq(3), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Deve manter as notificações do resumo na fila quando o envio falha")
+    void deveManterNotificacoesDoResumoNaFilaQuandoEnvioFalha() {
+        when(digestQueueGateway.oldestPendingTime()).thenReturn(NOW.minusMinutes(5));
+        when(digestQueueGateway.receive(eq(50), any(Duration.class))).thenReturn(
+            List.of(notificacao("msg-1", "a"), notificacao("msg-2", "b")));
+        doThrow(new NotificationException("Mailtrap indisponível"))
+            .when(emailNotificationGateway).sendAdminNotification(anyString());
+
+        assertThrows(FunctionProcessingException.class, () -> function.sendDigest(TIMER_INFO, executionContext));
+
+        verify(digestQueueGateway, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Não deve ler a fila do resumo quando o resumo está desativado")
+    void naoDeveLerAFilaDoResumoQuandoDesativado() {
+        doReturn(0).when(function).getDigestWindowSeconds();
+
+        function.sendDigest(TIMER_INFO, executionContext);
+
+        verifyNoInteractions(digestQueueGateway, emailNotificationGateway);
+    }
+
+    private static QueueMessageItem notificacao(String id, String conteudo) {
+        return new QueueMessageItem().setMessageId(id).setPopReceipt("pop-" + id).setBody(BinaryData.fromString(conteudo));
+    }
+}
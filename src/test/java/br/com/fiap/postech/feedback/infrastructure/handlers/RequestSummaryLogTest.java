@@ -0,0 +1,66 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para RequestSummaryLog")
+class RequestSummaryLogTest {
+
+    @Test
+    @DisplayName("Deve amostrar um a cada N sucessos começando pelo primeiro")
+    void deveAmostrarUmACadaNSucessos() {
+        RequestSummaryLog log = new RequestSummaryLog("avaliacao", 3, false);
+
+        assertTrue(log.sampled());
+        assertFalse(log.sampled());
+        assertFalse(log.sampled());
+        assertTrue(log.sampled());
+    }
+
+    @Test
+    @DisplayName("Deve registrar todas as requisições quando a amostra é 1 ou inválida")
+    void deveRegistrarTodasQuandoAmostraEUm() {
+        RequestSummaryLog log = new RequestSummaryLog("avaliacao", 0, false);
+
+        assertTrue(log.sampled());
+        assertTrue(log.sampled());
+    }
+
+    @Test
+    @DisplayName("Deve formatar a linha de resumo como chave=valor")
+    void deveFormatarLinhaComoTexto() {
+        RequestSummaryLog log = new RequestSummaryLog("avaliacao", 10, false);
+
+        assertEquals("avaliacao status=201 duracaoMs=12 amostra=1/10", log.format(201, 12, 10));
+    }
+
+    @Test
+    @DisplayName("Deve formatar a linha de resumo como JSON no modo estruturado")
+    void deveFormatarLinhaComoJson() throws Exception {
+        RequestSummaryLog log = new RequestSummaryLog("avaliacao", 10, true);
+
+        JsonNode json = new ObjectMapper().readTree(log.format(400, 3, 1));
+
+        assertEquals("avaliacao", json.get("operacao").asText());
+        assertEquals(400, json.get("status").asInt());
+        assertEquals(3, json.get("duracaoMs").asLong());
+        assertEquals(1, json.get("amostra").asInt());
+    }
+
+    @Test
+    @DisplayName("Deve registrar erros e sucessos sem lançar exceção")
+    void deveRegistrarSemLancarExcecao() {
+        RequestSummaryLog log = RequestSummaryLog.fromEnvironment("avaliacao");
+        long start = System.nanoTime();
+
+        assertDoesNotThrow(() -> log.record(201, start));
+        assertDoesNotThrow(() -> log.record(500, start));
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.fiap.postech.feedback.infrastructure.handlers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Testes para ResponseBodies")
+class ResponseBodiesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Deve montar o corpo de sucesso com id e status recebido")
+    void deveMontarCorpoDeSucessoRecebido() {
+        byte[] body = ResponseBodies.accepted("abc-123", false);
+
+        assertEquals("{\"id\":\"abc-123\",\"status\":\"recebido\"}", new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve montar o corpo de sucesso com status enfileirado no modo assíncrono")
+    void deveMontarCorpoDeSucessoEnfileirado() throws Exception {
+        JsonNode json = objectMapper.readTree(ResponseBodies.accepted("abc-123", true));
+
+        assertEquals("abc-123", json.get("id").asText());
+        assertEquals("enfileirado", json.get("status").asText());
+    }
+
+    @Test
+    @DisplayName("Deve escapar aspas e quebras de linha na mensagem de erro")
+    void deveEscaparMensagemDeErro() throws Exception {
+        JsonNode json = objectMapper.readTree(ResponseBodies.error("JSON inválido: \"x\"\nlinha 1"));
+
+        assertEquals("JSON inválido: \"x\"\nlinha 1", json.get("error").asText());
+    }
+
+    @Test
+    @DisplayName("Deve manter os corpos de erro fixos pré-codificados em UTF-8")
+    void deveManterCorposDeErroFixos() throws Exception {
+        assertEquals("Campo 'nota' deve estar entre 0 e 10",
+            objectMapper.readTree(ResponseBodies.SCORE_OUT_OF_RANGE).get("error").asText());
+        assertEquals("Corpo da requisição é obrigatório",
+            objectMapper.readTree(ResponseBodies.BODY_REQUIRED).get("error").asText());
+    }
+}
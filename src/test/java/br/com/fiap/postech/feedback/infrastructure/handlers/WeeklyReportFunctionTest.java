@@ -7,6 +7,7 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -505,4 +506,22 @@ class WeeklyReportFunctionTest {
         // Verificar que WRITE_DATES_AS_TIMESTAMPS está desabilitado
         assertFalse(mapper.getSerializationConfig().isEnabled(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
     }
+
+    @Test
+    @DisplayName("Deve reaproveitar GenerateWeeklyReportUseCase entre execuções")
+    void deveReaproveitarGenerateWeeklyReportUseCaseEntreExecucoes() throws Exception {
+        java.lang.reflect.Field useCaseField = WeeklyReportFunction.class.getDeclaredField("generateWeeklyReportUseCase");
+        useCaseField.setAccessible(true);
+        useCaseField.set(null, generateWeeklyReportUseCase);
+
+        try {
+            WeeklyReportFunction primeira = new WeeklyReportFunction();
+            WeeklyReportFunction segunda = new WeeklyReportFunction();
+
+            assertSame(generateWeeklyReportUseCase, primeira.getGenerateWeeklyReportUseCase());
+            assertSame(generateWeeklyReportUseCase, segunda.getGenerateWeeklyReportUseCase());
+        } finally {
+            useCaseField.set(null, null);
+        }
+    }
 }
@@ -0,0 +1,146 @@
+package br.com.fiap.postech.feedback.infrastructure.mappers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para FeedbackPartitionScheme")
+class FeedbackPartitionSchemeTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 10, 30, 0);
+
+    @Test
+    @DisplayName("Deve gerar PartitionKey diária sem shard no esquema padrão")
+    void deveGerarPartitionKeyDiariaSemShardNoEsquemaPadrao() {
+        FeedbackPartitionScheme scheme = FeedbackPartitionScheme.defaultScheme();
+
+        assertEquals("20240115", scheme.partitionKeyFor("id-1", CREATED_AT));
+    }
+
+    @Test
+    @DisplayName("Deve gerar PartitionKey por hora")
+    void deveGerarPartitionKeyPorHora() {
+        FeedbackPartitionScheme scheme = new FeedbackPartitionScheme(FeedbackPartitionScheme.Granularity.HOUR, 1);
+
+        assertEquals("2024011510", scheme.partitionKeyFor("id-1", CREATED_AT));
+    }
+
+    @Test
+    @DisplayName("Deve prefixar PartitionKey com shard estável derivado do id")
+    void devePrefixarPartitionKeyComShardEstavel() {
+        FeedbackPartitionScheme scheme = new FeedbackPartitionScheme(FeedbackPartitionScheme.Granularity.DAY, 8);
+
+        String partitionKey = scheme.partitionKeyFor("id-1", CREATED_AT);
+
+        assertTrue(partitionKey.matches("0[0-7]-20240115"), "PartitionKey inesperada: " + partitionKey);
+        assertEquals(partitionKey, scheme.partitionKeyFor("id-1", CREATED_AT));
+    }
+
+    @Test
+    @DisplayName("Deve distribuir ids entre todos os shards")
+    void deveDistribuirIdsEntreTodosOsShards() {
+        FeedbackPartitionScheme scheme = new FeedbackPartitionScheme(FeedbackPartitionScheme.Granularity.DAY, 4);
+
+        long distinctShards = java.util.stream.IntStream.range(0, 200)
+            .mapToObj(i -> scheme.partitionKeyFor(java.util.UUID.randomUUID().toString(), CREATED_AT))
+            .distinct()
+            .count();
+
+        assertEquals(4, distinctShards);
+    }
+
+    @Test
+    @DisplayName("Deve criar esquema a partir da configuração")
+    void deveCriarEsquemaAPartirDaConfiguracao() {
+        FeedbackPartitionScheme scheme = FeedbackPartitionScheme.of("hour", "4");
+
+        assertEquals(FeedbackPartitionScheme.Granularity.HOUR, scheme.getGranularity());
+        assertEquals(4, scheme.getShards());
+    }
+
+    @Test
+    @DisplayName("Deve usar valores padrão quando configuração está ausente")
+    void deveUsarValoresPadraoQuandoConfiguracaoEstaAusente() {
+        FeedbackPartitionScheme scheme = FeedbackPartitionScheme.of(null, " ");
+
+        assertEquals(FeedbackPartitionScheme.Granularity.DAY, scheme.getGranularity());
+        assertEquals(1, scheme.getShards());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configuração inválida")
+    void deveRejeitarConfiguracaoInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> FeedbackPartitionScheme.of("WEEK", "1"));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackPartitionScheme.of("DAY", "abc"));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackPartitionScheme.of("DAY", "0"));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackPartitionScheme.of("DAY", "101"));
+    }
+
+    @Test
+    @DisplayName("Deve calcular intervalo único de PartitionKeys sem shards")
+    void deveCalcularIntervaloUnicoDePartitionKeysSemShards() {
+        FeedbackPartitionScheme scheme = FeedbackPartitionScheme.defaultScheme();
+
+        var ranges = scheme.partitionKeyRanges(CREATED_AT.minusDays(6), CREATED_AT);
+
+        assertEquals(java.util.List.of(new FeedbackPartitionScheme.PartitionKeyRange("20240109", "20240115")), ranges);
+    }
+
+    @Test
+    @DisplayName("Deve calcular um intervalo de PartitionKeys por shard")
+    void deveCalcularUmIntervaloDePartitionKeysPorShard() {
+        FeedbackPartitionScheme scheme = new FeedbackPartitionScheme(FeedbackPartitionScheme.Granularity.HOUR, 3);
+
+        var ranges = scheme.partitionKeyRanges(CREATED_AT.minusHours(2), CREATED_AT);
+
+        assertEquals(3, ranges.size());
+        assertEquals(new FeedbackPartitionScheme.PartitionKeyRange("00-2024011508", "00-2024011510"), ranges.get(0));
+        assertEquals(new FeedbackPartitionScheme.PartitionKeyRange("02-2024011508", "02-2024011510"), ranges.get(2));
+    }
+
+    @Test
+    @DisplayName("Intervalo do shard deve conter as PartitionKeys geradas no período")
+    void intervaloDoShardDeveConterPartitionKeysGeradasNoPeriodo() {
+        FeedbackPartitionScheme scheme = new FeedbackPartitionScheme(FeedbackPartitionScheme.Granularity.DAY, 4);
+        String partitionKey = scheme.partitionKeyFor("id-1", CREATED_AT.minusDays(3));
+
+        boolean covered = scheme.partitionKeyRanges(CREATED_AT.minusDays(6), CREATED_AT).stream()
+            .anyMatch(r -> partitionKey.compareTo(r.lower()) >= 0 && partitionKey.compareTo(r.upper()) <= 0);
+
+        assertTrue(covered);
+    }
+
+    @Test
+    @DisplayName("Deve gerar RowKey com timestamp de largura fixa seguido do id")
+    void deveGerarRowKeyComTimestampDeLarguraFixa() {
+        FeedbackPartitionScheme scheme = FeedbackPartitionScheme.defaultScheme();
+
+        assertEquals("20240115103000000000000_id-1", scheme.rowKeyFor("id-1", CREATED_AT));
+        assertEquals("20240115103000000000123_id-1", scheme.rowKeyFor("id-1", CREATED_AT.plusNanos(123)));
+    }
+
+    @Test
+    @DisplayName("Ordem lexicográfica das RowKeys deve seguir a ordem cronológica")
+    void ordemDasRowKeysDeveSeguirOrdemCronologica() {
+        FeedbackPartitionScheme scheme = FeedbackPartitionScheme.defaultScheme();
+
+        String earlier = scheme.rowKeyFor("zzz", CREATED_AT);
+        String later = scheme.rowKeyFor("aaa", CREATED_AT.plusNanos(1));
+
+        assertTrue(earlier.compareTo(later) < 0);
+    }
+
+    @Test
+    @DisplayName("Limites de RowKey devem incluir feedbacks criados exatamente nos extremos")
+    void limitesDeRowKeyDevemIncluirExtremos() {
+        FeedbackPartitionScheme scheme = FeedbackPartitionScheme.defaultScheme();
+        String rowKey = scheme.rowKeyFor(java.util.UUID.randomUUID().toString(), CREATED_AT);
+
+        assertTrue(rowKey.compareTo(scheme.rowKeyLowerBound(CREATED_AT)) >= 0);
+        assertTrue(rowKey.compareTo(scheme.rowKeyUpperBound(CREATED_AT)) <= 0);
+        assertTrue(rowKey.compareTo(scheme.rowKeyUpperBound(CREATED_AT.minusNanos(1))) > 0);
+    }
+}
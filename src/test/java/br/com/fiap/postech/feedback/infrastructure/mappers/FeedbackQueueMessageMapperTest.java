@@ -0,0 +1,39 @@
+package br.com.fiap.postech.feedback.infrastructure.mappers;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para FeedbackQueueMessageMapper")
+class FeedbackQueueMessageMapperTest {
+
+    @Test
+    @DisplayName("Deve converter feedback para mensagem e de volta preservando id e data")
+    void deveConverterFeedbackParaMensagemEDeVoltaPreservandoIdEData() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 10, 14, 30, 15, 123000000);
+        Feedback feedback = Feedback.reconstruct("id-123", "Aula boa", 2, "HIGH", createdAt);
+
+        String message = FeedbackQueueMessageMapper.toMessage(feedback);
+        Feedback result = FeedbackQueueMessageMapper.toEntity(message);
+
+        assertTrue(message.contains("\"descricao\":\"Aula boa\""));
+        assertEquals("id-123", result.getId());
+        assertEquals("Aula boa", result.getDescription());
+        assertEquals(2, result.getScore().getValue());
+        assertEquals("HIGH", result.getUrgency().getValue());
+        assertEquals(createdAt, result.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando mensagem não é JSON válido")
+    void deveLancarIllegalArgumentExceptionQuandoMensagemNaoEJsonValido() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> FeedbackQueueMessageMapper.toEntity("{invalido"));
+
+        assertTrue(exception.getMessage().contains("Mensagem da fila inválida"));
+    }
+}
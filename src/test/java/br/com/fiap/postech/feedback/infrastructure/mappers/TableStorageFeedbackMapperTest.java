@@ -27,8 +27,8 @@ class TableStorageFeedbackMapperTest {
 
         TableEntity entity = TableStorageFeedbackMapper.toTableEntity(feedback);
 
-        assertEquals("feedback", entity.getPartitionKey());
-        assertEquals("feedback-id-123", entity.getRowKey());
+        assertEquals("20240115", entity.getPartitionKey());
+        assertEquals("20240115103000000000000_feedback-id-123", entity.getRowKey());
         assertEquals("feedback-id-123", entity.getProperty("id"));
         assertEquals("Aula muito boa", entity.getProperty("description"));
         assertEquals(7, entity.getProperty("score"));
@@ -154,4 +154,30 @@ class TableStorageFeedbackMapperTest {
         assertEquals(feedbackOriginal.getScore().getValue(), feedbackReconstruido.getScore().getValue());
         assertEquals(feedbackOriginal.getUrgency().getValue(), feedbackReconstruido.getUrgency().getValue());
     }
+
+    @Test
+    @DisplayName("Deve usar PartitionKey do esquema de particionamento informado")
+    void deveUsarPartitionKeyDoEsquemaInformado() {
+        Feedback feedback = new Feedback("Aula boa", new Score(7), Urgency.of("LOW"));
+        feedback.setId("feedback-id-123");
+        feedback.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0));
+        FeedbackPartitionScheme scheme = new FeedbackPartitionScheme(FeedbackPartitionScheme.Granularity.HOUR, 1);
+
+        TableEntity entity = TableStorageFeedbackMapper.toTableEntity(feedback, scheme);
+
+        assertEquals("2024011510", entity.getPartitionKey());
+    }
+
+    @Test
+    @DisplayName("Deve usar RowKey como id quando propriedade id não existe")
+    void deveUsarRowKeyComoIdQuandoPropriedadeIdNaoExiste() {
+        TableEntity entity = new TableEntity("feedback", "feedback-id-123");
+        entity.addProperty("description", "Aula boa");
+        entity.addProperty("score", 5);
+        entity.addProperty("createdAt", "2024-01-15T10:30:00");
+
+        Feedback feedback = TableStorageFeedbackMapper.toEntity(entity);
+
+        assertEquals("feedback-id-123", feedback.getId());
+    }
 }
@@ -0,0 +1,111 @@
+package br.com.fiap.postech.feedback.infrastructure.migration;
+
+import br.com.fiap.postech.feedback.domain.entities.Feedback;
+import br.com.fiap.postech.feedback.domain.exceptions.FeedbackPersistenceException;
+import br.com.fiap.postech.feedback.domain.gateways.FeedbackGateway;
+import br.com.fiap.postech.feedback.infrastructure.gateways.TableStorageFeedbackAggregateGatewayImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para FeedbackAggregateRebuild")
+class FeedbackAggregateRebuildTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 5, 4);
+
+    @Mock
+    private FeedbackGateway feedbackGateway;
+
+    @Mock
+    private TableStorageFeedbackAggregateGatewayImpl aggregateGateway;
+
+    private FeedbackAggregateRebuild rebuild;
+
+    @BeforeEach
+    void setUp() {
+        rebuild = new FeedbackAggregateRebuild(feedbackGateway, aggregateGateway);
+    }
+
+    @Test
+    @DisplayName("Deve limpar cada dia e somar de novo os feedbacks lidos da tabela, em blocos")
+    void deveLimparCadaDiaESomarDeNovoOsFeedbacks() {
+        List<Feedback> monday = IntStream.range(0, FeedbackAggregateRebuild.RECORD_CHUNK_SIZE + 1)
+            .mapToObj(i -> feedback("seg-" + i, MONDAY)).toList();
+        when(feedbackGateway.streamByPeriod(start(MONDAY), end(MONDAY))).thenAnswer(invocation -> monday.stream());
+        when(feedbackGateway.streamByPeriod(start(MONDAY.plusDays(1)), end(MONDAY.plusDays(1))))
+            .thenAnswer(invocation -> Stream.of(feedback("ter-1", MONDAY.plusDays(1))));
+        List<Integer> chunkSizes = new ArrayList<>();
+        doAnswer(invocation -> chunkSizes.add(invocation.<Collection<Feedback>>getArgument(0).size()))
+            .when(aggregateGateway).record(anyCollection());
+
+        FeedbackAggregateRebuild.Result result = rebuild.run(MONDAY, MONDAY.plusDays(1), false);
+
+        verify(aggregateGateway).clearDay(MONDAY);
+        verify(aggregateGateway).clearDay(MONDAY.plusDays(1));
+        assertEquals(List.of(FeedbackAggregateRebuild.RECORD_CHUNK_SIZE, 1, 1), chunkSizes);
+        assertEquals(new FeedbackAggregateRebuild.Result(2, FeedbackAggregateRebuild.RECORD_CHUNK_SIZE + 2, 0), result);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar nada no dry run")
+    void naoDeveGravarNadaNoDryRun() {
+        when(feedbackGateway.streamByPeriod(any(), any())).thenAnswer(invocation -> Stream.of(feedback("a", MONDAY)));
+
+        FeedbackAggregateRebuild.Result result = rebuild.run(MONDAY, MONDAY, true);
+
+        verify(aggregateGateway, never()).clearDay(any());
+        verify(aggregateGateway, never()).record(anyCollection());
+        assertEquals(new FeedbackAggregateRebuild.Result(1, 1, 0), result);
+    }
+
+    @Test
+    @DisplayName("Deve contar o dia que falhou e continuar com os seguintes")
+    void deveContarDiaQueFalhouEContinuar() {
+        doThrow(new FeedbackPersistenceException("indisponível")).when(aggregateGateway).clearDay(MONDAY);
+        when(feedbackGateway.streamByPeriod(any(), any())).thenAnswer(invocation -> Stream.empty());
+
+        FeedbackAggregateRebuild.Result result = rebuild.run(MONDAY, MONDAY.plusDays(1), false);
+
+        ArgumentCaptor<Instant> from = ArgumentCaptor.forClass(Instant.class);
+        verify(feedbackGateway).streamByPeriod(from.capture(), any());
+        assertEquals(start(MONDAY.plusDays(1)), from.getValue());
+        assertEquals(new FeedbackAggregateRebuild.Result(2, 0, 1), result);
+    }
+
+    private static Feedback feedback(String id, LocalDate day) {
+        return Feedback.reconstruct(id, "Aula", 7, "LOW", day.atTime(10, 0));
+    }
+
+    private static Instant start(LocalDate day) {
+        return day.atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static Instant end(LocalDate day) {
+        return LocalDateTime.of(day, LocalTime.MAX).atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
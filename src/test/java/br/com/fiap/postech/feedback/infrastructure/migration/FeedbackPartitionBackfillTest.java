@@ -0,0 +1,112 @@
+package br.com.fiap.postech.feedback.infrastructure.migration;
+
+import br.com.fiap.postech.feedback.infrastructure.mappers.FeedbackPartitionScheme;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.data.tables.TableClient;
+import com.azure.data.tables.models.TableEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para FeedbackPartitionBackfill")
+class FeedbackPartitionBackfillTest {
+
+    @Mock
+    private TableClient tableClient;
+
+    private FeedbackPartitionBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new FeedbackPartitionBackfill(tableClient, FeedbackPartitionScheme.defaultScheme());
+    }
+
+    @Test
+    @DisplayName("Deve regravar linhas da partição legada no novo layout e remover a origem")
+    void deveRegravarLinhasDaParticaoLegada() {
+        mockEntities(legacyEntity("id-1", "2024-01-15T10:30:00"));
+
+        FeedbackPartitionBackfill.Result result = backfill.run(false, true);
+
+        ArgumentCaptor<TableEntity> captor = ArgumentCaptor.forClass(TableEntity.class);
+        verify(tableClient).upsertEntity(captor.capture());
+        assertEquals("20240115", captor.getValue().getPartitionKey());
+        assertEquals("20240115103000000000000_id-1", captor.getValue().getRowKey());
+        verify(tableClient).deleteEntity("feedback", "id-1");
+        assertEquals(new FeedbackPartitionBackfill.Result(1, 1, 0, 0), result);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar linhas que já estão no layout atual")
+    void deveIgnorarLinhasQueJaEstaoNoLayoutAtual() {
+        TableEntity migrated = new TableEntity("20240115", "20240115103000000000000_id-1");
+        legacyEntity("id-1", "2024-01-15T10:30:00").getProperties().entrySet().stream()
+            .filter(property -> !property.getKey().equals("PartitionKey") && !property.getKey().equals("RowKey"))
+            .forEach(property -> migrated.addProperty(property.getKey(), property.getValue()));
+        mockEntities(migrated);
+
+        FeedbackPartitionBackfill.Result result = backfill.run(false, true);
+
+        verify(tableClient, never()).upsertEntity(any());
+        assertEquals(new FeedbackPartitionBackfill.Result(1, 0, 1, 0), result);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar nada em modo dry-run")
+    void naoDeveGravarNadaEmModoDryRun() {
+        mockEntities(legacyEntity("id-1", "2024-01-15T10:30:00"));
+
+        FeedbackPartitionBackfill.Result result = backfill.run(true, true);
+
+        verify(tableClient, never()).upsertEntity(any());
+        verify(tableClient, never()).deleteEntity(anyString(), anyString());
+        assertEquals(1, result.migrated());
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar falhas e continuar a migração")
+    void deveContabilizarFalhasEContinuar() {
+        mockEntities(legacyEntity("id-1", "2024-01-15T10:30:00"), legacyEntity("id-2", "2024-01-16T08:00:00"));
+        doThrow(new RuntimeException("erro")).doNothing().when(tableClient).upsertEntity(any());
+
+        FeedbackPartitionBackfill.Result result = backfill.run(false, false);
+
+        verify(tableClient, times(2)).upsertEntity(any());
+        verify(tableClient, never()).deleteEntity(anyString(), anyString());
+        assertEquals(new FeedbackPartitionBackfill.Result(2, 1, 0, 1), result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockEntities(TableEntity... entities) {
+        PagedIterable<TableEntity> pagedIterable = mock(PagedIterable.class);
+        when(tableClient.listEntities()).thenReturn(pagedIterable);
+        when(pagedIterable.iterator()).thenReturn(List.of(entities).iterator());
+    }
+
+    private static TableEntity legacyEntity(String id, String createdAt) {
+        TableEntity entity = new TableEntity("feedback", id);
+        entity.addProperty("id", id);
+        entity.addProperty("description", "Aula boa");
+        entity.addProperty("score", 7);
+        entity.addProperty("urgency", "LOW");
+        entity.addProperty("createdAt", createdAt);
+        return entity;
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.fiap.postech.feedback.infrastructure.migration;
+
+import com.azure.data.tables.TableServiceClient;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.queue.QueueClient;
+import com.azure.storage.queue.QueueServiceClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para StorageProvisioner")
+class StorageProvisionerTest {
+
+    @Mock
+    private TableServiceClient tableServiceClient;
+
+    @Mock
+    private QueueServiceClient queueServiceClient;
+
+    @Mock
+    private BlobServiceClient blobServiceClient;
+
+    @Mock
+    private QueueClient queueClient;
+
+    private StorageProvisioner provisioner;
+
+    @BeforeEach
+    void setUp() {
+        provisioner = new StorageProvisioner(tableServiceClient, queueServiceClient, blobServiceClient);
+    }
+
+    @Test
+    @DisplayName("Deve criar tabelas, filas e containers informados")
+    void deveCriarTodosOsRecursos() {
+        when(queueServiceClient.getQueueClient("feedback-ingest")).thenReturn(queueClient);
+
+        List<String> failures = provisioner.run(new StorageProvisioner.Resources(
+            List.of("feedbacks", "feedbackaggregates"), List.of("feedback-ingest"), List.of("weekly-reports")));
+
+        assertTrue(failures.isEmpty());
+        verify(tableServiceClient).createTableIfNotExists("feedbacks");
+        verify(tableServiceClient).createTableIfNotExists("feedbackaggregates");
+        verify(queueClient).createIfNotExists();
+        verify(blobServiceClient).createBlobContainerIfNotExists("weekly-reports");
+    }
+
+    @Test
+    @DisplayName("Deve continuar provisionando e reportar o recurso que falhou")
+    void deveReportarRecursoQueFalhou() {
+        RuntimeException erro = new RuntimeException("Conexão recusada");
+        when(queueServiceClient.getQueueClient("feedback-ingest")).thenReturn(queueClient);
+        when(queueClient.createIfNotExists()).thenThrow(erro);
+
+        List<String> failures = provisioner.run(new StorageProvisioner.Resources(
+            List.of("feedbacks"), List.of("feedback-ingest"), List.of("weekly-reports")));
+
+        assertEquals(List.of("fila:feedback-ingest"), failures);
+        verify(blobServiceClient).createBlobContainerIfNotExists("weekly-reports");
+    }
+
+    @Test
+    @DisplayName("Deve usar os nomes padrão quando as variáveis de ambiente não estão definidas")
+    void deveUsarNomesPadrao() {
+        StorageProvisioner.Resources resources = StorageProvisioner.resourcesFromEnvironment();
+
+        assertTrue(resources.tables().contains("feedbackaggregates"));
+        assertTrue(resources.queues().contains("feedback-notifications"));
+        assertTrue(resources.queues().contains("feedback-notifications-digest"));
+        assertEquals(1, resources.containers().size());
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para Bulkhead")
+class BulkheadTest {
+
+    @Test
+    @DisplayName("Deve recusar chamadas acima do limite de simultâneas")
+    void deveRecusarChamadasAcimaDoLimite() {
+        Bulkhead bulkhead = new Bulkhead(2, Duration.ZERO);
+
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+
+        assertEquals(2, bulkhead.activeCalls());
+        assertEquals(1, bulkhead.rejected());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga ao final da chamada")
+    void deveLiberarVagaAoFinalDaChamada() {
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ZERO);
+        bulkhead.tryAcquire();
+
+        bulkhead.release();
+
+        assertEquals(0, bulkhead.activeCalls());
+        assertTrue(bulkhead.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Deve esperar no máximo o tempo configurado por uma vaga")
+    void deveEsperarNoMaximoTempoConfigurado() {
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ofMillis(20));
+        bulkhead.tryAcquire();
+
+        long start = System.nanoTime();
+        assertFalse(bulkhead.tryAcquire());
+
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(15).toNanos());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite menor que um")
+    void deveRejeitarLimiteInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead(0, Duration.ZERO));
+    }
+}
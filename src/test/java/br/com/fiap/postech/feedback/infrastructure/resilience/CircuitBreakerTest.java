@@ -0,0 +1,131 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para CircuitBreaker")
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = CircuitBreaker.builder("teste")
+            .windowSize(4)
+            .minimumCalls(4)
+            .failureRateThreshold(50)
+            .openDuration(Duration.ofSeconds(10))
+            .slowCallDuration(Duration.ofSeconds(1))
+            .clock(now::get)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Deve permanecer fechado abaixo do mínimo de chamadas")
+    void devePermanecerFechadoAbaixoDoMinimoDeChamadas() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onError();
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("Deve abrir ao atingir a taxa de falhas e recusar as chamadas seguintes")
+    void deveAbrirAoAtingirTaxaDeFalhas() {
+        registrar(false, false, true, true);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1, breaker.metrics().rejected());
+        assertEquals(Duration.ofSeconds(10), breaker.remainingOpen());
+    }
+
+    @Test
+    @DisplayName("Deve contar chamadas lentas como falha")
+    void deveContarChamadasLentasComoFalha() {
+        long slow = TimeUnit.SECONDS.toNanos(2);
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquirePermission();
+            breaker.onSuccess(i < 2 ? slow : FAST);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(2, breaker.metrics().slow());
+        assertEquals(4, breaker.metrics().successful());
+    }
+
+    @Test
+    @DisplayName("Deve esquecer falhas que saem da janela deslizante")
+    void deveEsquecerFalhasForaDaJanela() {
+        registrar(true, false, false, false);
+        registrar(false, false, false, true);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("Deve liberar uma única chamada de teste após o tempo aberto e fechar com sucesso")
+    void deveFecharAposChamadaDeTesteBemSucedida() {
+        registrar(true, true, true, true);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquirePermission());
+
+        breaker.onSuccess(FAST);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("Deve reabrir quando a chamada de teste falha")
+    void deveReabrirQuandoChamadaDeTesteFalha() {
+        registrar(true, true, true, true);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        breaker.tryAcquirePermission();
+
+        breaker.onError();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chamada de teste devolvida sem resultado")
+    void deveLiberarChamadaDeTesteDevolvida() {
+        registrar(true, true, true, true);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        breaker.tryAcquirePermission();
+
+        breaker.releasePermission();
+
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    private void registrar(boolean... failures) {
+        for (boolean failure : failures) {
+            breaker.tryAcquirePermission();
+            if (failure) {
+                breaker.onError();
+            } else {
+                breaker.onSuccess(FAST);
+            }
+        }
+    }
+}
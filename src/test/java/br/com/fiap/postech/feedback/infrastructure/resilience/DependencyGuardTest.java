@@ -0,0 +1,170 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpResponse;
+import io.mailtrap.exception.http.HttpClientException;
+import io.mailtrap.exception.http.HttpServerException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para DependencyGuard")
+class DependencyGuardTest {
+
+    private static CircuitBreaker breaker() {
+        return CircuitBreaker.builder("teste").windowSize(2).minimumCalls(2).failureRateThreshold(100)
+            .openDuration(Duration.ofSeconds(30)).build();
+    }
+
+    @Test
+    @DisplayName("Deve devolver o resultado e registrar sucesso")
+    void deveDevolverResultadoERegistrarSucesso() {
+        DependencyGuard guard = new DependencyGuard("teste", breaker(), new Bulkhead(1, Duration.ZERO));
+
+        assertEquals("ok", guard.execute(() -> "ok"));
+
+        DependencyGuard.Metrics metrics = guard.metrics();
+        assertEquals(1, metrics.successful());
+        assertEquals(0, metrics.activeCalls());
+    }
+
+    @Test
+    @DisplayName("Deve relançar o erro da operação sem alteração e recusar após abrir o circuito")
+    void deveRelancarErroERecusarAposAbrirCircuito() {
+        DependencyGuard guard = new DependencyGuard("teste", breaker(), new Bulkhead(1, Duration.ZERO));
+        UncheckedIOException error = new UncheckedIOException(new IOException("timeout"));
+
+        for (int i = 0; i < 2; i++) {
+            assertSame(error, assertThrows(UncheckedIOException.class, () -> guard.run(() -> {
+                throw error;
+            })));
+        }
+
+        DependencyUnavailableException rejected = assertThrows(DependencyUnavailableException.class,
+            () -> guard.execute(() -> "nunca"));
+        assertEquals("teste", rejected.getDependency());
+        assertTrue(rejected.getRetryAfter().toSeconds() > 0);
+        assertEquals(CircuitBreaker.State.OPEN, guard.metrics().state());
+        assertEquals(1, guard.metrics().circuitRejected());
+    }
+
+    @Test
+    @DisplayName("Não deve abrir o circuito com respostas 400 do serviço")
+    void naoDeveAbrirCircuitoComRespostas400() {
+        DependencyGuard guard = new DependencyGuard("teste", breaker(), new Bulkhead(1, Duration.ZERO));
+        HttpResponseException badRequest = httpError(400);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(badRequest, assertThrows(HttpResponseException.class, () -> guard.run(() -> {
+                throw badRequest;
+            })));
+        }
+
+        assertEquals("ok", guard.execute(() -> "ok"));
+        DependencyGuard.Metrics metrics = guard.metrics();
+        assertEquals(CircuitBreaker.State.CLOSED, metrics.state());
+        assertEquals(0, metrics.failed());
+        assertEquals(4, metrics.successful());
+    }
+
+    @Test
+    @DisplayName("Deve contar como falha apenas timeouts, 429 e 5xx, inclusive na cadeia de causas")
+    void deveContarComoFalhaApenasTimeouts429E5xx() {
+        assertTrue(DependencyGuard.isDependencyFailure(httpError(503)));
+        assertTrue(DependencyGuard.isDependencyFailure(httpError(429)));
+        assertTrue(DependencyGuard.isDependencyFailure(new RuntimeException("x", new TimeoutException())));
+        assertTrue(DependencyGuard.isDependencyFailure(new RuntimeException("x", new HttpServerException("erro", 500))));
+        assertTrue(DependencyGuard.isDependencyFailure(new HttpClientException("limite", 429)));
+
+        assertFalse(DependencyGuard.isDependencyFailure(httpError(400)));
+        assertFalse(DependencyGuard.isDependencyFailure(httpError(409)));
+        assertFalse(DependencyGuard.isDependencyFailure(new RuntimeException("x", new HttpClientException("inválido", 400))));
+        assertFalse(DependencyGuard.isDependencyFailure(new IllegalArgumentException("inválido")));
+    }
+
+    @Test
+    @DisplayName("Deve recusar sem contar falha no circuito quando o bulkhead está cheio")
+    void deveRecusarQuandoBulkheadEstaCheio() throws Exception {
+        DependencyGuard guard = new DependencyGuard("teste", breaker(), new Bulkhead(1, Duration.ZERO));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> guard.run(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(DependencyUnavailableException.class, () -> guard.execute(() -> "ok"));
+
+            DependencyGuard.Metrics metrics = guard.metrics();
+            assertEquals(1, metrics.bulkheadRejected());
+            assertEquals(0, metrics.failed());
+            assertEquals(CircuitBreaker.State.CLOSED, metrics.state());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a recusa na cadeia de causas")
+    void deveEncontrarRecusaNaCadeiaDeCausas() {
+        DependencyUnavailableException unavailable = new DependencyUnavailableException("blob", "teste", Duration.ZERO);
+
+        assertSame(unavailable, DependencyUnavailableException.find(new RuntimeException("x", unavailable)));
+        assertEquals(null, DependencyUnavailableException.find(new RuntimeException("x")));
+    }
+
+    @Test
+    @DisplayName("Deve usar o predicado de falha informado")
+    void deveUsarPredicadoDeFalhaInformado() {
+        DependencyGuard guard = new DependencyGuard("teste", breaker(), new Bulkhead(1, Duration.ZERO),
+            error -> error instanceof IllegalStateException);
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.run(() -> {
+                throw new IllegalStateException("falha");
+            }));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, guard.metrics().state());
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar uma instância por dependência e expor suas métricas")
+    void deveCompartilharInstanciaPorDependencia() {
+        DependencyGuard guard = DependencyGuard.of("teste-registro");
+
+        assertSame(guard, DependencyGuard.of("teste-registro"));
+        assertTrue(DependencyGuard.all().stream().anyMatch(m -> m.name().equals("teste-registro")));
+        assertEquals("CLOSED", guard.metrics().toMap().get("estado"));
+    }
+
+    private static HttpResponseException httpError(int status) {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        return new HttpResponseException("status " + status, response);
+    }
+}
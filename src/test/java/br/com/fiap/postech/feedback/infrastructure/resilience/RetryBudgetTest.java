@@ -0,0 +1,58 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para RetryBudget")
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("Deve começar cheio e esgotar após consumir a capacidade")
+    void deveEsgotarAposConsumirCapacidade() {
+        RetryBudget budget = new RetryBudget(0.2, 2);
+
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(0, budget.available());
+    }
+
+    @Test
+    @DisplayName("Deve liberar uma nova tentativa a cada 1/ratio operações registradas")
+    void deveLiberarNovaTentativaProporcionalAsOperacoes() {
+        RetryBudget budget = new RetryBudget(0.25, 1);
+        budget.tryAcquire();
+
+        for (int i = 0; i < 3; i++) {
+            budget.recordRequest();
+        }
+        assertFalse(budget.tryAcquire());
+
+        budget.recordRequest();
+        assertTrue(budget.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Não deve acumular fichas além da capacidade")
+    void naoDeveAcumularAlemDaCapacidade() {
+        RetryBudget budget = new RetryBudget(1.0, 3);
+
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        assertEquals(3, budget.available());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar parâmetros negativos")
+    void deveRejeitarParametrosNegativos() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(-0.1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(0.1, -1));
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para RetryPolicy")
+class RetryPolicyTest {
+
+    private final List<Duration> sleeps = new ArrayList<>();
+
+    private RetryPolicy.Builder policy() {
+        return RetryPolicy.builder("teste")
+            .maxAttempts(3)
+            .baseDelay(Duration.ofMillis(100))
+            .maxDelay(Duration.ofSeconds(1))
+            .budget(new RetryBudget(0.2, 10))
+            .random(() -> 0.5)
+            .sleeper(sleeps::add);
+    }
+
+    @Test
+    @DisplayName("Deve repetir falha transitória com espera exponencial com jitter até ter sucesso")
+    void deveRepetirFalhaTransitoriaAteTerSucesso() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpResponseException throttled = httpError(503, new HttpHeaders());
+
+        String result = policy().build().execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw throttled;
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(List.of(Duration.ofMillis(50), Duration.ofMillis(100)), sleeps);
+    }
+
+    @Test
+    @DisplayName("Não deve repetir falha não transitória")
+    void naoDeveRepetirFalhaNaoTransitoria() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpResponseException badRequest = httpError(400, new HttpHeaders());
+
+        HttpResponseException thrown = assertThrows(HttpResponseException.class, () -> policy().build().run(() -> {
+            calls.incrementAndGet();
+            throw badRequest;
+        }));
+
+        assertSame(badRequest, thrown);
+        assertEquals(1, calls.get());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve relançar a última falha ao atingir o máximo de tentativas")
+    void deveRelancarUltimaFalhaAoAtingirMaximo() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpResponseException throttled = httpError(429, new HttpHeaders());
+
+        assertThrows(HttpResponseException.class, () -> policy().build().run(() -> {
+            calls.incrementAndGet();
+            throw throttled;
+        }));
+
+        assertEquals(3, calls.get());
+        assertEquals(2, sleeps.size());
+    }
+
+    @Test
+    @DisplayName("Deve usar o Retry-After da resposta no lugar do jitter")
+    void deveUsarRetryAfterDaResposta() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpResponseException throttled = httpError(503, new HttpHeaders().set(HttpHeaderName.X_MS_RETRY_AFTER_MS, "250"));
+
+        policy().build().run(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw throttled;
+            }
+        });
+
+        assertEquals(List.of(Duration.ofMillis(250)), sleeps);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha quando o Retry-After excede a espera máxima")
+    void devePropagarQuandoRetryAfterExcedeEsperaMaxima() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpResponseException throttled = httpError(429, new HttpHeaders().set(HttpHeaderName.RETRY_AFTER, "30"));
+
+        assertThrows(HttpResponseException.class, () -> policy().build().run(() -> {
+            calls.incrementAndGet();
+            throw throttled;
+        }));
+
+        assertEquals(1, calls.get());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve parar de repetir quando o orçamento de novas tentativas se esgota")
+    void devePararQuandoOrcamentoEsgota() {
+        RetryPolicy retryPolicy = policy().budget(new RetryBudget(0, 1)).build();
+        HttpResponseException throttled = httpError(503, new HttpHeaders());
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(HttpResponseException.class, () -> retryPolicy.run(() -> {
+            calls.incrementAndGet();
+            throw throttled;
+        }));
+        assertThrows(HttpResponseException.class, () -> retryPolicy.run(() -> {
+            calls.incrementAndGet();
+            throw throttled;
+        }));
+
+        assertEquals(3, calls.get());
+        assertEquals(1, sleeps.size());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o teto exponencial à espera máxima")
+    void deveLimitarTetoExponencial() {
+        RetryPolicy retryPolicy = policy().random(() -> 1.0).build();
+        RuntimeException network = new UncheckedIOException(new IOException("conexão recusada"));
+
+        assertEquals(100, retryPolicy.delayMillis(1, network));
+        assertEquals(400, retryPolicy.delayMillis(3, network));
+        assertEquals(1000, retryPolicy.delayMillis(10, network));
+    }
+
+    @Test
+    @DisplayName("Deve classificar status e erros de rede como transitórios")
+    void deveClassificarFalhasTransitorias() {
+        assertTrue(RetryPolicy.isTransient(httpError(503, new HttpHeaders())));
+        assertTrue(RetryPolicy.isTransient(httpError(429, new HttpHeaders())));
+        assertTrue(RetryPolicy.isTransient(new RuntimeException(new UncheckedIOException(new IOException("reset")))));
+        assertFalse(RetryPolicy.isTransient(httpError(409, new HttpHeaders())));
+        assertFalse(RetryPolicy.isTransient(new IllegalArgumentException("inválido")));
+    }
+
+    @Test
+    @DisplayName("Deve ler Retry-After em segundos e ignorar valores inválidos")
+    void deveLerRetryAfterEmSegundos() {
+        assertEquals(2000L, RetryPolicy.retryAfterMillis(httpError(503, new HttpHeaders().set(HttpHeaderName.RETRY_AFTER, "2"))));
+        assertNull(RetryPolicy.retryAfterMillis(httpError(503, new HttpHeaders().set(HttpHeaderName.RETRY_AFTER, "amanhã"))));
+        assertNull(RetryPolicy.retryAfterMillis(new RuntimeException("sem resposta")));
+    }
+
+    @Test
+    @DisplayName("Deve restaurar a interrupção e relançar a falha quando a espera é interrompida")
+    void deveRestaurarInterrupcao() {
+        HttpResponseException throttled = httpError(503, new HttpHeaders());
+        RetryPolicy retryPolicy = policy().sleeper(delay -> {
+            throw new InterruptedException();
+        }).build();
+
+        try {
+            assertThrows(HttpResponseException.class, () -> retryPolicy.run(() -> {
+                throw throttled;
+            }));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private static HttpResponseException httpError(int status, HttpHeaders headers) {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        when(response.getHeaders()).thenReturn(headers);
+        return new HttpResponseException("status " + status, response);
+    }
+}
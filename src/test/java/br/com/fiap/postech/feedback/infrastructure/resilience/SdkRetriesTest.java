@@ -0,0 +1,160 @@
+package br.com.fiap.postech.feedback.infrastructure.resilience;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.data.tables.TableClientBuilder;
+import com.azure.data.tables.TableServiceClientBuilder;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.queue.QueueClientBuilder;
+import com.azure.storage.queue.QueueServiceClientBuilder;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cada cliente recebe 503 (falha que o SDK repetiria por padrão) e deve fazer uma única
+ * requisição: as novas tentativas ficam a cargo da RetryPolicy.
+ */
+@DisplayName("Testes para SdkRetries")
+class SdkRetriesTest {
+
+    private static final String CONNECTION_STRING = "UseDevelopmentStorage=true";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final HttpClient unavailable = request -> {
+        requests.incrementAndGet();
+        return Mono.just(new UnavailableResponse(request));
+    };
+
+    @Test
+    @DisplayName("Deve fazer uma única requisição pelo TableClient")
+    void deveFazerUmaUnicaRequisicaoPeloTableClient() {
+        var client = SdkRetries.disabled(new TableClientBuilder())
+            .connectionString(CONNECTION_STRING)
+            .tableName("feedbacks")
+            .httpClient(unavailable)
+            .buildClient();
+
+        assertThrows(HttpResponseException.class, () -> client.getEntity("2026-05-04", "r"));
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    @DisplayName("Deve fazer uma única requisição pelo TableServiceClient")
+    void deveFazerUmaUnicaRequisicaoPeloTableServiceClient() {
+        var client = SdkRetries.disabled(new TableServiceClientBuilder())
+            .connectionString(CONNECTION_STRING)
+            .httpClient(unavailable)
+            .buildClient();
+
+        assertThrows(HttpResponseException.class, () -> client.createTable("feedbacks"));
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    @DisplayName("Deve fazer uma única requisição pelo QueueClient")
+    void deveFazerUmaUnicaRequisicaoPeloQueueClient() {
+        var client = SdkRetries.disabled(new QueueClientBuilder())
+            .connectionString(CONNECTION_STRING)
+            .queueName("feedback-ingest")
+            .httpClient(unavailable)
+            .buildClient();
+
+        assertThrows(HttpResponseException.class, () -> client.sendMessage("{}"));
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    @DisplayName("Deve fazer uma única requisição pelo QueueServiceClient")
+    void deveFazerUmaUnicaRequisicaoPeloQueueServiceClient() {
+        var client = SdkRetries.disabled(new QueueServiceClientBuilder())
+            .connectionString(CONNECTION_STRING)
+            .httpClient(unavailable)
+            .buildClient();
+
+        assertThrows(HttpResponseException.class, () -> client.createQueue("feedback-ingest"));
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    @DisplayName("Deve fazer uma única requisição pelo BlobServiceClient")
+    void deveFazerUmaUnicaRequisicaoPeloBlobServiceClient() {
+        var client = SdkRetries.disabled(new BlobServiceClientBuilder())
+            .connectionString(CONNECTION_STRING)
+            .httpClient(unavailable)
+            .buildClient();
+
+        assertThrows(HttpResponseException.class, () -> client.getBlobContainerClient("weekly-reports").create());
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    @DisplayName("Deve configurar uma única tentativa para Blob e Queue e nenhuma nova tentativa para Table")
+    void deveConfigurarUmaUnicaTentativa() {
+        assertEquals(1, SdkRetries.storageRetryOptions().getMaxTries());
+        assertEquals(0, SdkRetries.tableRetryOptions().getFixedDelayOptions().getMaxRetries());
+    }
+
+    private static final class UnavailableResponse extends HttpResponse {
+
+        private static final byte[] BODY = new byte[0];
+
+        UnavailableResponse(HttpRequest request) {
+            super(request);
+        }
+
+        @Override
+        public int getStatusCode() {
+            return 503;
+        }
+
+        @Override
+        @Deprecated
+        public String getHeaderValue(String name) {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.just(BODY);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.just("");
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.just(new String(BODY, StandardCharsets.UTF_8));
+        }
+    }
+}